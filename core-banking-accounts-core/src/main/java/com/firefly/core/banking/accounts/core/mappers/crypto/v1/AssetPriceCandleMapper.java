@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.mappers.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceCandleDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceCandle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting AssetPriceCandle entities to AssetPriceCandleDTO objects.
+ * Candles are derived data and are never written from a DTO.
+ */
+@Component
+public class AssetPriceCandleMapper {
+
+    /**
+     * Converts an AssetPriceCandle entity to an AssetPriceCandleDTO.
+     *
+     * @param candle the entity to convert
+     * @return the converted DTO
+     */
+    public AssetPriceCandleDTO toDTO(AssetPriceCandle candle) {
+        if (candle == null) {
+            return null;
+        }
+
+        return AssetPriceCandleDTO.builder()
+                .assetSymbol(candle.getAssetSymbol())
+                .quoteCurrency(candle.getQuoteCurrency())
+                .bucketInterval(candle.getBucketInterval())
+                .bucketStart(candle.getBucketStart())
+                .openPrice(candle.getOpenPrice())
+                .highPrice(candle.getHighPrice())
+                .lowPrice(candle.getLowPrice())
+                .closePrice(candle.getClosePrice())
+                .tickCount(candle.getTickCount())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.mappers.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.ConsolidatedAssetPrice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting ConsolidatedAssetPrice entities to ConsolidatedAssetPriceDTO objects.
+ * Consolidated prices are derived data and are never written from a DTO.
+ */
+@Component
+public class ConsolidatedAssetPriceMapper {
+
+    /**
+     * Converts a ConsolidatedAssetPrice entity to a ConsolidatedAssetPriceDTO.
+     *
+     * @param consolidatedPrice the entity to convert
+     * @return the converted DTO
+     */
+    public ConsolidatedAssetPriceDTO toDTO(ConsolidatedAssetPrice consolidatedPrice) {
+        if (consolidatedPrice == null) {
+            return null;
+        }
+
+        return ConsolidatedAssetPriceDTO.builder()
+                .assetSymbol(consolidatedPrice.getAssetSymbol())
+                .quoteCurrency(consolidatedPrice.getQuoteCurrency())
+                .price(consolidatedPrice.getPrice())
+                .asOfDatetime(consolidatedPrice.getAsOfDatetime())
+                .sourceCount(consolidatedPrice.getSourceCount())
+                .droppedSourceCount(consolidatedPrice.getDroppedSourceCount())
+                .build();
+    }
+}
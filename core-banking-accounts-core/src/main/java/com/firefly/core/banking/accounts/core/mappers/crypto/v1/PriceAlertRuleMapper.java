@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.mappers.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PriceAlertRuleDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting between PriceAlertRule entities and PriceAlertRuleDTO objects.
+ */
+@Component
+public class PriceAlertRuleMapper {
+
+    /**
+     * Converts a PriceAlertRule entity to a PriceAlertRuleDTO.
+     *
+     * @param rule the entity to convert
+     * @return the converted DTO
+     */
+    public PriceAlertRuleDTO toDTO(PriceAlertRule rule) {
+        if (rule == null) {
+            return null;
+        }
+
+        return PriceAlertRuleDTO.builder()
+                .priceAlertRuleId(rule.getPriceAlertRuleId())
+                .accountId(rule.getAccountId())
+                .assetSymbol(rule.getAssetSymbol())
+                .quoteCurrency(rule.getQuoteCurrency())
+                .thresholdPrice(rule.getThresholdPrice())
+                .direction(rule.getDirection())
+                .isActive(rule.getIsActive())
+                .triggeredDatetime(rule.getTriggeredDatetime())
+                .triggeredPrice(rule.getTriggeredPrice())
+                .dateCreated(rule.getDateCreated())
+                .dateUpdated(rule.getDateUpdated())
+                .build();
+    }
+
+    /**
+     * Converts a PriceAlertRuleDTO to a PriceAlertRule entity. The trigger state is not
+     * copied: a rule saved from a DTO is always active and not yet triggered.
+     *
+     * @param ruleDTO the DTO to convert
+     * @return the converted entity
+     */
+    public PriceAlertRule toEntity(PriceAlertRuleDTO ruleDTO) {
+        if (ruleDTO == null) {
+            return null;
+        }
+
+        PriceAlertRule rule = new PriceAlertRule();
+        rule.setPriceAlertRuleId(ruleDTO.getPriceAlertRuleId());
+        rule.setAccountId(ruleDTO.getAccountId());
+        rule.setAssetSymbol(ruleDTO.getAssetSymbol());
+        rule.setQuoteCurrency(ruleDTO.getQuoteCurrency());
+        rule.setThresholdPrice(ruleDTO.getThresholdPrice());
+        rule.setDirection(ruleDTO.getDirection());
+        rule.setIsActive(true);
+
+        return rule;
+    }
+}
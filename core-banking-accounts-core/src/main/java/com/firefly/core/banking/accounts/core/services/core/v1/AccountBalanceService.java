@@ -20,7 +20,10 @@ package com.firefly.core.banking.accounts.core.services.core.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface AccountBalanceService {
@@ -62,4 +65,16 @@ public interface AccountBalanceService {
      * Delete a specific account balance by its unique ID, ensuring it belongs to the specified account.
      */
     Mono<Void> deleteBalance(UUID accountId, UUID balanceId);
+
+    /**
+     * Retrieve the current balances of an account: the most recent balance of each balance type,
+     * per account space (or global) and asset, read from the materialized current balance table.
+     */
+    Flux<AccountBalanceDTO> getCurrentBalances(UUID accountId);
+
+    /**
+     * Retrieve the current balances of several accounts at once, keyed by account ID.
+     * Accounts without any balance are mapped to an empty list.
+     */
+    Mono<Map<UUID, List<AccountBalanceDTO>>> getCurrentBalancesForAccounts(List<UUID> accountIds);
 }
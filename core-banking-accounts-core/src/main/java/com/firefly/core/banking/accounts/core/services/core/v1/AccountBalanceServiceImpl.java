@@ -21,25 +21,55 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.accounts.core.mappers.core.v1.AccountBalanceMapper;
+import com.firefly.core.banking.accounts.core.mappers.core.v1.CurrentAccountBalanceMapper;
+import com.firefly.core.banking.accounts.core.utils.BatchGetUtils;
+import com.firefly.core.banking.accounts.core.utils.TokenAmount;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
 import com.firefly.core.banking.accounts.models.entities.core.v1.AccountBalance;
 import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountBalanceRepository;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.CurrentAccountBalanceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class AccountBalanceServiceImpl implements AccountBalanceService {
 
+    private static final int MAX_ACCOUNTS_PER_REQUEST = 1000;
+    private static final String ERROR_ACCOUNT_IDS_REQUIRED = "At least one account ID is required";
+    private static final String ERROR_TOO_MANY_ACCOUNTS = "Cannot request current balances for more than " + MAX_ACCOUNTS_PER_REQUEST + " accounts at once";
+    private static final String ERROR_AMOUNT_TOO_PRECISE = "Balance amount has more decimal places than the asset";
+    private static final String ERROR_AMOUNT_MISMATCH = "Balance amount does not match the balance base units";
+
+    /**
+     * Scale of the balance_amount column; crypto amounts are rounded down to it for display.
+     */
+    private static final int BALANCE_AMOUNT_SCALE = 4;
+
     @Autowired
     private AccountBalanceRepository repository;
 
     @Autowired
     private AccountBalanceMapper mapper;
 
+    @Autowired
+    private CurrentAccountBalanceRepository currentBalanceRepository;
+
+    @Autowired
+    private CurrentAccountBalanceMapper currentBalanceMapper;
+
     @Override
     public Mono<PaginationResponse<AccountBalanceDTO>> getAllBalances(UUID accountId, PaginationRequest paginationRequest) {
         return PaginationUtils.paginateQuery(
@@ -73,8 +103,10 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
     @Override
     public Mono<AccountBalanceDTO> createBalance(UUID accountId, AccountBalanceDTO balanceDTO) {
         balanceDTO.setAccountId(accountId);
-        AccountBalance accountBalance = mapper.toEntity(balanceDTO);
-        return repository.save(accountBalance)
+        return applyBaseUnits(balanceDTO)
+                .map(mapper::toEntity)
+                .flatMap(repository::save)
+                .flatMap(this::refreshCurrentBalance)
                 .map(mapper::toDTO);
     }
 
@@ -92,8 +124,10 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
                 .flatMap(existingBalance -> {
                     balanceDTO.setAccountBalanceId(balanceId);
                     balanceDTO.setAccountId(accountId);
-                    AccountBalance updatedBalance = mapper.toEntity(balanceDTO);
-                    return repository.save(updatedBalance);
+                    return applyBaseUnits(balanceDTO)
+                            .map(mapper::toEntity)
+                            .flatMap(repository::save)
+                            .flatMap(this::refreshCurrentBalance);
                 })
                 .map(mapper::toDTO);
     }
@@ -102,6 +136,112 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
     public Mono<Void> deleteBalance(UUID accountId, UUID balanceId) {
         return repository.findById(balanceId)
                 .filter(balance -> balance.getAccountId().equals(accountId))
-                .flatMap(repository::delete);
+                .flatMap(balance -> repository.delete(balance)
+                        .then(restoreCurrentBalance(balance)));
+    }
+
+    @Override
+    public Flux<AccountBalanceDTO> getCurrentBalances(UUID accountId) {
+        return currentBalanceRepository.findByAccountId(accountId)
+                .map(currentBalanceMapper::toDTO);
+    }
+
+    @Override
+    public Mono<Map<UUID, List<AccountBalanceDTO>>> getCurrentBalancesForAccounts(List<UUID> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_IDS_REQUIRED));
+        }
+
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(accountIds));
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_IDS_REQUIRED));
+        }
+        if (distinctIds.size() > MAX_ACCOUNTS_PER_REQUEST) {
+            return Mono.error(new IllegalArgumentException(ERROR_TOO_MANY_ACCOUNTS));
+        }
+
+        return Flux.fromIterable(BatchGetUtils.chunk(distinctIds, BatchGetUtils.CHUNK_SIZE))
+                .concatMap(chunk -> currentBalanceRepository.findByAccountIdIn(chunk.toArray(new UUID[0])))
+                .map(currentBalanceMapper::toDTO)
+                .collect(() -> {
+                            // Pre-populate in request order so accounts without balances are reported too
+                            Map<UUID, List<AccountBalanceDTO>> balancesByAccount = new LinkedHashMap<>();
+                            distinctIds.forEach(id -> balancesByAccount.put(id, new ArrayList<>()));
+                            return balancesByAccount;
+                        },
+                        (balancesByAccount, balance) -> balancesByAccount.get(balance.getAccountId()).add(balance));
+    }
+
+    /**
+     * Makes the base units of a crypto balance authoritative: they are derived from the
+     * amount when missing, and the amount is then derived from them, rounded down to the
+     * scale of the balance_amount column. When both are given, the amount must equal the
+     * base units either exactly or as that rounded value, as read back from a balance.
+     * Fiat balances are left unchanged.
+     */
+    static Mono<AccountBalanceDTO> applyBaseUnits(AccountBalanceDTO balanceDTO) {
+        if (balanceDTO.getAssetSymbol() == null || balanceDTO.getAssetDecimals() == null
+                || (balanceDTO.getBalanceBaseUnits() == null && balanceDTO.getBalanceAmount() == null)) {
+            return Mono.just(balanceDTO);
+        }
+        TokenAmount amount;
+        try {
+            amount = balanceDTO.getBalanceBaseUnits() != null
+                    ? TokenAmount.ofBaseUnits(balanceDTO.getBalanceBaseUnits(), balanceDTO.getAssetDecimals())
+                    : TokenAmount.of(balanceDTO.getBalanceAmount(), balanceDTO.getAssetDecimals());
+        } catch (ArithmeticException e) {
+            return Mono.error(new IllegalArgumentException(ERROR_AMOUNT_TOO_PRECISE));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        BigDecimal displayAmount = amount.toBigDecimal(BALANCE_AMOUNT_SCALE, RoundingMode.DOWN);
+        BigDecimal givenAmount = balanceDTO.getBalanceAmount();
+        if (balanceDTO.getBalanceBaseUnits() != null && givenAmount != null
+                && givenAmount.compareTo(amount.toBigDecimal()) != 0 && givenAmount.compareTo(displayAmount) != 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_AMOUNT_MISMATCH));
+        }
+        balanceDTO.setBalanceBaseUnits(amount.toBigInteger());
+        balanceDTO.setBalanceAmount(displayAmount);
+        return Mono.just(balanceDTO);
+    }
+
+    /**
+     * Upserts the materialized current balance from a freshly written history record.
+     * Runs in the caller's transaction, so history and current balance are committed together.
+     */
+    private Mono<AccountBalance> refreshCurrentBalance(AccountBalance balance) {
+        return currentBalanceRepository.upsert(
+                        balance.getAccountId(),
+                        balance.getAccountSpaceId(),
+                        balance.getBalanceType(),
+                        balance.getBalanceAmount(),
+                        balance.getBalanceBaseUnits(),
+                        balance.getAsOfDatetime(),
+                        balance.getAssetSymbol(),
+                        balance.getAssetDecimals(),
+                        balance.getAccountBalanceId())
+                .thenReturn(balance);
+    }
+
+    /**
+     * Replaces the materialized current balance taken from a deleted history record with the
+     * most recent remaining record of the same key, or removes it when there is none.
+     * Runs in the caller's transaction, after the history record is deleted.
+     */
+    private Mono<Void> restoreCurrentBalance(AccountBalance deleted) {
+        return currentBalanceRepository.deleteByKeyAndAccountBalanceId(
+                        deleted.getAccountId(),
+                        deleted.getAccountSpaceId(),
+                        deleted.getBalanceType(),
+                        deleted.getAssetSymbol(),
+                        deleted.getAccountBalanceId())
+                .filter(removed -> removed > 0)
+                .flatMap(removed -> currentBalanceRepository.insertLatestFromHistory(
+                        deleted.getAccountId(),
+                        deleted.getAccountSpaceId(),
+                        deleted.getBalanceType(),
+                        deleted.getAssetSymbol()))
+                .then();
     }
 }
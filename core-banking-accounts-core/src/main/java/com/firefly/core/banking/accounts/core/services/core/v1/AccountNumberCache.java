@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.core.v1;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory cache resolving account numbers to account IDs.
+ * Only the ID is cached, so accounts themselves are always read by primary key and never
+ * served with a stale status. Entries are evicted by the service once an update or delete
+ * commits, or when a cached ID turns out to be stale, and expire after a configurable TTL
+ * so that changes made through other nodes are picked up.
+ * Once the cache holds its configured number of entries, the least recently used one
+ * is evicted for each new entry.
+ */
+@Component
+public class AccountNumberCache {
+
+    private final Map<String, Entry> accountIdsByNumber = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            });
+
+    @Value("${account.cache.account-number.max-entries:100000}")
+    private int maxEntries = 100_000;
+
+    @Value("${account.cache.account-number.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    /**
+     * Returns the cached ID of the account with the given number, or empty when it is not
+     * cached or has expired.
+     */
+    public Optional<UUID> get(String accountNumber) {
+        Entry entry = accountIdsByNumber.get(accountNumber);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.loadedAt().plusSeconds(ttlSeconds).isBefore(LocalDateTime.now())) {
+            accountIdsByNumber.remove(accountNumber, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.accountId());
+    }
+
+    public void put(String accountNumber, UUID accountId) {
+        if (accountNumber == null || accountId == null) {
+            return;
+        }
+        accountIdsByNumber.put(accountNumber, new Entry(accountId, LocalDateTime.now()));
+    }
+
+    public void evict(String accountNumber) {
+        if (accountNumber != null) {
+            accountIdsByNumber.remove(accountNumber);
+        }
+    }
+
+    public int size() {
+        return accountIdsByNumber.size();
+    }
+
+    private record Entry(UUID accountId, LocalDateTime loadedAt) {
+    }
+}
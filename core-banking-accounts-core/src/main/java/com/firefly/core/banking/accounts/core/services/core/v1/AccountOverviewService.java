@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.core.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountOverviewDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface AccountOverviewService {
+    /**
+     * Builds the overview of an account by loading the account, its spaces, active restrictions,
+     * latest balances and unread notifications concurrently.
+     * Every section except the account itself is optional: if it fails or exceeds its timeout,
+     * it is omitted and reported in the overview's unavailable sections.
+     *
+     * @param accountId the unique identifier of the account
+     * @return a Mono emitting the AccountOverviewDTO, or an empty Mono if the account is not found
+     */
+    Mono<AccountOverviewDTO> getAccountOverview(UUID accountId);
+}
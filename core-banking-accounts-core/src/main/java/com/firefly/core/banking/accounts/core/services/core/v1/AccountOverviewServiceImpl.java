@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.core.v1;
+
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
+import com.firefly.core.banking.accounts.core.services.space.v1.AccountSpaceService;
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountOverviewDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+public class AccountOverviewServiceImpl implements AccountOverviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountOverviewServiceImpl.class);
+
+    static final String SECTION_SPACES = "spaces";
+    static final String SECTION_ACTIVE_RESTRICTIONS = "activeRestrictions";
+    static final String SECTION_LATEST_BALANCES = "latestBalances";
+    static final String SECTION_UNREAD_NOTIFICATIONS = "unreadNotifications";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountSpaceService accountSpaceService;
+
+    @Autowired
+    private AccountRestrictionService accountRestrictionService;
+
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+
+    @Autowired
+    private AccountNotificationService accountNotificationService;
+
+    @Value("${account.overview.timeout-ms.account:2000}")
+    private long accountTimeoutMs = 2000;
+
+    @Value("${account.overview.timeout-ms.spaces:1000}")
+    private long spacesTimeoutMs = 1000;
+
+    @Value("${account.overview.timeout-ms.restrictions:1000}")
+    private long restrictionsTimeoutMs = 1000;
+
+    @Value("${account.overview.timeout-ms.balances:1000}")
+    private long balancesTimeoutMs = 1000;
+
+    @Value("${account.overview.timeout-ms.notifications:500}")
+    private long notificationsTimeoutMs = 500;
+
+    @Value("${account.overview.max-unread-notifications:50}")
+    private int maxUnreadNotifications = 50;
+
+    @Override
+    public Mono<AccountOverviewDTO> getAccountOverview(UUID accountId) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException("Account ID is required"));
+        }
+
+        // The account is mandatory: an empty result means 404 and an error fails the whole overview
+        Mono<AccountOverviewDTO.AccountOverviewDTOBuilder> account = accountService.getAccount(accountId)
+                .timeout(Duration.ofMillis(accountTimeoutMs))
+                .map(dto -> AccountOverviewDTO.builder().account(dto));
+
+        return Mono.zip(
+                        account,
+                        section(accountId, SECTION_SPACES,
+                                () -> accountSpaceService.getAccountSpacesByAccountId(accountId), spacesTimeoutMs),
+                        section(accountId, SECTION_ACTIVE_RESTRICTIONS,
+                                () -> accountRestrictionService.getActiveAccountRestrictionsByAccountId(accountId), restrictionsTimeoutMs),
+                        section(accountId, SECTION_LATEST_BALANCES,
+                                () -> accountBalanceService.getCurrentBalances(accountId), balancesTimeoutMs),
+                        section(accountId, SECTION_UNREAD_NOTIFICATIONS,
+                                () -> accountNotificationService.getUnreadAccountNotifications(accountId).take(maxUnreadNotifications),
+                                notificationsTimeoutMs)
+                )
+                .map(tuple -> {
+                    List<String> unavailableSections = new ArrayList<>();
+                    AccountOverviewDTO.AccountOverviewDTOBuilder builder = tuple.getT1()
+                            .spaces(orUnavailable(tuple.getT2(), SECTION_SPACES, unavailableSections))
+                            .activeRestrictions(orUnavailable(tuple.getT3(), SECTION_ACTIVE_RESTRICTIONS, unavailableSections))
+                            .latestBalances(orUnavailable(tuple.getT4(), SECTION_LATEST_BALANCES, unavailableSections))
+                            .unreadNotifications(orUnavailable(tuple.getT5(), SECTION_UNREAD_NOTIFICATIONS, unavailableSections));
+                    if (!unavailableSections.isEmpty()) {
+                        builder.unavailableSections(unavailableSections);
+                    }
+                    return builder.build();
+                });
+    }
+
+    /**
+     * Loads an optional overview section, turning errors and timeouts into an empty Optional
+     * so that one slow or failing dependency does not fail the whole overview.
+     */
+    private <T> Mono<Optional<List<T>>> section(UUID accountId, String name, Supplier<Flux<T>> source, long timeoutMs) {
+        return Flux.defer(source)
+                .collectList()
+                .timeout(Duration.ofMillis(timeoutMs))
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    logger.warn("Overview section {} unavailable for account {}: {}", name, accountId, e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private static <T> List<T> orUnavailable(Optional<List<T>> section, String name, List<String> unavailableSections) {
+        if (section.isEmpty()) {
+            unavailableSections.add(name);
+            return null;
+        }
+        return section.get();
+    }
+}
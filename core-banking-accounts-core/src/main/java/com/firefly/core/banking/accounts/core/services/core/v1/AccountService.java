@@ -19,8 +19,11 @@ package com.firefly.core.banking.accounts.core.services.core.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface AccountService {
@@ -60,4 +63,33 @@ public interface AccountService {
      * @return A Mono that completes when the account deletion process is finished.
      */
     Mono<Void> deleteAccount(UUID accountId);
+    /**
+     * Retrieves the account details for a given account number.
+     *
+     * @param accountNumber the account number used by payment rails to identify the account
+     * @return a Mono emitting the AccountDTO containing account details, or an empty Mono if the account is not found
+     */
+    Mono<AccountDTO> getAccountByNumber(String accountNumber);
+    /**
+     * Retrieves the account details for a batch of account numbers in a single query.
+     * Account numbers that do not match any account are skipped.
+     *
+     * @param accountNumbers the account numbers to look up
+     * @return a Flux emitting the AccountDTO of every account found
+     */
+    Flux<AccountDTO> getAccountsByNumbers(List<String> accountNumbers);
+    /**
+     * Resolves an account number to its account ID, serving from the in-memory cache when possible.
+     *
+     * @param accountNumber the account number to resolve
+     * @return a Mono emitting the account ID, or an empty Mono if the account is not found
+     */
+    Mono<UUID> resolveAccountId(String accountNumber);
+    /**
+     * Retrieves the account details for a list of account IDs using one query per chunk of IDs.
+     *
+     * @param accountIds the unique identifiers of the accounts to retrieve
+     * @return a Mono emitting the accounts in request order along with the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<AccountDTO>> batchGetAccounts(List<UUID> accountIds);
 }
@@ -22,6 +22,8 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.mappers.core.v1.AccountMapper;
 import com.firefly.core.banking.accounts.core.services.space.v1.AccountSpaceService;
+import com.firefly.core.banking.accounts.core.utils.BatchGetUtils;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.space.v1.AccountSpaceTypeEnum;
@@ -29,16 +31,28 @@ import com.firefly.core.banking.accounts.models.entities.core.v1.Account;
 import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class AccountServiceImpl implements AccountService {
 
+    private static final int MAX_ACCOUNT_NUMBERS_PER_REQUEST = 1000;
+    private static final String ERROR_ACCOUNT_NUMBER_REQUIRED = "Account number is required";
+    private static final String ERROR_ACCOUNT_NUMBERS_REQUIRED = "At least one account number is required";
+    private static final String ERROR_TOO_MANY_ACCOUNT_NUMBERS = "Cannot look up more than " + MAX_ACCOUNT_NUMBERS_PER_REQUEST + " account numbers per request";
+
     @Autowired
     private AccountRepository repository;
 
@@ -48,6 +62,12 @@ public class AccountServiceImpl implements AccountService {
     @Autowired
     private AccountSpaceService accountSpaceService;
 
+    @Autowired
+    private AccountNumberCache accountNumberCache;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
     public Mono<PaginationResponse<AccountDTO>> filterAccounts(FilterRequest<AccountDTO> filterRequest) {
         return FilterUtils
@@ -85,19 +105,102 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AccountDTO> updateAccount(UUID accountId, AccountDTO accountDTO) {
-        return repository.findById(accountId)
+        Mono<Tuple2<String, Account>> updated = repository.findById(accountId)
                 .flatMap(existingAccount -> {
+                    String previousAccountNumber = existingAccount.getAccountNumber();
                     mapper.updateEntityFromDto(accountDTO, existingAccount);
                     existingAccount.setAccountId(accountId);
-                    return repository.save(existingAccount);
+                    return repository.save(existingAccount)
+                            .map(savedAccount -> Tuples.of(previousAccountNumber, savedAccount));
+                });
+
+        // The cache is only touched once the update is committed, so a concurrent lookup
+        // cannot cache the previous number again after the eviction
+        return transactionalOperator.transactional(updated)
+                .doOnNext(previousAndSaved -> {
+                    accountNumberCache.evict(previousAndSaved.getT1());
+                    accountNumberCache.evict(previousAndSaved.getT2().getAccountNumber());
                 })
-                .map(mapper::toDTO);
+                .map(previousAndSaved -> mapper.toDTO(previousAndSaved.getT2()));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<Void> deleteAccount(UUID accountId) {
-        return repository.findById(accountId)
-                .flatMap(repository::delete);
+        Mono<Account> deleted = repository.findById(accountId)
+                .flatMap(account -> repository.delete(account).thenReturn(account));
+
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(account -> accountNumberCache.evict(account.getAccountNumber()))
+                .then();
+    }
+
+    @Override
+    public Mono<AccountDTO> getAccountByNumber(String accountNumber) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_NUMBER_REQUIRED));
+        }
+
+        // A cached ID is only trusted if the account still carries the requested number;
+        // otherwise the entry is dropped and the lookup falls back to the unique index.
+        Mono<Account> cached = accountNumberCache.get(accountNumber)
+                .map(accountId -> repository.findById(accountId)
+                        .filter(account -> accountNumber.equals(account.getAccountNumber()))
+                        .switchIfEmpty(Mono.fromRunnable(() -> accountNumberCache.evict(accountNumber))))
+                .orElseGet(Mono::empty);
+
+        return cached
+                .switchIfEmpty(Mono.defer(() -> findByAccountNumber(accountNumber)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<AccountDTO> getAccountsByNumbers(List<String> accountNumbers) {
+        if (accountNumbers == null || accountNumbers.isEmpty()) {
+            return Flux.error(new IllegalArgumentException(ERROR_ACCOUNT_NUMBERS_REQUIRED));
+        }
+
+        List<String> distinctNumbers = accountNumbers.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctNumbers.isEmpty()) {
+            return Flux.error(new IllegalArgumentException(ERROR_ACCOUNT_NUMBERS_REQUIRED));
+        }
+        if (distinctNumbers.size() > MAX_ACCOUNT_NUMBERS_PER_REQUEST) {
+            return Flux.error(new IllegalArgumentException(ERROR_TOO_MANY_ACCOUNT_NUMBERS));
+        }
+
+        return repository.findByAccountNumberIn(distinctNumbers)
+                .doOnNext(account -> accountNumberCache.put(account.getAccountNumber(), account.getAccountId()))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<UUID> resolveAccountId(String accountNumber) {
+        if (accountNumber == null || accountNumber.isBlank()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_NUMBER_REQUIRED));
+        }
+
+        return Mono.justOrEmpty(accountNumberCache.get(accountNumber))
+                .switchIfEmpty(Mono.defer(() -> findByAccountNumber(accountNumber)
+                        .map(Account::getAccountId)));
+    }
+
+    // Looks an account up by its unique number and caches its ID
+    private Mono<Account> findByAccountNumber(String accountNumber) {
+        return repository.findByAccountNumber(accountNumber)
+                .doOnNext(account -> accountNumberCache.put(account.getAccountNumber(), account.getAccountId()));
+    }
+
+    @Override
+    public Mono<BatchGetResponseDTO<AccountDTO>> batchGetAccounts(List<UUID> accountIds) {
+        return BatchGetUtils.batchGet(
+                accountIds,
+                ids -> repository.findAllByAccountIdIn(ids).map(mapper::toDTO),
+                AccountDTO::getAccountId
+        );
     }
 }
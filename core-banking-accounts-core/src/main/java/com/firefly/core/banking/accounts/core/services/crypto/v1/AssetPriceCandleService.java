@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceCandleDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for the OHLC candle rollups of asset prices.
+ */
+public interface AssetPriceCandleService {
+
+    /**
+     * Get the candles of a pair within a date range, oldest first.
+     * When no interval is given, the finest interval that keeps the range within the
+     * configured maximum number of buckets is used, or daily candles for longer ranges.
+     *
+     * @param assetSymbol the symbol of the asset
+     * @param quoteCurrency the currency in which the asset is priced
+     * @param startDate the start of the range (inclusive)
+     * @param endDate the end of the range (exclusive)
+     * @param interval the bucket interval, or null to pick one from the range
+     * @return a Flux of candles; errors with IllegalArgumentException for an invalid range
+     *         or an interval too fine for the range
+     */
+    Flux<AssetPriceCandleDTO> getCandles(String assetSymbol, String quoteCurrency,
+                                         LocalDateTime startDate, LocalDateTime endDate,
+                                         CandleIntervalEnum interval);
+
+    /**
+     * Merge newly stored price ticks into the candles of every interval.
+     * Each tick must be applied exactly once, right after it is stored.
+     *
+     * @param ticks the stored ticks
+     * @return a Mono of the number of candles written
+     */
+    Mono<Integer> applyTicks(List<AssetPriceDTO> ticks);
+
+    /**
+     * Recompute the candles of a pair for the day of a tick that was changed or deleted.
+     * Buckets of that day left without ticks are deleted when the day is within raw-tick
+     * retention.
+     *
+     * @param assetSymbol the symbol of the asset
+     * @param quoteCurrency the currency in which the asset is priced
+     * @param asOfDatetime the as-of datetime of the tick
+     * @return a Mono of the number of candles written or deleted
+     */
+    Mono<Integer> repairCandles(String assetSymbol, String quoteCurrency, LocalDateTime asOfDatetime);
+
+    /**
+     * Delete the candles of an asset that cover retained ticks, after those ticks were deleted.
+     * Candles older than raw-tick retention are kept, being the only record of their range.
+     *
+     * @param assetSymbol the symbol of the asset
+     * @param quoteCurrency the currency in which the asset is priced, or null for every pair of the asset
+     * @return a Mono that completes once the candles are deleted
+     */
+    Mono<Void> discardCandles(String assetSymbol, String quoteCurrency);
+
+    /**
+     * Rebuild the candles of every pair from the stored asset prices within a date range.
+     * The range is widened to whole days; pairs are rebuilt in parallel.
+     *
+     * @param startDate the start of the range
+     * @param endDate the end of the range
+     * @return a Mono of the number of candles written
+     */
+    Mono<Long> backfillCandles(LocalDateTime startDate, LocalDateTime endDate);
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceCandleMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceCandleDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceCandleRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the AssetPriceCandleService interface.
+ * <p>
+ * Candles of every interval are maintained incrementally: each batch of stored ticks is
+ * merged into its buckets with one statement. A backfill recomputes candles from
+ * asset_price, one pair per worker and day-aligned windows of {@code backfill-chunk-days}
+ * per statement, so no single statement aggregates a pair's whole history. Changing or
+ * deleting ticks recomputes the candles of their day; within raw-tick retention the candles
+ * always follow the ticks, while older candles outlive their purged ticks.
+ * <p>
+ * Deliberately not transactional: every repository call is a single statement, and a
+ * backfill of many pairs must not hold one transaction open for its whole duration.
+ */
+@Service
+public class AssetPriceCandleServiceImpl implements AssetPriceCandleService {
+
+    @Autowired
+    private AssetPriceCandleRepository repository;
+
+    @Autowired
+    private AssetPriceRepository assetPriceRepository;
+
+    @Autowired
+    private AssetPriceCandleMapper mapper;
+
+    @Value("${account.crypto.candles.max-buckets:2000}")
+    private int maxBuckets = 2000;
+
+    @Value("${account.crypto.candles.backfill-parallelism:4}")
+    private int backfillParallelism = 4;
+
+    @Value("${account.crypto.candles.backfill-chunk-days:30}")
+    private int backfillChunkDays = 30;
+
+    @Value("${account.crypto.retention.raw-tick-days:90}")
+    private int rawTickDays = 90;
+
+    @Override
+    public Flux<AssetPriceCandleDTO> getCandles(String assetSymbol, String quoteCurrency,
+                                                LocalDateTime startDate, LocalDateTime endDate,
+                                                CandleIntervalEnum interval) {
+        if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
+            return Flux.error(new IllegalArgumentException("Start date must be before end date"));
+        }
+        if (interval != null && bucketCount(startDate, endDate, interval) > maxBuckets) {
+            return Flux.error(new IllegalArgumentException("Interval " + interval
+                    + " yields more than " + maxBuckets + " candles for the requested range"));
+        }
+        CandleIntervalEnum effectiveInterval = interval != null ? interval : pickInterval(startDate, endDate);
+
+        // Include the candle the start date falls into
+        LocalDateTime from = bucketStart(startDate, effectiveInterval);
+        return repository.findCandles(assetSymbol, quoteCurrency, effectiveInterval.name(), from, endDate)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Integer> applyTicks(List<AssetPriceDTO> ticks) {
+        if (ticks.isEmpty()) {
+            return Mono.just(0);
+        }
+        int size = ticks.size();
+        String[] assetSymbols = new String[size];
+        String[] quoteCurrencies = new String[size];
+        BigDecimal[] prices = new BigDecimal[size];
+        LocalDateTime[] asOfDatetimes = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            AssetPriceDTO tick = ticks.get(i);
+            assetSymbols[i] = tick.getAssetSymbol();
+            quoteCurrencies[i] = tick.getQuoteCurrency();
+            prices[i] = tick.getPrice();
+            asOfDatetimes[i] = tick.getAsOfDatetime();
+        }
+        return repository.mergeTicks(assetSymbols, quoteCurrencies, prices, asOfDatetimes);
+    }
+
+    @Override
+    public Mono<Integer> repairCandles(String assetSymbol, String quoteCurrency, LocalDateTime asOfDatetime) {
+        LocalDateTime from = asOfDatetime.toLocalDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        LocalDateTime retainedFrom = retainedFrom();
+        Mono<Integer> deleted = from.isBefore(retainedFrom)
+                ? Mono.just(0)
+                : repository.deleteEmptyCandles(assetSymbol, quoteCurrency, from, to);
+        return deleted.flatMap(emptied -> repository
+                .rebuildCandles(assetSymbol, quoteCurrency, from, to, retainedFrom)
+                .map(written -> emptied + written));
+    }
+
+    @Override
+    public Mono<Void> discardCandles(String assetSymbol, String quoteCurrency) {
+        return quoteCurrency == null
+                ? repository.deleteByAssetSymbolAndBucketStartGreaterThanEqual(assetSymbol, retainedFrom())
+                : repository.deleteByAssetSymbolAndQuoteCurrencyAndBucketStartGreaterThanEqual(
+                        assetSymbol, quoteCurrency, retainedFrom());
+    }
+
+    @Override
+    public Mono<Long> backfillCandles(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
+            return Mono.error(new IllegalArgumentException("Start date must be before end date"));
+        }
+        // Whole days, so every bucket of every interval is recomputed from all of its ticks
+        LocalDateTime from = startDate.toLocalDate().atStartOfDay();
+        LocalDateTime to = endDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? endDate
+                : endDate.toLocalDate().plusDays(1).atStartOfDay();
+        List<LocalDateTime[]> windows = windows(from, to);
+        LocalDateTime retainedFrom = retainedFrom();
+
+        return assetPriceRepository.findLatestPrices()
+                .flatMap(pair -> backfillPair(pair, windows, retainedFrom), backfillParallelism)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> backfillPair(AssetPrice pair, List<LocalDateTime[]> windows, LocalDateTime retainedFrom) {
+        return Flux.fromIterable(windows)
+                .concatMap(window -> repository.rebuildCandles(
+                        pair.getAssetSymbol(), pair.getQuoteCurrency(), window[0], window[1], retainedFrom))
+                .reduce(0L, (total, written) -> total + written);
+    }
+
+    /**
+     * Start of raw-tick retention, matching the cutoff of the retention job.
+     */
+    private LocalDateTime retainedFrom() {
+        return LocalDate.now().minusDays(rawTickDays).atStartOfDay();
+    }
+
+    private List<LocalDateTime[]> windows(LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime[]> windows = new ArrayList<>();
+        for (LocalDateTime start = from; start.isBefore(to); start = start.plusDays(backfillChunkDays)) {
+            LocalDateTime end = start.plusDays(backfillChunkDays);
+            windows.add(new LocalDateTime[]{start, end.isBefore(to) ? end : to});
+        }
+        return windows;
+    }
+
+    /**
+     * Picks the finest interval whose bucket count for the range stays within the maximum,
+     * falling back to daily candles for ranges longer than that.
+     */
+    CandleIntervalEnum pickInterval(LocalDateTime startDate, LocalDateTime endDate) {
+        for (CandleIntervalEnum interval : CandleIntervalEnum.values()) {
+            if (bucketCount(startDate, endDate, interval) <= maxBuckets) {
+                return interval;
+            }
+        }
+        return CandleIntervalEnum.ONE_DAY;
+    }
+
+    private static long bucketCount(LocalDateTime startDate, LocalDateTime endDate, CandleIntervalEnum interval) {
+        long seconds = interval.getDuration().toSeconds();
+        long first = Math.floorDiv(startDate.toEpochSecond(ZoneOffset.UTC), seconds);
+        long last = Math.floorDiv(endDate.toEpochSecond(ZoneOffset.UTC) - 1, seconds);
+        return last - first + 1;
+    }
+
+    private static LocalDateTime bucketStart(LocalDateTime dateTime, CandleIntervalEnum interval) {
+        long seconds = interval.getDuration().toSeconds();
+        long epochSecond = Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), seconds) * seconds;
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for the price of each pair consolidated across price sources.
+ */
+public interface AssetPriceConsolidationService {
+
+    /**
+     * Apply newly stored price ticks to the consolidation windows of their pairs and record
+     * the consolidated prices that changed. Ticks are applied in as-of order.
+     *
+     * @param ticks the stored ticks
+     * @return a Mono of the number of consolidated prices written
+     */
+    Mono<Integer> applyTicks(List<AssetPriceDTO> ticks);
+
+    /**
+     * Get the latest consolidated price of a pair.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @return a Mono of ConsolidatedAssetPriceDTO
+     */
+    Mono<ConsolidatedAssetPriceDTO> getLatestConsolidatedPrice(String assetSymbol, String quoteCurrency);
+
+    /**
+     * Get the consolidated prices of a pair within a date range.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param paginationRequest pagination parameters
+     * @return a paginated response of consolidated price DTOs
+     */
+    Mono<PaginationResponse<ConsolidatedAssetPriceDTO>> getConsolidatedPrices(
+            String assetSymbol, String quoteCurrency, LocalDateTime startDate, LocalDateTime endDate,
+            PaginationRequest paginationRequest);
+}
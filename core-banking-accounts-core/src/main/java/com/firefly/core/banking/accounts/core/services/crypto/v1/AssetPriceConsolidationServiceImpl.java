@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.ConsolidatedAssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.ConsolidatedAssetPriceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the AssetPriceConsolidationService interface.
+ * <p>
+ * Ticks are consolidated in memory by the {@link PriceConsolidator}; the consolidated
+ * prices that changed within a batch are written with one statement, keeping only the
+ * last one per pair and instant, and handed to the {@link PriceAlertEngine} so alerts
+ * fire on prices that already had their outliers removed. The latest consolidated price is served from the
+ * consolidator and read from the table only when this node has not seen the pair.
+ * <p>
+ * Deliberately not transactional: it runs inside the ingest of every batch, and each
+ * write is a single statement.
+ */
+@Service
+public class AssetPriceConsolidationServiceImpl implements AssetPriceConsolidationService {
+
+    private static final Comparator<AssetPriceDTO> BY_AS_OF = Comparator.comparing(AssetPriceDTO::getAsOfDatetime);
+
+    @Autowired
+    private ConsolidatedAssetPriceRepository repository;
+
+    @Autowired
+    private ConsolidatedAssetPriceMapper mapper;
+
+    @Autowired
+    private PriceConsolidator consolidator;
+
+    @Autowired
+    private PriceAlertEngine alertEngine;
+
+    @Override
+    public Mono<Integer> applyTicks(List<AssetPriceDTO> ticks) {
+        return Mono.defer(() -> {
+            List<AssetPriceDTO> ordered = new ArrayList<>(ticks);
+            ordered.sort(BY_AS_OF);
+            Map<String, ConsolidatedAssetPriceDTO> changed = new LinkedHashMap<>();
+            for (AssetPriceDTO tick : ordered) {
+                ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick);
+                if (consolidated != null) {
+                    changed.put(consolidated.getAssetSymbol() + "/" + consolidated.getQuoteCurrency()
+                            + "@" + consolidated.getAsOfDatetime(), consolidated);
+                }
+            }
+            if (changed.isEmpty()) {
+                return Mono.just(0);
+            }
+
+            changed.values().forEach(consolidated -> alertEngine.onPrice(consolidated.getAssetSymbol(),
+                    consolidated.getQuoteCurrency(), consolidated.getPrice(), consolidated.getAsOfDatetime(),
+                    consolidated.getSourceCount()));
+
+            int size = changed.size();
+            String[] assetSymbols = new String[size];
+            String[] quoteCurrencies = new String[size];
+            BigDecimal[] prices = new BigDecimal[size];
+            LocalDateTime[] asOfDatetimes = new LocalDateTime[size];
+            Integer[] sourceCounts = new Integer[size];
+            Integer[] droppedSourceCounts = new Integer[size];
+            int i = 0;
+            for (ConsolidatedAssetPriceDTO consolidated : changed.values()) {
+                assetSymbols[i] = consolidated.getAssetSymbol();
+                quoteCurrencies[i] = consolidated.getQuoteCurrency();
+                prices[i] = consolidated.getPrice();
+                asOfDatetimes[i] = consolidated.getAsOfDatetime();
+                sourceCounts[i] = consolidated.getSourceCount();
+                droppedSourceCounts[i] = consolidated.getDroppedSourceCount();
+                i++;
+            }
+            return repository.upsertConsolidatedPrices(assetSymbols, quoteCurrencies, prices, asOfDatetimes,
+                    sourceCounts, droppedSourceCounts);
+        });
+    }
+
+    @Override
+    public Mono<ConsolidatedAssetPriceDTO> getLatestConsolidatedPrice(String assetSymbol, String quoteCurrency) {
+        return consolidator.getLatest(assetSymbol, quoteCurrency)
+                .map(Mono::just)
+                .orElseGet(() -> repository.findLatestConsolidatedPrice(assetSymbol, quoteCurrency)
+                        .map(mapper::toDTO));
+    }
+
+    @Override
+    public Mono<PaginationResponse<ConsolidatedAssetPriceDTO>> getConsolidatedPrices(
+            String assetSymbol, String quoteCurrency, LocalDateTime startDate, LocalDateTime endDate,
+            PaginationRequest paginationRequest) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween(
+                        assetSymbol, quoteCurrency, startDate, endDate, pageable),
+                () -> repository.countByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween(
+                        assetSymbol, quoteCurrency, startDate, endDate)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceIngestResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for ingesting streams of asset price ticks.
+ */
+public interface AssetPriceIngestService {
+
+    /**
+     * Store a stream of price ticks in micro-batches.
+     * Invalid ticks are counted and skipped; ticks already stored are skipped as duplicates.
+     *
+     * @param ticks the price ticks
+     * @return a Mono of the ingest outcome, emitted once the stream is complete
+     */
+    Mono<AssetPriceIngestResultDTO> ingestAssetPrices(Flux<AssetPriceDTO> ticks);
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceIngestResultDTO;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the AssetPriceIngestService interface.
+ * <p>
+ * Ticks are grouped into micro-batches of up to {@code batch-size} ticks, or whatever
+ * arrived within {@code flush-interval-ms}, and each batch is stored with one multi-row
+ * insert. Exact duplicates are dropped by the unique tick index. The inserted ticks are
+ * then merged into the price candles and the consolidated prices, and the latest-price
+ * cache is updated with the newest inserted tick of each pair. If the candle merge fails
+ * the ingest fails; the stored ticks are kept and a candle backfill over their range
+ * repairs the candles.
+ * <p>
+ * Deliberately not transactional: each batch is a single statement that commits on its
+ * own, so a long-running stream never holds a transaction open and batches can be
+ * written concurrently.
+ */
+@Service
+public class AssetPriceIngestServiceImpl implements AssetPriceIngestService {
+
+    private static final String METRIC_TICKS = "account.crypto.price-ingest.ticks";
+    static final String OUTCOME_INSERTED = "inserted";
+    static final String OUTCOME_DUPLICATE = "duplicate";
+    static final String OUTCOME_REJECTED = "rejected";
+
+    @Autowired
+    private AssetPriceRepository repository;
+
+    @Autowired
+    private AssetPriceMapper mapper;
+
+    @Autowired
+    private LatestPriceCache latestPriceCache;
+
+    @Autowired
+    private AssetPriceCandleService candleService;
+
+    @Autowired
+    private AssetPriceConsolidationService consolidationService;
+
+    @Autowired
+    private PriceStreamHub priceStreamHub;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.crypto.price-ingest.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${account.crypto.price-ingest.flush-interval-ms:100}")
+    private long flushIntervalMs = 100;
+
+    @Value("${account.crypto.price-ingest.concurrency:4}")
+    private int concurrency = 4;
+
+    private Counter insertedCounter;
+
+    private Counter duplicateCounter;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        insertedCounter = Counter.builder(METRIC_TICKS).tag("outcome", OUTCOME_INSERTED).register(meterRegistry);
+        duplicateCounter = Counter.builder(METRIC_TICKS).tag("outcome", OUTCOME_DUPLICATE).register(meterRegistry);
+        rejectedCounter = Counter.builder(METRIC_TICKS).tag("outcome", OUTCOME_REJECTED).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<AssetPriceIngestResultDTO> ingestAssetPrices(Flux<AssetPriceDTO> ticks) {
+        AtomicLong received = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        return ticks
+                .doOnNext(tick -> received.incrementAndGet())
+                .filter(tick -> {
+                    if (isValid(tick)) {
+                        return true;
+                    }
+                    rejected.incrementAndGet();
+                    rejectedCounter.increment();
+                    return false;
+                })
+                .bufferTimeout(batchSize, Duration.ofMillis(flushIntervalMs))
+                .flatMap(this::insertBatch, concurrency)
+                .reduce(0L, Long::sum)
+                .map(inserted -> {
+                    long duplicates = received.get() - rejected.get() - inserted;
+                    return AssetPriceIngestResultDTO.builder()
+                            .received(received.get())
+                            .inserted(inserted)
+                            .duplicates(duplicates)
+                            .rejected(rejected.get())
+                            .build();
+                });
+    }
+
+    /**
+     * Stores one batch of valid ticks and updates the candles, the latest-price cache and the live price streams.
+     * @return Mono of the number of ticks inserted
+     */
+    Mono<Long> insertBatch(List<AssetPriceDTO> batch) {
+        int size = batch.size();
+        String[] assetSymbols = new String[size];
+        String[] quoteCurrencies = new String[size];
+        BigDecimal[] prices = new BigDecimal[size];
+        LocalDateTime[] asOfDatetimes = new LocalDateTime[size];
+        String[] priceSources = new String[size];
+        for (int i = 0; i < size; i++) {
+            AssetPriceDTO tick = batch.get(i);
+            assetSymbols[i] = tick.getAssetSymbol();
+            quoteCurrencies[i] = tick.getQuoteCurrency();
+            prices[i] = tick.getPrice();
+            asOfDatetimes[i] = tick.getAsOfDatetime();
+            priceSources[i] = tick.getPriceSource();
+        }
+
+        return repository.insertTicks(assetSymbols, quoteCurrencies, prices, asOfDatetimes, priceSources)
+                .map(mapper::toDTO)
+                .collectList()
+                .flatMap(inserted -> candleService.applyTicks(inserted).thenReturn(inserted))
+                .flatMap(inserted -> consolidationService.applyTicks(inserted).thenReturn(inserted))
+                .map(inserted -> {
+                    latestByPair(inserted).values().forEach(latest -> {
+                        latestPriceCache.offer(latest);
+                        priceStreamHub.publish(latest);
+                    });
+                    insertedCounter.increment(inserted.size());
+                    duplicateCounter.increment(size - inserted.size());
+                    return (long) inserted.size();
+                });
+    }
+
+    private static Map<String, AssetPriceDTO> latestByPair(List<AssetPriceDTO> prices) {
+        Map<String, AssetPriceDTO> latest = new HashMap<>();
+        for (AssetPriceDTO price : prices) {
+            latest.merge(price.getAssetSymbol() + "/" + price.getQuoteCurrency(), price,
+                    (a, b) -> b.getAsOfDatetime().isAfter(a.getAsOfDatetime()) ? b : a);
+        }
+        return latest;
+    }
+
+    private static boolean isValid(AssetPriceDTO tick) {
+        return tick.getAssetSymbol() != null && !tick.getAssetSymbol().isBlank()
+                && tick.getQuoteCurrency() != null && !tick.getQuoteCurrency().isBlank()
+                && tick.getPrice() != null && tick.getPrice().signum() > 0
+                && tick.getAsOfDatetime() != null
+                && tick.getPriceSource() != null && !tick.getPriceSource().isBlank();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceCandleRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.ConsolidatedAssetPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Applies the tiered retention policy of asset prices:
+ * raw ticks and consolidated prices are kept for {@code raw-tick-days}, minute and
+ * five-minute candles for {@code minute-candle-months}, hourly candles for
+ * {@code hour-candle-months} and daily candles indefinitely.
+ * <p>
+ * Each run first creates the daily asset_price partitions ahead of time, then rebuilds
+ * the candles of the ticks about to expire (pair by pair, in day windows) and only then
+ * drops the expired partitions. Ticks outside every partition, expired consolidated prices
+ * and expired candles are deleted in bounded batches spaced by a pause. A failed step ends the run before
+ * anything is deleted on its behalf.
+ * <p>
+ * Only one node runs at a time: the run holds the retention advisory lock in a transaction of its own
+ * connection, while its steps run and commit on other connections.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.crypto.retention", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class AssetPriceRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetPriceRetentionJob.class);
+
+    /**
+     * Advisory lock key serializing asset price retention runs across nodes.
+     */
+    static final long RETENTION_LOCK_KEY = 0x4163_6350_7269_6301L;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private AssetPriceRepository assetPriceRepository;
+
+    @Autowired
+    private AssetPriceCandleRepository candleRepository;
+
+    @Autowired
+    private ConsolidatedAssetPriceRepository consolidatedPriceRepository;
+
+    @Autowired
+    private AssetPriceCandleService candleService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.crypto.retention.raw-tick-days:90}")
+    private int rawTickDays = 90;
+
+    @Value("${account.crypto.retention.minute-candle-months:6}")
+    private int minuteCandleMonths = 6;
+
+    @Value("${account.crypto.retention.hour-candle-months:24}")
+    private int hourCandleMonths = 24;
+
+    @Value("${account.crypto.retention.partition-lookahead-days:7}")
+    private int partitionLookaheadDays = 7;
+
+    @Value("${account.crypto.retention.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${account.crypto.retention.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${account.crypto.retention.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs = 100;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        runTimer = Timer.builder("account.crypto.retention.run")
+                .description("Duration of asset price retention runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${account.crypto.retention.interval-ms:3600000}",
+            initialDelayString = "${account.crypto.retention.initial-delay-ms:300000}")
+    public void applyRetention() {
+        long started = System.nanoTime();
+        try {
+            RetentionOutcome outcome = runExclusively(LocalDate.now()).block();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            runTimer.record(elapsed);
+            if (outcome != null) {
+                logger.info("Asset price retention in {} ms: {} partitions created, {} candles rebuilt, "
+                                + "{} partitions dropped, {} ticks deleted, {} consolidated prices deleted, "
+                                + "{} candles deleted",
+                        elapsed.toMillis(), outcome.partitionsCreated, outcome.candlesRebuilt,
+                        outcome.partitionsDropped, outcome.ticksDeleted, outcome.consolidatedPricesDeleted,
+                        outcome.candlesDeleted);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Asset price retention failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs one retention pass as of a given day unless another node holds the retention lock.
+     * The lock is released when its transaction is rolled back, or when the connection drops.
+     * @return Mono of what the pass created, rebuilt and deleted; empty when another node is running
+     */
+    Mono<RetentionOutcome> runExclusively(LocalDate today) {
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> Mono.usingWhen(Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        lockConnection -> Mono.from(lockConnection
+                                        .createStatement("SELECT pg_try_advisory_xact_lock($1)")
+                                        .bind("$1", RETENTION_LOCK_KEY)
+                                        .execute())
+                                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Boolean.class))))
+                                .flatMap(acquired -> {
+                                    if (!Boolean.TRUE.equals(acquired)) {
+                                        logger.debug("Asset price retention is running on another node");
+                                        return Mono.<RetentionOutcome>empty();
+                                    }
+                                    return runOnce(today);
+                                }),
+                        Connection::rollbackTransaction),
+                Connection::close);
+    }
+
+    /**
+     * Runs one retention pass as of a given day.
+     * @return Mono of what the pass created, rebuilt and deleted
+     */
+    Mono<RetentionOutcome> runOnce(LocalDate today) {
+        LocalDate rawCutoffDay = today.minusDays(rawTickDays);
+        LocalDateTime rawCutoff = rawCutoffDay.atStartOfDay();
+        LocalDateTime minuteCutoff = today.minusMonths(minuteCandleMonths).atStartOfDay();
+        LocalDateTime hourCutoff = today.minusMonths(hourCandleMonths).atStartOfDay();
+
+        RetentionOutcome outcome = new RetentionOutcome();
+        return assetPriceRepository.ensurePartitions(rawCutoffDay, today.plusDays(partitionLookaheadDays + 1))
+                .doOnNext(created -> outcome.partitionsCreated = created)
+                .then(Mono.defer(() -> downsample(rawCutoff)))
+                .doOnNext(rebuilt -> outcome.candlesRebuilt = rebuilt)
+                .then(Mono.defer(() -> assetPriceRepository.dropPartitionsBefore(rawCutoffDay)))
+                .doOnNext(dropped -> outcome.partitionsDropped = dropped)
+                .then(inBatches(() -> assetPriceRepository.deleteTicksBefore(rawCutoff, batchSize)))
+                .doOnNext(deleted -> outcome.ticksDeleted = deleted)
+                .then(inBatches(() -> consolidatedPriceRepository.deleteConsolidatedPricesBefore(rawCutoff, batchSize)))
+                .doOnNext(deleted -> outcome.consolidatedPricesDeleted = deleted)
+                .then(Flux.concat(
+                                expireCandles(CandleIntervalEnum.ONE_MINUTE, minuteCutoff),
+                                expireCandles(CandleIntervalEnum.FIVE_MINUTES, minuteCutoff),
+                                expireCandles(CandleIntervalEnum.ONE_HOUR, hourCutoff))
+                        .reduce(0L, Long::sum))
+                .doOnNext(deleted -> outcome.candlesDeleted = deleted)
+                .thenReturn(outcome);
+    }
+
+    /**
+     * Rebuilds the candles of every tick older than the raw cutoff, so no tick expires
+     * before it is reflected in the candles.
+     */
+    private Mono<Long> downsample(LocalDateTime rawCutoff) {
+        return assetPriceRepository.findOldestAsOfDatetime()
+                .filter(oldest -> oldest.isBefore(rawCutoff))
+                .flatMap(oldest -> candleService.backfillCandles(oldest, rawCutoff))
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Long> expireCandles(CandleIntervalEnum interval, LocalDateTime cutoff) {
+        return inBatches(() -> candleRepository.deleteCandlesBefore(interval.name(), cutoff, batchSize));
+    }
+
+    /**
+     * Repeats a bounded delete until a batch comes back short or the per-run batch limit is reached.
+     */
+    private Mono<Long> inBatches(Supplier<Mono<Integer>> batch) {
+        return Mono.defer(batch)
+                .repeatWhen(completions -> completions
+                        .take(Math.max(maxBatchesPerRun - 1, 0))
+                        .delayElements(Duration.ofMillis(pauseBetweenBatchesMs)))
+                .takeUntil(count -> count < batchSize)
+                .reduce(0L, (total, count) -> total + count);
+    }
+
+    /**
+     * What one retention pass created, rebuilt and deleted.
+     */
+    static final class RetentionOutcome {
+        int partitionsCreated;
+        long candlesRebuilt;
+        int partitionsDropped;
+        long ticksDeleted;
+        long consolidatedPricesDeleted;
+        long candlesDeleted;
+    }
+}
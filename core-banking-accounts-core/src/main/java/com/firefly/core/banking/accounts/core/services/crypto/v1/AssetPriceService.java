@@ -19,10 +19,14 @@ package com.firefly.core.banking.accounts.core.services.crypto.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceAsOfDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceLookupDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -101,6 +105,18 @@ public interface AssetPriceService {
      */
     Mono<AssetPriceDTO> getLatestAssetPrice(String assetSymbol, String quoteCurrency);
 
+    /**
+     * Get the prices of many asset symbol and quote currency pairs, each as of its own instant,
+     * in a single query. The price as of an instant is the latest tick at or before it or,
+     * when interpolating, the linear interpolation between that tick and the next one. Where
+     * the ticks were purged by retention, the closes of the surrounding candles stand in for them.
+     *
+     * @param lookups the lookups, each with an asset symbol, a quote currency and an instant
+     * @param interpolate whether to interpolate between the surrounding ticks
+     * @return a Flux of AssetPriceAsOfDTO, one per lookup in lookup order
+     */
+    Flux<AssetPriceAsOfDTO> getAssetPricesAsOf(List<AssetPriceLookupDTO> lookups, boolean interpolate);
+
     /**
      * Get historical asset prices for a specific asset symbol within a date range.
      *
@@ -21,15 +21,28 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceAsOfDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceLookupDTO;
 import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceAsOf;
 import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -40,12 +53,40 @@ import java.util.UUID;
 @Transactional
 public class AssetPriceServiceImpl implements AssetPriceService {
 
+    static final int MAX_LOOKUPS_PER_REQUEST = 100_000;
+    private static final int INTERPOLATION_SCALE = 18;
+    private static final String ERROR_LOOKUPS_REQUIRED = "At least one price lookup is required";
+    private static final String ERROR_TOO_MANY_LOOKUPS = "Cannot look up more than " + MAX_LOOKUPS_PER_REQUEST + " prices at once";
+    private static final String ERROR_INVALID_LOOKUP = "Each price lookup requires an asset symbol, a quote currency and an as-of datetime";
+
+    /**
+     * Ticks further than this from a requested instant are not used, which bounds the
+     * partitions each lookup probes and keeps stale prices from being reported as current.
+     */
+    @Value("${account.crypto.price-lookup.max-gap-hours:24}")
+    private long maxGapHours = 24;
+
     @Autowired
     private AssetPriceRepository repository;
 
     @Autowired
     private AssetPriceMapper mapper;
 
+    @Autowired
+    private LatestPriceCache latestPriceCache;
+
+    @Autowired
+    private AssetPriceCandleService candleService;
+
+    @Autowired
+    private AssetPriceConsolidationService consolidationService;
+
+    @Autowired
+    private PriceStreamHub priceStreamHub;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
     public Mono<PaginationResponse<AssetPriceDTO>> getAllAssetPrices(PaginationRequest paginationRequest) {
         return PaginationUtils.paginateQuery(
@@ -63,27 +104,76 @@ public class AssetPriceServiceImpl implements AssetPriceService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AssetPriceDTO> createAssetPrice(AssetPriceDTO assetPriceDTO) {
+        // The cache and the stream only see the tick once it and its candles are committed
         AssetPrice assetPrice = mapper.toEntity(assetPriceDTO);
-        return repository.save(assetPrice)
-                .map(mapper::toDTO);
+        return transactionalOperator.transactional(repository.save(assetPrice)
+                        .map(mapper::toDTO)
+                        .flatMap(created -> candleService.applyTicks(List.of(created)).thenReturn(created))
+                        .flatMap(created -> consolidationService.applyTicks(List.of(created)).thenReturn(created)))
+                .doOnNext(latestPriceCache::offer)
+                .doOnNext(priceStreamHub::publish);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AssetPriceDTO> updateAssetPrice(UUID assetPriceId, AssetPriceDTO assetPriceDTO) {
-        return repository.findById(assetPriceId)
+        Mono<Tuple2<AssetPrice, AssetPrice>> updated = repository.findById(assetPriceId)
                 .flatMap(existingAssetPrice -> {
                     assetPriceDTO.setAssetPriceId(assetPriceId);
                     AssetPrice updatedAssetPrice = mapper.toEntity(assetPriceDTO);
-                    return repository.save(updatedAssetPrice);
+                    return repository.save(updatedAssetPrice)
+                            .flatMap(saved -> repairCandles(existingAssetPrice, saved)
+                                    .thenReturn(Tuples.of(existingAssetPrice, saved)));
+                });
+
+        // The cache is only touched once the update and its candle repair are committed
+        return transactionalOperator.transactional(updated)
+                .doOnNext(prices -> {
+                    AssetPrice previous = prices.getT1();
+                    AssetPrice saved = prices.getT2();
+                    // A price moved to another pair may have been the latest of its old pair
+                    if (!previous.getAssetSymbol().equals(saved.getAssetSymbol())
+                            || !previous.getQuoteCurrency().equals(saved.getQuoteCurrency())) {
+                        latestPriceCache.evict(previous.getAssetSymbol(), previous.getQuoteCurrency());
+                    }
                 })
-                .map(mapper::toDTO);
+                .map(prices -> mapper.toDTO(prices.getT2()))
+                .doOnNext(latestPriceCache::offer);
+    }
+
+    /**
+     * Rebuild the candles of the day a tick was stored in and, when the update moved it to
+     * another pair or day, of the day it was moved to.
+     */
+    private Mono<Void> repairCandles(AssetPrice previous, AssetPrice current) {
+        Mono<Integer> repairPrevious = candleService.repairCandles(
+                previous.getAssetSymbol(), previous.getQuoteCurrency(), previous.getAsOfDatetime());
+        if (previous.getAssetSymbol().equals(current.getAssetSymbol())
+                && previous.getQuoteCurrency().equals(current.getQuoteCurrency())
+                && previous.getAsOfDatetime().toLocalDate().equals(current.getAsOfDatetime().toLocalDate())) {
+            return repairPrevious.then();
+        }
+        return repairPrevious
+                .then(candleService.repairCandles(
+                        current.getAssetSymbol(), current.getQuoteCurrency(), current.getAsOfDatetime()))
+                .then();
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<Void> deleteAssetPrice(UUID assetPriceId) {
-        return repository.findById(assetPriceId)
-                .flatMap(repository::delete);
+        Mono<AssetPrice> deleted = repository.findById(assetPriceId)
+                .flatMap(assetPrice -> repository.delete(assetPrice)
+                        .then(candleService.repairCandles(assetPrice.getAssetSymbol(),
+                                assetPrice.getQuoteCurrency(), assetPrice.getAsOfDatetime()))
+                        .thenReturn(assetPrice));
+
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(assetPrice -> latestPriceCache.evict(
+                        assetPrice.getAssetSymbol(), assetPrice.getQuoteCurrency()))
+                .then();
     }
 
     @Override
@@ -109,8 +199,65 @@ public class AssetPriceServiceImpl implements AssetPriceService {
 
     @Override
     public Mono<AssetPriceDTO> getLatestAssetPrice(String assetSymbol, String quoteCurrency) {
-        return repository.findLatestPrice(assetSymbol, quoteCurrency)
-                .map(mapper::toDTO);
+        return latestPriceCache.getLatest(assetSymbol, quoteCurrency);
+    }
+
+    @Override
+    public Flux<AssetPriceAsOfDTO> getAssetPricesAsOf(List<AssetPriceLookupDTO> lookups, boolean interpolate) {
+        if (lookups == null || lookups.isEmpty()) {
+            return Flux.error(new IllegalArgumentException(ERROR_LOOKUPS_REQUIRED));
+        }
+        if (lookups.size() > MAX_LOOKUPS_PER_REQUEST) {
+            return Flux.error(new IllegalArgumentException(ERROR_TOO_MANY_LOOKUPS));
+        }
+        int size = lookups.size();
+        String[] assetSymbols = new String[size];
+        String[] quoteCurrencies = new String[size];
+        LocalDateTime[] asOfDatetimes = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            AssetPriceLookupDTO lookup = lookups.get(i);
+            if (lookup == null || lookup.getAssetSymbol() == null || lookup.getQuoteCurrency() == null
+                    || lookup.getAsOfDatetime() == null) {
+                return Flux.error(new IllegalArgumentException(ERROR_INVALID_LOOKUP));
+            }
+            assetSymbols[i] = lookup.getAssetSymbol();
+            quoteCurrencies[i] = lookup.getQuoteCurrency();
+            asOfDatetimes[i] = lookup.getAsOfDatetime();
+        }
+
+        return repository.findPricesAsOf(Duration.ofHours(maxGapHours).toSeconds(),
+                        assetSymbols, quoteCurrencies, asOfDatetimes, interpolate)
+                .map(row -> toAsOfDTO(lookups.get(row.getLookupIndex().intValue() - 1), row));
+    }
+
+    /**
+     * Resolve the price of one lookup from its surrounding ticks. An exact hit, or a missing
+     * tick after the instant, yields the tick before it unchanged.
+     */
+    static AssetPriceAsOfDTO toAsOfDTO(AssetPriceLookupDTO lookup, AssetPriceAsOf row) {
+        AssetPriceAsOfDTO dto = AssetPriceAsOfDTO.builder()
+                .assetSymbol(lookup.getAssetSymbol())
+                .quoteCurrency(lookup.getQuoteCurrency())
+                .asOfDatetime(lookup.getAsOfDatetime())
+                .price(row.getPriceBefore())
+                .priceAsOfDatetime(row.getAsOfBefore())
+                .build();
+        if (row.getPriceBefore() == null || row.getPriceAfter() == null
+                || row.getAsOfBefore().equals(lookup.getAsOfDatetime())) {
+            return dto;
+        }
+
+        long span = Duration.between(row.getAsOfBefore(), row.getAsOfAfter()).toNanos();
+        long elapsed = Duration.between(row.getAsOfBefore(), lookup.getAsOfDatetime()).toNanos();
+        BigDecimal fraction = BigDecimal.valueOf(elapsed)
+                .divide(BigDecimal.valueOf(span), INTERPOLATION_SCALE, RoundingMode.HALF_EVEN);
+        dto.setPrice(row.getPriceBefore()
+                .add(row.getPriceAfter().subtract(row.getPriceBefore()).multiply(fraction))
+                .setScale(INTERPOLATION_SCALE, RoundingMode.HALF_EVEN)
+                .stripTrailingZeros());
+        dto.setNextPriceAsOfDatetime(row.getAsOfAfter());
+        dto.setInterpolated(true);
+        return dto;
     }
 
     @Override
@@ -140,16 +287,21 @@ public class AssetPriceServiceImpl implements AssetPriceService {
 
     @Override
     public Mono<Void> deleteAssetPricesBySymbol(String assetSymbol) {
-        return repository.deleteByAssetSymbol(assetSymbol);
+        return repository.deleteByAssetSymbol(assetSymbol)
+                .then(candleService.discardCandles(assetSymbol, null))
+                .then(Mono.fromRunnable(() -> latestPriceCache.evictSymbol(assetSymbol)));
     }
 
     @Override
     public Mono<Void> deleteAssetPricesBySymbolAndCurrency(String assetSymbol, String quoteCurrency) {
-        return repository.deleteByAssetSymbolAndQuoteCurrency(assetSymbol, quoteCurrency);
+        return repository.deleteByAssetSymbolAndQuoteCurrency(assetSymbol, quoteCurrency)
+                .then(candleService.discardCandles(assetSymbol, quoteCurrency))
+                .then(Mono.fromRunnable(() -> latestPriceCache.evict(assetSymbol, quoteCurrency)));
     }
 
     @Override
     public Mono<Void> deleteAssetPricesOlderThan(LocalDateTime date) {
-        return repository.deleteByAsOfDatetimeBefore(date);
+        return repository.deleteByAsOfDatetimeBefore(date)
+                .then(Mono.fromRunnable(() -> latestPriceCache.evictOlderThan(date)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Service interface for streaming live asset prices.
+ */
+public interface AssetPriceStreamService {
+
+    /**
+     * Stream the latest price of several pairs: the current price of each pair, then every
+     * newer one. A slow client only ever receives the newest price of each pair.
+     *
+     * @param pairs the pairs to stream, each formatted as "SYMBOL/QUOTE" (e.g., "BTC/USD")
+     * @return a Flux of AssetPriceDTO that never completes on its own
+     */
+    Flux<AssetPriceDTO> streamAssetPrices(List<String> pairs);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of the AssetPriceStreamService interface.
+ * <p>
+ * Deliberately not transactional: streams stay open for as long as the client is
+ * connected and must not hold a connection.
+ */
+@Service
+public class AssetPriceStreamServiceImpl implements AssetPriceStreamService {
+
+    private static final String PAIR_SEPARATOR = "/";
+    private static final String ERROR_PAIRS_REQUIRED = "At least one pair is required";
+    private static final String ERROR_INVALID_PAIR = "Each pair must be formatted as SYMBOL/QUOTE";
+
+    @Autowired
+    private PriceStreamHub priceStreamHub;
+
+    @Value("${account.crypto.price-stream.max-pairs-per-stream:50}")
+    private int maxPairsPerStream = 50;
+
+    @Override
+    public Flux<AssetPriceDTO> streamAssetPrices(List<String> pairs) {
+        if (pairs == null || pairs.isEmpty()) {
+            return Flux.error(new IllegalArgumentException(ERROR_PAIRS_REQUIRED));
+        }
+        Set<String> distinctPairs = new LinkedHashSet<>(pairs);
+        if (distinctPairs.size() > maxPairsPerStream) {
+            return Flux.error(new IllegalArgumentException(
+                    "Cannot stream more than " + maxPairsPerStream + " pairs at once"));
+        }
+        for (String pair : distinctPairs) {
+            int separator = pair == null ? -1 : pair.indexOf(PAIR_SEPARATOR);
+            if (separator <= 0 || separator == pair.length() - 1 || pair.indexOf(PAIR_SEPARATOR, separator + 1) >= 0) {
+                return Flux.error(new IllegalArgumentException(ERROR_INVALID_PAIR));
+            }
+        }
+        List<Flux<AssetPriceDTO>> streams = new ArrayList<>(distinctPairs.size());
+        for (String pair : distinctPairs) {
+            int separator = pair.indexOf(PAIR_SEPARATOR);
+            streams.add(priceStreamHub.subscribe(pair.substring(0, separator), pair.substring(separator + 1)));
+        }
+        // A prefetch of one keeps the conflation of each pair from being undone by the merge
+        return Flux.merge(Flux.fromIterable(streams), streams.size(), 1);
+    }
+}
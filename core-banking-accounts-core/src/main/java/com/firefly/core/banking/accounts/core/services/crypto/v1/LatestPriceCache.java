@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-node cache of the latest price of each asset symbol and quote currency pair.
+ * <p>
+ * The cache is warmed at startup with one query and kept up to date write-through by
+ * the asset price service: a created or updated price replaces the cached one only
+ * when it is at least as recent, and deletes evict the pairs they touch. Entries
+ * expire after a configurable TTL so that prices written through other nodes are
+ * picked up. Once {@code max-pairs} pairs are cached, the least recently used pair is
+ * evicted for each new one; hits take the map lock only to record their use.
+ */
+@Component
+public class LatestPriceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatestPriceCache.class);
+
+    private final Map<PriceKey, Entry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PriceKey, Entry> eldest) {
+                    return size() > maxPairs;
+                }
+            });
+
+    @Autowired
+    private AssetPriceRepository repository;
+
+    @Autowired
+    private AssetPriceMapper mapper;
+
+    @Value("${account.crypto.price-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${account.crypto.price-cache.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${account.crypto.price-cache.max-pairs:10000}")
+    private int maxPairs = 10_000;
+
+    /**
+     * Loads the latest price of every pair. Runs once the application is ready so the
+     * schema migrations have been applied; failures leave the cache to fill on reads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        repository.findLatestPrices()
+                .map(mapper::toDTO)
+                .doOnNext(this::offer)
+                .count()
+                .subscribe(
+                        count -> logger.info("Latest price cache warmed with {} pairs", count),
+                        e -> logger.warn("Could not warm the latest price cache: {}", e.getMessage()));
+    }
+
+    /**
+     * Returns the latest price of a pair from the cache, loading it on a miss.
+     * Cached prices are shared and must not be modified.
+     */
+    public Mono<AssetPriceDTO> getLatest(String assetSymbol, String quoteCurrency) {
+        if (!enabled) {
+            return load(assetSymbol, quoteCurrency);
+        }
+        return get(assetSymbol, quoteCurrency)
+                .map(Mono::just)
+                .orElseGet(() -> load(assetSymbol, quoteCurrency).doOnNext(this::offer));
+    }
+
+    /**
+     * Returns the latest prices of several assets in one quote currency, keyed by asset symbol.
+     * Cached prices are served from memory and all misses are loaded with a single query.
+     * Assets without any price in the quote currency are absent from the map.
+     */
+    public Mono<Map<String, AssetPriceDTO>> getLatest(Collection<String> assetSymbols, String quoteCurrency) {
+        return Mono.defer(() -> {
+            Map<String, AssetPriceDTO> prices = new HashMap<>();
+            List<String> misses = new ArrayList<>();
+            for (String assetSymbol : assetSymbols) {
+                Optional<AssetPriceDTO> cached = enabled ? get(assetSymbol, quoteCurrency) : Optional.empty();
+                cached.ifPresentOrElse(price -> prices.put(assetSymbol, price), () -> misses.add(assetSymbol));
+            }
+            if (misses.isEmpty()) {
+                return Mono.just(prices);
+            }
+            return repository.findLatestPricesBySymbols(misses.toArray(new String[0]), quoteCurrency)
+                    .map(mapper::toDTO)
+                    .doOnNext(this::offer)
+                    .collect(() -> prices, (map, price) -> map.put(price.getAssetSymbol(), price));
+        });
+    }
+
+    /**
+     * Returns the cached latest price of a pair, or empty when it is not cached or has expired.
+     */
+    public Optional<AssetPriceDTO> get(String assetSymbol, String quoteCurrency) {
+        PriceKey key = new PriceKey(assetSymbol, quoteCurrency);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.loadedAt().plusSeconds(ttlSeconds).isBefore(LocalDateTime.now())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.price());
+    }
+
+    /**
+     * Applies a created, updated or loaded price. It replaces the cached price of its
+     * pair unless the cached one is more recent. A cached price moved back in time by
+     * an update is evicted, since an older price of the pair may now be the latest.
+     */
+    public void offer(AssetPriceDTO price) {
+        if (!enabled || price == null || price.getAssetSymbol() == null || price.getQuoteCurrency() == null
+                || price.getAsOfDatetime() == null) {
+            return;
+        }
+        PriceKey key = new PriceKey(price.getAssetSymbol(), price.getQuoteCurrency());
+        entries.compute(key, (k, cached) -> {
+            if (cached == null || !price.getAsOfDatetime().isBefore(cached.price().getAsOfDatetime())) {
+                return new Entry(price, LocalDateTime.now());
+            }
+            if (price.getAssetPriceId() != null && price.getAssetPriceId().equals(cached.price().getAssetPriceId())) {
+                return null;
+            }
+            return cached;
+        });
+    }
+
+    public void evict(String assetSymbol, String quoteCurrency) {
+        entries.remove(new PriceKey(assetSymbol, quoteCurrency));
+    }
+
+    public void evictSymbol(String assetSymbol) {
+        entries.keySet().removeIf(key -> key.assetSymbol().equals(assetSymbol));
+    }
+
+    /**
+     * Evicts the pairs whose cached latest price is older than the given date.
+     */
+    public void evictOlderThan(LocalDateTime date) {
+        entries.values().removeIf(entry -> entry.price().getAsOfDatetime().isBefore(date));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Mono<AssetPriceDTO> load(String assetSymbol, String quoteCurrency) {
+        return repository.findLatestPrice(assetSymbol, quoteCurrency)
+                .map(mapper::toDTO);
+    }
+
+    private record PriceKey(String assetSymbol, String quoteCurrency) {
+    }
+
+    private record Entry(AssetPriceDTO price, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PortfolioValuationDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for valuing the asset holdings of accounts.
+ */
+public interface PortfolioValuationService {
+
+    /**
+     * Value the account-level CURRENT, STAKED, LOCKED and PENDING_CONFIRMATION asset balances
+     * of an account at the latest prices in a quote currency.
+     *
+     * @param accountId the account to value
+     * @param quoteCurrency the currency to value in
+     * @return a Mono of the valuation; errors with IllegalArgumentException when the quote currency is missing
+     */
+    Mono<PortfolioValuationDTO> valueAccount(UUID accountId, String quoteCurrency);
+
+    /**
+     * Value several accounts with one balance query per chunk of accounts and one price
+     * lookup for all of their assets.
+     *
+     * @param accountIds the accounts to value
+     * @param quoteCurrency the currency to value in
+     * @return a Mono of the valuations in request order, one per distinct account
+     */
+    Mono<List<PortfolioValuationDTO>> valueAccounts(List<UUID> accountIds, String quoteCurrency);
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.utils.BatchGetUtils;
+import com.firefly.core.banking.accounts.core.utils.TokenAmount;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetValuationDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PortfolioValuationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.core.v1.CurrentAccountBalance;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.CurrentAccountBalanceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Implementation of the PortfolioValuationService interface.
+ * <p>
+ * Balances come from the materialized current balances, one query per chunk of accounts;
+ * prices come from the latest-price cache, which loads every missing price of a request
+ * in one query. No query is made per account or per asset. Only account-level balances
+ * are valued, since space balances are part of the account's holdings.
+ * <p>
+ * Quantities are summed as {@link TokenAmount}s from the base units of the balances, so
+ * they are exact to the last base unit of the asset; balances recorded without base units
+ * fall back to their amount.
+ * <p>
+ * Not transactional: a valuation is a read of one balance query and at most one price
+ * query, and must stay cheap enough to serve thousands of portfolios per second.
+ */
+@Service
+public class PortfolioValuationServiceImpl implements PortfolioValuationService {
+
+    static final List<BalanceTypeEnum> VALUED_BALANCE_TYPES = List.of(
+            BalanceTypeEnum.CURRENT,
+            BalanceTypeEnum.STAKED,
+            BalanceTypeEnum.LOCKED,
+            BalanceTypeEnum.PENDING_CONFIRMATION);
+
+    private static final String[] VALUED_BALANCE_TYPE_NAMES = VALUED_BALANCE_TYPES.stream()
+            .map(Enum::name)
+            .toArray(String[]::new);
+
+    private static final int MAX_ACCOUNTS_PER_REQUEST = 1000;
+    private static final String ERROR_QUOTE_CURRENCY_REQUIRED = "Quote currency is required";
+    private static final String ERROR_ACCOUNT_IDS_REQUIRED = "At least one account ID is required";
+    private static final String ERROR_TOO_MANY_ACCOUNTS = "Cannot value more than " + MAX_ACCOUNTS_PER_REQUEST + " accounts at once";
+
+    @Autowired
+    private CurrentAccountBalanceRepository currentBalanceRepository;
+
+    @Autowired
+    private LatestPriceCache latestPriceCache;
+
+    @Override
+    public Mono<PortfolioValuationDTO> valueAccount(UUID accountId, String quoteCurrency) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_IDS_REQUIRED));
+        }
+        return valueAccounts(List.of(accountId), quoteCurrency)
+                .map(valuations -> valuations.get(0));
+    }
+
+    @Override
+    public Mono<List<PortfolioValuationDTO>> valueAccounts(List<UUID> accountIds, String quoteCurrency) {
+        if (quoteCurrency == null || quoteCurrency.isBlank()) {
+            return Mono.error(new IllegalArgumentException(ERROR_QUOTE_CURRENCY_REQUIRED));
+        }
+        if (accountIds == null || accountIds.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_IDS_REQUIRED));
+        }
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(accountIds));
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_IDS_REQUIRED));
+        }
+        if (distinctIds.size() > MAX_ACCOUNTS_PER_REQUEST) {
+            return Mono.error(new IllegalArgumentException(ERROR_TOO_MANY_ACCOUNTS));
+        }
+
+        return Flux.fromIterable(BatchGetUtils.chunk(distinctIds, BatchGetUtils.CHUNK_SIZE))
+                .concatMap(chunk -> currentBalanceRepository.findAssetBalancesByAccountIdIn(
+                        chunk.toArray(new UUID[0]), VALUED_BALANCE_TYPE_NAMES))
+                .collect(() -> {
+                            // Pre-populate in request order so accounts without holdings are valued too
+                            Map<UUID, List<CurrentAccountBalance>> balancesByAccount = new LinkedHashMap<>();
+                            distinctIds.forEach(id -> balancesByAccount.put(id, new ArrayList<>()));
+                            return balancesByAccount;
+                        },
+                        (balancesByAccount, balance) -> balancesByAccount.get(balance.getAccountId()).add(balance))
+                .flatMap(balancesByAccount -> {
+                    Set<String> assetSymbols = new HashSet<>();
+                    balancesByAccount.values().forEach(balances -> balances.stream()
+                            .map(CurrentAccountBalance::getAssetSymbol)
+                            .filter(assetSymbol -> !assetSymbol.equals(quoteCurrency))
+                            .forEach(assetSymbols::add));
+                    return latestPriceCache.getLatest(assetSymbols, quoteCurrency)
+                            .map(prices -> {
+                                List<PortfolioValuationDTO> valuations = new ArrayList<>(balancesByAccount.size());
+                                balancesByAccount.forEach((accountId, balances) ->
+                                        valuations.add(value(accountId, balances, quoteCurrency, prices)));
+                                return valuations;
+                            });
+                });
+    }
+
+    private static PortfolioValuationDTO value(UUID accountId, List<CurrentAccountBalance> balances,
+                                               String quoteCurrency, Map<String, AssetPriceDTO> prices) {
+        Map<String, Map<BalanceTypeEnum, TokenAmount>> quantitiesByAsset = new TreeMap<>();
+        for (CurrentAccountBalance balance : balances) {
+            TokenAmount amount = toTokenAmount(balance);
+            if (amount == null) {
+                continue;
+            }
+            quantitiesByAsset
+                    .computeIfAbsent(balance.getAssetSymbol(), assetSymbol -> new EnumMap<>(BalanceTypeEnum.class))
+                    .merge(balance.getBalanceType(), amount, TokenAmount::add);
+        }
+
+        List<AssetValuationDTO> assets = new ArrayList<>(quantitiesByAsset.size());
+        List<String> unpricedAssetSymbols = new ArrayList<>();
+        BigDecimal totalValue = BigDecimal.ZERO;
+        for (Map.Entry<String, Map<BalanceTypeEnum, TokenAmount>> entry : quantitiesByAsset.entrySet()) {
+            String assetSymbol = entry.getKey();
+            Map<BalanceTypeEnum, BigDecimal> quantities = new EnumMap<>(BalanceTypeEnum.class);
+            TokenAmount total = null;
+            for (Map.Entry<BalanceTypeEnum, TokenAmount> quantityByType : entry.getValue().entrySet()) {
+                quantities.put(quantityByType.getKey(), quantityByType.getValue().toBigDecimal());
+                total = total == null ? quantityByType.getValue() : total.add(quantityByType.getValue());
+            }
+            BigDecimal quantity = total.toBigDecimal();
+            AssetValuationDTO.AssetValuationDTOBuilder asset = AssetValuationDTO.builder()
+                    .assetSymbol(assetSymbol)
+                    .quantities(quantities)
+                    .quantity(quantity);
+
+            if (assetSymbol.equals(quoteCurrency)) {
+                asset.price(BigDecimal.ONE).value(quantity);
+                totalValue = totalValue.add(quantity);
+            } else {
+                AssetPriceDTO price = prices.get(assetSymbol);
+                if (price != null) {
+                    BigDecimal value = quantity.multiply(price.getPrice());
+                    asset.price(price.getPrice()).priceAsOfDatetime(price.getAsOfDatetime()).value(value);
+                    totalValue = totalValue.add(value);
+                } else {
+                    unpricedAssetSymbols.add(assetSymbol);
+                }
+            }
+            assets.add(asset.build());
+        }
+
+        return PortfolioValuationDTO.builder()
+                .accountId(accountId)
+                .quoteCurrency(quoteCurrency)
+                .assets(assets)
+                .totalValue(totalValue)
+                .unpricedAssetSymbols(unpricedAssetSymbols)
+                .build();
+    }
+
+    private static TokenAmount toTokenAmount(CurrentAccountBalance balance) {
+        if (balance.getBalanceBaseUnits() != null && balance.getAssetDecimals() != null) {
+            return TokenAmount.ofBaseUnits(balance.getBalanceBaseUnits(), balance.getAssetDecimals());
+        }
+        return balance.getBalanceAmount() != null ? TokenAmount.of(balance.getBalanceAmount()) : null;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.PriceAlertRuleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fires price alert rules as consolidated prices move, off the ingest path.
+ *
+ * Each new consolidated price backed by at least {@code min-sources} sources is checked
+ * against the {@link PriceAlertIndex}, which only visits the thresholds between the previous
+ * and the new price of the pair; prices from fewer sources are ignored, so a single feed
+ * cannot fire alerts. The crossed rules are offered to a bounded in-memory queue; when the
+ * queue is full the trigger is dropped and counted rather than slowing the ingest down.
+ * Triggers are consumed in micro-batches, each claimed and notified with one statement per table.
+ *
+ * The rule of a dropped trigger, or of a batch that could not be fired, is put back in the
+ * index. The index is loaded from the active rules at startup and reloaded periodically,
+ * which picks up rules written through other nodes and queues every active rule whose
+ * threshold the last price has already reached, including those put back.
+ */
+@Component
+public class PriceAlertEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceAlertEngine.class);
+
+    @Autowired
+    private PriceAlertIndex index;
+
+    @Autowired
+    private PriceAlertRuleService priceAlertRuleService;
+
+    @Autowired
+    private PriceAlertRuleRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.crypto.price-alerts.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${account.crypto.price-alerts.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${account.crypto.price-alerts.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${account.crypto.price-alerts.flush-interval-ms:500}")
+    private long flushIntervalMs = 500;
+
+    @Value("${account.crypto.price-alerts.min-sources:2}")
+    private int minSources = 2;
+
+    private Sinks.Many<PriceAlertTrigger> triggers;
+
+    private Disposable subscription;
+
+    private Counter droppedCounter;
+
+    private Counter firedCounter;
+
+    @PostConstruct
+    void start() {
+        droppedCounter = Counter.builder("account.crypto.price-alerts.dropped")
+                .description("Price alert triggers dropped because the alert queue was full")
+                .register(meterRegistry);
+        firedCounter = Counter.builder("account.crypto.price-alerts.fired")
+                .description("Price alert notifications created")
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        triggers = Sinks.many().unicast().onBackpressureBuffer(Queues.<PriceAlertTrigger>get(queueCapacity).get());
+        subscription = triggers.asFlux()
+                .bufferTimeout(batchSize, Duration.ofMillis(flushIntervalMs))
+                .concatMap(batch -> priceAlertRuleService.fireAlerts(batch)
+                        .doOnNext(fired -> firedCounter.increment(fired))
+                        .onErrorResume(e -> {
+                            logger.error("Could not fire {} price alerts: {}", batch.size(), e.getMessage(), e);
+                            index.restore(batch);
+                            return Mono.just(0);
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Reloads the index from the active rules. Also runs at startup.
+     */
+    @Scheduled(fixedDelayString = "${account.crypto.price-alerts.refresh-interval-ms:300000}",
+            initialDelayString = "${account.crypto.price-alerts.initial-delay-ms:0}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer size = reload().block();
+            logger.debug("Loaded {} active price alert rules", size);
+        } catch (RuntimeException e) {
+            logger.error("Could not load the price alert rules: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces the index with the active rules and queues those already crossed.
+     * @return Mono of the number of active rules
+     */
+    Mono<Integer> reload() {
+        return repository.findActiveRules()
+                .collectList()
+                .map(rules -> {
+                    queue(index.replaceAll(rules));
+                    return rules.size();
+                });
+    }
+
+    /**
+     * Checks a new consolidated price against the rules of its pair and queues the
+     * crossed ones. Never blocks and never fails.
+     * @param assetSymbol The asset symbol
+     * @param quoteCurrency The quote currency
+     * @param price The new consolidated price
+     * @param asOfDatetime The as-of datetime of the price
+     * @param sourceCount The number of sources the price was consolidated from
+     */
+    public void onPrice(String assetSymbol, String quoteCurrency, BigDecimal price, LocalDateTime asOfDatetime,
+                        int sourceCount) {
+        if (triggers == null || price == null || sourceCount < minSources) {
+            return;
+        }
+        queue(index.cross(assetSymbol, quoteCurrency, price, asOfDatetime));
+    }
+
+    /**
+     * Offers triggers to the queue, putting the rules of the dropped ones back in the index.
+     */
+    private void queue(List<PriceAlertTrigger> crossed) {
+        if (triggers == null || crossed.isEmpty()) {
+            return;
+        }
+        List<PriceAlertTrigger> dropped = new ArrayList<>();
+        for (PriceAlertTrigger trigger : crossed) {
+            Sinks.EmitResult result;
+            synchronized (this) {
+                result = triggers.tryEmitNext(trigger);
+            }
+            if (result.isFailure()) {
+                droppedCounter.increment();
+                logger.debug("Dropped price alert trigger for rule {}: {}", trigger.priceAlertRuleId(), result);
+                dropped.add(trigger);
+            }
+        }
+        if (!dropped.isEmpty()) {
+            index.restore(dropped);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node index of the active price alert rules, per asset symbol and quote currency pair.
+ * <p>
+ * Each pair keeps its ABOVE and BELOW rules in maps sorted by threshold, together with the
+ * last price seen. A new price only visits the thresholds between the last price and itself,
+ * through a sub-map view, so evaluating a price costs O(log n + k) for n rules of the pair
+ * and k crossed thresholds. Crossed rules are removed from the index as they fire, and put
+ * back when their trigger could not be fired.
+ * <p>
+ * Only pairs that have had a rule are tracked; the first price of a pair sets its last
+ * price and cannot fire anything. A reload fires the rules whose threshold is already on the
+ * trigger side of the last price, such as rules put back after a failure.
+ */
+@Component
+public class PriceAlertIndex {
+
+    private volatile Map<PriceKey, PairThresholds> pairs = new ConcurrentHashMap<>();
+
+    private volatile Map<UUID, PriceAlertRule> rules = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an active rule, replacing any previous version of it.
+     */
+    public void add(PriceAlertRule rule) {
+        remove(rule.getPriceAlertRuleId());
+        if (!Boolean.TRUE.equals(rule.getIsActive())) {
+            return;
+        }
+        PairThresholds pair = pairs.computeIfAbsent(
+                new PriceKey(rule.getAssetSymbol(), rule.getQuoteCurrency()), key -> new PairThresholds());
+        synchronized (pair) {
+            pair.thresholds(rule.getDirection())
+                    .computeIfAbsent(rule.getThresholdPrice(), threshold -> new ArrayList<>())
+                    .add(rule);
+        }
+        rules.put(rule.getPriceAlertRuleId(), rule);
+    }
+
+    public void remove(UUID priceAlertRuleId) {
+        PriceAlertRule rule = rules.remove(priceAlertRuleId);
+        if (rule == null) {
+            return;
+        }
+        PairThresholds pair = pairs.get(new PriceKey(rule.getAssetSymbol(), rule.getQuoteCurrency()));
+        if (pair == null) {
+            return;
+        }
+        synchronized (pair) {
+            NavigableMap<BigDecimal, List<PriceAlertRule>> thresholds = pair.thresholds(rule.getDirection());
+            List<PriceAlertRule> atThreshold = thresholds.get(rule.getThresholdPrice());
+            if (atThreshold != null) {
+                atThreshold.removeIf(indexed -> indexed.getPriceAlertRuleId().equals(priceAlertRuleId));
+                if (atThreshold.isEmpty()) {
+                    thresholds.remove(rule.getThresholdPrice());
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts back the rules of triggers that could not be fired, so they fire again on the next
+     * crossing or reload.
+     */
+    public void restore(Collection<PriceAlertTrigger> triggers) {
+        for (PriceAlertTrigger trigger : triggers) {
+            PriceAlertRule rule = new PriceAlertRule();
+            rule.setPriceAlertRuleId(trigger.priceAlertRuleId());
+            rule.setAccountId(trigger.accountId());
+            rule.setAssetSymbol(trigger.assetSymbol());
+            rule.setQuoteCurrency(trigger.quoteCurrency());
+            rule.setThresholdPrice(trigger.thresholdPrice());
+            rule.setDirection(trigger.direction());
+            rule.setIsActive(true);
+            add(rule);
+        }
+    }
+
+    /**
+     * Replaces every indexed rule, keeping the last price seen of each pair. Rules whose
+     * threshold the last price has already reached are removed and returned as fired.
+     *
+     * @param activeRules the active rules
+     * @return the fired rules, empty when none is already crossed
+     */
+    public List<PriceAlertTrigger> replaceAll(Collection<PriceAlertRule> activeRules) {
+        Map<PriceKey, PairThresholds> previousPairs = pairs;
+        Map<PriceKey, PairThresholds> newPairs = new ConcurrentHashMap<>();
+        Map<UUID, PriceAlertRule> newRules = new ConcurrentHashMap<>();
+        for (PriceAlertRule rule : activeRules) {
+            newPairs.computeIfAbsent(new PriceKey(rule.getAssetSymbol(), rule.getQuoteCurrency()),
+                            key -> new PairThresholds())
+                    .thresholds(rule.getDirection())
+                    .computeIfAbsent(rule.getThresholdPrice(), threshold -> new ArrayList<>())
+                    .add(rule);
+            newRules.put(rule.getPriceAlertRuleId(), rule);
+        }
+        List<PriceAlertTrigger> fired = new ArrayList<>();
+        newPairs.forEach((key, pair) -> {
+            PairThresholds previous = previousPairs.get(key);
+            if (previous == null) {
+                return;
+            }
+            synchronized (previous) {
+                pair.lastPrice = previous.lastPrice;
+                pair.lastAsOfDatetime = previous.lastAsOfDatetime;
+            }
+            if (pair.lastPrice == null) {
+                return;
+            }
+            List<NavigableMap<BigDecimal, List<PriceAlertRule>>> reached = List.of(
+                    pair.above.headMap(pair.lastPrice, true), pair.below.tailMap(pair.lastPrice, true));
+            for (NavigableMap<BigDecimal, List<PriceAlertRule>> crossed : reached) {
+                for (List<PriceAlertRule> atThreshold : crossed.values()) {
+                    for (PriceAlertRule rule : atThreshold) {
+                        fired.add(trigger(rule, pair.lastPrice, pair.lastAsOfDatetime));
+                        newRules.remove(rule.getPriceAlertRuleId());
+                    }
+                }
+                crossed.clear();
+            }
+        });
+        pairs = newPairs;
+        rules = newRules;
+        return fired;
+    }
+
+    /**
+     * Applies a new price of a pair and removes the rules whose threshold it crossed.
+     *
+     * @param assetSymbol the asset symbol
+     * @param quoteCurrency the quote currency
+     * @param price the new price
+     * @param asOfDatetime the as-of datetime of the price
+     * @return the fired rules, empty when none crossed
+     */
+    public List<PriceAlertTrigger> cross(String assetSymbol, String quoteCurrency, BigDecimal price,
+                                         LocalDateTime asOfDatetime) {
+        PairThresholds pair = pairs.get(new PriceKey(assetSymbol, quoteCurrency));
+        if (pair == null) {
+            return List.of();
+        }
+        NavigableMap<BigDecimal, List<PriceAlertRule>> crossed;
+        List<PriceAlertTrigger> fired;
+        synchronized (pair) {
+            BigDecimal previous = pair.lastPrice;
+            pair.lastPrice = price;
+            pair.lastAsOfDatetime = asOfDatetime;
+            if (previous == null || previous.compareTo(price) == 0) {
+                return List.of();
+            }
+            crossed = previous.compareTo(price) < 0
+                    ? pair.above.subMap(previous, false, price, true)
+                    : pair.below.subMap(price, true, previous, false);
+            if (crossed.isEmpty()) {
+                return List.of();
+            }
+            fired = new ArrayList<>();
+            for (List<PriceAlertRule> atThreshold : crossed.values()) {
+                for (PriceAlertRule rule : atThreshold) {
+                    fired.add(trigger(rule, price, asOfDatetime));
+                }
+            }
+            crossed.clear();
+        }
+        fired.forEach(trigger -> rules.remove(trigger.priceAlertRuleId()));
+        return fired;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    private static PriceAlertTrigger trigger(PriceAlertRule rule, BigDecimal price, LocalDateTime asOfDatetime) {
+        return new PriceAlertTrigger(rule.getPriceAlertRuleId(), rule.getAccountId(), rule.getAssetSymbol(),
+                rule.getQuoteCurrency(), rule.getThresholdPrice(), rule.getDirection(), price, asOfDatetime);
+    }
+
+    private record PriceKey(String assetSymbol, String quoteCurrency) {
+    }
+
+    /**
+     * Rules of one pair by direction and threshold, and the last price seen. Not thread-safe.
+     */
+    private static final class PairThresholds {
+
+        private final NavigableMap<BigDecimal, List<PriceAlertRule>> above = new TreeMap<>();
+        private final NavigableMap<BigDecimal, List<PriceAlertRule>> below = new TreeMap<>();
+        private BigDecimal lastPrice;
+        private LocalDateTime lastAsOfDatetime;
+
+        NavigableMap<BigDecimal, List<PriceAlertRule>> thresholds(PriceAlertDirectionEnum direction) {
+            return direction == PriceAlertDirectionEnum.ABOVE ? above : below;
+        }
+    }
+}
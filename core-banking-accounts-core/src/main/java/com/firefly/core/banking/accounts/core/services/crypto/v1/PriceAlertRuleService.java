@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PriceAlertRuleDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PriceAlertRuleService {
+
+    /**
+     * List all price alert rules (paginated) for a specific account.
+     */
+    Mono<PaginationResponse<PriceAlertRuleDTO>> listRules(UUID accountId, PaginationRequest paginationRequest);
+
+    /**
+     * Create a new price alert rule for a specific account. The rule is active until it fires.
+     */
+    Mono<PriceAlertRuleDTO> createRule(UUID accountId, PriceAlertRuleDTO ruleDTO);
+
+    /**
+     * Retrieve a single price alert rule by its ID, ensuring it belongs to the specified account.
+     */
+    Mono<PriceAlertRuleDTO> getRule(UUID accountId, UUID ruleId);
+
+    /**
+     * Update an existing price alert rule associated with the specified account.
+     * Updating a rule that already fired re-arms it.
+     */
+    Mono<PriceAlertRuleDTO> updateRule(UUID accountId, UUID ruleId, PriceAlertRuleDTO ruleDTO);
+
+    /**
+     * Delete a specific price alert rule by its ID, ensuring it belongs to the specified account.
+     */
+    Mono<Void> deleteRule(UUID accountId, UUID ruleId);
+
+    /**
+     * Deactivates a batch of fired rules and creates one notification per rule.
+     * A rule already fired, by this node or another one, is skipped.
+     * @param triggers The rules whose threshold was crossed
+     * @return Mono of the number of notifications created
+     */
+    Mono<Integer> fireAlerts(List<PriceAlertTrigger> triggers);
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.PriceAlertRuleMapper;
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PriceAlertRuleDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.PriceAlertRuleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the PriceAlertRuleService interface.
+ * <p>
+ * Every write also updates this node's {@link PriceAlertIndex} once it commits; other
+ * nodes pick the change up on their next index refresh. Rules fire once: the claim in
+ * {@link #fireAlerts} deactivates them, so a rule crossed on several nodes is
+ * notified only once.
+ */
+@Service
+@Transactional
+public class PriceAlertRuleServiceImpl implements PriceAlertRuleService {
+
+    private static final int PRIORITY_MEDIUM = 2;
+
+    @Autowired
+    private PriceAlertRuleRepository repository;
+
+    @Autowired
+    private PriceAlertRuleMapper mapper;
+
+    @Autowired
+    private PriceAlertIndex index;
+
+    @Autowired
+    private AccountNotificationService accountNotificationService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<PaginationResponse<PriceAlertRuleDTO>> listRules(UUID accountId, PaginationRequest paginationRequest) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findByAccountId(accountId, pageable),
+                () -> repository.countByAccountId(accountId)
+        );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<PriceAlertRuleDTO> createRule(UUID accountId, PriceAlertRuleDTO ruleDTO) {
+        // The index is only updated once the rule is committed
+        ruleDTO.setAccountId(accountId);
+        PriceAlertRule rule = mapper.toEntity(ruleDTO);
+        return transactionalOperator.transactional(repository.save(rule))
+                .doOnNext(index::add)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<PriceAlertRuleDTO> getRule(UUID accountId, UUID ruleId) {
+        return repository.findById(ruleId)
+                .filter(rule -> rule.getAccountId().equals(accountId))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<PriceAlertRuleDTO> updateRule(UUID accountId, UUID ruleId, PriceAlertRuleDTO ruleDTO) {
+        Mono<PriceAlertRule> updated = repository.findById(ruleId)
+                .filter(rule -> rule.getAccountId().equals(accountId))
+                .flatMap(existingRule -> {
+                    ruleDTO.setAccountId(accountId);
+                    ruleDTO.setPriceAlertRuleId(ruleId);
+                    PriceAlertRule updatedRule = mapper.toEntity(ruleDTO);
+                    return repository.save(updatedRule);
+                });
+
+        return transactionalOperator.transactional(updated)
+                .doOnNext(index::add)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Void> deleteRule(UUID accountId, UUID ruleId) {
+        Mono<PriceAlertRule> deleted = repository.findById(ruleId)
+                .filter(rule -> rule.getAccountId().equals(accountId))
+                .flatMap(rule -> repository.delete(rule).thenReturn(rule));
+
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(rule -> index.remove(ruleId))
+                .then();
+    }
+
+    @Override
+    public Mono<Integer> fireAlerts(List<PriceAlertTrigger> triggers) {
+        if (triggers.isEmpty()) {
+            return Mono.just(0);
+        }
+        // A rule can be crossed more than once in a batch when it was re-added by a refresh
+        Map<UUID, PriceAlertTrigger> byRule = new LinkedHashMap<>();
+        triggers.forEach(trigger -> byRule.putIfAbsent(trigger.priceAlertRuleId(), trigger));
+        UUID[] ruleIds = byRule.keySet().toArray(UUID[]::new);
+        BigDecimal[] prices = byRule.values().stream().map(PriceAlertTrigger::price).toArray(BigDecimal[]::new);
+        LocalDateTime now = LocalDateTime.now();
+
+        return repository.claimTriggeredRules(ruleIds, prices, now)
+                .map(rule -> notification(rule, byRule.get(rule.getPriceAlertRuleId()), now))
+                .collectList()
+                .flatMap(notifications -> notifications.isEmpty()
+                        ? Mono.just(0)
+                        : accountNotificationService.createAccountNotifications(notifications)
+                                .count()
+                                .map(Long::intValue));
+    }
+
+    private static AccountNotificationDTO notification(PriceAlertRule rule, PriceAlertTrigger trigger,
+                                                       LocalDateTime now) {
+        String pair = rule.getAssetSymbol() + "/" + rule.getQuoteCurrency();
+        String crossed = rule.getDirection() == PriceAlertDirectionEnum.ABOVE ? "rose above" : "fell below";
+        return AccountNotificationDTO.builder()
+                .accountId(rule.getAccountId())
+                .notificationType(NotificationTypeEnum.PRICE_ALERT)
+                .title("Price alert")
+                .message(pair + " " + crossed + " " + rule.getThresholdPrice().toPlainString()
+                        + " and is now " + trigger.price().toPlainString())
+                .creationDateTime(now)
+                .isRead(false)
+                .priority(PRIORITY_MEDIUM)
+                .relatedAmount(trigger.price())
+                .eventReference(String.valueOf(rule.getPriceAlertRuleId()))
+                .build();
+    }
+}
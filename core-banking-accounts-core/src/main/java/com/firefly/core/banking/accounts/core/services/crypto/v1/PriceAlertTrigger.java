@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A price alert rule whose threshold was crossed, as handed by the {@link PriceAlertEngine}
+ * to {@link PriceAlertRuleService#fireAlerts}.
+ *
+ * @param priceAlertRuleId The rule ID
+ * @param accountId The account to notify
+ * @param assetSymbol The asset symbol of the rule
+ * @param quoteCurrency The quote currency of the rule
+ * @param thresholdPrice The threshold that was crossed
+ * @param direction The direction of the rule
+ * @param price The consolidated price that crossed the threshold
+ * @param asOfDatetime The as-of datetime of that price
+ */
+public record PriceAlertTrigger(
+        UUID priceAlertRuleId,
+        UUID accountId,
+        String assetSymbol,
+        String quoteCurrency,
+        BigDecimal thresholdPrice,
+        PriceAlertDirectionEnum direction,
+        BigDecimal price,
+        LocalDateTime asOfDatetime) {
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-node sliding window of the latest quote of each price source, per asset symbol
+ * and quote currency pair, from which a consolidated price is computed on every tick.
+ * <p>
+ * Each pair keeps fixed-size arrays of at most {@code max-sources} quotes, so a tick is
+ * applied in O(sources) without allocating collections: the quote of its source is
+ * replaced in place, quotes older than {@code window-seconds} before the newest one are
+ * expired, and the median is taken over a preallocated scratch array. With three or more
+ * quotes, the ones further than {@code max-deviation} (a fraction of the median) from the
+ * median are dropped and the median is taken again over the rest; with fewer there is no
+ * majority to tell an outlier from a move. When no quote is close to the median, as with
+ * two equal clusters, the previous consolidated price is kept. The consolidated price of
+ * a pair is kept with its window.
+ * <p>
+ * Once {@code max-pairs} pairs have windows, the window of the least recently used pair is
+ * dropped for each new pair, so the windows of active pairs are never discarded.
+ * <p>
+ * The window only sees the ticks stored through this node, so all sources of a pair
+ * should be ingested through the same node.
+ */
+@Component
+public class PriceConsolidator {
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final Map<PriceKey, PairWindow> windows = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PriceKey, PairWindow> eldest) {
+                    return size() > maxPairs;
+                }
+            });
+
+    @Value("${account.crypto.consolidation.window-seconds:60}")
+    private long windowSeconds = 60;
+
+    @Value("${account.crypto.consolidation.max-sources:16}")
+    private int maxSources = 16;
+
+    @Value("${account.crypto.consolidation.max-deviation:0.05}")
+    private BigDecimal maxDeviation = new BigDecimal("0.05");
+
+    @Value("${account.crypto.consolidation.min-sources:1}")
+    private int minSources = 1;
+
+    @Value("${account.crypto.consolidation.max-pairs:10000}")
+    private int maxPairs = 10_000;
+
+    /**
+     * Applies a stored tick to the window of its pair.
+     *
+     * @param tick the stored tick
+     * @return the new consolidated price of the pair, or null when it did not change
+     */
+    public ConsolidatedAssetPriceDTO accept(AssetPriceDTO tick) {
+        PairWindow window = windows.computeIfAbsent(new PriceKey(tick.getAssetSymbol(), tick.getQuoteCurrency()),
+                k -> new PairWindow(maxSources));
+        synchronized (window) {
+            if (!window.put(tick.getPriceSource(), tick.getPrice(), tick.getAsOfDatetime())) {
+                return null;
+            }
+            LocalDateTime newest = window.expireBefore(windowSeconds);
+            int total = window.size;
+            BigDecimal median = window.median(total, null, null);
+            int used = total;
+            if (total >= 3) {
+                BigDecimal tolerance = median.multiply(maxDeviation);
+                BigDecimal lower = median.subtract(tolerance);
+                BigDecimal upper = median.add(tolerance);
+                used = window.countWithin(lower, upper);
+                // With no majority, e.g. two equal clusters around an even median, keep the previous price
+                if (used == 0) {
+                    return null;
+                }
+                if (used < total) {
+                    median = window.median(used, lower, upper);
+                }
+            }
+            if (used < minSources) {
+                return null;
+            }
+
+            ConsolidatedAssetPriceDTO latest = window.latest;
+            if (latest != null && latest.getPrice().compareTo(median) == 0 && latest.getSourceCount() == used) {
+                return null;
+            }
+            window.latest = ConsolidatedAssetPriceDTO.builder()
+                    .assetSymbol(tick.getAssetSymbol())
+                    .quoteCurrency(tick.getQuoteCurrency())
+                    .price(median)
+                    .asOfDatetime(newest)
+                    .sourceCount(used)
+                    .droppedSourceCount(total - used)
+                    .build();
+            return window.latest;
+        }
+    }
+
+    /**
+     * Returns the current consolidated price of a pair, or empty when this node has none.
+     * Consolidated prices are shared and must not be modified.
+     */
+    public Optional<ConsolidatedAssetPriceDTO> getLatest(String assetSymbol, String quoteCurrency) {
+        PairWindow window = windows.get(new PriceKey(assetSymbol, quoteCurrency));
+        if (window == null) {
+            return Optional.empty();
+        }
+        synchronized (window) {
+            return Optional.ofNullable(window.latest);
+        }
+    }
+
+    private record PriceKey(String assetSymbol, String quoteCurrency) {
+    }
+
+    /**
+     * Latest quote of each source of one pair, in parallel arrays. Not thread-safe.
+     */
+    private static final class PairWindow {
+
+        private final String[] sources;
+        private final BigDecimal[] prices;
+        private final LocalDateTime[] asOfs;
+        private final BigDecimal[] scratch;
+        private int size;
+        private ConsolidatedAssetPriceDTO latest;
+
+        PairWindow(int capacity) {
+            sources = new String[capacity];
+            prices = new BigDecimal[capacity];
+            asOfs = new LocalDateTime[capacity];
+            scratch = new BigDecimal[capacity];
+        }
+
+        /**
+         * Records the quote of a source, replacing its previous one unless that is newer.
+         * A new source takes a free slot, or the slot of the stalest quote when full.
+         * @return false when the quote is older than the one already recorded for its source
+         */
+        boolean put(String source, BigDecimal price, LocalDateTime asOf) {
+            int slot = -1;
+            int stalest = 0;
+            for (int i = 0; i < size; i++) {
+                if (sources[i].equals(source)) {
+                    slot = i;
+                    break;
+                }
+                if (asOfs[i].isBefore(asOfs[stalest])) {
+                    stalest = i;
+                }
+            }
+            if (slot >= 0 && asOf.isBefore(asOfs[slot])) {
+                return false;
+            }
+            if (slot < 0) {
+                slot = size < sources.length ? size++ : stalest;
+            }
+            sources[slot] = source;
+            prices[slot] = price;
+            asOfs[slot] = asOf;
+            return true;
+        }
+
+        /**
+         * Removes the quotes older than the window before the newest quote.
+         * @return the as-of datetime of the newest quote
+         */
+        LocalDateTime expireBefore(long windowSeconds) {
+            LocalDateTime newest = asOfs[0];
+            for (int i = 1; i < size; i++) {
+                if (asOfs[i].isAfter(newest)) {
+                    newest = asOfs[i];
+                }
+            }
+            LocalDateTime cutoff = newest.minusSeconds(windowSeconds);
+            for (int i = size - 1; i >= 0; i--) {
+                if (asOfs[i].isBefore(cutoff)) {
+                    size--;
+                    sources[i] = sources[size];
+                    prices[i] = prices[size];
+                    asOfs[i] = asOfs[size];
+                    sources[size] = null;
+                    prices[size] = null;
+                    asOfs[size] = null;
+                }
+            }
+            return newest;
+        }
+
+        int countWithin(BigDecimal lower, BigDecimal upper) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (prices[i].compareTo(lower) >= 0 && prices[i].compareTo(upper) <= 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Median of the quotes within the bounds, or of all quotes when the bounds are null.
+         * The quotes are copied into the scratch array and insertion-sorted, which is the
+         * cheapest sort for the handful of sources a pair has.
+         */
+        BigDecimal median(int count, BigDecimal lower, BigDecimal upper) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                BigDecimal price = prices[i];
+                if (lower != null && (price.compareTo(lower) < 0 || price.compareTo(upper) > 0)) {
+                    continue;
+                }
+                int j = n++;
+                while (j > 0 && scratch[j - 1].compareTo(price) > 0) {
+                    scratch[j] = scratch[j - 1];
+                    j--;
+                }
+                scratch[j] = price;
+            }
+            BigDecimal median = (count % 2 == 1)
+                    ? scratch[count / 2]
+                    : scratch[count / 2 - 1].add(scratch[count / 2]).divide(TWO);
+            for (int i = 0; i < n; i++) {
+                scratch[i] = null;
+            }
+            return median;
+        }
+    }
+}
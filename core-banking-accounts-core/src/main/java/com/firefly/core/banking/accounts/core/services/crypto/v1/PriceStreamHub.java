@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-node hub pushing the latest price of each streamed pair to its clients.
+ *
+ * Business Rules:
+ * - Each streamed pair has one multicast sink, fed by the ingest path and shared by
+ *   all its clients on this node
+ * - Prices are conflated per client: a client that falls behind holds at most one
+ *   undelivered price per pair, always the newest, and never builds a backlog
+ * - A client first receives the current latest price of the pair, then only newer ones
+ * - Prices for pairs nobody streams on this node are dropped without any allocation
+ * - Sinks without clients are evicted once idle for the configured timeout
+ */
+@Component
+public class PriceStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceStreamHub.class);
+
+    private static final String ERROR_CAPACITY_REACHED = "Price stream capacity reached";
+
+    @Autowired
+    private LatestPriceCache latestPriceCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.crypto.price-stream.idle-timeout-ms:300000}")
+    private long idleTimeoutMs = 300000;
+
+    @Value("${account.crypto.price-stream.max-pairs:10000}")
+    private int maxPairs = 10000;
+
+    private final Map<PriceKey, PairStream> streams = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private Counter conflatedCounter;
+
+    @PostConstruct
+    void start() {
+        meterRegistry.gauge("account.crypto.price-stream.subscribers", subscribers);
+        conflatedCounter = Counter.builder("account.crypto.price-stream.conflated")
+                .description("Prices replaced by a newer one before a slow client received them")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        streams.values().forEach(stream -> stream.sink.tryEmitComplete());
+        streams.clear();
+    }
+
+    /**
+     * Stream the latest price of a pair: the current one, then every newer one.
+     * @param assetSymbol The asset symbol
+     * @param quoteCurrency The quote currency
+     * @return Flux of AssetPriceDTO that never completes on its own
+     */
+    public Flux<AssetPriceDTO> subscribe(String assetSymbol, String quoteCurrency) {
+        return Flux.defer(() -> {
+            PriceKey key = new PriceKey(assetSymbol, quoteCurrency);
+            if (!streams.containsKey(key) && streams.size() >= maxPairs) {
+                return Flux.error(new IllegalStateException(ERROR_CAPACITY_REACHED));
+            }
+            PairStream stream = streams.compute(key, (k, existing) -> {
+                PairStream current = existing != null ? existing : new PairStream();
+                current.touch();
+                return current;
+            });
+            // The current price and the live ones race; only strictly newer prices pass
+            LocalDateTime[] lastSent = new LocalDateTime[1];
+            return Flux.merge(stream.sink.asFlux(), latestPriceCache.getLatest(assetSymbol, quoteCurrency))
+                    .filter(price -> {
+                        if (lastSent[0] != null && !price.getAsOfDatetime().isAfter(lastSent[0])) {
+                            return false;
+                        }
+                        lastSent[0] = price.getAsOfDatetime();
+                        return true;
+                    })
+                    .onBackpressureBuffer(1, dropped -> conflatedCounter.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                    .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                    .doFinally(signal -> {
+                        subscribers.decrementAndGet();
+                        stream.touch();
+                    });
+        });
+    }
+
+    /**
+     * Push a new price to the clients streaming its pair. Never blocks and never fails.
+     * @param price The new price
+     */
+    public void publish(AssetPriceDTO price) {
+        if (price == null || price.getAsOfDatetime() == null) {
+            return;
+        }
+        PairStream stream = streams.get(new PriceKey(price.getAssetSymbol(), price.getQuoteCurrency()));
+        if (stream == null || stream.sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        stream.emit(price);
+    }
+
+    @Scheduled(fixedDelayString = "${account.crypto.price-stream.idle-check-interval-ms:60000}")
+    public void evictIdleStreams() {
+        int evicted = evictIdle(System.currentTimeMillis());
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle price streams", evicted);
+        }
+    }
+
+    /**
+     * Removes the sinks that have had no client for longer than the idle timeout.
+     * @param now The current time in milliseconds
+     * @return the number of sinks evicted
+     */
+    int evictIdle(long now) {
+        long cutoff = now - idleTimeoutMs;
+        int evicted = 0;
+        for (Map.Entry<PriceKey, PairStream> entry : streams.entrySet()) {
+            PairStream stream = entry.getValue();
+            if (stream.sink.currentSubscriberCount() == 0 && stream.lastActivity < cutoff
+                    && streams.remove(entry.getKey(), stream)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Number of pairs with a sink on this node
+     * @return the number of pairs
+     */
+    public int size() {
+        return streams.size();
+    }
+
+    /**
+     * Number of clients streaming a pair on this node; a client streaming several pairs
+     * counts once per pair
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private record PriceKey(String assetSymbol, String quoteCurrency) {
+    }
+
+    private static final class PairStream {
+
+        private final Sinks.Many<AssetPriceDTO> sink = Sinks.many().multicast().directBestEffort();
+
+        private volatile long lastActivity = System.currentTimeMillis();
+
+        void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+
+        synchronized void emit(AssetPriceDTO price) {
+            touch();
+            sink.tryEmitNext(price);
+        }
+    }
+}
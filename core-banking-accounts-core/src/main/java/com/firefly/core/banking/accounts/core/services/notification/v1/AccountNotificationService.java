@@ -19,10 +19,13 @@ package com.firefly.core.banking.accounts.core.services.notification.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface AccountNotificationService {
@@ -33,6 +36,21 @@ public interface AccountNotificationService {
      * @return Mono of AccountNotificationDTO
      */
     Mono<AccountNotificationDTO> createAccountNotification(AccountNotificationDTO accountNotificationDTO);
+
+    /**
+     * Create several account notifications in one go
+     * @param accountNotificationDTOs The account notifications to create
+     * @return Flux of the created AccountNotificationDTO
+     */
+    Flux<AccountNotificationDTO> createAccountNotifications(List<AccountNotificationDTO> accountNotificationDTOs);
+
+    /**
+     * Notify the accounts of expired restrictions that they were removed, with one
+     * RESTRICTION_REMOVED notification per restriction, delivered and streamed like any other
+     * @param accountRestrictionIds The IDs of the expired restrictions
+     * @return Flux of the created AccountNotificationDTO
+     */
+    Flux<AccountNotificationDTO> createRestrictionExpiredNotifications(List<UUID> accountRestrictionIds);
     
     /**
      * Get an account notification by ID
@@ -91,13 +109,87 @@ public interface AccountNotificationService {
      * @return Mono of Long representing the number of notifications marked as read
      */
     Mono<Long> markAllNotificationsAsRead(UUID accountId);
+
+    /**
+     * Mark the given notifications of an account as read
+     * @param accountId The account ID
+     * @param accountNotificationIds The notification IDs
+     * @return Mono of Long representing the number of notifications marked as read
+     */
+    Mono<Long> markNotificationsAsRead(UUID accountId, List<UUID> accountNotificationIds);
     
+    /**
+     * Get the number of unread notifications of an account from its maintained counter
+     * @param accountId The account ID
+     * @return Mono of Long representing the unread count
+     */
+    Mono<Long> getUnreadNotificationCount(UUID accountId);
+
+    /**
+     * Recount the unread notifications of the given accounts and correct their counters
+     * @param accountIds The account IDs
+     * @return Mono of Integer representing the number of counters corrected
+     */
+    Mono<Integer> reconcileUnreadCounters(List<UUID> accountIds);
+
+    /**
+     * Delete one batch of notifications that expired before the cutoff, oldest first
+     * @param cutoff Notifications that expired before this time are deleted
+     * @param batchSize Maximum number of notifications to delete
+     * @return Mono of Long representing the number of notifications deleted
+     */
+    Mono<Long> purgeExpiredNotifications(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Delete one batch of delivered or failed outbox entries last updated before the cutoff, oldest first
+     * @param cutoff Finished entries last updated before this time are deleted
+     * @param batchSize Maximum number of entries to delete
+     * @return Mono of Long representing the number of entries deleted
+     */
+    Mono<Long> purgeFinishedDeliveries(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Stream the notifications created for an account from now on
+     * @param accountId The account ID
+     * @return Flux of AccountNotificationDTO that stays open until the subscriber cancels
+     */
+    Flux<AccountNotificationDTO> streamAccountNotifications(UUID accountId);
+
     /**
      * Get active (non-expired) notifications for an account
      * @param accountId The account ID
      * @return Flux of AccountNotificationDTO
      */
     Flux<AccountNotificationDTO> getActiveNotifications(UUID accountId);
+
+    /**
+     * Get one page of the notifications of an account, unread first, then by
+     * priority and newest first
+     * @param accountId The account ID
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The page size, or null for the default; capped at the configured maximum
+     * @return Mono of the page
+     */
+    Mono<KeysetPageDTO<AccountNotificationDTO>> getAccountNotificationsPage(UUID accountId, String cursor, Integer size);
+
+    /**
+     * Get one page of the unread notifications of an account, by priority and newest first
+     * @param accountId The account ID
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The page size, or null for the default; capped at the configured maximum
+     * @return Mono of the page
+     */
+    Mono<KeysetPageDTO<AccountNotificationDTO>> getUnreadAccountNotificationsPage(UUID accountId, String cursor, Integer size);
+
+    /**
+     * Get one page of the active (non-expired) notifications of an account, in the
+     * order of {@link #getAccountNotificationsPage}
+     * @param accountId The account ID
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The page size, or null for the default; capped at the configured maximum
+     * @return Mono of the page
+     */
+    Mono<KeysetPageDTO<AccountNotificationDTO>> getActiveNotificationsPage(UUID accountId, String cursor, Integer size);
     
     /**
      * List account notifications with pagination and filtering
@@ -21,20 +21,35 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
+import com.firefly.core.banking.accounts.core.utils.BatchGetUtils;
+import com.firefly.core.banking.accounts.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationDeliveryStatusEnum;
 import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotificationCounter;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.NotificationOutbox;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationCounterRepository;
 import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.NotificationOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -51,6 +66,9 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
     private static final String ERROR_CREATION_DATE_REQUIRED = "Creation date is required";
     private static final String ERROR_NOTIFICATION_ALREADY_READ = "Notification is already read";
     private static final String ERROR_NOTIFICATION_TYPE_INVALID = "Notification type is invalid";
+    private static final String ERROR_CUTOFF_REQUIRED = "Purge cutoff is required";
+    private static final String ERROR_BATCH_SIZE_POSITIVE = "Batch size must be positive";
+    private static final String ERROR_PAGE_SIZE_POSITIVE = "Page size must be positive";
 
     @Autowired
     private AccountNotificationRepository repository;
@@ -58,23 +76,97 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
     @Autowired
     private AccountNotificationMapper mapper;
 
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationStreamHub streamHub;
+
+    @Autowired
+    private AccountNotificationCounterRepository counterRepository;
+
+    @Value("${account.notification.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${account.notification.page.max-size:200}")
+    private int maxPageSize = 200;
+
     @Override
     public Mono<AccountNotificationDTO> createAccountNotification(AccountNotificationDTO accountNotificationDTO) {
+        String error = validateAndApplyDefaults(accountNotificationDTO);
+        if (error != null) {
+            return Mono.error(new IllegalArgumentException(error));
+        }
+
+        AccountNotification accountNotification = mapper.toEntity(accountNotificationDTO);
+        return repository.save(accountNotification)
+                .flatMap(saved -> enqueueDeliveries(saved)
+                        .then(adjustUnreadCount(saved.getAccountId(), Boolean.TRUE.equals(saved.getIsRead()) ? 0 : 1))
+                        .thenReturn(saved))
+                .map(mapper::toDTO)
+                .flatMap(created -> streamHub.publish(created).thenReturn(created));
+    }
+
+    @Override
+    public Flux<AccountNotificationDTO> createAccountNotifications(List<AccountNotificationDTO> accountNotificationDTOs) {
+        if (accountNotificationDTOs == null || accountNotificationDTOs.isEmpty()) {
+            return Flux.empty();
+        }
+        for (AccountNotificationDTO accountNotificationDTO : accountNotificationDTOs) {
+            String error = validateAndApplyDefaults(accountNotificationDTO);
+            if (error != null) {
+                return Flux.error(new IllegalArgumentException(error));
+            }
+        }
+
+        List<AccountNotification> accountNotifications = accountNotificationDTOs.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(accountNotifications)
+                .concatMap(saved -> enqueueDeliveries(saved).thenReturn(saved))
+                .collectList()
+                // One counter adjustment per account, in account order so concurrent batches lock counters alike
+                .flatMapMany(saved -> Flux.fromIterable(countUnreadByAccount(saved).entrySet())
+                        .concatMap(entry -> adjustUnreadCount(entry.getKey(), entry.getValue()))
+                        .thenMany(Flux.fromIterable(saved)))
+                .map(mapper::toDTO)
+                .concatMap(created -> streamHub.publish(created).thenReturn(created));
+    }
+
+    @Override
+    public Flux<AccountNotificationDTO> createRestrictionExpiredNotifications(List<UUID> accountRestrictionIds) {
+        if (accountRestrictionIds == null || accountRestrictionIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        // Inserted and counted in one statement, then sent through the outbox and the stream like created ones
+        return repository.insertRestrictionExpiredNotifications(accountRestrictionIds.toArray(UUID[]::new),
+                        LocalDateTime.now())
+                .concatMap(saved -> enqueueDeliveries(saved).thenReturn(saved))
+                .map(mapper::toDTO)
+                .concatMap(created -> streamHub.publish(created).thenReturn(created));
+    }
+
+    /**
+     * Validates a notification to be created and fills in the defaults.
+     * @return the validation error, or null if the notification is valid
+     */
+    private static String validateAndApplyDefaults(AccountNotificationDTO accountNotificationDTO) {
         // Validate required fields
         if (accountNotificationDTO.getAccountId() == null) {
-            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+            return ERROR_ACCOUNT_ID_REQUIRED;
         }
         if (accountNotificationDTO.getNotificationType() == null) {
-            return Mono.error(new IllegalArgumentException(ERROR_NOTIFICATION_TYPE_REQUIRED));
+            return ERROR_NOTIFICATION_TYPE_REQUIRED;
         }
         if (accountNotificationDTO.getTitle() == null || accountNotificationDTO.getTitle().trim().isEmpty()) {
-            return Mono.error(new IllegalArgumentException(ERROR_TITLE_REQUIRED));
+            return ERROR_TITLE_REQUIRED;
         }
         if (accountNotificationDTO.getMessage() == null || accountNotificationDTO.getMessage().trim().isEmpty()) {
-            return Mono.error(new IllegalArgumentException(ERROR_MESSAGE_REQUIRED));
+            return ERROR_MESSAGE_REQUIRED;
         }
         if (accountNotificationDTO.getCreationDateTime() == null) {
-            return Mono.error(new IllegalArgumentException(ERROR_CREATION_DATE_REQUIRED));
+            return ERROR_CREATION_DATE_REQUIRED;
         }
 
         // Set default values if not provided
@@ -84,10 +176,63 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
         if (accountNotificationDTO.getPriority() == null) {
             accountNotificationDTO.setPriority(3); // Default to low priority
         }
+        return null;
+    }
+
+    private static Map<UUID, Long> countUnreadByAccount(List<AccountNotification> notifications) {
+        return notifications.stream()
+                .filter(notification -> !Boolean.TRUE.equals(notification.getIsRead()))
+                .collect(Collectors.groupingBy(AccountNotification::getAccountId, TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * Writes one outbox entry per delivery channel of the notification. Runs in the
+     * transaction that stores the notification, so a notification is never stored
+     * without its deliveries or the other way round.
+     */
+    private Mono<Void> enqueueDeliveries(AccountNotification notification) {
+        List<String> channels = parseDeliveryChannels(notification.getDeliveryChannels());
+        if (channels.isEmpty()) {
+            return Mono.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> entries = channels.stream()
+                .map(channel -> {
+                    NotificationOutbox entry = new NotificationOutbox();
+                    entry.setAccountNotificationId(notification.getAccountNotificationId());
+                    entry.setChannel(channel);
+                    entry.setStatus(NotificationDeliveryStatusEnum.PENDING);
+                    entry.setAttempts(0);
+                    entry.setNextAttemptDateTime(now);
+                    return entry;
+                })
+                .collect(Collectors.toList());
+        return outboxRepository.saveAll(entries).then();
+    }
 
-        AccountNotification accountNotification = mapper.toEntity(accountNotificationDTO);
-        return repository.save(accountNotification)
-                .map(mapper::toDTO);
+    /**
+     * Applies a change to the unread counter of an account, in the caller's transaction.
+     */
+    private Mono<Void> adjustUnreadCount(UUID accountId, long delta) {
+        if (delta == 0) {
+            return Mono.empty();
+        }
+        return counterRepository.adjustUnreadCount(accountId, delta).then();
+    }
+
+    /**
+     * Splits a comma-separated delivery channel list into distinct upper-case channel names.
+     */
+    static List<String> parseDeliveryChannels(String deliveryChannels) {
+        if (deliveryChannels == null || deliveryChannels.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(deliveryChannels.split(","))
+                .map(String::trim)
+                .filter(channel -> !channel.isEmpty())
+                .map(channel -> channel.toUpperCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -108,10 +253,13 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
             return Mono.error(new IllegalArgumentException(ERROR_NOTIFICATION_ID_REQUIRED));
         }
 
-        return repository.findById(accountNotificationId)
+        // Lock the notification, so its read state cannot change between the read and the counter adjustment
+        return repository.findByIdForUpdate(accountNotificationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_NOTIFICATION_NOT_FOUND, accountNotificationId))))
                 .flatMap(existingNotification -> {
+                    boolean wasRead = Boolean.TRUE.equals(existingNotification.getIsRead());
+
                     // Update fields
                     if (accountNotificationDTO.getNotificationType() != null) {
                         existingNotification.setNotificationType(accountNotificationDTO.getNotificationType());
@@ -153,7 +301,10 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
                         existingNotification.setActionText(accountNotificationDTO.getActionText());
                     }
 
-                    return repository.save(existingNotification);
+                    boolean isRead = Boolean.TRUE.equals(existingNotification.getIsRead());
+                    return repository.save(existingNotification)
+                            .flatMap(saved -> adjustUnreadCount(existingNotification.getAccountId(),
+                                    wasRead == isRead ? 0 : (isRead ? -1 : 1)).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -167,7 +318,9 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
         return repository.findById(accountNotificationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_NOTIFICATION_NOT_FOUND, accountNotificationId))))
-                .flatMap(notification -> repository.delete(notification));
+                .flatMap(notification -> repository.delete(notification)
+                        .then(adjustUnreadCount(notification.getAccountId(),
+                                Boolean.TRUE.equals(notification.getIsRead()) ? 0 : -1)));
     }
 
     @Override
@@ -186,7 +339,7 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
             return Flux.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
         }
 
-        return repository.findByAccountIdAndIsRead(accountId, false)
+        return repository.findByAccountIdAndIsReadFalse(accountId)
                 .map(mapper::toDTO);
     }
 
@@ -209,19 +362,14 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
             return Mono.error(new IllegalArgumentException(ERROR_NOTIFICATION_ID_REQUIRED));
         }
 
-        return repository.findById(accountNotificationId)
-                .switchIfEmpty(Mono.error(new IllegalArgumentException(
-                        String.format(ERROR_NOTIFICATION_NOT_FOUND, accountNotificationId))))
-                .flatMap(notification -> {
-                    if (notification.getIsRead()) {
-                        return Mono.error(new IllegalStateException(ERROR_NOTIFICATION_ALREADY_READ));
-                    }
-
-                    notification.setIsRead(true);
-                    notification.setReadDateTime(LocalDateTime.now());
-
-                    return repository.save(notification);
-                })
+        // Only the mark that flips the notification decrements the counter
+        return repository.markAsReadById(accountNotificationId, LocalDateTime.now())
+                .flatMap(read -> adjustUnreadCount(read.getAccountId(), -1).thenReturn(read))
+                .switchIfEmpty(Mono.defer(() -> repository.findById(accountNotificationId)
+                        .switchIfEmpty(Mono.error(new IllegalArgumentException(
+                                String.format(ERROR_NOTIFICATION_NOT_FOUND, accountNotificationId))))
+                        .flatMap(notification -> Mono.<AccountNotification>error(
+                                new IllegalStateException(ERROR_NOTIFICATION_ALREADY_READ)))))
                 .map(mapper::toDTO);
     }
 
@@ -231,15 +379,78 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
             return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
         }
 
+        return repository.markAllAsReadByAccountId(accountId, LocalDateTime.now())
+                .map(Integer::longValue)
+                .flatMap(count -> adjustUnreadCount(accountId, -count).thenReturn(count));
+    }
+
+    @Override
+    public Mono<Long> markNotificationsAsRead(UUID accountId, List<UUID> accountNotificationIds) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
         LocalDateTime now = LocalDateTime.now();
+        return BatchGetUtils.batchUpdate(accountNotificationIds,
+                        ids -> repository.markAsReadByIds(accountId, ids, now))
+                .map(Integer::longValue)
+                .flatMap(count -> adjustUnreadCount(accountId, -count).thenReturn(count));
+    }
 
-        return repository.findByAccountIdAndIsRead(accountId, false)
-                .flatMap(notification -> {
-                    notification.setIsRead(true);
-                    notification.setReadDateTime(now);
-                    return repository.save(notification);
-                })
-                .count();
+    @Override
+    public Mono<Long> getUnreadNotificationCount(UUID accountId) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
+        return counterRepository.findById(accountId)
+                .map(AccountNotificationCounter::getUnreadCount)
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Integer> reconcileUnreadCounters(List<UUID> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // Lock the counters before recounting, so no adjustment can commit between the recount and the write
+        UUID[] ids = accountIds.stream().distinct().toArray(UUID[]::new);
+        return counterRepository.lockByAccountIdIn(ids)
+                .then(counterRepository.reconcileByAccountIdIn(ids));
+    }
+
+    @Override
+    public Mono<Long> purgeExpiredNotifications(LocalDateTime cutoff, int batchSize) {
+        if (cutoff == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_CUTOFF_REQUIRED));
+        }
+        if (batchSize <= 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_BATCH_SIZE_POSITIVE));
+        }
+
+        return repository.purgeExpired(cutoff, batchSize, LocalDateTime.now());
+    }
+
+    @Override
+    public Mono<Long> purgeFinishedDeliveries(LocalDateTime cutoff, int batchSize) {
+        if (cutoff == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_CUTOFF_REQUIRED));
+        }
+        if (batchSize <= 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_BATCH_SIZE_POSITIVE));
+        }
+
+        return outboxRepository.purgeFinished(cutoff, batchSize);
+    }
+
+    @Override
+    public Flux<AccountNotificationDTO> streamAccountNotifications(UUID accountId) {
+        if (accountId == null) {
+            return Flux.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
+        return streamHub.subscribe(accountId);
     }
 
     @Override
@@ -250,10 +461,80 @@ public class AccountNotificationServiceImpl implements AccountNotificationServic
 
         LocalDateTime now = LocalDateTime.now();
 
-        return repository.findByAccountIdAndExpiryDateTimeIsNullOrExpiryDateTimeGreaterThan(accountId, now)
+        return repository.findActiveByAccountId(accountId, now)
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<KeysetPageDTO<AccountNotificationDTO>> getAccountNotificationsPage(UUID accountId, String cursor, Integer size) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
+        return findPage(cursor, size, (position, limit) -> repository.findPageByAccountId(accountId,
+                position.isRead(), position.priority(), position.creationDateTime(),
+                position.accountNotificationId(), limit));
+    }
+
+    @Override
+    public Mono<KeysetPageDTO<AccountNotificationDTO>> getUnreadAccountNotificationsPage(UUID accountId, String cursor, Integer size) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
+        return findPage(cursor, size, (position, limit) -> position.isRead()
+                ? Flux.empty()
+                : repository.findUnreadPageByAccountId(accountId, position.priority(),
+                        position.creationDateTime(), position.accountNotificationId(), limit));
+    }
+
+    @Override
+    public Mono<KeysetPageDTO<AccountNotificationDTO>> getActiveNotificationsPage(UUID accountId, String cursor, Integer size) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        return findPage(cursor, size, (position, limit) -> repository.findActivePageByAccountId(accountId, now,
+                position.isRead(), position.priority(), position.creationDateTime(),
+                position.accountNotificationId(), limit));
+    }
+
+    /**
+     * Loads one page of a keyset-paginated listing. Fetches one row more than the
+     * page size to tell whether another page follows.
+     * @param cursor The cursor of the page, or null for the first page
+     * @param size The requested page size, or null for the default; capped at the maximum
+     * @param query Loads the rows after a position, up to a limit
+     */
+    private Mono<KeysetPageDTO<AccountNotificationDTO>> findPage(
+            String cursor, Integer size,
+            BiFunction<NotificationPageCursor, Integer, Flux<AccountNotification>> query) {
+        if (size != null && size <= 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_PAGE_SIZE_POSITIVE));
+        }
+        int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+
+        NotificationPageCursor position;
+        try {
+            position = NotificationPageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return query.apply(position, pageSize + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    List<AccountNotification> page = hasMore ? rows.subList(0, pageSize) : rows;
+                    return KeysetPageDTO.<AccountNotificationDTO>builder()
+                            .items(page.stream().map(mapper::toDTO).collect(Collectors.toList()))
+                            .nextCursor(hasMore ? NotificationPageCursor.after(page.get(pageSize - 1)).encode() : null)
+                            .build();
+                });
+    }
+
     @Override
     public Mono<PaginationResponse<AccountNotificationDTO>> listAccountNotifications(FilterRequest filterRequest) {
         return FilterUtils
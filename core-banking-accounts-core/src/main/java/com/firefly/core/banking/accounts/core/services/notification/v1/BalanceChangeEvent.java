@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change of an account space balance, as published by the posting paths to
+ * the {@link NotificationRulesEngine}.
+ *
+ * @param type What caused the change
+ * @param accountId The account ID
+ * @param accountSpaceId The account space whose balance changed
+ * @param amount The absolute amount moved
+ * @param balanceAfter The space balance after the change, null when nothing was posted
+ * @param targetAmount The savings goal of the space, if any
+ * @param reference Reference of the posting (e.g. the transaction ID), if any
+ * @param detail Free-text detail, e.g. the error of a failed transfer
+ * @param occurredAt When the change happened
+ */
+public record BalanceChangeEvent(
+        Type type,
+        UUID accountId,
+        UUID accountSpaceId,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        BigDecimal targetAmount,
+        String reference,
+        String detail,
+        LocalDateTime occurredAt) {
+
+    public enum Type {
+        DEPOSIT,
+        WITHDRAWAL,
+        TRANSFER_IN,
+        TRANSFER_OUT,
+        AUTOMATIC_TRANSFER_FAILED
+    }
+
+    /**
+     * Whether the change credited the space
+     * @return true for deposits and incoming transfers
+     */
+    public boolean isCredit() {
+        return type == Type.DEPOSIT || type == Type.TRANSFER_IN;
+    }
+}
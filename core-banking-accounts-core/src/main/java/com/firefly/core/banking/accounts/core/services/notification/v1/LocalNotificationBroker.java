@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-process stand-in broker: announcements only reach streams on the node
+ * that created the notification. Suitable for single-node deployments,
+ * local development and tests.
+ *
+ * Like a NOTIFY, an announcement made inside a transaction is only emitted once
+ * that transaction commits, so a rolled back notification is never streamed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.notification.stream", name = "broker",
+        havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBroker implements NotificationBroker {
+
+    private final Sinks.Many<Message> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(AccountNotificationDTO notification) {
+        Message message = new Message(notification.getAccountId(),
+                notification.getAccountNotificationId(), notification);
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(manager -> {
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> emit(message));
+                        }
+                    });
+                    return true;
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .switchIfEmpty(Mono.fromRunnable(() -> emit(message)))
+                .then();
+    }
+
+    private void emit(Message message) {
+        synchronized (sink) {
+            sink.tryEmitNext(message);
+        }
+    }
+
+    @Override
+    public Flux<Message> messages() {
+        return sink.asFlux();
+    }
+}
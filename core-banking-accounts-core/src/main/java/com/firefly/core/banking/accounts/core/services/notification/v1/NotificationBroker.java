@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Fans newly created notifications out to every node, so that each node's
+ * {@link NotificationStreamHub} can push them to the clients connected to it.
+ * The implementation is selected with {@code account.notification.stream.broker}:
+ * {@code local} (default, single node) or {@code postgres} (LISTEN/NOTIFY).
+ */
+public interface NotificationBroker {
+
+    /**
+     * Announce a newly created notification. Inside a transaction, the announcement
+     * is only sent once that transaction commits.
+     * @param notification The created notification
+     * @return Mono completing once the announcement is handed to the broker
+     */
+    Mono<Void> publish(AccountNotificationDTO notification);
+
+    /**
+     * Announcements received by this node
+     * @return Flux of messages, shared by all subscribers
+     */
+    Flux<Message> messages();
+
+    /**
+     * Announcement of a created notification. Brokers that carry the full
+     * notification set {@code notification}; others only carry the IDs and
+     * leave resolving the notification to the receiver.
+     */
+    record Message(UUID accountId, UUID accountNotificationId, AccountNotificationDTO notification) {
+    }
+}
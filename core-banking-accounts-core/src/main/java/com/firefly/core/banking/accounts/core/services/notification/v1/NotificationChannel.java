@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Delivers notifications to their recipients through one or more channels
+ * (e.g. EMAIL, SMS, PUSH). Implementations are picked up by the
+ * {@link NotificationDeliveryWorker}; a channel name must not be served by
+ * more than one implementation.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Channel names served by this implementation, in upper case
+     * @return Set of channel names
+     */
+    Set<String> getChannels();
+
+    /**
+     * Deliver a notification through a channel. The returned Mono completes
+     * once the delivery is accepted and errors if it is not; failed deliveries
+     * are retried, so implementations should be idempotent per notification.
+     * @param channel The channel name
+     * @param notification The notification to deliver
+     * @return Mono completing when the notification has been delivered
+     */
+    Mono<Void> deliver(String channel, AccountNotificationDTO notification);
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.NotificationOutbox;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox and hands each entry to the channel it targets.
+ *
+ * Each poll claims due entries in bounded batches. Claiming leases the rows by
+ * pushing their next attempt forward, with {@code FOR UPDATE SKIP LOCKED} so
+ * concurrent workers never claim the same row; entries of a worker that dies
+ * mid-batch become due again once the lease runs out. Deliveries fan out per
+ * channel, each channel on its own bounded pool, so a slow provider cannot
+ * starve the others. Failed attempts are retried with exponential backoff
+ * until the attempt limit is reached. A delivery that cannot be recorded is not
+ * retried; the entry is sent again only once its lease runs out. Delivery is
+ * at-least-once.
+ *
+ * Metrics:
+ * - {@code account.notification.delivery} counter, tagged by channel and outcome
+ * - {@code account.notification.outbox.pending} gauge of entries waiting for delivery
+ * - {@code account.notification.outbox.lag} gauge of the age in seconds of the oldest pending entry
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.notification.delivery", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class NotificationDeliveryWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDeliveryWorker.class);
+
+    static final String OUTCOME_DELIVERED = "delivered";
+    static final String OUTCOME_RETRIED = "retried";
+    static final String OUTCOME_FAILED = "failed";
+
+    private static final String ERROR_NO_CHANNEL = "No delivery channel registered for %s";
+    private static final String ERROR_NOTIFICATION_NOT_FOUND = "Account notification not found with ID: %s";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private AccountNotificationRepository notificationRepository;
+
+    @Autowired
+    private AccountNotificationMapper mapper;
+
+    @Autowired
+    private List<NotificationChannel> channels;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.notification.delivery.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${account.notification.delivery.max-batches-per-run:10}")
+    private int maxBatchesPerRun = 10;
+
+    @Value("${account.notification.delivery.lease-ms:60000}")
+    private long leaseMs = 60000;
+
+    @Value("${account.notification.delivery.channel-concurrency:4}")
+    private int channelConcurrency = 4;
+
+    @Value("${account.notification.delivery.timeout-ms:10000}")
+    private long timeoutMs = 10000;
+
+    @Value("${account.notification.delivery.initial-backoff-ms:1000}")
+    private long initialBackoffMs = 1000;
+
+    @Value("${account.notification.delivery.max-backoff-ms:300000}")
+    private long maxBackoffMs = 300000;
+
+    @Value("${account.notification.delivery.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    private final Map<String, NotificationChannel> channelsByName = new HashMap<>();
+    private final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        for (NotificationChannel channel : channels) {
+            for (String name : channel.getChannels()) {
+                NotificationChannel previous = channelsByName.putIfAbsent(name, channel);
+                if (previous != null) {
+                    throw new IllegalStateException("Delivery channel " + name + " is served by both "
+                            + previous.getClass().getSimpleName() + " and " + channel.getClass().getSimpleName());
+                }
+            }
+        }
+        meterRegistry.gauge("account.notification.outbox.pending", pending);
+        meterRegistry.gauge("account.notification.outbox.lag", lagSeconds);
+        logger.info("Notification delivery worker serving channels {}", channelsByName.keySet());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        schedulers.values().forEach(Scheduler::dispose);
+    }
+
+    @Scheduled(fixedDelayString = "${account.notification.delivery.interval-ms:1000}",
+            initialDelayString = "${account.notification.delivery.initial-delay-ms:10000}")
+    public void poll() {
+        try {
+            Integer processed = drainOnce().block();
+            if (processed != null && processed > 0) {
+                logger.debug("Processed {} notification outbox entries", processed);
+            }
+            refreshQueueMetrics().block();
+        } catch (RuntimeException e) {
+            logger.error("Notification delivery run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the batches of one poll.
+     * @return Mono of the total number of outbox entries processed
+     */
+    Mono<Integer> drainOnce() {
+        return Mono.defer(this::deliverBatch)
+                .repeat(Math.max(maxBatchesPerRun - 1, 0))
+                .takeUntil(count -> count < batchSize)
+                .reduce(0, Integer::sum);
+    }
+
+    /**
+     * Claims one batch of due entries and delivers them.
+     * @return Mono of the number of entries claimed
+     */
+    Mono<Integer> deliverBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        return outboxRepository.claimDue(now, batchSize, now.plus(Duration.ofMillis(leaseMs)))
+                .collectList()
+                .flatMap(claimed -> {
+                    if (claimed.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    List<UUID> notificationIds = claimed.stream()
+                            .map(NotificationOutbox::getAccountNotificationId)
+                            .distinct()
+                            .collect(Collectors.toList());
+                    return notificationRepository.findAllById(notificationIds)
+                            .collectMap(AccountNotification::getAccountNotificationId, mapper::toDTO)
+                            .flatMap(notifications -> Flux.fromIterable(claimed)
+                                    .groupBy(NotificationOutbox::getChannel)
+                                    .flatMap(group -> group.flatMap(entry -> deliver(entry,
+                                            notifications.get(entry.getAccountNotificationId())), channelConcurrency))
+                                    .then(Mono.just(claimed.size())));
+                });
+    }
+
+    /**
+     * Delivers one outbox entry and records the outcome.
+     * @return Mono of the outcome
+     */
+    Mono<String> deliver(NotificationOutbox entry, AccountNotificationDTO notification) {
+        NotificationChannel channel = channelsByName.get(entry.getChannel());
+        Mono<String> outcome;
+        if (channel == null) {
+            outcome = fail(entry, String.format(ERROR_NO_CHANNEL, entry.getChannel()));
+        } else if (notification == null) {
+            outcome = fail(entry, String.format(ERROR_NOTIFICATION_NOT_FOUND, entry.getAccountNotificationId()));
+        } else {
+            outcome = channel.deliver(entry.getChannel(), notification)
+                    .subscribeOn(schedulerFor(entry.getChannel()))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .thenReturn(OUTCOME_DELIVERED)
+                    .onErrorResume(error -> retryOrFail(entry, error))
+                    .flatMap(result -> OUTCOME_DELIVERED.equals(result) ? markDelivered(entry) : Mono.just(result));
+        }
+        return outcome.doOnNext(result -> counterFor(entry.getChannel(), result).increment());
+    }
+
+    private Mono<String> markDelivered(NotificationOutbox entry) {
+        // The notification was sent, so a failure to record it must not schedule a retry;
+        // the entry is only delivered again if its lease runs out
+        return outboxRepository.markDelivered(entry.getNotificationOutboxId(), LocalDateTime.now())
+                .thenReturn(OUTCOME_DELIVERED)
+                .onErrorResume(error -> {
+                    logger.warn("Could not mark notification {} delivered through {}, leaving it to its lease: {}",
+                            entry.getAccountNotificationId(), entry.getChannel(), errorMessage(error));
+                    return Mono.just(OUTCOME_DELIVERED);
+                });
+    }
+
+    private Mono<String> retryOrFail(NotificationOutbox entry, Throwable error) {
+        String message = errorMessage(error);
+        int attempts = entry.getAttempts() == null ? 1 : entry.getAttempts();
+        if (attempts >= maxAttempts) {
+            logger.warn("Giving up on notification {} through {} after {} attempts: {}",
+                    entry.getAccountNotificationId(), entry.getChannel(), attempts, message);
+            return fail(entry, message);
+        }
+        return outboxRepository.scheduleRetry(entry.getNotificationOutboxId(),
+                        LocalDateTime.now().plus(backoff(attempts)), message)
+                .thenReturn(OUTCOME_RETRIED);
+    }
+
+    private Mono<String> fail(NotificationOutbox entry, String message) {
+        return outboxRepository.markFailed(entry.getNotificationOutboxId(), message)
+                .thenReturn(OUTCOME_FAILED);
+    }
+
+    /**
+     * Delay before the next attempt, doubling from the initial backoff and capped at the maximum.
+     * @param attempts Number of attempts made so far
+     * @return the backoff delay
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = initialBackoffMs << exponent;
+        return Duration.ofMillis(delay < 0 ? maxBackoffMs : Math.min(delay, maxBackoffMs));
+    }
+
+    /**
+     * Refreshes the outbox pending count and lag gauges.
+     */
+    Mono<Void> refreshQueueMetrics() {
+        return outboxRepository.countPending()
+                .doOnNext(pending::set)
+                .then(outboxRepository.findOldestPendingDateCreated()
+                        .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).getSeconds(), 0L))
+                        .defaultIfEmpty(0L)
+                        .doOnNext(lagSeconds::set))
+                .then();
+    }
+
+    private Scheduler schedulerFor(String channel) {
+        return schedulers.computeIfAbsent(channel, name -> Schedulers.newBoundedElastic(
+                channelConcurrency, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                "notification-delivery-" + name.toLowerCase(), 60, true));
+    }
+
+    private Counter counterFor(String channel, String outcome) {
+        return counters.computeIfAbsent(channel + ":" + outcome, key -> Counter.builder("account.notification.delivery")
+                .description("Notification delivery attempts")
+                .tag("channel", channel)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static String errorMessage(Throwable error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated notification listing: the sort key of the last
+ * notification returned. Encoded as an opaque URL-safe string for clients.
+ *
+ * @param isRead Read state of the last notification
+ * @param priority Priority of the last notification
+ * @param creationDateTime Creation time of the last notification
+ * @param accountNotificationId ID of the last notification
+ */
+record NotificationPageCursor(boolean isRead, int priority, LocalDateTime creationDateTime,
+                              UUID accountNotificationId) {
+
+    static final String ERROR_INVALID_CURSOR = "Invalid page cursor";
+
+    /**
+     * Position before the first notification: unread sorts first and no priority is lower.
+     */
+    static final NotificationPageCursor FIRST = new NotificationPageCursor(false, Integer.MIN_VALUE,
+            LocalDateTime.of(9999, 12, 31, 0, 0), new UUID(0, 0));
+
+    private static final String SEPARATOR = "|";
+
+    static NotificationPageCursor after(AccountNotification notification) {
+        return new NotificationPageCursor(Boolean.TRUE.equals(notification.getIsRead()), notification.getPriority(),
+                notification.getCreationDateTime(), notification.getAccountNotificationId());
+    }
+
+    /**
+     * Decodes a cursor received from a client
+     * @param cursor The encoded cursor, or null for the first page
+     * @return the position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static NotificationPageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException(ERROR_INVALID_CURSOR);
+            }
+            return new NotificationPageCursor(Boolean.parseBoolean(parts[0]), Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ERROR_INVALID_CURSOR, e);
+        }
+    }
+
+    String encode() {
+        String raw = isRead + SEPARATOR + priority + SEPARATOR + creationDateTime + SEPARATOR + accountNotificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
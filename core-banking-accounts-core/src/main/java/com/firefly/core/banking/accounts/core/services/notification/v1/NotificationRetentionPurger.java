@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Periodically deletes notifications whose expiry is older than the grace period,
+ * and delivered or failed outbox entries older than the outbox retention period.
+ * Each run deletes in bounded batches, oldest first, until a batch comes back
+ * short or the per-run batch limit is reached. Every batch is its own short
+ * transaction and batches are spaced by a pause, which keeps lock times and WAL
+ * bursts small. Rows purged per run and per second are logged and exported as
+ * {@code account.notification.retention.purged},
+ * {@code account.notification.retention.outbox-purged} and
+ * {@code account.notification.retention.run}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.notification.retention", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class NotificationRetentionPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionPurger.class);
+
+    @Autowired
+    private AccountNotificationService accountNotificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.notification.retention.grace-period-days:30}")
+    private int gracePeriodDays = 30;
+
+    @Value("${account.notification.retention.outbox-retention-days:7}")
+    private int outboxRetentionDays = 7;
+
+    @Value("${account.notification.retention.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${account.notification.retention.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${account.notification.retention.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs = 100;
+
+    private Counter purgedCounter;
+
+    private Counter outboxPurgedCounter;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        purgedCounter = Counter.builder("account.notification.retention.purged")
+                .description("Expired notifications deleted by the retention purge")
+                .register(meterRegistry);
+        outboxPurgedCounter = Counter.builder("account.notification.retention.outbox-purged")
+                .description("Delivered and failed outbox entries deleted by the retention purge")
+                .register(meterRegistry);
+        runTimer = Timer.builder("account.notification.retention.run")
+                .description("Duration of retention purge runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${account.notification.retention.interval-ms:3600000}",
+            initialDelayString = "${account.notification.retention.initial-delay-ms:600000}")
+    public void purge() {
+        long started = System.nanoTime();
+        purgeAndRecord(this::purgeOnce, purgedCounter, "expired notifications");
+        purgeAndRecord(this::purgeDeliveriesOnce, outboxPurgedCounter, "finished outbox entries");
+        runTimer.record(Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void purgeAndRecord(Supplier<Mono<Long>> run, Counter counter, String rows) {
+        long started = System.nanoTime();
+        try {
+            Long purged = run.get().block();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            if (purged != null && purged > 0) {
+                counter.increment(purged);
+                double perSecond = purged * 1000.0 / Math.max(elapsed.toMillis(), 1);
+                logger.info("Purged {} {} in {} ms ({} rows/s)",
+                        purged, rows, elapsed.toMillis(), String.format("%.1f", perSecond));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Retention purge of {} failed: {}", rows, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the batches of one purge.
+     * @return Mono of the total number of notifications deleted
+     */
+    Mono<Long> purgeOnce() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(gracePeriodDays);
+        return inBatches(() -> accountNotificationService.purgeExpiredNotifications(cutoff, batchSize));
+    }
+
+    /**
+     * Runs the batches of one outbox purge. Only delivered and failed entries are deleted;
+     * pending ones are left to the delivery worker whatever their age.
+     * @return Mono of the total number of outbox entries deleted
+     */
+    Mono<Long> purgeDeliveriesOnce() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(outboxRetentionDays);
+        return inBatches(() -> accountNotificationService.purgeFinishedDeliveries(cutoff, batchSize));
+    }
+
+    private Mono<Long> inBatches(Supplier<Mono<Long>> batch) {
+        return Mono.defer(batch)
+                .repeatWhen(completions -> completions
+                        .take(Math.max(maxBatchesPerRun - 1, 0))
+                        .delayElements(Duration.ofMillis(pauseBetweenBatchesMs)))
+                .takeUntil(count -> count < batchSize)
+                .reduce(0L, Long::sum);
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
+import com.firefly.core.banking.accounts.interfaces.enums.parameter.v1.ParamTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.core.v1.Account;
+import com.firefly.core.banking.accounts.models.entities.parameter.v1.AccountParameter;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.parameter.v1.AccountParameterRepository;
+import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Turns balance changes into customer notifications, off the posting path.
+ *
+ * Posting paths hand a {@link BalanceChangeEvent} to {@link #publish}, which only
+ * offers it to a bounded in-memory queue; when the queue is full the event is
+ * dropped and counted rather than slowing the posting down. Events are consumed
+ * in micro-batches: thresholds, balances and recent alerts are loaded once per
+ * batch, and the resulting notifications are created together.
+ *
+ * Rules:
+ * - LARGE_DEPOSIT / LARGE_WITHDRAWAL: a deposit or withdrawal of at least the account's
+ *   LARGE_DEPOSIT_THRESHOLD / LARGE_WITHDRAWAL_THRESHOLD parameter, or the configured default
+ * - LOW_BALANCE: after a withdrawal, the account's total balance is below its
+ *   LOW_BALANCE_THRESHOLD parameter, or its minimum balance when no parameter is set
+ * - GOAL_ACHIEVED: a credit takes a space from below its target amount to at or above it
+ * - AUTOMATIC_TRANSFER_FAILED: an automatic transfer into a space failed
+ *
+ * An alert is not raised again for the same account, type and reference while an
+ * identical one was created within the dedupe window. Events are evaluated after
+ * the posting is handed back to the caller, so evaluation never fails a posting.
+ */
+@Component
+public class NotificationRulesEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRulesEngine.class);
+
+    private static final int PRIORITY_HIGH = 1;
+    private static final int PRIORITY_MEDIUM = 2;
+    private static final int PRIORITY_LOW = 3;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountParameterRepository parameterRepository;
+
+    @Autowired
+    private AccountSpaceRepository accountSpaceRepository;
+
+    @Autowired
+    private AccountNotificationRepository notificationRepository;
+
+    @Autowired
+    private AccountNotificationService accountNotificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${account.notification.rules.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${account.notification.rules.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${account.notification.rules.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${account.notification.rules.flush-interval-ms:500}")
+    private long flushIntervalMs = 500;
+
+    @Value("${account.notification.rules.dedupe-window-minutes:60}")
+    private long dedupeWindowMinutes = 60;
+
+    @Value("${account.notification.rules.large-deposit-threshold:10000}")
+    private BigDecimal defaultLargeDepositThreshold = new BigDecimal("10000");
+
+    @Value("${account.notification.rules.large-withdrawal-threshold:10000}")
+    private BigDecimal defaultLargeWithdrawalThreshold = new BigDecimal("10000");
+
+    private Sinks.Many<BalanceChangeEvent> events;
+
+    private Disposable subscription;
+
+    private Counter droppedCounter;
+
+    private Counter createdCounter;
+
+    @PostConstruct
+    void start() {
+        droppedCounter = Counter.builder("account.notification.rules.dropped")
+                .description("Balance change events dropped because the rules queue was full")
+                .register(meterRegistry);
+        createdCounter = Counter.builder("account.notification.rules.created")
+                .description("Notifications created by the balance rules")
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        events = Sinks.many().unicast().onBackpressureBuffer(Queues.<BalanceChangeEvent>get(queueCapacity).get());
+        subscription = events.asFlux()
+                .bufferTimeout(batchSize, Duration.ofMillis(flushIntervalMs))
+                .concatMap(batch -> evaluate(batch)
+                        .onErrorResume(e -> {
+                            logger.error("Could not evaluate {} balance change events: {}", batch.size(), e.getMessage(), e);
+                            return Mono.just(0);
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Queue a balance change for evaluation. Never blocks and never fails.
+     * @param event The balance change
+     */
+    public void publish(BalanceChangeEvent event) {
+        if (events == null || event == null) {
+            return;
+        }
+        Sinks.EmitResult result;
+        synchronized (this) {
+            result = events.tryEmitNext(event);
+        }
+        if (result.isFailure()) {
+            droppedCounter.increment();
+            logger.debug("Dropped balance change event for account {}: {}", event.accountId(), result);
+        }
+    }
+
+    /**
+     * Evaluates one batch of events and creates the resulting notifications.
+     * @return Mono of the number of notifications created
+     */
+    Mono<Integer> evaluate(List<BalanceChangeEvent> batch) {
+        if (batch.isEmpty()) {
+            return Mono.just(0);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        UUID[] accountIds = batch.stream().map(BalanceChangeEvent::accountId).distinct().toArray(UUID[]::new);
+
+        return loadThresholds(accountIds, now)
+                .flatMap(thresholds -> loadTotalBalances(batch, thresholds)
+                        .map(totals -> applyRules(batch, thresholds, totals, now)))
+                .flatMap(candidates -> dedupe(candidates, now))
+                .flatMap(notifications -> notifications.isEmpty()
+                        ? Mono.just(0)
+                        : accountNotificationService.createAccountNotifications(notifications)
+                                .count()
+                                .map(Long::intValue)
+                                .doOnNext(created -> createdCounter.increment(created)));
+    }
+
+    /**
+     * Resolves the thresholds of each account: its parameters first, then its
+     * minimum balance or the configured defaults.
+     */
+    Mono<Map<UUID, Thresholds>> loadThresholds(UUID[] accountIds, LocalDateTime now) {
+        Mono<Map<UUID, Account>> accounts = accountRepository.findAllByAccountIdIn(accountIds)
+                .collectMap(Account::getAccountId);
+        Mono<Map<UUID, Map<ParamTypeEnum, BigDecimal>>> parameters = parameterRepository
+                .findEffectiveByAccountIdIn(accountIds, now)
+                .sort(Comparator.comparing(AccountParameter::getEffectiveDate))
+                .collectList()
+                .map(list -> {
+                    // Later effective dates win when periods overlap
+                    Map<UUID, Map<ParamTypeEnum, BigDecimal>> byAccount = new HashMap<>();
+                    list.forEach(parameter -> byAccount
+                            .computeIfAbsent(parameter.getAccountId(), id -> new HashMap<>())
+                            .put(parameter.getParamType(), parameter.getParamValue()));
+                    return byAccount;
+                });
+
+        return Mono.zip(accounts, parameters)
+                .map(tuple -> {
+                    Map<UUID, Thresholds> thresholds = new HashMap<>();
+                    for (UUID accountId : accountIds) {
+                        Account account = tuple.getT1().get(accountId);
+                        Map<ParamTypeEnum, BigDecimal> values = tuple.getT2().getOrDefault(accountId, Map.of());
+                        BigDecimal lowBalance = values.get(ParamTypeEnum.LOW_BALANCE_THRESHOLD);
+                        if (lowBalance == null && account != null) {
+                            lowBalance = account.getMinimumBalance();
+                        }
+                        thresholds.put(accountId, new Thresholds(
+                                lowBalance,
+                                values.getOrDefault(ParamTypeEnum.LARGE_DEPOSIT_THRESHOLD, defaultLargeDepositThreshold),
+                                values.getOrDefault(ParamTypeEnum.LARGE_WITHDRAWAL_THRESHOLD, defaultLargeWithdrawalThreshold)));
+                    }
+                    return thresholds;
+                });
+    }
+
+    /**
+     * Loads the total balance of the accounts that had a withdrawal and have a low-balance threshold.
+     */
+    private Mono<Map<UUID, BigDecimal>> loadTotalBalances(List<BalanceChangeEvent> batch, Map<UUID, Thresholds> thresholds) {
+        Set<UUID> accountIds = batch.stream()
+                .filter(event -> event.type() == BalanceChangeEvent.Type.WITHDRAWAL)
+                .map(BalanceChangeEvent::accountId)
+                .filter(accountId -> thresholds.get(accountId).lowBalance() != null)
+                .collect(Collectors.toSet());
+        return Flux.fromIterable(accountIds)
+                .flatMap(accountId -> accountSpaceRepository.calculateTotalBalance(accountId)
+                        .map(total -> Map.entry(accountId, total)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Applies the rules to a batch of events.
+     * @return the candidate notifications, before deduplication
+     */
+    List<AccountNotificationDTO> applyRules(List<BalanceChangeEvent> batch, Map<UUID, Thresholds> thresholds,
+                                            Map<UUID, BigDecimal> totalBalances, LocalDateTime now) {
+        List<AccountNotificationDTO> notifications = new ArrayList<>();
+        for (BalanceChangeEvent event : batch) {
+            Thresholds threshold = thresholds.get(event.accountId());
+            switch (event.type()) {
+                case DEPOSIT -> {
+                    if (atLeast(event.amount(), threshold.largeDeposit())) {
+                        notifications.add(notification(event, NotificationTypeEnum.LARGE_DEPOSIT, PRIORITY_MEDIUM,
+                                "Large deposit",
+                                "A deposit of " + event.amount().toPlainString() + " was credited to your account",
+                                event.reference(), now));
+                    }
+                }
+                case WITHDRAWAL -> {
+                    if (atLeast(event.amount(), threshold.largeWithdrawal())) {
+                        notifications.add(notification(event, NotificationTypeEnum.LARGE_WITHDRAWAL, PRIORITY_MEDIUM,
+                                "Large withdrawal",
+                                "A withdrawal of " + event.amount().toPlainString() + " was debited from your account",
+                                event.reference(), now));
+                    }
+                    BigDecimal total = totalBalances.get(event.accountId());
+                    if (threshold.lowBalance() != null && total != null && total.compareTo(threshold.lowBalance()) < 0) {
+                        notifications.add(notification(event, NotificationTypeEnum.LOW_BALANCE, PRIORITY_HIGH,
+                                "Low balance",
+                                "Your balance of " + total.toPlainString() + " is below "
+                                        + threshold.lowBalance().toPlainString(),
+                                null, now));
+                    }
+                }
+                case AUTOMATIC_TRANSFER_FAILED -> notifications.add(notification(event,
+                        NotificationTypeEnum.AUTOMATIC_TRANSFER_FAILED, PRIORITY_HIGH,
+                        "Automatic transfer failed",
+                        "An automatic transfer of " + event.amount().toPlainString() + " could not be completed"
+                                + (event.detail() != null ? ": " + event.detail() : ""),
+                        String.valueOf(event.accountSpaceId()), now));
+                default -> {
+                    // Transfers between spaces do not change the account balance
+                }
+            }
+            if (event.isCredit() && reachesGoal(event)) {
+                notifications.add(notification(event, NotificationTypeEnum.GOAL_ACHIEVED, PRIORITY_LOW,
+                        "Savings goal reached",
+                        "Your space reached its target of " + event.targetAmount().toPlainString(),
+                        String.valueOf(event.accountSpaceId()), now));
+            }
+        }
+        return notifications;
+    }
+
+    /**
+     * Drops candidates already raised within the dedupe window, and repeats within the batch.
+     */
+    private Mono<List<AccountNotificationDTO>> dedupe(List<AccountNotificationDTO> candidates, LocalDateTime now) {
+        if (candidates.isEmpty()) {
+            return Mono.just(candidates);
+        }
+        UUID[] accountIds = candidates.stream().map(AccountNotificationDTO::getAccountId).distinct().toArray(UUID[]::new);
+        return notificationRepository.findCreatedSinceByAccountIdIn(accountIds, now.minusMinutes(dedupeWindowMinutes))
+                .map(existing -> alertKey(existing.getAccountId(), existing.getNotificationType(), existing.getEventReference()))
+                .collect(Collectors.toSet())
+                .map(raised -> candidates.stream()
+                        .filter(candidate -> raised.add(alertKey(candidate.getAccountId(),
+                                candidate.getNotificationType(), candidate.getEventReference())))
+                        .collect(Collectors.toList()));
+    }
+
+    private static boolean reachesGoal(BalanceChangeEvent event) {
+        if (event.targetAmount() == null || event.balanceAfter() == null || event.amount() == null) {
+            return false;
+        }
+        BigDecimal before = event.balanceAfter().subtract(event.amount());
+        return before.compareTo(event.targetAmount()) < 0 && event.balanceAfter().compareTo(event.targetAmount()) >= 0;
+    }
+
+    private static boolean atLeast(BigDecimal amount, BigDecimal threshold) {
+        return amount != null && threshold != null && amount.compareTo(threshold) >= 0;
+    }
+
+    private static String alertKey(UUID accountId, NotificationTypeEnum type, String reference) {
+        return accountId + ":" + type + ":" + reference;
+    }
+
+    private static AccountNotificationDTO notification(BalanceChangeEvent event, NotificationTypeEnum type,
+                                                       int priority, String title, String message,
+                                                       String reference, LocalDateTime now) {
+        return AccountNotificationDTO.builder()
+                .accountId(event.accountId())
+                .notificationType(type)
+                .title(title)
+                .message(message)
+                .creationDateTime(now)
+                .isRead(false)
+                .priority(priority)
+                .relatedAmount(event.amount())
+                .eventReference(reference)
+                .build();
+    }
+
+    /**
+     * Thresholds of one account; null disables the corresponding rule.
+     */
+    record Thresholds(BigDecimal lowBalance, BigDecimal largeDeposit, BigDecimal largeWithdrawal) {
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node hub pushing newly created notifications to the clients streaming
+ * their account.
+ *
+ * Business Rules:
+ * - Each streamed account has one multicast sink shared by all its clients on this node
+ * - Every client has its own bounded buffer; a client that falls behind loses its
+ *   oldest undelivered notifications instead of holding memory for everyone
+ * - Announcements for accounts nobody streams on this node are dropped without
+ *   touching the database
+ * - Sinks without clients are evicted once idle for the configured timeout
+ * - Streaming is best effort: clients reconcile through the unread endpoint when
+ *   they (re)connect
+ */
+@Component
+public class NotificationStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamHub.class);
+
+    private static final String ERROR_CAPACITY_REACHED = "Notification stream capacity reached";
+    private static final int DISPATCH_CONCURRENCY = 32;
+
+    @Autowired
+    private NotificationBroker broker;
+
+    @Autowired
+    private AccountNotificationRepository repository;
+
+    @Autowired
+    private AccountNotificationMapper mapper;
+
+    @Value("${account.notification.stream.buffer-size:64}")
+    private int bufferSize = 64;
+
+    @Value("${account.notification.stream.idle-timeout-ms:300000}")
+    private long idleTimeoutMs = 300000;
+
+    @Value("${account.notification.stream.max-accounts:100000}")
+    private int maxAccounts = 100000;
+
+    private final Map<UUID, AccountStream> streams = new ConcurrentHashMap<>();
+
+    private Disposable subscription;
+
+    @PostConstruct
+    void start() {
+        subscription = broker.messages()
+                .flatMap(message -> dispatch(message)
+                        .onErrorResume(e -> {
+                            logger.warn("Could not stream notification {}: {}",
+                                    message.accountNotificationId(), e.getMessage());
+                            return Mono.empty();
+                        }), DISPATCH_CONCURRENCY)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        streams.values().forEach(stream -> stream.sink.tryEmitComplete());
+        streams.clear();
+    }
+
+    /**
+     * Stream the notifications created for an account from now on
+     * @param accountId The account ID
+     * @return Flux of AccountNotificationDTO that never completes on its own
+     */
+    public Flux<AccountNotificationDTO> subscribe(UUID accountId) {
+        return Flux.defer(() -> {
+            if (!streams.containsKey(accountId) && streams.size() >= maxAccounts) {
+                return Flux.error(new IllegalStateException(ERROR_CAPACITY_REACHED));
+            }
+            AccountStream stream = streams.compute(accountId, (id, existing) -> {
+                AccountStream current = existing != null ? existing : new AccountStream();
+                current.touch();
+                return current;
+            });
+            return stream.sink.asFlux()
+                    .onBackpressureBuffer(bufferSize,
+                            dropped -> logger.debug("Dropped notification {} for slow client of account {}",
+                                    dropped.getAccountNotificationId(), accountId),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .doFinally(signal -> stream.touch());
+        });
+    }
+
+    /**
+     * Announce a created notification through the broker. Failures are logged
+     * and swallowed: streaming must never fail the operation that created the notification.
+     * @param notification The created notification
+     * @return Mono completing once the announcement is handed to the broker
+     */
+    public Mono<Void> publish(AccountNotificationDTO notification) {
+        return broker.publish(notification)
+                .onErrorResume(e -> {
+                    logger.warn("Could not announce notification {}: {}",
+                            notification.getAccountNotificationId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${account.notification.stream.idle-check-interval-ms:60000}")
+    public void evictIdleStreams() {
+        int evicted = evictIdle(System.currentTimeMillis());
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle notification streams", evicted);
+        }
+    }
+
+    /**
+     * Removes the sinks that have had no client for longer than the idle timeout.
+     * @param now The current time in milliseconds
+     * @return the number of sinks evicted
+     */
+    int evictIdle(long now) {
+        long cutoff = now - idleTimeoutMs;
+        int evicted = 0;
+        for (Map.Entry<UUID, AccountStream> entry : streams.entrySet()) {
+            AccountStream stream = entry.getValue();
+            if (stream.sink.currentSubscriberCount() == 0 && stream.lastActivity < cutoff
+                    && streams.remove(entry.getKey(), stream)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Number of accounts with a sink on this node
+     * @return the number of accounts
+     */
+    public int size() {
+        return streams.size();
+    }
+
+    Mono<Void> dispatch(NotificationBroker.Message message) {
+        AccountStream stream = streams.get(message.accountId());
+        if (stream == null || stream.sink.currentSubscriberCount() == 0) {
+            return Mono.empty();
+        }
+        Mono<AccountNotificationDTO> notification = message.notification() != null
+                ? Mono.just(message.notification())
+                : repository.findById(message.accountNotificationId()).map(mapper::toDTO);
+        return notification
+                .doOnNext(stream::emit)
+                .then();
+    }
+
+    private static final class AccountStream {
+
+        private final Sinks.Many<AccountNotificationDTO> sink = Sinks.many().multicast().directBestEffort();
+
+        private volatile long lastActivity = System.currentTimeMillis();
+
+        void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+
+        synchronized void emit(AccountNotificationDTO notification) {
+            touch();
+            sink.tryEmitNext(notification);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cluster-wide broker on Postgres LISTEN/NOTIFY.
+ *
+ * Publishing issues {@code pg_notify} on the caller's connection, so inside the
+ * transaction that stores the notification the announcement is only sent once
+ * that transaction commits. The payload is {@code accountId:notificationId},
+ * well under the NOTIFY payload limit; receivers load the notification only
+ * when they have a client streaming that account. Each node keeps one
+ * dedicated connection listening on the channel and reconnects with backoff
+ * when it drops.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.notification.stream", name = "broker", havingValue = "postgres")
+public class PostgresNotificationBroker implements NotificationBroker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotificationBroker.class);
+
+    static final String CHANNEL = "account_notification";
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private final Sinks.Many<Message> sink = Sinks.many().multicast().directBestEffort();
+
+    private Disposable listener;
+
+    @PostConstruct
+    void start() {
+        listener = Flux.usingWhen(connectionFactory.create(),
+                        connection -> {
+                            PostgresqlConnection postgresConnection = unwrap(connection);
+                            return postgresConnection.createStatement("LISTEN " + CHANNEL)
+                                    .execute()
+                                    .flatMap(result -> result.getRowsUpdated())
+                                    .thenMany(postgresConnection.getNotifications());
+                        },
+                        Connection::close)
+                .doOnSubscribe(subscription -> logger.info("Listening for notifications on {}", CHANNEL))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> logger.warn("Notification listener dropped, reconnecting: {}",
+                                signal.failure().getMessage())))
+                .subscribe(notification -> {
+                    Message message = parse(notification.getParameter());
+                    if (message != null) {
+                        synchronized (sink) {
+                            sink.tryEmitNext(message);
+                        }
+                    }
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (listener != null) {
+            listener.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Void> publish(AccountNotificationDTO notification) {
+        return databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", CHANNEL)
+                .bind("payload", notification.getAccountId() + ":" + notification.getAccountNotificationId())
+                .then();
+    }
+
+    @Override
+    public Flux<Message> messages() {
+        return sink.asFlux();
+    }
+
+    /**
+     * Parses an {@code accountId:notificationId} payload.
+     * @return the message, or null when the payload is malformed
+     */
+    static Message parse(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        int separator = payload.indexOf(':');
+        try {
+            return new Message(UUID.fromString(payload.substring(0, separator)),
+                    UUID.fromString(payload.substring(separator + 1)), null);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            logger.warn("Ignoring malformed notification payload: {}", payload);
+            return null;
+        }
+    }
+
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object candidate = connection;
+        while (!(candidate instanceof PostgresqlConnection) && candidate instanceof Wrapped<?> wrapped) {
+            candidate = wrapped.unwrap();
+        }
+        if (candidate instanceof PostgresqlConnection postgresConnection) {
+            return postgresConnection;
+        }
+        throw new IllegalStateException("LISTEN requires a Postgres connection, got "
+                + connection.getClass().getName());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Local channel that only logs the notifications it receives. It serves the
+ * in-app channel by default and can stand in for external providers in
+ * development and tests by listing their channel names.
+ */
+@Component
+public class StubNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubNotificationChannel.class);
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Value("${account.notification.delivery.stub-channels:APP}")
+    private String stubChannels = "APP";
+
+    @Override
+    public Set<String> getChannels() {
+        return Arrays.stream(stubChannels.split(","))
+                .map(String::trim)
+                .filter(channel -> !channel.isEmpty())
+                .map(channel -> channel.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<Void> deliver(String channel, AccountNotificationDTO notification) {
+        return Mono.fromRunnable(() -> {
+            delivered.incrementAndGet();
+            logger.debug("Delivered notification {} to account {} through {}",
+                    notification.getAccountNotificationId(), notification.getAccountId(), channel);
+        });
+    }
+
+    /**
+     * Number of notifications delivered through this channel since startup
+     * @return the delivery count
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+}
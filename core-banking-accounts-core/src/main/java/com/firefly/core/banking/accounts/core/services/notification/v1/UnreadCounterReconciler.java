@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically corrects drift of the unread notification counters.
+ * Account IDs are paged in key order and each chunk is recounted in its own
+ * transaction; up to {@code parallelism} chunks are reconciled at once.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.notification.counter-reconciliation", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class UnreadCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterReconciler.class);
+
+    static final UUID FIRST_ACCOUNT_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountNotificationService accountNotificationService;
+
+    @Value("${account.notification.counter-reconciliation.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${account.notification.counter-reconciliation.parallelism:4}")
+    private int parallelism = 4;
+
+    @Scheduled(fixedDelayString = "${account.notification.counter-reconciliation.interval-ms:3600000}",
+            initialDelayString = "${account.notification.counter-reconciliation.initial-delay-ms:300000}")
+    public void reconcile() {
+        try {
+            Integer corrected = reconcileAll().block();
+            if (corrected != null && corrected > 0) {
+                logger.warn("Corrected {} drifted unread notification counters", corrected);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Unread notification counter reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reconciles the counters of all accounts.
+     * @return Mono of the total number of counters corrected
+     */
+    Mono<Integer> reconcileAll() {
+        return nextChunk(FIRST_ACCOUNT_ID)
+                .expand(chunk -> chunk.size() < chunkSize ? Mono.empty() : nextChunk(chunk.get(chunk.size() - 1)))
+                .flatMap(accountNotificationService::reconcileUnreadCounters, parallelism)
+                .reduce(0, Integer::sum);
+    }
+
+    private Mono<List<UUID>> nextChunk(UUID afterAccountId) {
+        return accountRepository.findAccountIdsAfter(afterAccountId, chunkSize)
+                .collectList()
+                .filter(chunk -> !chunk.isEmpty());
+    }
+}
@@ -20,8 +20,11 @@ package com.firefly.core.banking.accounts.core.services.restriction.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
 import java.util.UUID;
 
 public interface AccountRestrictionService {
@@ -76,6 +79,31 @@ public interface AccountRestrictionService {
      * @return Mono of AccountRestrictionDTO
      */
     Mono<AccountRestrictionDTO> removeRestriction(UUID accountRestrictionId, String removedBy);
+
+    /**
+     * Check whether a debit is allowed by the active restrictions of an account.
+     * Restrictions are served from the in-memory {@link ActiveRestrictionIndex}.
+     * @param accountId The account ID
+     * @param amount The debit amount (positive)
+     * @param channel The channel the debit comes from
+     * @return Mono of DebitAuthorizationDTO
+     */
+    Mono<DebitAuthorizationDTO> canDebit(UUID accountId, BigDecimal amount, String channel);
+
+    /**
+     * Check whether an active ACCOUNT_FREEZE, LEGAL_ORDER or COURT_ORDER restriction freezes the spaces of an account
+     * @param accountId The account ID
+     * @return Mono of Boolean
+     */
+    Mono<Boolean> isAccountFrozen(UUID accountId);
+
+    /**
+     * Deactivate one batch of expired restrictions and notify their accounts.
+     * Only one node sweeps at a time; when another node holds the sweep lock nothing is done.
+     * @param batchSize Maximum number of restrictions to deactivate
+     * @return Mono of the number of restrictions deactivated
+     */
+    Mono<Integer> expireRestrictions(int batchSize);
     
     /**
      * List account restrictions with pagination and filtering
@@ -21,19 +21,29 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.mappers.restriction.v1.AccountRestrictionMapper;
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
 import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.restriction.v1.AccountRestriction;
 import com.firefly.core.banking.accounts.models.repositories.restriction.v1.AccountRestrictionRepository;
+import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -51,6 +61,14 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
     private static final String ERROR_APPLIED_BY_REQUIRED = "Applied by is required";
     private static final String ERROR_REMOVED_BY_REQUIRED = "Removed by is required";
     private static final String ERROR_RESTRICTION_ALREADY_REMOVED = "Restriction is already removed";
+    private static final String ERROR_DEBIT_AMOUNT_POSITIVE = "Debit amount must be positive";
+    private static final String ERROR_BATCH_SIZE_POSITIVE = "Batch size must be positive";
+
+    /**
+     * Advisory lock key serializing the restriction expiry sweep across nodes.
+     */
+    static final long EXPIRY_SWEEP_LOCK_KEY = 0x4163_6352_6573_7401L;
+    static final String EXPIRY_REMOVED_BY = "SYSTEM_EXPIRY";
 
     @Autowired
     private AccountRestrictionRepository repository;
@@ -58,7 +76,20 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
     @Autowired
     private AccountRestrictionMapper mapper;
 
+    @Autowired
+    private ActiveRestrictionIndex restrictionIndex;
+
+    @Autowired
+    private AccountSpaceRepository accountSpaceRepository;
+
+    @Autowired
+    private AccountNotificationService notificationService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AccountRestrictionDTO> createAccountRestriction(AccountRestrictionDTO accountRestrictionDTO) {
         // Validate required fields
         if (accountRestrictionDTO.getAccountId() == null) {
@@ -85,9 +116,12 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
             accountRestrictionDTO.setIsActive(true);
         }
 
+        // The index is only updated once the restriction and its space freeze are committed
         AccountRestriction accountRestriction = mapper.toEntity(accountRestrictionDTO);
-        return repository.save(accountRestriction)
-                .map(mapper::toDTO);
+        return transactionalOperator.transactional(repository.save(accountRestriction)
+                        .map(mapper::toDTO)
+                        .flatMap(saved -> cascadeSpaceFreeze(saved, false)))
+                .doOnNext(restrictionIndex::apply);
     }
 
     @Override
@@ -103,15 +137,18 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AccountRestrictionDTO> updateAccountRestriction(UUID accountRestrictionId, AccountRestrictionDTO accountRestrictionDTO) {
         if (accountRestrictionId == null) {
             return Mono.error(new IllegalArgumentException(ERROR_RESTRICTION_ID_REQUIRED));
         }
 
-        return repository.findById(accountRestrictionId)
+        Mono<AccountRestrictionDTO> updated = repository.findById(accountRestrictionId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_RESTRICTION_NOT_FOUND, accountRestrictionId))))
                 .flatMap(existingRestriction -> {
+                    boolean wasFreezing = freezesSpaces(existingRestriction);
+
                     // Update fields
                     if (accountRestrictionDTO.getRestrictionType() != null) {
                         existingRestriction.setRestrictionType(accountRestrictionDTO.getRestrictionType());
@@ -141,21 +178,38 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
                         existingRestriction.setRemovedBy(accountRestrictionDTO.getRemovedBy());
                     }
 
-                    return repository.save(existingRestriction);
-                })
-                .map(mapper::toDTO);
+                    return repository.save(existingRestriction)
+                            .map(mapper::toDTO)
+                            .flatMap(saved -> cascadeSpaceFreeze(saved, wasFreezing));
+                });
+
+        return transactionalOperator.transactional(updated)
+                .doOnNext(restrictionIndex::apply);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<Void> deleteAccountRestriction(UUID accountRestrictionId) {
         if (accountRestrictionId == null) {
             return Mono.error(new IllegalArgumentException(ERROR_RESTRICTION_ID_REQUIRED));
         }
 
-        return repository.findById(accountRestrictionId)
+        Mono<AccountRestriction> deleted = repository.findById(accountRestrictionId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_RESTRICTION_NOT_FOUND, accountRestrictionId))))
-                .flatMap(restriction -> repository.delete(restriction));
+                .flatMap(restriction -> {
+                    boolean wasFreezing = freezesSpaces(restriction);
+                    return repository.delete(restriction)
+                            .then(wasFreezing
+                                    ? unfreezeSpaces(restriction.getAccountId())
+                                    : Mono.just(0))
+                            .thenReturn(restriction);
+                });
+
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(restriction -> restrictionIndex.remove(
+                        restriction.getAccountId(), restriction.getAccountRestrictionId()))
+                .then();
     }
 
     @Override
@@ -174,11 +228,12 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
             return Flux.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
         }
 
-        return repository.findByAccountIdAndIsActive(accountId, true)
+        return repository.findByAccountIdAndIsActiveTrue(accountId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<AccountRestrictionDTO> removeRestriction(UUID accountRestrictionId, String removedBy) {
         if (accountRestrictionId == null) {
             return Mono.error(new IllegalArgumentException(ERROR_RESTRICTION_ID_REQUIRED));
@@ -187,7 +242,7 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
             return Mono.error(new IllegalArgumentException(ERROR_REMOVED_BY_REQUIRED));
         }
 
-        return repository.findById(accountRestrictionId)
+        Mono<AccountRestrictionDTO> removed = repository.findById(accountRestrictionId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_RESTRICTION_NOT_FOUND, accountRestrictionId))))
                 .flatMap(restriction -> {
@@ -201,7 +256,141 @@ public class AccountRestrictionServiceImpl implements AccountRestrictionService
 
                     return repository.save(restriction);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> cascadeSpaceFreeze(saved,
+                        ActiveRestrictionIndex.SPACE_FREEZING_TYPES.contains(saved.getRestrictionType())));
+
+        return transactionalOperator.transactional(removed)
+                .doOnNext(restrictionIndex::apply);
+    }
+
+    @Override
+    public Mono<DebitAuthorizationDTO> canDebit(UUID accountId, BigDecimal amount, String channel) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+        if (amount == null || amount.signum() <= 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_DEBIT_AMOUNT_POSITIVE));
+        }
+
+        return getIndexedRestrictions(accountId)
+                .flatMap(restrictions -> {
+                    DebitAuthorizationDTO authorization = restrictionIndex.authorize(
+                            accountId, restrictions, amount, channel, null);
+                    // Only read the account balance when some restriction actually holds an amount
+                    if (!authorization.getAllowed()
+                            || authorization.getHeldAmount().signum() == 0
+                            || ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER.equals(channel)) {
+                        return Mono.just(authorization);
+                    }
+                    return accountSpaceRepository.calculateTotalBalance(accountId)
+                            .defaultIfEmpty(BigDecimal.ZERO)
+                            .map(balance -> restrictionIndex.authorize(
+                                    accountId, restrictions, amount, channel, balance));
+                })
+                .doOnNext(authorization -> {
+                    if (!authorization.getAllowed()) {
+                        logger.info("Debit of {} on account {} via {} refused: {}",
+                                amount, accountId, channel, authorization.getReason());
+                    }
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Integer> expireRestrictions(int batchSize) {
+        if (batchSize <= 0) {
+            return Mono.error(new IllegalArgumentException(ERROR_BATCH_SIZE_POSITIVE));
+        }
+
+        // The expired restrictions leave the index only once the sweep is committed, so a rolled back
+        // sweep never lets debits through on restrictions that are still active
+        return transactionalOperator.transactional(repository.tryAdvisoryXactLock(EXPIRY_SWEEP_LOCK_KEY)
+                        .flatMapMany(acquired -> {
+                            if (!Boolean.TRUE.equals(acquired)) {
+                                logger.debug("Restriction expiry sweep is running on another node");
+                                return Flux.<AccountRestriction>empty();
+                            }
+                            return repository.expireRestrictions(LocalDateTime.now(), batchSize, EXPIRY_REMOVED_BY);
+                        })
+                        .collectList()
+                        .flatMap(this::releaseExpired))
+                .doOnNext(expired -> expired.forEach(restriction -> restrictionIndex.remove(
+                        restriction.getAccountId(), restriction.getAccountRestrictionId())))
+                .map(List::size);
+    }
+
+    /**
+     * Notifies the accounts of a batch of expired restrictions and releases the spaces that
+     * expired freezes froze, in the sweep's transaction.
+     */
+    private Mono<List<AccountRestriction>> releaseExpired(List<AccountRestriction> expired) {
+        if (expired.isEmpty()) {
+            return Mono.just(expired);
+        }
+        Mono<Void> notified = notificationService.createRestrictionExpiredNotifications(expired.stream()
+                        .map(AccountRestriction::getAccountRestrictionId)
+                        .collect(Collectors.toList()))
+                .then();
+
+        // Expired freezes release the spaces they froze, in one statement for the whole batch
+        UUID[] unfrozenAccountIds = expired.stream()
+                .filter(restriction -> ActiveRestrictionIndex.SPACE_FREEZING_TYPES
+                        .contains(restriction.getRestrictionType()))
+                .map(AccountRestriction::getAccountId)
+                .distinct()
+                .toArray(UUID[]::new);
+        if (unfrozenAccountIds.length == 0) {
+            return notified.thenReturn(expired);
+        }
+        return notified.then(accountSpaceRepository.unfreezeAllByAccountIdIn(unfrozenAccountIds, LocalDateTime.now()))
+                .thenReturn(expired);
+    }
+
+    /**
+     * Freezes or unfreezes the spaces of the restriction's account in one bulk update,
+     * when the restriction freezes spaces now or did before the change.
+     */
+    private Mono<AccountRestrictionDTO> cascadeSpaceFreeze(AccountRestrictionDTO restriction, boolean wasFreezing) {
+        if (ActiveRestrictionIndex.freezesSpaces(restriction)) {
+            return accountSpaceRepository.freezeAllByAccountIdIn(
+                            new UUID[]{restriction.getAccountId()}, LocalDateTime.now())
+                    .doOnNext(count -> logger.info("{} restriction {} froze {} spaces of account {}",
+                            restriction.getRestrictionType(), restriction.getAccountRestrictionId(),
+                            count, restriction.getAccountId()))
+                    .thenReturn(restriction);
+        }
+        if (wasFreezing) {
+            return unfreezeSpaces(restriction.getAccountId()).thenReturn(restriction);
+        }
+        return Mono.just(restriction);
+    }
+
+    private static boolean freezesSpaces(AccountRestriction restriction) {
+        return Boolean.TRUE.equals(restriction.getIsActive())
+                && ActiveRestrictionIndex.SPACE_FREEZING_TYPES.contains(restriction.getRestrictionType());
+    }
+
+    private Mono<Integer> unfreezeSpaces(UUID accountId) {
+        return accountSpaceRepository.unfreezeAllByAccountIdIn(new UUID[]{accountId}, LocalDateTime.now())
+                .doOnNext(count -> logger.info("Unfroze {} spaces of account {}", count, accountId));
+    }
+
+    @Override
+    public Mono<Boolean> isAccountFrozen(UUID accountId) {
+        if (accountId == null) {
+            return Mono.error(new IllegalArgumentException(ERROR_ACCOUNT_ID_REQUIRED));
+        }
+        return getIndexedRestrictions(accountId).map(ActiveRestrictionIndex::freezesSpaces);
+    }
+
+    private Mono<Map<RestrictionTypeEnum, List<AccountRestrictionDTO>>> getIndexedRestrictions(UUID accountId) {
+        return restrictionIndex.get(accountId)
+                .map(Mono::just)
+                .orElseGet(() -> repository.findByAccountIdAndIsActiveTrue(accountId)
+                        .map(mapper::toDTO)
+                        .collectList()
+                        .map(activeRestrictions -> restrictionIndex.load(accountId, activeRestrictions)));
     }
 
     @Override
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.restriction.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-node index of the active restrictions of each account, grouped by restriction type.
+ * <p>
+ * An account is loaded from the database on its first check and then kept up to date
+ * incrementally by the restriction service on create, update, remove and delete. Entries
+ * expire after a configurable TTL so that changes made through other nodes are picked up.
+ * Once {@code max-accounts} accounts are loaded, the least recently checked account is evicted
+ * for each new one. Snapshots are immutable and replaced atomically, so debit checks only take
+ * the map lock to look up and record the use of their account.
+ */
+@Component
+public class ActiveRestrictionIndex {
+
+    /**
+     * Channel used for transfers between spaces of the same account. Funds stay in the
+     * account, so restricted amounts are not evaluated for it.
+     */
+    public static final String CHANNEL_INTERNAL_TRANSFER = "INTERNAL_TRANSFER";
+
+    /**
+     * Channel used for withdrawals recorded on an account space.
+     */
+    public static final String CHANNEL_SPACE_TRANSACTION = "SPACE_TRANSACTION";
+
+    /**
+     * Restriction types that freeze every space of the account while active.
+     */
+    public static final Set<RestrictionTypeEnum> SPACE_FREEZING_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            RestrictionTypeEnum.ACCOUNT_FREEZE,
+            RestrictionTypeEnum.LEGAL_ORDER,
+            RestrictionTypeEnum.COURT_ORDER));
+
+    private static final String REASON_ACCOUNT_FROZEN = "Account is frozen";
+    private static final String REASON_WITHDRAWAL_HOLD = "Account has a withdrawal hold";
+    private static final String REASON_HELD_AMOUNT = "Debit would reach into %s held by active restrictions";
+
+    private final Map<UUID, Snapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Snapshot> eldest) {
+                    return size() > maxAccounts;
+                }
+            });
+
+    @Value("${account.restriction.index.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    @Value("${account.restriction.index.max-accounts:100000}")
+    private int maxAccounts = 100_000;
+
+    /**
+     * Returns the active restrictions of an account grouped by type,
+     * or empty when the account is not loaded or its entry has expired.
+     */
+    public Optional<Map<RestrictionTypeEnum, List<AccountRestrictionDTO>>> get(UUID accountId) {
+        Snapshot snapshot = snapshots.get(accountId);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (snapshot.loadedAt().plusSeconds(ttlSeconds).isBefore(LocalDateTime.now())) {
+            snapshots.remove(accountId, snapshot);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.restrictions());
+    }
+
+    /**
+     * Replaces the entry of an account with the given active restrictions.
+     */
+    public Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> load(UUID accountId,
+                                                                     List<AccountRestrictionDTO> activeRestrictions) {
+        Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> byType = new EnumMap<>(RestrictionTypeEnum.class);
+        for (AccountRestrictionDTO restriction : activeRestrictions) {
+            if (Boolean.TRUE.equals(restriction.getIsActive()) && restriction.getRestrictionType() != null) {
+                byType.computeIfAbsent(restriction.getRestrictionType(), type -> new ArrayList<>()).add(restriction);
+            }
+        }
+        Snapshot snapshot = new Snapshot(freeze(byType), LocalDateTime.now());
+        snapshots.put(accountId, snapshot);
+        return snapshot.restrictions();
+    }
+
+    /**
+     * Applies a created or updated restriction to the entry of its account.
+     * Active restrictions are added or replaced, inactive ones are removed.
+     * Accounts that are not loaded are left alone; they are read in full on their next check.
+     */
+    public void apply(AccountRestrictionDTO restriction) {
+        if (restriction == null || restriction.getAccountId() == null || restriction.getAccountRestrictionId() == null) {
+            return;
+        }
+        snapshots.computeIfPresent(restriction.getAccountId(), (accountId, snapshot) -> {
+            Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> byType = without(snapshot,
+                    restriction.getAccountRestrictionId());
+            if (Boolean.TRUE.equals(restriction.getIsActive()) && restriction.getRestrictionType() != null) {
+                byType.computeIfAbsent(restriction.getRestrictionType(), type -> new ArrayList<>()).add(restriction);
+            }
+            return new Snapshot(freeze(byType), snapshot.loadedAt());
+        });
+    }
+
+    /**
+     * Removes a restriction from the entry of its account.
+     */
+    public void remove(UUID accountId, UUID accountRestrictionId) {
+        if (accountId == null || accountRestrictionId == null) {
+            return;
+        }
+        snapshots.computeIfPresent(accountId, (id, snapshot) ->
+                new Snapshot(freeze(without(snapshot, accountRestrictionId)), snapshot.loadedAt()));
+    }
+
+    public void evict(UUID accountId) {
+        if (accountId != null) {
+            snapshots.remove(accountId);
+        }
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Evaluates a debit against a set of active restrictions.
+     * <ul>
+     *     <li>an ACCOUNT_FREEZE in effect refuses every debit;</li>
+     *     <li>a WITHDRAWAL_HOLD in effect without a restricted amount refuses every debit;</li>
+     *     <li>restrictions in effect with a restricted amount hold that amount: outside internal
+     *     transfers the debit must leave at least the held amount in {@code availableBalance}.
+     *     The check is skipped when no balance is given; the held amount is reported either way.</li>
+     * </ul>
+     */
+    public DebitAuthorizationDTO authorize(UUID accountId,
+                                           Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> restrictions,
+                                           BigDecimal amount,
+                                           String channel,
+                                           BigDecimal availableBalance) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (AccountRestrictionDTO restriction : restrictions.getOrDefault(RestrictionTypeEnum.ACCOUNT_FREEZE, List.of())) {
+            if (inEffect(restriction, now)) {
+                return refused(accountId, restriction, REASON_ACCOUNT_FROZEN);
+            }
+        }
+        for (AccountRestrictionDTO restriction : restrictions.getOrDefault(RestrictionTypeEnum.WITHDRAWAL_HOLD, List.of())) {
+            if (inEffect(restriction, now) && restriction.getRestrictedAmount() == null) {
+                return refused(accountId, restriction, REASON_WITHDRAWAL_HOLD);
+            }
+        }
+
+        BigDecimal heldAmount = BigDecimal.ZERO;
+        for (List<AccountRestrictionDTO> restrictionsOfType : restrictions.values()) {
+            for (AccountRestrictionDTO restriction : restrictionsOfType) {
+                if (restriction.getRestrictedAmount() != null && inEffect(restriction, now)) {
+                    heldAmount = heldAmount.add(restriction.getRestrictedAmount());
+                }
+            }
+        }
+
+        if (!CHANNEL_INTERNAL_TRANSFER.equals(channel) && availableBalance != null
+                && heldAmount.signum() > 0 && availableBalance.subtract(amount).compareTo(heldAmount) < 0) {
+            return DebitAuthorizationDTO.builder()
+                    .accountId(accountId)
+                    .allowed(false)
+                    .reason(String.format(REASON_HELD_AMOUNT, heldAmount))
+                    .heldAmount(heldAmount)
+                    .build();
+        }
+
+        return DebitAuthorizationDTO.builder()
+                .accountId(accountId)
+                .allowed(true)
+                .heldAmount(heldAmount)
+                .build();
+    }
+
+    /**
+     * Whether a restriction freezes the spaces of its account.
+     */
+    public static boolean freezesSpaces(AccountRestrictionDTO restriction) {
+        return restriction != null
+                && Boolean.TRUE.equals(restriction.getIsActive())
+                && SPACE_FREEZING_TYPES.contains(restriction.getRestrictionType());
+    }
+
+    /**
+     * Whether any of the given active restrictions freezes the spaces of the account.
+     */
+    public static boolean freezesSpaces(Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> restrictions) {
+        for (RestrictionTypeEnum type : SPACE_FREEZING_TYPES) {
+            if (!restrictions.getOrDefault(type, List.of()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean inEffect(AccountRestrictionDTO restriction, LocalDateTime now) {
+        return (restriction.getStartDateTime() == null || !restriction.getStartDateTime().isAfter(now))
+                && (restriction.getEndDateTime() == null || restriction.getEndDateTime().isAfter(now));
+    }
+
+    private static DebitAuthorizationDTO refused(UUID accountId, AccountRestrictionDTO restriction, String reason) {
+        return DebitAuthorizationDTO.builder()
+                .accountId(accountId)
+                .allowed(false)
+                .reason(reason)
+                .restrictionType(restriction.getRestrictionType())
+                .accountRestrictionId(restriction.getAccountRestrictionId())
+                .build();
+    }
+
+    private static Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> without(Snapshot snapshot,
+                                                                               UUID accountRestrictionId) {
+        Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> byType = new EnumMap<>(RestrictionTypeEnum.class);
+        snapshot.restrictions().forEach((type, restrictions) -> {
+            List<AccountRestrictionDTO> remaining = new ArrayList<>(restrictions.size());
+            for (AccountRestrictionDTO restriction : restrictions) {
+                if (!accountRestrictionId.equals(restriction.getAccountRestrictionId())) {
+                    remaining.add(restriction);
+                }
+            }
+            if (!remaining.isEmpty()) {
+                byType.put(type, remaining);
+            }
+        });
+        return byType;
+    }
+
+    private static Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> freeze(
+            Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> byType) {
+        byType.replaceAll((type, restrictions) -> List.copyOf(restrictions));
+        return Collections.unmodifiableMap(byType);
+    }
+
+    private record Snapshot(Map<RestrictionTypeEnum, List<AccountRestrictionDTO>> restrictions,
+                            LocalDateTime loadedAt) {
+    }
+}
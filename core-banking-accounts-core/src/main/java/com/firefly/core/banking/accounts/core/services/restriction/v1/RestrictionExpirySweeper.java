@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.restriction.v1;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically deactivates restrictions whose end date has passed.
+ * Each run sweeps in bounded batches until a batch comes back short or the
+ * per-run batch limit is reached. Every batch is its own transaction holding
+ * the sweep advisory lock, so only one node sweeps at a time.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.restriction.expiry-sweep", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class RestrictionExpirySweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestrictionExpirySweeper.class);
+
+    @Autowired
+    private AccountRestrictionService accountRestrictionService;
+
+    @Value("${account.restriction.expiry-sweep.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${account.restriction.expiry-sweep.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Scheduled(fixedDelayString = "${account.restriction.expiry-sweep.interval-ms:60000}",
+            initialDelayString = "${account.restriction.expiry-sweep.initial-delay-ms:30000}")
+    public void sweep() {
+        try {
+            Integer expired = sweepOnce().block();
+            if (expired != null && expired > 0) {
+                logger.info("Deactivated {} expired account restrictions", expired);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Restriction expiry sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the batches of one sweep.
+     * @return Mono of the total number of restrictions deactivated
+     */
+    Mono<Integer> sweepOnce() {
+        return Mono.defer(() -> accountRestrictionService.expireRestrictions(batchSize))
+                .repeat(Math.max(maxBatchesPerRun - 1, 0))
+                .takeUntil(count -> count < batchSize)
+                .reduce(0, Integer::sum);
+    }
+}
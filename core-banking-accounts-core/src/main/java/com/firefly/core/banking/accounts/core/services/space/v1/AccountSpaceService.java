@@ -19,6 +19,7 @@ package com.firefly.core.banking.accounts.core.services.space.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.SpaceAnalyticsDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.space.v1.AccountSpaceTypeEnum;
@@ -28,6 +29,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -65,6 +67,14 @@ public interface AccountSpaceService {
      */
     Mono<AccountSpaceDTO> updateAccountSpace(UUID accountSpaceId, AccountSpaceDTO accountSpaceDTO);
 
+    /**
+     * Retrieves the account spaces for a list of account space IDs using one query per chunk of IDs.
+     *
+     * @param accountSpaceIds the unique identifiers of the account spaces to retrieve
+     * @return a Mono emitting the account spaces in request order along with the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<AccountSpaceDTO>> batchGetAccountSpaces(List<UUID> accountSpaceIds);
+
     /**
      * Deletes an account space based on the provided account space ID.
      *
@@ -172,6 +182,7 @@ public interface AccountSpaceService {
     /**
      * Freezes an account space, preventing any withdrawals or transfers from it.
      * This is useful for temporary restrictions without deleting the space.
+     * A space already frozen by its account stays frozen when the account is released.
      *
      * @param accountSpaceId the unique identifier of the account space to freeze
      * @return a Mono emitting the updated account space with frozen status
@@ -186,6 +197,25 @@ public interface AccountSpaceService {
      */
     Mono<AccountSpaceDTO> unfreezeAccountSpace(UUID accountSpaceId);
 
+    /**
+     * Freezes every space of the given accounts with one bulk update per chunk of accounts.
+     * The spaces are marked as frozen by their account; spaces already frozen on their own are left as they are.
+     *
+     * @param accountIds the unique identifiers of the accounts
+     * @return a Mono emitting the number of spaces that were frozen
+     */
+    Mono<Integer> freezeSpacesOfAccounts(List<UUID> accountIds);
+
+    /**
+     * Unfreezes the spaces of the given accounts that were frozen by their account, with one bulk update
+     * per chunk of accounts. Spaces frozen on their own, and accounts under an active ACCOUNT_FREEZE,
+     * LEGAL_ORDER or COURT_ORDER restriction, stay frozen.
+     *
+     * @param accountIds the unique identifiers of the accounts
+     * @return a Mono emitting the number of spaces that were unfrozen
+     */
+    Mono<Integer> unfreezeSpacesOfAccounts(List<UUID> accountIds);
+
     /**
      * Updates the balance of an account space directly.
      * This should be used for administrative adjustments only, not regular transactions.
@@ -22,6 +22,12 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.mappers.space.v1.AccountSpaceMapper;
 import com.firefly.core.banking.accounts.core.services.core.v1.AccountBalanceService;
+import com.firefly.core.banking.accounts.core.services.notification.v1.BalanceChangeEvent;
+import com.firefly.core.banking.accounts.core.services.notification.v1.NotificationRulesEngine;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.ActiveRestrictionIndex;
+import com.firefly.core.banking.accounts.core.utils.BatchGetUtils;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.SpaceAnalyticsDTO;
@@ -35,7 +41,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -45,6 +53,7 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -80,6 +89,15 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
     @Autowired
     private AccountBalanceService accountBalanceService;
 
+    @Autowired
+    private AccountRestrictionService accountRestrictionService;
+
+    @Autowired
+    private NotificationRulesEngine notificationRulesEngine;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
     public Mono<PaginationResponse<AccountSpaceDTO>> filterAccountSpaces(FilterRequest<AccountSpaceDTO> filterRequest) {
         return FilterUtils
@@ -135,8 +153,20 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
             accountSpaceDTO.setIsVisible(true);
         }
 
-        AccountSpace accountSpace = mapper.toEntity(accountSpaceDTO);
-        return repository.save(accountSpace)
+        // Spaces opened while the account is frozen start frozen. Read from the database under the
+        // account lock rather than the per-node restriction index, so a freeze committed on another
+        // node or racing with this insert is not missed
+        return repository.lockAccount(accountSpaceDTO.getAccountId())
+                .then(repository.isAccountFrozen(accountSpaceDTO.getAccountId()))
+                .flatMap(frozen -> {
+                    AccountSpace accountSpace = mapper.toEntity(accountSpaceDTO);
+                    accountSpace.setFrozenByAccount(frozen);
+                    if (frozen) {
+                        accountSpace.setIsFrozen(true);
+                        accountSpace.setFrozenDateTime(LocalDateTime.now());
+                    }
+                    return repository.save(accountSpace);
+                })
                 .map(mapper::toDTO);
     }
 
@@ -203,11 +233,23 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                     // Preserve the space type from the existing space
                     updatedSpace.setSpaceType(existingSpace.getSpaceType());
 
+                    // Preserve whether the space was frozen by its account
+                    updatedSpace.setFrozenByAccount(existingSpace.getFrozenByAccount());
+
                     return repository.save(updatedSpace);
                 })
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<AccountSpaceDTO>> batchGetAccountSpaces(List<UUID> accountSpaceIds) {
+        return BatchGetUtils.batchGet(
+                accountSpaceIds,
+                ids -> repository.findAllByAccountSpaceIdIn(ids).map(mapper::toDTO),
+                AccountSpaceDTO::getAccountSpaceId
+        );
+    }
+
     private static final String ERROR_SPACE_ID_REQUIRED = "Account space ID is required for deletion";
     private static final String ERROR_SPACE_NOT_FOUND_DELETE = "Account space not found for deletion with ID: %s";
     private static final String ERROR_NON_ZERO_BALANCE = "Cannot delete space with non-zero balance. Transfer funds first.";
@@ -263,7 +305,10 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
     private static final String ERROR_SPACE_NOT_FOUND_TRANSFER = "Account space not found for transfer with ID: %s";
     private static final String ERROR_SAME_SPACE = "Cannot transfer funds to the same space";
 
+    // Runs the transfer in its own transaction and publishes its balance changes once it is
+    // committed, so a rolled back transfer never notifies
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<Boolean> transferBetweenSpaces(UUID fromAccountSpaceId, UUID toAccountSpaceId, BigDecimal amount) {
         // Validate IDs
         if (fromAccountSpaceId == null || toAccountSpaceId == null) {
@@ -280,6 +325,13 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
             return Mono.error(new IllegalArgumentException(String.format(ERROR_NEGATIVE_AMOUNT, amount)));
         }
 
+        return transactionalOperator.transactional(transfer(fromAccountSpaceId, toAccountSpaceId, amount))
+                .doOnNext(events -> events.forEach(notificationRulesEngine::publish))
+                .thenReturn(true);
+    }
+
+    // Moves the funds and records both balances; emits the balance change events to publish after commit
+    private Mono<List<BalanceChangeEvent>> transfer(UUID fromAccountSpaceId, UUID toAccountSpaceId, BigDecimal amount) {
         // Check that spaces exist and belong to the same account
         Mono<AccountSpace> fromSpaceMono = repository.findById(fromAccountSpaceId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
@@ -306,6 +358,16 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                                     fromSpace.getBalance().toString(), amount.toString())));
                 }
 
+                return accountRestrictionService.canDebit(fromSpace.getAccountId(), amount,
+                                ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER)
+                        .flatMap(authorization -> authorization.getAllowed()
+                                ? Mono.just(tuple)
+                                : Mono.error(new IllegalStateException(authorization.getReason())));
+            })
+            .flatMap(tuple -> {
+                AccountSpace fromSpace = tuple.getT1();
+                AccountSpace toSpace = tuple.getT2();
+
                 // Update balances
                 BigDecimal fromSpaceNewBalance = fromSpace.getBalance().subtract(amount);
                 BigDecimal toSpaceNewBalance = toSpace.getBalance().add(amount);
@@ -340,7 +402,13 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                     repository.save(toSpace),
                     accountBalanceService.createBalance(accountId, fromSpaceBalanceDTO),
                     accountBalanceService.createBalance(accountId, toSpaceBalanceDTO)
-                ).thenReturn(true);
+                ).thenReturn(List.of(
+                        new BalanceChangeEvent(BalanceChangeEvent.Type.TRANSFER_OUT,
+                                accountId, fromAccountSpaceId, amount, fromSpaceNewBalance, fromSpace.getTargetAmount(),
+                                null, null, now),
+                        new BalanceChangeEvent(BalanceChangeEvent.Type.TRANSFER_IN,
+                                accountId, toAccountSpaceId, amount, toSpaceNewBalance, toSpace.getTargetAmount(),
+                                null, null, now)));
             });
     }
 
@@ -474,11 +542,13 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                 });
     }
 
+    // Each transfer commits on its own, so one failing transfer does not roll back the others
+    // and its failure is published after the rollback
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<Integer> executeAutomaticTransfers(UUID accountId) {
         // Find all spaces with automatic transfers enabled for this account
-        return repository.findByAccountId(accountId)
-                .filter(space -> Boolean.TRUE.equals(space.getEnableAutomaticTransfers()))
+        return repository.findByAccountIdAndEnableAutomaticTransfersTrue(accountId)
                 .flatMap(space -> {
                     // Skip if missing required configuration
                     if (space.getTransferFrequency() == null ||
@@ -502,6 +572,7 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                                     .onErrorResume(e -> {
                                         logger.error("Error executing automatic transfer from MAIN to {}: {}",
                                                 space.getAccountSpaceId(), e.getMessage());
+                                        publishTransferFailure(accountId, space, e);
                                         return Mono.just(0);
                                     })
                                 );
@@ -513,6 +584,7 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                                 .onErrorResume(e -> {
                                     logger.error("Error executing automatic transfer from {} to {}: {}",
                                             sourceSpaceId, space.getAccountSpaceId(), e.getMessage());
+                                    publishTransferFailure(accountId, space, e);
                                     return Mono.just(0);
                                 });
                     }
@@ -520,6 +592,12 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                 .reduce(0, Integer::sum);
     }
 
+    private void publishTransferFailure(UUID accountId, AccountSpace space, Throwable error) {
+        notificationRulesEngine.publish(new BalanceChangeEvent(BalanceChangeEvent.Type.AUTOMATIC_TRANSFER_FAILED,
+                accountId, space.getAccountSpaceId(), space.getTransferAmount(), null, space.getTargetAmount(),
+                null, error.getMessage(), LocalDateTime.now()));
+    }
+
     @Override
     public Mono<Map<UUID, BigDecimal>> simulateFutureBalances(UUID accountId, int months) {
         if (months <= 0) {
@@ -708,14 +786,17 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                 .switchIfEmpty(Mono.error(new IllegalArgumentException(
                         String.format(ERROR_SPACE_NOT_FOUND, accountSpaceId))))
                 .flatMap(space -> {
-                    // Check if space is already frozen
-                    if (Boolean.TRUE.equals(space.getIsFrozen())) {
+                    // Check if space is already frozen on its own
+                    if (Boolean.TRUE.equals(space.getIsFrozen()) && !Boolean.TRUE.equals(space.getFrozenByAccount())) {
                         return Mono.error(new IllegalStateException(ERROR_SPACE_ALREADY_FROZEN));
                     }
 
-                    // Set frozen status
-                    space.setIsFrozen(true);
-                    space.setFrozenDateTime(LocalDateTime.now());
+                    // Set frozen status; a space frozen by its account now stays frozen when the account is released
+                    if (!Boolean.TRUE.equals(space.getIsFrozen())) {
+                        space.setIsFrozen(true);
+                        space.setFrozenDateTime(LocalDateTime.now());
+                    }
+                    space.setFrozenByAccount(false);
 
                     return repository.save(space);
                 })
@@ -735,6 +816,7 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
 
                     // Unset frozen status
                     space.setIsFrozen(false);
+                    space.setFrozenByAccount(false);
                     space.setUnfrozenDateTime(LocalDateTime.now());
 
                     return repository.save(space);
@@ -742,6 +824,18 @@ public class AccountSpaceServiceImpl implements AccountSpaceService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<Integer> freezeSpacesOfAccounts(List<UUID> accountIds) {
+        return BatchGetUtils.batchUpdate(accountIds,
+                ids -> repository.freezeAllByAccountIdIn(ids, LocalDateTime.now()));
+    }
+
+    @Override
+    public Mono<Integer> unfreezeSpacesOfAccounts(List<UUID> accountIds) {
+        return BatchGetUtils.batchUpdate(accountIds,
+                ids -> repository.unfreezeAllByAccountIdIn(ids, LocalDateTime.now()));
+    }
+
     @Override
     public Mono<AccountSpaceDTO> updateAccountSpaceBalance(UUID accountSpaceId, BigDecimal newBalance, String reason) {
         // Validate inputs
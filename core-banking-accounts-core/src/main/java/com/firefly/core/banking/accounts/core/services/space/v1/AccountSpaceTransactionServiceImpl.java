@@ -21,6 +21,11 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.accounts.core.mappers.space.v1.SpaceTransactionMapper;
+import com.firefly.core.banking.accounts.core.services.notification.v1.BalanceChangeEvent;
+import com.firefly.core.banking.accounts.core.services.notification.v1.NotificationRulesEngine;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.ActiveRestrictionIndex;
+import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.SpaceTransactionDTO;
 import com.firefly.core.banking.accounts.models.entities.space.v1.SpaceTransaction;
 import com.firefly.core.banking.accounts.models.repositories.space.v1.SpaceTransactionRepository;
@@ -28,8 +33,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -52,8 +61,19 @@ public class AccountSpaceTransactionServiceImpl implements AccountSpaceTransacti
     
     @Autowired
     private AccountSpaceService accountSpaceService;
+
+    @Autowired
+    private AccountRestrictionService accountRestrictionService;
+
+    @Autowired
+    private NotificationRulesEngine notificationRulesEngine;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
     
+    // Records the transaction in its own transaction and publishes the balance change once it is committed
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<SpaceTransactionDTO> recordTransaction(UUID accountSpaceId, BigDecimal amount, String description, String referenceId) {
         if (accountSpaceId == null) {
             return Mono.error(new IllegalArgumentException("Account space ID is required"));
@@ -66,8 +86,9 @@ public class AccountSpaceTransactionServiceImpl implements AccountSpaceTransacti
         String transactionType = amount.compareTo(BigDecimal.ZERO) > 0 ? "DEPOSIT" : "WITHDRAWAL";
         
         // Get the account space to update its balance and record the transaction
-        return accountSpaceService.getAccountSpace(accountSpaceId)
+        Mono<Tuple2<SpaceTransaction, BalanceChangeEvent>> recorded = accountSpaceService.getAccountSpace(accountSpaceId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Account space not found with ID: " + accountSpaceId)))
+                .flatMap(spaceDTO -> authorizeDebit(spaceDTO, amount))
                 .flatMap(spaceDTO -> {
                     // Calculate new balance
                     BigDecimal currentBalance = spaceDTO.getBalance();
@@ -96,10 +117,30 @@ public class AccountSpaceTransactionServiceImpl implements AccountSpaceTransacti
                                 accountSpaceService.updateAccountSpace(accountSpaceId, spaceDTO)
                                     .thenReturn(savedTransaction)
                             )
-                            .map(mapper::toDTO);
+                            .map(savedTransaction -> Tuples.of(savedTransaction, new BalanceChangeEvent(
+                                    amount.signum() > 0 ? BalanceChangeEvent.Type.DEPOSIT : BalanceChangeEvent.Type.WITHDRAWAL,
+                                    spaceDTO.getAccountId(), accountSpaceId, amount.abs(), newBalance,
+                                    spaceDTO.getTargetAmount(), String.valueOf(savedTransaction.getSpaceTransactionId()),
+                                    description, savedTransaction.getTransactionDateTime())));
                 });
+
+        return transactionalOperator.transactional(recorded)
+                .doOnNext(result -> notificationRulesEngine.publish(result.getT2()))
+                .map(result -> mapper.toDTO(result.getT1()));
     }
     
+    private Mono<AccountSpaceDTO> authorizeDebit(AccountSpaceDTO spaceDTO, BigDecimal amount) {
+        // Deposits are not subject to debit restrictions
+        if (amount.signum() >= 0) {
+            return Mono.just(spaceDTO);
+        }
+        return accountRestrictionService.canDebit(spaceDTO.getAccountId(), amount.negate(),
+                        ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION)
+                .flatMap(authorization -> authorization.getAllowed()
+                        ? Mono.just(spaceDTO)
+                        : Mono.error(new IllegalStateException(authorization.getReason())));
+    }
+
     @Override
     public Mono<PaginationResponse<SpaceTransactionDTO>> getTransactions(UUID accountSpaceId, PaginationRequest paginationRequest) {
         if (accountSpaceId == null) {
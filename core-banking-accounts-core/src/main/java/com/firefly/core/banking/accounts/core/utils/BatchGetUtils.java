@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.utils;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Helpers for multi-get lookups and bulk updates by ID.
+ * IDs are de-duplicated, queried in chunks of bounded size (one query per chunk)
+ * and the results re-assembled in request order.
+ */
+public final class BatchGetUtils {
+
+    public static final int MAX_IDS_PER_REQUEST = 10_000;
+    public static final int CHUNK_SIZE = 500;
+
+    private static final String ERROR_IDS_REQUIRED = "At least one ID is required";
+    private static final String ERROR_TOO_MANY_IDS = "Cannot request more than " + MAX_IDS_PER_REQUEST + " IDs at once";
+
+    private BatchGetUtils() {
+    }
+
+    /**
+     * Runs a multi-get lookup.
+     *
+     * @param ids the requested IDs, possibly containing duplicates
+     * @param chunkQuery executes a single query for a chunk of distinct IDs
+     * @param idExtractor extracts the ID from a returned item
+     * @param <T> the type of the returned items
+     * @return a Mono emitting the items in request order together with the missing IDs
+     */
+    public static <T> Mono<BatchGetResponseDTO<T>> batchGet(List<UUID> ids,
+                                                            Function<UUID[], Flux<T>> chunkQuery,
+                                                            Function<T, UUID> idExtractor) {
+        return distinctIds(ids)
+                .flatMap(distinctIds -> Flux.fromIterable(chunk(distinctIds, CHUNK_SIZE))
+                        .concatMap(chunk -> chunkQuery.apply(chunk.toArray(new UUID[0])))
+                        .collectMap(idExtractor)
+                        .map(found -> toOrderedResponse(distinctIds, found)));
+    }
+
+    /**
+     * Runs a set-based update over a list of IDs, one statement per chunk.
+     *
+     * @param ids the IDs to update, possibly containing duplicates
+     * @param chunkUpdate executes a single update for a chunk of distinct IDs and emits the updated row count
+     * @return a Mono emitting the total number of updated rows
+     */
+    public static Mono<Integer> batchUpdate(List<UUID> ids, Function<UUID[], Mono<Integer>> chunkUpdate) {
+        return distinctIds(ids)
+                .flatMap(distinctIds -> Flux.fromIterable(chunk(distinctIds, CHUNK_SIZE))
+                        .concatMap(chunk -> chunkUpdate.apply(chunk.toArray(new UUID[0])))
+                        .reduce(0, Integer::sum));
+    }
+
+    /**
+     * Splits a list of IDs into consecutive chunks of at most {@code size} elements.
+     */
+    public static List<List<UUID>> chunk(List<UUID> ids, int size) {
+        List<List<UUID>> chunks = new ArrayList<>((ids.size() + size - 1) / size);
+        for (int i = 0; i < ids.size(); i += size) {
+            chunks.add(ids.subList(i, Math.min(i + size, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static Mono<List<UUID>> distinctIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_IDS_REQUIRED));
+        }
+
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(ERROR_IDS_REQUIRED));
+        }
+        if (distinctIds.size() > MAX_IDS_PER_REQUEST) {
+            return Mono.error(new IllegalArgumentException(ERROR_TOO_MANY_IDS));
+        }
+        return Mono.just(distinctIds);
+    }
+
+    private static <T> BatchGetResponseDTO<T> toOrderedResponse(List<UUID> orderedIds, Map<UUID, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : orderedIds) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchGetResponseDTO.<T>builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Exact amount of a token, held as an integer number of base units (satoshis, wei, ...)
+ * and the number of decimals of the token.
+ * <p>
+ * Amounts that fit in a {@code long} are computed on the {@code long} without allocating
+ * anything but the result; an operation that overflows falls back to {@link BigInteger},
+ * and results that fit again go back to the {@code long}. Adding or comparing amounts
+ * with different decimals aligns them to the larger number of decimals, which is exact.
+ * <p>
+ * Immutable. {@link #equals} compares the value and the decimals, like {@link BigDecimal};
+ * {@link #compareTo} compares the value only.
+ */
+public final class TokenAmount implements Comparable<TokenAmount> {
+
+    public static final int MAX_DECIMALS = 36;
+
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+
+    /**
+     * Base units when {@link #big} is null.
+     */
+    private final long units;
+
+    /**
+     * Base units when they do not fit in a long, otherwise null.
+     */
+    private final BigInteger big;
+
+    private final int decimals;
+
+    private TokenAmount(long units, BigInteger big, int decimals) {
+        this.units = units;
+        this.big = big;
+        this.decimals = decimals;
+    }
+
+    public static TokenAmount ofBaseUnits(long units, int decimals) {
+        return new TokenAmount(units, null, checkDecimals(decimals));
+    }
+
+    public static TokenAmount ofBaseUnits(BigInteger units, int decimals) {
+        return normalize(units, checkDecimals(decimals));
+    }
+
+    /**
+     * Creates an amount from integral base units, as read from a NUMERIC(78, 0) column.
+     * @throws ArithmeticException if the base units have a fractional part
+     */
+    public static TokenAmount ofBaseUnits(BigDecimal units, int decimals) {
+        checkDecimals(decimals);
+        if (units.scale() <= 0 && units.precision() - units.scale() <= 18) {
+            return new TokenAmount(units.longValue(), null, decimals);
+        }
+        return normalize(units.toBigIntegerExact(), decimals);
+    }
+
+    /**
+     * Creates an amount from a value in whole tokens.
+     * @throws ArithmeticException if the value is finer than the decimals of the token
+     */
+    public static TokenAmount of(BigDecimal amount, int decimals) {
+        return ofBaseUnits(amount.setScale(checkDecimals(decimals), RoundingMode.UNNECESSARY).unscaledValue(), decimals);
+    }
+
+    /**
+     * Creates an amount from a value in whole tokens, using its scale as the decimals.
+     */
+    public static TokenAmount of(BigDecimal amount) {
+        return of(amount, Math.max(amount.scale(), 0));
+    }
+
+    public static TokenAmount zero(int decimals) {
+        return ofBaseUnits(0L, decimals);
+    }
+
+    public int decimals() {
+        return decimals;
+    }
+
+    public boolean fitsInLong() {
+        return big == null;
+    }
+
+    /**
+     * @throws ArithmeticException if the base units do not fit in a long
+     */
+    public long longValueExact() {
+        if (big != null) {
+            throw new ArithmeticException("Token amount does not fit in a long");
+        }
+        return units;
+    }
+
+    public BigInteger toBigInteger() {
+        return big != null ? big : BigInteger.valueOf(units);
+    }
+
+    /**
+     * The value in whole tokens, with the decimals of the token as scale.
+     */
+    public BigDecimal toBigDecimal() {
+        return big != null ? new BigDecimal(big, decimals) : BigDecimal.valueOf(units, decimals);
+    }
+
+    /**
+     * The value in whole tokens, rounded to the given scale.
+     */
+    public BigDecimal toBigDecimal(int scale, RoundingMode roundingMode) {
+        return toBigDecimal().setScale(scale, roundingMode);
+    }
+
+    /**
+     * The value of this amount at a unit price, exact.
+     */
+    public BigDecimal multiply(BigDecimal price) {
+        return toBigDecimal().multiply(price);
+    }
+
+    public int signum() {
+        return big != null ? big.signum() : Long.signum(units);
+    }
+
+    public boolean isZero() {
+        return big == null && units == 0L;
+    }
+
+    public TokenAmount add(TokenAmount other) {
+        if (decimals < other.decimals) {
+            return withDecimals(other.decimals).add(other);
+        }
+        if (other.decimals < decimals) {
+            return add(other.withDecimals(decimals));
+        }
+        if (big == null && other.big == null) {
+            long sum = units + other.units;
+            // Overflow only when both operands have the same sign and the sum has the other one
+            if (((units ^ sum) & (other.units ^ sum)) >= 0) {
+                return new TokenAmount(sum, null, decimals);
+            }
+        }
+        return normalize(toBigInteger().add(other.toBigInteger()), decimals);
+    }
+
+    public TokenAmount subtract(TokenAmount other) {
+        return add(other.negate());
+    }
+
+    public TokenAmount negate() {
+        if (big == null && units != Long.MIN_VALUE) {
+            return new TokenAmount(-units, null, decimals);
+        }
+        return normalize(toBigInteger().negate(), decimals);
+    }
+
+    /**
+     * The same value with other decimals.
+     * @throws ArithmeticException if fewer decimals cannot represent the value exactly
+     */
+    public TokenAmount withDecimals(int newDecimals) {
+        checkDecimals(newDecimals);
+        if (newDecimals == decimals) {
+            return this;
+        }
+        if (newDecimals < decimals) {
+            BigInteger[] quotientAndRemainder = toBigInteger().divideAndRemainder(BigInteger.TEN.pow(decimals - newDecimals));
+            if (quotientAndRemainder[1].signum() != 0) {
+                throw new ArithmeticException("Rounding necessary to reduce the decimals of a token amount");
+            }
+            return normalize(quotientAndRemainder[0], newDecimals);
+        }
+        int shift = newDecimals - decimals;
+        if (big == null && shift < LONG_TEN_POWERS.length) {
+            long factor = LONG_TEN_POWERS[shift];
+            long high = Math.multiplyHigh(units, factor);
+            long low = units * factor;
+            // The product fits when its high half is only the sign extension of the low half
+            if ((high == 0L && low >= 0L) || (high == -1L && low < 0L)) {
+                return new TokenAmount(low, null, newDecimals);
+            }
+        }
+        return normalize(toBigInteger().multiply(BigInteger.TEN.pow(shift)), newDecimals);
+    }
+
+    @Override
+    public int compareTo(TokenAmount other) {
+        if (decimals != other.decimals) {
+            int common = Math.max(decimals, other.decimals);
+            return withDecimals(common).compareTo(other.withDecimals(common));
+        }
+        if (big == null && other.big == null) {
+            return Long.compare(units, other.units);
+        }
+        return toBigInteger().compareTo(other.toBigInteger());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TokenAmount other)) {
+            return false;
+        }
+        return decimals == other.decimals && units == other.units
+                && (big == null ? other.big == null : big.equals(other.big));
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = big != null ? big.hashCode() : Long.hashCode(units);
+        return 31 * hash + decimals;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static TokenAmount normalize(BigInteger units, int decimals) {
+        if (units.bitLength() < Long.SIZE) {
+            return new TokenAmount(units.longValue(), null, decimals);
+        }
+        return new TokenAmount(0L, units, decimals);
+    }
+
+    private static int checkDecimals(int decimals) {
+        if (decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException("Token decimals must be between 0 and " + MAX_DECIMALS);
+        }
+        return decimals;
+    }
+}
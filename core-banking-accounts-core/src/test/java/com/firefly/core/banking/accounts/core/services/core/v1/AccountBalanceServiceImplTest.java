@@ -21,10 +21,13 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.accounts.core.mappers.core.v1.AccountBalanceMapper;
+import com.firefly.core.banking.accounts.core.mappers.core.v1.CurrentAccountBalanceMapper;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.core.v1.AccountBalance;
+import com.firefly.core.banking.accounts.models.entities.core.v1.CurrentAccountBalance;
 import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountBalanceRepository;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.CurrentAccountBalanceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,14 +35,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -54,6 +61,12 @@ class AccountBalanceServiceImplTest {
     @Mock
     private AccountBalanceMapper mapper;
 
+    @Mock
+    private CurrentAccountBalanceRepository currentBalanceRepository;
+
+    @Mock
+    private CurrentAccountBalanceMapper currentBalanceMapper;
+
     @InjectMocks
     private AccountBalanceServiceImpl accountBalanceService;
 
@@ -80,6 +93,9 @@ class AccountBalanceServiceImplTest {
                 .balanceAmount(new BigDecimal("1000.0000"))
                 .asOfDatetime(LocalDateTime.now())
                 .build();
+
+        lenient().when(currentBalanceRepository.upsert(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(1));
     }
 
     @Test
@@ -142,7 +158,7 @@ class AccountBalanceServiceImplTest {
         stakedBalance.setBalanceAmount(new BigDecimal("0.5"));
         stakedBalance.setAsOfDatetime(LocalDateTime.now());
         stakedBalance.setAssetSymbol("ETH");
-        stakedBalance.setAssetDecimals("18");
+        stakedBalance.setAssetDecimals(18);
         stakedBalance.setTransactionHash("0x742d35Cc6634C0532925a3b844Bc454e4438f44e123456789abcdef0123456789");
         stakedBalance.setConfirmations(12);
         
@@ -153,7 +169,7 @@ class AccountBalanceServiceImplTest {
                 .balanceAmount(new BigDecimal("0.5"))
                 .asOfDatetime(LocalDateTime.now())
                 .assetSymbol("ETH")
-                .assetDecimals("18")
+                .assetDecimals(18)
                 .transactionHash("0x742d35Cc6634C0532925a3b844Bc454e4438f44e123456789abcdef0123456789")
                 .confirmations(12)
                 .build();
@@ -182,7 +198,7 @@ class AccountBalanceServiceImplTest {
         lockedBalance.setBalanceAmount(new BigDecimal("100"));
         lockedBalance.setAsOfDatetime(LocalDateTime.now());
         lockedBalance.setAssetSymbol("USDC");
-        lockedBalance.setAssetDecimals("6");
+        lockedBalance.setAssetDecimals(6);
         lockedBalance.setTransactionHash("0x842d35Cc6634C0532925a3b844Bc454e4438f44e123456789abcdef0123456789");
         lockedBalance.setConfirmations(15);
 
@@ -193,7 +209,7 @@ class AccountBalanceServiceImplTest {
                 .balanceAmount(new BigDecimal("100"))
                 .asOfDatetime(LocalDateTime.now())
                 .assetSymbol("USDC")
-                .assetDecimals("6")
+                .assetDecimals(6)
                 .transactionHash("0x842d35Cc6634C0532925a3b844Bc454e4438f44e123456789abcdef0123456789")
                 .confirmations(15)
                 .build();
@@ -222,7 +238,7 @@ class AccountBalanceServiceImplTest {
         pendingBalance.setBalanceAmount(new BigDecimal("0.01"));
         pendingBalance.setAsOfDatetime(LocalDateTime.now());
         pendingBalance.setAssetSymbol("BTC");
-        pendingBalance.setAssetDecimals("8");
+        pendingBalance.setAssetDecimals(8);
         pendingBalance.setTransactionHash("3a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9t0u");
         pendingBalance.setConfirmations(2);
         
@@ -233,7 +249,7 @@ class AccountBalanceServiceImplTest {
                 .balanceAmount(new BigDecimal("0.01"))
                 .asOfDatetime(LocalDateTime.now())
                 .assetSymbol("BTC")
-                .assetDecimals("8")
+                .assetDecimals(8)
                 .transactionHash("3a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9t0u")
                 .confirmations(2)
                 .build();
@@ -351,6 +367,10 @@ class AccountBalanceServiceImplTest {
         // Arrange
         when(repository.findById(TEST_BALANCE_ID)).thenReturn(Mono.just(testAccountBalance));
         when(repository.delete(testAccountBalance)).thenReturn(Mono.empty());
+        when(currentBalanceRepository.deleteByKeyAndAccountBalanceId(
+                TEST_ACCOUNT_ID, null, BalanceTypeEnum.CURRENT, null, TEST_BALANCE_ID)).thenReturn(Mono.just(1));
+        when(currentBalanceRepository.insertLatestFromHistory(
+                TEST_ACCOUNT_ID, null, BalanceTypeEnum.CURRENT, null)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(accountBalanceService.deleteBalance(TEST_ACCOUNT_ID, TEST_BALANCE_ID))
@@ -358,6 +378,22 @@ class AccountBalanceServiceImplTest {
 
         verify(repository).findById(TEST_BALANCE_ID);
         verify(repository).delete(testAccountBalance);
+        verify(currentBalanceRepository).insertLatestFromHistory(TEST_ACCOUNT_ID, null, BalanceTypeEnum.CURRENT, null);
+    }
+
+    @Test
+    void deleteBalance_ShouldKeepCurrentBalance_WhenTakenFromAnotherRecord() {
+        // Arrange
+        when(repository.findById(TEST_BALANCE_ID)).thenReturn(Mono.just(testAccountBalance));
+        when(repository.delete(testAccountBalance)).thenReturn(Mono.empty());
+        when(currentBalanceRepository.deleteByKeyAndAccountBalanceId(
+                TEST_ACCOUNT_ID, null, BalanceTypeEnum.CURRENT, null, TEST_BALANCE_ID)).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.deleteBalance(TEST_ACCOUNT_ID, TEST_BALANCE_ID))
+                .verifyComplete();
+
+        verify(currentBalanceRepository, never()).insertLatestFromHistory(any(), any(), any(), any());
     }
 
     @Test
@@ -389,4 +425,162 @@ class AccountBalanceServiceImplTest {
         verify(repository).findById(TEST_BALANCE_ID);
         verifyNoMoreInteractions(repository);
     }
+
+    @Test
+    void createBalance_ShouldUpsertCurrentBalance() {
+        // Arrange
+        when(mapper.toEntity(any(AccountBalanceDTO.class))).thenReturn(testAccountBalance);
+        when(repository.save(any(AccountBalance.class))).thenReturn(Mono.just(testAccountBalance));
+        when(mapper.toDTO(any(AccountBalance.class))).thenReturn(testAccountBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.createBalance(TEST_ACCOUNT_ID, testAccountBalanceDTO))
+                .expectNext(testAccountBalanceDTO)
+                .verifyComplete();
+
+        verify(currentBalanceRepository).upsert(
+                TEST_ACCOUNT_ID,
+                null,
+                BalanceTypeEnum.CURRENT,
+                testAccountBalance.getBalanceAmount(),
+                null,
+                testAccountBalance.getAsOfDatetime(),
+                null,
+                null,
+                TEST_BALANCE_ID);
+    }
+
+    @Test
+    void createBalance_ShouldDeriveBaseUnitsFromCryptoAmount() {
+        // Arrange
+        AccountBalanceDTO balanceDTO = AccountBalanceDTO.builder()
+                .accountId(TEST_ACCOUNT_ID)
+                .balanceType(BalanceTypeEnum.CURRENT)
+                .balanceAmount(new BigDecimal("0.25"))
+                .asOfDatetime(LocalDateTime.now())
+                .assetSymbol("BTC")
+                .assetDecimals(8)
+                .build();
+        when(mapper.toEntity(any(AccountBalanceDTO.class))).thenReturn(testAccountBalance);
+        when(repository.save(any(AccountBalance.class))).thenReturn(Mono.just(testAccountBalance));
+        when(mapper.toDTO(any(AccountBalance.class))).thenReturn(testAccountBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.createBalance(TEST_ACCOUNT_ID, balanceDTO))
+                .expectNext(testAccountBalanceDTO)
+                .verifyComplete();
+
+        assertEquals(BigInteger.valueOf(25_000_000L), balanceDTO.getBalanceBaseUnits());
+        assertEquals(new BigDecimal("0.2500"), balanceDTO.getBalanceAmount());
+    }
+
+    @Test
+    void createBalance_ShouldKeepBaseUnits_WhenAmountIsTheirRoundedValue() {
+        // Arrange
+        AccountBalanceDTO balanceDTO = AccountBalanceDTO.builder()
+                .accountId(TEST_ACCOUNT_ID)
+                .balanceType(BalanceTypeEnum.CURRENT)
+                .balanceAmount(new BigDecimal("99999.9999"))
+                .balanceBaseUnits(new BigInteger("99999999999999999999999"))
+                .asOfDatetime(LocalDateTime.now())
+                .assetSymbol("ETH")
+                .assetDecimals(18)
+                .build();
+        when(mapper.toEntity(any(AccountBalanceDTO.class))).thenReturn(testAccountBalance);
+        when(repository.save(any(AccountBalance.class))).thenReturn(Mono.just(testAccountBalance));
+        when(mapper.toDTO(any(AccountBalance.class))).thenReturn(testAccountBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.createBalance(TEST_ACCOUNT_ID, balanceDTO))
+                .expectNext(testAccountBalanceDTO)
+                .verifyComplete();
+
+        assertEquals(new BigInteger("99999999999999999999999"), balanceDTO.getBalanceBaseUnits());
+        assertEquals(new BigDecimal("99999.9999"), balanceDTO.getBalanceAmount());
+    }
+
+    @Test
+    void createBalance_ShouldReturnError_WhenAmountDisagreesWithBaseUnits() {
+        // Arrange
+        AccountBalanceDTO balanceDTO = AccountBalanceDTO.builder()
+                .accountId(TEST_ACCOUNT_ID)
+                .balanceType(BalanceTypeEnum.CURRENT)
+                .balanceAmount(new BigDecimal("1"))
+                .balanceBaseUnits(new BigInteger("99999999999999999999999"))
+                .asOfDatetime(LocalDateTime.now())
+                .assetSymbol("ETH")
+                .assetDecimals(18)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.createBalance(TEST_ACCOUNT_ID, balanceDTO))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && e.getMessage().equals("Balance amount does not match the balance base units"))
+                .verify();
+
+        verifyNoInteractions(repository, currentBalanceRepository);
+    }
+
+    @Test
+    void createBalance_ShouldReturnError_WhenAmountIsFinerThanAssetDecimals() {
+        // Arrange
+        AccountBalanceDTO balanceDTO = AccountBalanceDTO.builder()
+                .accountId(TEST_ACCOUNT_ID)
+                .balanceType(BalanceTypeEnum.CURRENT)
+                .balanceAmount(new BigDecimal("1.0000001"))
+                .asOfDatetime(LocalDateTime.now())
+                .assetSymbol("USDC")
+                .assetDecimals(6)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.createBalance(TEST_ACCOUNT_ID, balanceDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository, mapper);
+    }
+
+    @Test
+    void getCurrentBalances_ShouldReadMaterializedTable() {
+        // Arrange
+        CurrentAccountBalance currentBalance = new CurrentAccountBalance();
+        currentBalance.setAccountId(TEST_ACCOUNT_ID);
+        currentBalance.setBalanceType(BalanceTypeEnum.CURRENT);
+        when(currentBalanceRepository.findByAccountId(TEST_ACCOUNT_ID)).thenReturn(Flux.just(currentBalance));
+        when(currentBalanceMapper.toDTO(currentBalance)).thenReturn(testAccountBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.getCurrentBalances(TEST_ACCOUNT_ID))
+                .expectNext(testAccountBalanceDTO)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getCurrentBalancesForAccounts_ShouldGroupByAccountAndIncludeAccountsWithoutBalances() {
+        // Arrange
+        UUID otherAccountId = UUID.fromString("550e8400-e29b-41d4-a716-446655440031");
+        CurrentAccountBalance currentBalance = new CurrentAccountBalance();
+        currentBalance.setAccountId(TEST_ACCOUNT_ID);
+        when(currentBalanceRepository.findByAccountIdIn(any(UUID[].class))).thenReturn(Flux.just(currentBalance));
+        when(currentBalanceMapper.toDTO(currentBalance)).thenReturn(testAccountBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountBalanceService.getCurrentBalancesForAccounts(List.of(otherAccountId, TEST_ACCOUNT_ID)))
+                .assertNext(balances -> {
+                    assertEquals(List.of(otherAccountId, TEST_ACCOUNT_ID), List.copyOf(balances.keySet()));
+                    assertEquals(List.of(), balances.get(otherAccountId));
+                    assertEquals(List.of(testAccountBalanceDTO), balances.get(TEST_ACCOUNT_ID));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getCurrentBalancesForAccounts_ShouldReturnError_WhenNoAccountIdsGiven() {
+        StepVerifier.create(accountBalanceService.getCurrentBalancesForAccounts(List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.core.v1;
+
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
+import com.firefly.core.banking.accounts.core.services.space.v1.AccountSpaceService;
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountOverviewServiceImplTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private AccountSpaceService accountSpaceService;
+
+    @Mock
+    private AccountRestrictionService accountRestrictionService;
+
+    @Mock
+    private AccountBalanceService accountBalanceService;
+
+    @Mock
+    private AccountNotificationService accountNotificationService;
+
+    @InjectMocks
+    private AccountOverviewServiceImpl service;
+
+    private static final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440030");
+
+    private AccountDTO accountDTO;
+    private AccountSpaceDTO spaceDTO;
+    private AccountRestrictionDTO restrictionDTO;
+    private AccountBalanceDTO balanceDTO;
+    private AccountNotificationDTO notificationDTO;
+
+    @BeforeEach
+    void setUp() {
+        accountDTO = AccountDTO.builder().accountId(ACCOUNT_ID).accountNumber("OVERVIEW-001").build();
+        spaceDTO = AccountSpaceDTO.builder().accountId(ACCOUNT_ID).spaceName("Main Account").build();
+        restrictionDTO = new AccountRestrictionDTO();
+        restrictionDTO.setAccountId(ACCOUNT_ID);
+        balanceDTO = AccountBalanceDTO.builder().accountId(ACCOUNT_ID).build();
+        notificationDTO = new AccountNotificationDTO();
+        notificationDTO.setAccountId(ACCOUNT_ID);
+    }
+
+    @Test
+    void getAccountOverview_ShouldComposeAllSections() {
+        // Arrange
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(Mono.just(accountDTO));
+        when(accountSpaceService.getAccountSpacesByAccountId(ACCOUNT_ID)).thenReturn(Flux.just(spaceDTO));
+        when(accountRestrictionService.getActiveAccountRestrictionsByAccountId(ACCOUNT_ID)).thenReturn(Flux.just(restrictionDTO));
+        when(accountBalanceService.getCurrentBalances(ACCOUNT_ID)).thenReturn(Flux.just(balanceDTO));
+        when(accountNotificationService.getUnreadAccountNotifications(ACCOUNT_ID)).thenReturn(Flux.just(notificationDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountOverview(ACCOUNT_ID))
+                .assertNext(overview -> {
+                    assertEquals(accountDTO, overview.getAccount());
+                    assertEquals(List.of(spaceDTO), overview.getSpaces());
+                    assertEquals(List.of(restrictionDTO), overview.getActiveRestrictions());
+                    assertEquals(List.of(balanceDTO), overview.getCurrentBalances());
+                    assertEquals(List.of(notificationDTO), overview.getUnreadNotifications());
+                    assertNull(overview.getUnavailableSections());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAccountOverview_ShouldReportFailedAndTimedOutSectionsAsUnavailable() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "notificationsTimeoutMs", 50L);
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(Mono.just(accountDTO));
+        when(accountSpaceService.getAccountSpacesByAccountId(ACCOUNT_ID)).thenReturn(Flux.just(spaceDTO));
+        when(accountRestrictionService.getActiveAccountRestrictionsByAccountId(ACCOUNT_ID))
+                .thenReturn(Flux.error(new RuntimeException("database unavailable")));
+        when(accountBalanceService.getCurrentBalances(ACCOUNT_ID)).thenReturn(Flux.just(balanceDTO));
+        when(accountNotificationService.getUnreadAccountNotifications(ACCOUNT_ID)).thenReturn(Flux.never());
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountOverview(ACCOUNT_ID))
+                .assertNext(overview -> {
+                    assertEquals(accountDTO, overview.getAccount());
+                    assertEquals(List.of(spaceDTO), overview.getSpaces());
+                    assertNull(overview.getActiveRestrictions());
+                    assertNull(overview.getUnreadNotifications());
+                    assertEquals(List.of(AccountOverviewServiceImpl.SECTION_ACTIVE_RESTRICTIONS,
+                            AccountOverviewServiceImpl.SECTION_UNREAD_NOTIFICATIONS), overview.getUnavailableSections());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAccountOverview_ShouldReturnEmpty_WhenAccountDoesNotExist() {
+        // Arrange
+        when(accountService.getAccount(ACCOUNT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountOverview(ACCOUNT_ID))
+                .verifyComplete();
+    }
+}
@@ -31,13 +31,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -55,6 +64,12 @@ class AccountServiceImplTest {
     @Mock
     private AccountSpaceService accountSpaceService;
 
+    @Spy
+    private AccountNumberCache accountNumberCache = new AccountNumberCache();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -160,6 +175,7 @@ class AccountServiceImplTest {
        // when(accountMapper.updateEntityFromDto(testAccountDTO, testAccount)).thenReturn(testAccount);
         when(accountRepository.save(testAccount)).thenReturn(Mono.just(testAccount));
         when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(accountService.updateAccount(TEST_ACCOUNT_ID, testAccountDTO))
@@ -176,6 +192,7 @@ class AccountServiceImplTest {
     void updateAccount_ShouldReturnEmptyMono_WhenAccountDoesNotExist() {
         // Arrange
         when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(accountService.updateAccount(TEST_ACCOUNT_ID, testAccountDTO))
@@ -190,6 +207,7 @@ class AccountServiceImplTest {
         // Arrange
         when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.just(testAccount));
         when(accountRepository.delete(testAccount)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(accountService.deleteAccount(TEST_ACCOUNT_ID))
@@ -203,6 +221,7 @@ class AccountServiceImplTest {
     void deleteAccount_ShouldReturnEmptyMono_WhenAccountDoesNotExist() {
         // Arrange
         when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(accountService.deleteAccount(TEST_ACCOUNT_ID))
@@ -337,4 +356,200 @@ class AccountServiceImplTest {
         
         verify(accountMapper).toDTO(tokenizedAsset);
     }
+
+    @Test
+    void getAccountByNumber_ShouldQueryByNumberAndCacheId_OnCacheMiss() {
+        // Arrange
+        when(accountRepository.findByAccountNumber("TEST-ACCOUNT-001")).thenReturn(Mono.just(testAccount));
+        when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.getAccountByNumber("TEST-ACCOUNT-001"))
+                .expectNext(testAccountDTO)
+                .verifyComplete();
+
+        assertEquals(TEST_ACCOUNT_ID, accountNumberCache.get("TEST-ACCOUNT-001").orElseThrow());
+        verify(accountRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void getAccountByNumber_ShouldReadCurrentAccountByPrimaryKey_OnCacheHit() {
+        // Arrange
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+        testAccount.setAccountStatus(AccountStatusEnum.CLOSED);
+        AccountDTO closedAccountDTO = AccountDTO.builder()
+                .accountId(TEST_ACCOUNT_ID)
+                .accountNumber("TEST-ACCOUNT-001")
+                .accountStatus(AccountStatusEnum.CLOSED)
+                .build();
+        when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.just(testAccount));
+        when(accountMapper.toDTO(testAccount)).thenReturn(closedAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.getAccountByNumber("TEST-ACCOUNT-001"))
+                .expectNext(closedAccountDTO)
+                .verifyComplete();
+
+        verify(accountRepository, never()).findByAccountNumber(any(String.class));
+    }
+
+    @Test
+    void getAccountByNumber_ShouldEvictAndQueryByNumber_WhenCachedIdIsStale() {
+        // Arrange
+        UUID staleAccountId = UUID.randomUUID();
+        accountNumberCache.put("TEST-ACCOUNT-001", staleAccountId);
+        when(accountRepository.findById(staleAccountId)).thenReturn(Mono.empty());
+        when(accountRepository.findByAccountNumber("TEST-ACCOUNT-001")).thenReturn(Mono.just(testAccount));
+        when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.getAccountByNumber("TEST-ACCOUNT-001"))
+                .expectNext(testAccountDTO)
+                .verifyComplete();
+
+        assertEquals(TEST_ACCOUNT_ID, accountNumberCache.get("TEST-ACCOUNT-001").orElseThrow());
+    }
+
+    @Test
+    void resolveAccountId_ShouldServeCachedIdWithoutQuery_OnCacheHit() {
+        // Arrange
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+
+        // Act & Assert
+        StepVerifier.create(accountService.resolveAccountId("TEST-ACCOUNT-001"))
+                .expectNext(TEST_ACCOUNT_ID)
+                .verifyComplete();
+
+        verifyNoInteractions(accountRepository, accountMapper);
+    }
+
+    @Test
+    void getAccountByNumber_ShouldQueryAgain_WhenCachedIdHasExpired() {
+        // Arrange
+        ReflectionTestUtils.setField(accountNumberCache, "ttlSeconds", -1L);
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+        when(accountRepository.findByAccountNumber("TEST-ACCOUNT-001")).thenReturn(Mono.just(testAccount));
+        when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.getAccountByNumber("TEST-ACCOUNT-001"))
+                .expectNext(testAccountDTO)
+                .verifyComplete();
+
+        verify(accountRepository).findByAccountNumber("TEST-ACCOUNT-001");
+        verify(accountRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void accountNumberCache_ShouldEvictLeastRecentlyUsedAccount_WhenFull() {
+        // Arrange
+        ReflectionTestUtils.setField(accountNumberCache, "maxEntries", 2);
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+        accountNumberCache.put("TEST-ACCOUNT-002", UUID.randomUUID());
+        accountNumberCache.get("TEST-ACCOUNT-001");
+
+        // Act
+        accountNumberCache.put("TEST-ACCOUNT-003", UUID.randomUUID());
+
+        // Assert
+        assertEquals(2, accountNumberCache.size());
+        assertTrue(accountNumberCache.get("TEST-ACCOUNT-001").isPresent());
+        assertTrue(accountNumberCache.get("TEST-ACCOUNT-002").isEmpty());
+        assertTrue(accountNumberCache.get("TEST-ACCOUNT-003").isPresent());
+    }
+
+    @Test
+    void getAccountByNumber_ShouldReturnError_WhenAccountNumberIsBlank() {
+        StepVerifier.create(accountService.getAccountByNumber(" "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void getAccountsByNumbers_ShouldIssueSingleQueryForDistinctNumbers() {
+        // Arrange
+        when(accountRepository.findByAccountNumberIn(List.of("TEST-ACCOUNT-001", "MISSING-001")))
+                .thenReturn(Flux.just(testAccount));
+        when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.getAccountsByNumbers(
+                        List.of("TEST-ACCOUNT-001", "MISSING-001", "TEST-ACCOUNT-001")))
+                .expectNext(testAccountDTO)
+                .verifyComplete();
+
+        verify(accountRepository).findByAccountNumberIn(List.of("TEST-ACCOUNT-001", "MISSING-001"));
+        assertTrue(accountNumberCache.get("TEST-ACCOUNT-001").isPresent());
+    }
+
+    @Test
+    void getAccountsByNumbers_ShouldReturnError_WhenListIsEmpty() {
+        StepVerifier.create(accountService.getAccountsByNumbers(List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void deleteAccount_ShouldEvictAccountNumberFromCache() {
+        // Arrange
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+        when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.just(testAccount));
+        when(accountRepository.delete(testAccount)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(accountService.deleteAccount(TEST_ACCOUNT_ID))
+                .verifyComplete();
+
+        assertTrue(accountNumberCache.get("TEST-ACCOUNT-001").isEmpty());
+    }
+
+    @Test
+    void updateAccount_CommitFails_CachedIdKept() {
+        // Arrange
+        accountNumberCache.put("TEST-ACCOUNT-001", TEST_ACCOUNT_ID);
+        when(accountRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Mono.just(testAccount));
+        when(accountRepository.save(testAccount)).thenReturn(Mono.just(testAccount));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(accountService.updateAccount(TEST_ACCOUNT_ID, testAccountDTO))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(accountNumberCache, never()).evict(any(String.class));
+        assertEquals(TEST_ACCOUNT_ID, accountNumberCache.get("TEST-ACCOUNT-001").orElseThrow());
+    }
+
+    @Test
+    void batchGetAccounts_ShouldQueryInChunksAndReportMissingIds() {
+        // Arrange
+        List<UUID> requestedIds = IntStream.range(0, 1200)
+                .mapToObj(i -> UUID.randomUUID())
+                .collect(Collectors.toList());
+        requestedIds.set(700, TEST_ACCOUNT_ID);
+
+        when(accountRepository.findAllByAccountIdIn(any(UUID[].class)))
+                .thenAnswer(invocation -> {
+                    UUID[] ids = invocation.getArgument(0);
+                    return List.of(ids).contains(TEST_ACCOUNT_ID) ? Flux.just(testAccount) : Flux.empty();
+                });
+        when(accountMapper.toDTO(testAccount)).thenReturn(testAccountDTO);
+
+        // Act & Assert
+        StepVerifier.create(accountService.batchGetAccounts(requestedIds))
+                .assertNext(response -> {
+                    assertEquals(List.of(testAccountDTO), response.getItems());
+                    assertEquals(1199, response.getMissingIds().size());
+                    assertEquals(requestedIds.get(0), response.getMissingIds().get(0));
+                })
+                .verifyComplete();
+
+        verify(accountRepository, times(3)).findAllByAccountIdIn(any(UUID[].class));
+    }
 }
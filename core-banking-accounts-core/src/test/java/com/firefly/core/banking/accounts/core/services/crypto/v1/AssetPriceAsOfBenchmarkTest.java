@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceAsOfDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceLookupDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures {@link AssetPriceService#getAssetPricesAsOf} against a real database.
+ * <p>
+ * Seeds a day of ticks into daily partitions and resolves 100,000 random lookups with
+ * interpolation through the service, so the measured time covers the single as-of query,
+ * the row mapping and the interpolation. Skipped unless a database is configured (DB_HOST,
+ * DB_PORT, DB_NAME, DB_USERNAME, DB_PASSWORD). The allowed time defaults to 3 seconds and
+ * can be changed with ASOF_BENCHMARK_MAX_MILLIS.
+ */
+@DisplayName("Asset price as-of lookup benchmark")
+public class AssetPriceAsOfBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetPriceAsOfBenchmarkTest.class);
+
+    private static final String SCHEMA = "asof_benchmark";
+
+    private static final int LOOKUPS = 100_000;
+    private static final int TICK_INTERVAL_SECONDS = 10;
+
+    private static final String[] SYMBOLS = {"BTC", "ETH", "SOL", "USDC", "ADA", "DOT", "XRP", "AVAX"};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static PriceBenchmarkDatabase database;
+
+    @BeforeAll
+    static void seedDatabase() throws SQLException {
+        database = PriceBenchmarkDatabase.open(SCHEMA);
+        if (database == null) {
+            return;
+        }
+        database.execute("SELECT asset_price_ensure_partitions(DATE '2024-12-31', DATE '2025-01-02')");
+        database.execute("INSERT INTO asset_price (asset_symbol, quote_currency, price, as_of_datetime, price_source) "
+                + "SELECT s.symbol, 'USD', 40000 + (g % 1000) / 100.0, "
+                + "TIMESTAMP '2025-01-01 00:00:00' + g * INTERVAL '" + TICK_INTERVAL_SECONDS + " seconds', 'Coinbase' "
+                + "FROM unnest(ARRAY['" + String.join("','", SYMBOLS) + "']) AS s(symbol), "
+                + "generate_series(0, " + (86_400 / TICK_INTERVAL_SECONDS - 1) + ") AS g");
+        database.execute("ANALYZE asset_price");
+    }
+
+    @AfterAll
+    static void closeDatabase() throws SQLException {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    @DisplayName("100,000 interpolated lookups resolve within the allowed time")
+    void batchLookupWithinAllowedTime() {
+        assumeTrue(database != null, "DB_HOST is not set; skipping the as-of lookup benchmark");
+
+        AssetPriceService assetPriceService = database.getBean(AssetPriceService.class);
+        assetPriceService.getAssetPricesAsOf(lookups(new Random(7)), true).collectList().block();
+
+        List<AssetPriceLookupDTO> lookups = lookups(new Random(42));
+        long begin = System.nanoTime();
+        List<AssetPriceAsOfDTO> prices = assetPriceService.getAssetPricesAsOf(lookups, true).collectList().block();
+        long millis = (System.nanoTime() - begin) / 1_000_000;
+
+        long priced = prices.stream().filter(price -> price.getPrice() != null).count();
+        long interpolated = prices.stream().filter(AssetPriceAsOfDTO::isInterpolated).count();
+        long maxMillis = Long.parseLong(PriceBenchmarkDatabase.env("ASOF_BENCHMARK_MAX_MILLIS", "3000"));
+        logger.info("Asset price as-of: {} lookups in {} ms, {} priced, {} interpolated",
+                LOOKUPS, millis, priced, interpolated);
+
+        assertEquals(LOOKUPS, priced, "every lookup within the seeded day must be priced");
+        assertTrue(millis <= maxMillis,
+                String.format("Expected %d lookups within %d ms, took %d ms", LOOKUPS, maxMillis, millis));
+    }
+
+    /**
+     * Builds one batch of random lookups within the seeded day.
+     */
+    private static List<AssetPriceLookupDTO> lookups(Random random) {
+        List<AssetPriceLookupDTO> lookups = new ArrayList<>(LOOKUPS);
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups.add(AssetPriceLookupDTO.builder()
+                    .assetSymbol(SYMBOLS[random.nextInt(SYMBOLS.length)])
+                    .quoteCurrency("USD")
+                    .asOfDatetime(START.plusNanos(random.nextLong(86_400_000_000_000L)))
+                    .build());
+        }
+        return lookups;
+    }
+}
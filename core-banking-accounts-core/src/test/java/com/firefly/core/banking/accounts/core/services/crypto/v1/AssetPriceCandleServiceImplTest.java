@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceCandleMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceCandleDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceCandle;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceCandleRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetPriceCandleServiceImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 10, 2, 30);
+
+    @Mock
+    private AssetPriceCandleRepository repository;
+
+    @Mock
+    private AssetPriceRepository assetPriceRepository;
+
+    @Mock
+    private AssetPriceCandleMapper mapper;
+
+    @InjectMocks
+    private AssetPriceCandleServiceImpl candleService;
+
+    @Test
+    void pickInterval_PicksFinestIntervalWithinMaxBuckets() {
+        assertEquals(CandleIntervalEnum.ONE_MINUTE, candleService.pickInterval(START, START.plusHours(30)));
+        assertEquals(CandleIntervalEnum.FIVE_MINUTES, candleService.pickInterval(START, START.plusDays(3)));
+        assertEquals(CandleIntervalEnum.ONE_HOUR, candleService.pickInterval(START, START.plusDays(60)));
+        assertEquals(CandleIntervalEnum.ONE_DAY, candleService.pickInterval(START, START.plusDays(365)));
+        assertEquals(CandleIntervalEnum.ONE_DAY, candleService.pickInterval(START, START.plusDays(3650)));
+    }
+
+    @Test
+    void getCandles_ReadsPickedIntervalFromBucketOfStartDate() {
+        // Arrange
+        AssetPriceCandle candle = new AssetPriceCandle();
+        AssetPriceCandleDTO candleDTO = AssetPriceCandleDTO.builder().tickCount(3L).build();
+        when(repository.findCandles("BTC", "USD", "FIVE_MINUTES",
+                LocalDateTime.of(2025, 1, 1, 10, 0), START.plusDays(3)))
+                .thenReturn(Flux.just(candle));
+        when(mapper.toDTO(candle)).thenReturn(candleDTO);
+
+        // Act & Assert
+        StepVerifier.create(candleService.getCandles("BTC", "USD", START, START.plusDays(3), null))
+                .expectNext(candleDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getCandles_RejectsIntervalTooFineForRange() {
+        // Act & Assert
+        StepVerifier.create(candleService.getCandles("BTC", "USD", START, START.plusDays(3),
+                        CandleIntervalEnum.ONE_MINUTE))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getCandles_RejectsEmptyRange() {
+        // Act & Assert
+        StepVerifier.create(candleService.getCandles("BTC", "USD", START, START, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void applyTicks_SkipsEmptyBatch() {
+        // Act & Assert
+        StepVerifier.create(candleService.applyTicks(List.of()))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void backfillCandles_RebuildsEachPairInDayAlignedChunks() {
+        // Arrange
+        when(assetPriceRepository.findLatestPrices()).thenReturn(Flux.just(pair("BTC"), pair("ETH")));
+        when(repository.rebuildCandles(anyString(), anyString(), any(), any(), any())).thenReturn(Mono.just(10));
+
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime split = LocalDateTime.of(2025, 1, 31, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 16, 0, 0);
+
+        // Act & Assert
+        StepVerifier.create(candleService.backfillCandles(START, LocalDateTime.of(2025, 2, 15, 5, 0)))
+                .expectNext(40L)
+                .verifyComplete();
+
+        for (String symbol : List.of("BTC", "ETH")) {
+            verify(repository).rebuildCandles(eq(symbol), eq("USD"), eq(from), eq(split), any());
+            verify(repository).rebuildCandles(eq(symbol), eq("USD"), eq(split), eq(to), any());
+        }
+    }
+
+    @Test
+    void repairCandles_DeletesEmptiedBucketsAndRebuildsDayWithinRetention() {
+        // Arrange
+        LocalDateTime asOf = LocalDate.now().minusDays(2).atTime(14, 30);
+        LocalDateTime from = asOf.toLocalDate().atStartOfDay();
+        LocalDateTime retainedFrom = LocalDate.now().minusDays(90).atStartOfDay();
+        when(repository.deleteEmptyCandles("BTC", "USD", from, from.plusDays(1))).thenReturn(Mono.just(1));
+        when(repository.rebuildCandles("BTC", "USD", from, from.plusDays(1), retainedFrom)).thenReturn(Mono.just(4));
+
+        // Act & Assert
+        StepVerifier.create(candleService.repairCandles("BTC", "USD", asOf))
+                .expectNext(5)
+                .verifyComplete();
+    }
+
+    @Test
+    void repairCandles_KeepsEmptiedBucketsPastRetention() {
+        // Arrange
+        LocalDateTime asOf = LocalDate.now().minusDays(120).atTime(14, 30);
+        LocalDateTime from = asOf.toLocalDate().atStartOfDay();
+        when(repository.rebuildCandles(eq("BTC"), eq("USD"), eq(from), eq(from.plusDays(1)), any()))
+                .thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(candleService.repairCandles("BTC", "USD", asOf))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(repository, never()).deleteEmptyCandles(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void discardCandles_DeletesRetainedCandlesOfEveryPairOfSymbol() {
+        // Arrange
+        LocalDateTime retainedFrom = LocalDate.now().minusDays(90).atStartOfDay();
+        when(repository.deleteByAssetSymbolAndBucketStartGreaterThanEqual("BTC", retainedFrom)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(candleService.discardCandles("BTC", null))
+                .verifyComplete();
+
+        verify(repository).deleteByAssetSymbolAndBucketStartGreaterThanEqual("BTC", retainedFrom);
+    }
+
+    private static AssetPrice pair(String assetSymbol) {
+        AssetPrice price = new AssetPrice();
+        price.setAssetSymbol(assetSymbol);
+        price.setQuoteCurrency("USD");
+        return price;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.ConsolidatedAssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.ConsolidatedAssetPrice;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.ConsolidatedAssetPriceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetPriceConsolidationServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private ConsolidatedAssetPriceRepository repository;
+
+    @Mock
+    private ConsolidatedAssetPriceMapper mapper;
+
+    @Spy
+    private PriceConsolidator consolidator = new PriceConsolidator();
+
+    @Mock
+    private PriceAlertEngine alertEngine;
+
+    @InjectMocks
+    private AssetPriceConsolidationServiceImpl consolidationService;
+
+    @Test
+    void applyTicks_WritesChangedPricesInAsOfOrder() {
+        // Arrange
+        ArgumentCaptor<BigDecimal[]> prices = ArgumentCaptor.forClass(BigDecimal[].class);
+        ArgumentCaptor<Integer[]> sourceCounts = ArgumentCaptor.forClass(Integer[].class);
+        when(repository.upsertConsolidatedPrices(any(), any(), prices.capture(), any(), sourceCounts.capture(), any()))
+                .thenReturn(Mono.just(2));
+
+        List<AssetPriceDTO> ticks = List.of(
+                tick("Binance", "102", NOW.plusSeconds(1)),
+                tick("Coinbase", "100", NOW),
+                tick("Coinbase", "100", NOW.plusSeconds(2)));
+
+        // Act & Assert
+        StepVerifier.create(consolidationService.applyTicks(ticks))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("100"), new BigDecimal("101")}, prices.getValue());
+        assertArrayEquals(new Integer[]{1, 2}, sourceCounts.getValue());
+        verify(alertEngine).onPrice("BTC", "USD", new BigDecimal("100"), NOW, 1);
+        verify(alertEngine).onPrice("BTC", "USD", new BigDecimal("101"), NOW.plusSeconds(1), 2);
+    }
+
+    @Test
+    void applyTicks_SkipsWriteWhenNothingChanged() {
+        // Act & Assert
+        StepVerifier.create(consolidationService.applyTicks(List.of()))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(repository, alertEngine);
+    }
+
+    @Test
+    void getLatestConsolidatedPrice_ServesFromConsolidator() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+
+        // Act & Assert
+        StepVerifier.create(consolidationService.getLatestConsolidatedPrice("BTC", "USD"))
+                .expectNextMatches(price -> price.getPrice().compareTo(new BigDecimal("100")) == 0)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getLatestConsolidatedPrice_LoadsWhenPairNotSeen() {
+        // Arrange
+        ConsolidatedAssetPrice entity = new ConsolidatedAssetPrice();
+        ConsolidatedAssetPriceDTO dto = ConsolidatedAssetPriceDTO.builder()
+                .assetSymbol("ETH")
+                .quoteCurrency("USD")
+                .price(new BigDecimal("3000"))
+                .build();
+        when(repository.findLatestConsolidatedPrice("ETH", "USD")).thenReturn(Mono.just(entity));
+        when(mapper.toDTO(entity)).thenReturn(dto);
+
+        // Act & Assert
+        StepVerifier.create(consolidationService.getLatestConsolidatedPrice("ETH", "USD"))
+                .expectNext(dto)
+                .verifyComplete();
+    }
+
+    private static AssetPriceDTO tick(String source, String price, LocalDateTime asOf) {
+        return AssetPriceDTO.builder()
+                .assetSymbol("BTC")
+                .quoteCurrency("USD")
+                .price(new BigDecimal(price))
+                .asOfDatetime(asOf)
+                .priceSource(source)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceIngestResultDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the throughput of {@link AssetPriceIngestService#ingestAssetPrices} against a real database.
+ * <p>
+ * Streams ticks through the ingest service, so the measured rate covers the micro-batching,
+ * the bulk insert, the candle and consolidated price updates and the latest-price cache.
+ * A share of the ticks repeat the previous one and must be dropped by the unique tick index.
+ * Skipped unless a database is configured (DB_HOST, DB_PORT, DB_NAME, DB_USERNAME, DB_PASSWORD).
+ * The expected rate defaults to 50,000 ticks per second and can be changed with
+ * INGEST_BENCHMARK_MIN_TICKS_PER_SECOND.
+ */
+@DisplayName("Asset price ingest benchmark")
+public class AssetPriceIngestBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetPriceIngestBenchmarkTest.class);
+
+    private static final String SCHEMA = "ingest_benchmark";
+
+    private static final int WARM_UP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 200_000;
+
+    /**
+     * One tick in this many repeats the previous one.
+     */
+    private static final int DUPLICATE_EVERY = 10;
+
+    private static final String[] SYMBOLS = {"BTC", "ETH", "SOL", "USDC", "ADA", "DOT", "XRP", "AVAX"};
+    private static final String[] SOURCES = {"Coinbase", "Binance", "Kraken"};
+
+    private static PriceBenchmarkDatabase database;
+
+    @BeforeAll
+    static void openDatabase() throws SQLException {
+        database = PriceBenchmarkDatabase.open(SCHEMA);
+    }
+
+    @AfterAll
+    static void closeDatabase() throws SQLException {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Ingest sustains the target tick rate")
+    void ingestSustainsTargetRate() {
+        assumeTrue(database != null, "DB_HOST is not set; skipping the ingest benchmark");
+
+        AssetPriceIngestService ingestService = database.getBean(AssetPriceIngestService.class);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        ingestService.ingestAssetPrices(Flux.fromIterable(ticks(start, 0, WARM_UP_TICKS))).block();
+
+        List<AssetPriceDTO> ticks = ticks(start, WARM_UP_TICKS, MEASURED_TICKS);
+        long begin = System.nanoTime();
+        AssetPriceIngestResultDTO result = ingestService.ingestAssetPrices(Flux.fromIterable(ticks)).block();
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        double ticksPerSecond = MEASURED_TICKS / seconds;
+        double target = Double.parseDouble(
+                PriceBenchmarkDatabase.env("INGEST_BENCHMARK_MIN_TICKS_PER_SECOND", "50000"));
+        logger.info("Asset price ingest: {} ticks in {} s, {} ticks/s, {} inserted",
+                MEASURED_TICKS, String.format("%.2f", seconds), String.format("%.0f", ticksPerSecond),
+                result.getInserted());
+
+        assertEquals(MEASURED_TICKS - MEASURED_TICKS / DUPLICATE_EVERY, result.getInserted(),
+                "repeated ticks must be dropped by the unique tick index");
+        assertEquals(MEASURED_TICKS / DUPLICATE_EVERY, result.getDuplicates());
+        assertTrue(ticksPerSecond >= target,
+                String.format("Expected at least %.0f ticks/s, measured %.0f", target, ticksPerSecond));
+    }
+
+    /**
+     * Builds {@code count} ticks numbered from {@code firstTick}, every {@link #DUPLICATE_EVERY}th
+     * repeating the one before.
+     */
+    private static List<AssetPriceDTO> ticks(LocalDateTime start, long firstTick, int count) {
+        List<AssetPriceDTO> ticks = new ArrayList<>(count);
+        long tick = firstTick;
+        for (int i = 0; i < count; i++) {
+            long id = (i % DUPLICATE_EVERY == DUPLICATE_EVERY - 1) ? tick - 1 : tick++;
+            ticks.add(AssetPriceDTO.builder()
+                    .assetSymbol(SYMBOLS[(int) (id % SYMBOLS.length)])
+                    .quoteCurrency("USD")
+                    .price(BigDecimal.valueOf(40_000 + id % 1000, 2))
+                    .asOfDatetime(start.plusNanos(id * 1000))
+                    .priceSource(SOURCES[(int) (id % SOURCES.length)])
+                    .build());
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetPriceIngestServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private AssetPriceRepository repository;
+
+    @Mock
+    private AssetPriceMapper mapper;
+
+    @Mock
+    private LatestPriceCache latestPriceCache;
+
+    @Mock
+    private AssetPriceCandleService candleService;
+
+    @Mock
+    private AssetPriceConsolidationService consolidationService;
+
+    @Mock
+    private PriceStreamHub priceStreamHub;
+
+    @InjectMocks
+    private AssetPriceIngestServiceImpl ingestService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ingestService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(ingestService, "batchSize", 2);
+        ReflectionTestUtils.setField(ingestService, "concurrency", 1);
+        ingestService.init();
+    }
+
+    @Test
+    void ingestAssetPrices_BatchesTicksAndCountsOutcomes() {
+        // Arrange
+        AssetPrice older = entity("BTC", NOW.minusSeconds(1));
+        AssetPrice newer = entity("BTC", NOW);
+        AssetPriceDTO olderDTO = tick("BTC", NOW.minusSeconds(1));
+        AssetPriceDTO newerDTO = tick("BTC", NOW);
+        when(repository.insertTicks(any(), any(), any(), any(), any()))
+                .thenReturn(Flux.just(older, newer), Flux.empty());
+        when(mapper.toDTO(older)).thenReturn(olderDTO);
+        when(mapper.toDTO(newer)).thenReturn(newerDTO);
+        when(candleService.applyTicks(any())).thenReturn(Mono.just(4), Mono.just(0));
+        when(consolidationService.applyTicks(any())).thenReturn(Mono.just(1), Mono.just(0));
+
+        Flux<AssetPriceDTO> ticks = Flux.just(
+                tick("BTC", NOW.minusSeconds(1)),
+                tick("BTC", NOW),
+                tick("BTC", NOW),
+                tick("", NOW));
+
+        // Act & Assert
+        StepVerifier.create(ingestService.ingestAssetPrices(ticks))
+                .assertNext(result -> {
+                    assertEquals(4L, result.getReceived());
+                    assertEquals(2L, result.getInserted());
+                    assertEquals(1L, result.getDuplicates());
+                    assertEquals(1L, result.getRejected());
+                })
+                .verifyComplete();
+
+        verify(repository, times(2)).insertTicks(any(), any(), any(), any(), any());
+        verify(candleService).applyTicks(List.of(olderDTO, newerDTO));
+        verify(consolidationService).applyTicks(List.of(olderDTO, newerDTO));
+        verify(latestPriceCache, times(1)).offer(newerDTO);
+        verify(priceStreamHub, times(1)).publish(newerDTO);
+        assertEquals(2.0, meterRegistry.counter("account.crypto.price-ingest.ticks",
+                "outcome", AssetPriceIngestServiceImpl.OUTCOME_INSERTED).count());
+        assertEquals(1.0, meterRegistry.counter("account.crypto.price-ingest.ticks",
+                "outcome", AssetPriceIngestServiceImpl.OUTCOME_DUPLICATE).count());
+    }
+
+    @Test
+    void insertBatch_PassesParallelArrays() {
+        // Arrange
+        ArgumentCaptor<String[]> symbols = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<BigDecimal[]> prices = ArgumentCaptor.forClass(BigDecimal[].class);
+        when(repository.insertTicks(symbols.capture(), any(), prices.capture(), any(), any()))
+                .thenReturn(Flux.empty());
+        when(candleService.applyTicks(List.of())).thenReturn(Mono.just(0));
+        when(consolidationService.applyTicks(List.of())).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(ingestService.insertBatch(List.of(tick("BTC", NOW), tick("ETH", NOW))))
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertArrayEquals(new String[]{"BTC", "ETH"}, symbols.getValue());
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("45000.00"), new BigDecimal("45000.00")},
+                prices.getValue());
+        verifyNoInteractions(latestPriceCache);
+    }
+
+    private static AssetPriceDTO tick(String assetSymbol, LocalDateTime asOf) {
+        return AssetPriceDTO.builder()
+                .assetSymbol(assetSymbol)
+                .quoteCurrency("USD")
+                .price(new BigDecimal("45000.00"))
+                .asOfDatetime(asOf)
+                .priceSource("Coinbase")
+                .build();
+    }
+
+    private static AssetPrice entity(String assetSymbol, LocalDateTime asOf) {
+        AssetPrice price = new AssetPrice();
+        price.setAssetSymbol(assetSymbol);
+        price.setQuoteCurrency("USD");
+        price.setPrice(new BigDecimal("45000.00"));
+        price.setAsOfDatetime(asOf);
+        price.setPriceSource("Coinbase");
+        return price;
+    }
+}
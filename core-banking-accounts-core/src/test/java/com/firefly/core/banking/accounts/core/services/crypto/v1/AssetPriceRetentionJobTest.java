@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceCandleRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.ConsolidatedAssetPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetPriceRetentionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+    private static final LocalDate RAW_CUTOFF_DAY = TODAY.minusDays(90);
+    private static final LocalDateTime RAW_CUTOFF = RAW_CUTOFF_DAY.atStartOfDay();
+
+    @Mock
+    private AssetPriceRepository assetPriceRepository;
+
+    @Mock
+    private AssetPriceCandleRepository candleRepository;
+
+    @Mock
+    private ConsolidatedAssetPriceRepository consolidatedPriceRepository;
+
+    @Mock
+    private AssetPriceCandleService candleService;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @InjectMocks
+    private AssetPriceRetentionJob retentionJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retentionJob, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retentionJob, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionJob, "pauseBetweenBatchesMs", 0L);
+        retentionJob.init();
+    }
+
+    @Test
+    void runOnce_DownsamplesExpiringTicksBeforeDroppingPartitions() {
+        // Arrange
+        LocalDateTime oldest = RAW_CUTOFF.minusHours(30);
+        when(assetPriceRepository.ensurePartitions(RAW_CUTOFF_DAY, TODAY.plusDays(8))).thenReturn(Mono.just(1));
+        when(assetPriceRepository.findOldestAsOfDatetime()).thenReturn(Mono.just(oldest));
+        when(candleService.backfillCandles(oldest, RAW_CUTOFF)).thenReturn(Mono.just(12L));
+        when(assetPriceRepository.dropPartitionsBefore(RAW_CUTOFF_DAY)).thenReturn(Mono.just(2));
+        when(assetPriceRepository.deleteTicksBefore(RAW_CUTOFF, 2)).thenReturn(Mono.just(2), Mono.just(1));
+        when(consolidatedPriceRepository.deleteConsolidatedPricesBefore(RAW_CUTOFF, 2)).thenReturn(Mono.just(1));
+        when(candleRepository.deleteCandlesBefore(anyString(), any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(0));
+        when(candleRepository.deleteCandlesBefore("ONE_MINUTE", TODAY.minusMonths(6).atStartOfDay(), 2))
+                .thenReturn(Mono.just(2), Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(retentionJob.runOnce(TODAY))
+                .assertNext(outcome -> {
+                    assertEquals(1, outcome.partitionsCreated);
+                    assertEquals(12L, outcome.candlesRebuilt);
+                    assertEquals(2, outcome.partitionsDropped);
+                    assertEquals(3L, outcome.ticksDeleted);
+                    assertEquals(1L, outcome.consolidatedPricesDeleted);
+                    assertEquals(2L, outcome.candlesDeleted);
+                })
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(candleService, assetPriceRepository);
+        inOrder.verify(candleService).backfillCandles(oldest, RAW_CUTOFF);
+        inOrder.verify(assetPriceRepository).dropPartitionsBefore(RAW_CUTOFF_DAY);
+        verify(candleRepository).deleteCandlesBefore("ONE_HOUR", TODAY.minusMonths(24).atStartOfDay(), 2);
+        verify(candleRepository, never()).deleteCandlesBefore(eq("ONE_DAY"), any(), anyInt());
+    }
+
+    @Test
+    void runExclusively_SkipsRunWhenLockHeldElsewhere() {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Result result = mock(Result.class);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        doReturn(Mono.empty()).when(connection).beginTransaction();
+        when(connection.createStatement("SELECT pg_try_advisory_xact_lock($1)")).thenReturn(statement);
+        when(statement.bind("$1", AssetPriceRetentionJob.RETENTION_LOCK_KEY)).thenReturn(statement);
+        doReturn(Mono.just(result)).when(statement).execute();
+        doReturn(Mono.just(false)).when(result).map(any(BiFunction.class));
+        doReturn(Mono.empty()).when(connection).rollbackTransaction();
+        doReturn(Mono.empty()).when(connection).close();
+
+        // Act & Assert
+        StepVerifier.create(retentionJob.runExclusively(TODAY))
+                .verifyComplete();
+
+        verify(connection).rollbackTransaction();
+        verify(connection).close();
+        verifyNoInteractions(assetPriceRepository, candleRepository, consolidatedPriceRepository, candleService);
+    }
+
+    @Test
+    void runOnce_SkipsDownsamplingWhenNoTickExpires() {
+        // Arrange
+        when(assetPriceRepository.ensurePartitions(any(), any())).thenReturn(Mono.just(0));
+        when(assetPriceRepository.findOldestAsOfDatetime()).thenReturn(Mono.just(RAW_CUTOFF.plusHours(1)));
+        when(assetPriceRepository.dropPartitionsBefore(RAW_CUTOFF_DAY)).thenReturn(Mono.just(0));
+        when(assetPriceRepository.deleteTicksBefore(RAW_CUTOFF, 2)).thenReturn(Mono.just(0));
+        when(consolidatedPriceRepository.deleteConsolidatedPricesBefore(RAW_CUTOFF, 2)).thenReturn(Mono.just(0));
+        when(candleRepository.deleteCandlesBefore(anyString(), any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(retentionJob.runOnce(TODAY))
+                .assertNext(outcome -> assertEquals(0L, outcome.candlesRebuilt))
+                .verifyComplete();
+
+        verifyNoInteractions(candleService);
+    }
+
+    @Test
+    void runOnce_DeletesNothingWhenDownsamplingFails() {
+        // Arrange
+        LocalDateTime oldest = RAW_CUTOFF.minusDays(1);
+        when(assetPriceRepository.ensurePartitions(any(), any())).thenReturn(Mono.just(0));
+        when(assetPriceRepository.findOldestAsOfDatetime()).thenReturn(Mono.just(oldest));
+        when(candleService.backfillCandles(oldest, RAW_CUTOFF))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(retentionJob.runOnce(TODAY))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(assetPriceRepository, never()).dropPartitionsBefore(any());
+        verify(assetPriceRepository, never()).deleteTicksBefore(any(), anyInt());
+        verifyNoInteractions(candleRepository, consolidatedPriceRepository);
+    }
+}
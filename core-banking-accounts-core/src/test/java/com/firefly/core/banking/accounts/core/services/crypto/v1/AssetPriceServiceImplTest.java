@@ -22,7 +22,9 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
 import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceLookupDTO;
 import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceAsOf;
 import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +33,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -53,6 +59,21 @@ class AssetPriceServiceImplTest {
     @Mock
     private AssetPriceMapper mapper;
 
+    @Mock
+    private LatestPriceCache latestPriceCache;
+
+    @Mock
+    private AssetPriceCandleService candleService;
+
+    @Mock
+    private AssetPriceConsolidationService consolidationService;
+
+    @Mock
+    private PriceStreamHub priceStreamHub;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private AssetPriceServiceImpl assetPriceService;
 
@@ -123,6 +144,9 @@ class AssetPriceServiceImplTest {
         when(mapper.toEntity(any(AssetPriceDTO.class))).thenReturn(testAssetPrice);
         when(repository.save(any(AssetPrice.class))).thenReturn(Mono.just(testAssetPrice));
         when(mapper.toDTO(any(AssetPrice.class))).thenReturn(testAssetPriceDTO);
+        when(candleService.applyTicks(List.of(testAssetPriceDTO))).thenReturn(Mono.just(4));
+        when(consolidationService.applyTicks(List.of(testAssetPriceDTO))).thenReturn(Mono.just(1));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.createAssetPrice(testAssetPriceDTO))
@@ -132,6 +156,47 @@ class AssetPriceServiceImplTest {
         verify(mapper).toEntity(testAssetPriceDTO);
         verify(repository).save(testAssetPrice);
         verify(mapper).toDTO(testAssetPrice);
+        verify(candleService).applyTicks(List.of(testAssetPriceDTO));
+        verify(consolidationService).applyTicks(List.of(testAssetPriceDTO));
+        verify(latestPriceCache).offer(testAssetPriceDTO);
+        verify(priceStreamHub).publish(testAssetPriceDTO);
+    }
+
+    @Test
+    void createAssetPrice_CommitFails_NotCachedOrStreamed() {
+        // Arrange
+        when(mapper.toEntity(any(AssetPriceDTO.class))).thenReturn(testAssetPrice);
+        when(repository.save(any(AssetPrice.class))).thenReturn(Mono.just(testAssetPrice));
+        when(mapper.toDTO(any(AssetPrice.class))).thenReturn(testAssetPriceDTO);
+        when(candleService.applyTicks(List.of(testAssetPriceDTO))).thenReturn(Mono.just(4));
+        when(consolidationService.applyTicks(List.of(testAssetPriceDTO))).thenReturn(Mono.just(1));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.createAssetPrice(testAssetPriceDTO))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(latestPriceCache, priceStreamHub);
+    }
+
+    @Test
+    void deleteAssetPrice_CommitFails_LatestPriceKept() {
+        // Arrange
+        when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.just(testAssetPrice));
+        when(repository.delete(testAssetPrice)).thenReturn(Mono.empty());
+        when(candleService.repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime()))
+                .thenReturn(Mono.just(4));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.deleteAssetPrice(TEST_ASSET_PRICE_ID))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(latestPriceCache);
     }
 
     @Test
@@ -168,7 +233,10 @@ class AssetPriceServiceImplTest {
         when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.just(testAssetPrice));
         when(mapper.toEntity(testAssetPriceDTO)).thenReturn(testAssetPrice);
         when(repository.save(testAssetPrice)).thenReturn(Mono.just(testAssetPrice));
+        when(candleService.repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime()))
+                .thenReturn(Mono.just(4));
         when(mapper.toDTO(testAssetPrice)).thenReturn(testAssetPriceDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.updateAssetPrice(TEST_ASSET_PRICE_ID, testAssetPriceDTO))
@@ -177,13 +245,43 @@ class AssetPriceServiceImplTest {
 
         verify(repository).findById(TEST_ASSET_PRICE_ID);
         verify(repository).save(testAssetPrice);
+        verify(candleService).repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime());
         verify(mapper).toDTO(testAssetPrice);
     }
 
+    @Test
+    void updateAssetPrice_ShouldRepairCandlesOfBothDays_WhenTickMovesToAnotherDay() {
+        // Arrange
+        AssetPrice moved = new AssetPrice();
+        moved.setAssetPriceId(TEST_ASSET_PRICE_ID);
+        moved.setAssetSymbol(TEST_ASSET_SYMBOL);
+        moved.setQuoteCurrency(TEST_QUOTE_CURRENCY);
+        moved.setPrice(new BigDecimal("45000.00"));
+        moved.setAsOfDatetime(testAssetPrice.getAsOfDatetime().minusDays(2));
+        when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.just(testAssetPrice));
+        when(mapper.toEntity(testAssetPriceDTO)).thenReturn(moved);
+        when(repository.save(moved)).thenReturn(Mono.just(moved));
+        when(candleService.repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime()))
+                .thenReturn(Mono.just(4));
+        when(candleService.repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, moved.getAsOfDatetime()))
+                .thenReturn(Mono.just(4));
+        when(mapper.toDTO(moved)).thenReturn(testAssetPriceDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.updateAssetPrice(TEST_ASSET_PRICE_ID, testAssetPriceDTO))
+                .expectNext(testAssetPriceDTO)
+                .verifyComplete();
+
+        verify(candleService).repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime());
+        verify(candleService).repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, moved.getAsOfDatetime());
+    }
+
     @Test
     void updateAssetPrice_ShouldReturnEmptyMono_WhenAssetPriceDoesNotExist() {
         // Arrange
         when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.updateAssetPrice(TEST_ASSET_PRICE_ID, testAssetPriceDTO))
@@ -198,6 +296,9 @@ class AssetPriceServiceImplTest {
         // Arrange
         when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.just(testAssetPrice));
         when(repository.delete(testAssetPrice)).thenReturn(Mono.empty());
+        when(candleService.repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime()))
+                .thenReturn(Mono.just(4));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.deleteAssetPrice(TEST_ASSET_PRICE_ID))
@@ -205,12 +306,15 @@ class AssetPriceServiceImplTest {
 
         verify(repository).findById(TEST_ASSET_PRICE_ID);
         verify(repository).delete(testAssetPrice);
+        verify(candleService).repairCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, testAssetPrice.getAsOfDatetime());
+        verify(latestPriceCache).evict(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
     }
 
     @Test
     void deleteAssetPrice_ShouldReturnEmptyMono_WhenAssetPriceDoesNotExist() {
         // Arrange
         when(repository.findById(TEST_ASSET_PRICE_ID)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.deleteAssetPrice(TEST_ASSET_PRICE_ID))
@@ -223,28 +327,26 @@ class AssetPriceServiceImplTest {
     @Test
     void getLatestAssetPrice_ShouldReturnLatestPrice() {
         // Arrange
-        when(repository.findLatestPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.just(testAssetPrice));
-        when(mapper.toDTO(testAssetPrice)).thenReturn(testAssetPriceDTO);
+        when(latestPriceCache.getLatest(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.just(testAssetPriceDTO));
 
         // Act & Assert
         StepVerifier.create(assetPriceService.getLatestAssetPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY))
                 .expectNext(testAssetPriceDTO)
                 .verifyComplete();
 
-        verify(repository).findLatestPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
-        verify(mapper).toDTO(testAssetPrice);
+        verify(latestPriceCache).getLatest(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
+        verifyNoInteractions(repository);
     }
 
     @Test
     void getLatestAssetPrice_ShouldReturnEmptyMono_WhenNoLatestPriceExists() {
         // Arrange
-        when(repository.findLatestPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.empty());
+        when(latestPriceCache.getLatest(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(assetPriceService.getLatestAssetPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY))
                 .verifyComplete();
 
-        verify(repository).findLatestPrice(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
         verifyNoMoreInteractions(mapper);
     }
 
@@ -252,24 +354,30 @@ class AssetPriceServiceImplTest {
     void deleteAssetPricesBySymbol_ShouldCallRepository() {
         // Arrange
         when(repository.deleteByAssetSymbol(TEST_ASSET_SYMBOL)).thenReturn(Mono.empty());
+        when(candleService.discardCandles(TEST_ASSET_SYMBOL, null)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(assetPriceService.deleteAssetPricesBySymbol(TEST_ASSET_SYMBOL))
                 .verifyComplete();
 
         verify(repository).deleteByAssetSymbol(TEST_ASSET_SYMBOL);
+        verify(candleService).discardCandles(TEST_ASSET_SYMBOL, null);
+        verify(latestPriceCache).evictSymbol(TEST_ASSET_SYMBOL);
     }
 
     @Test
     void deleteAssetPricesBySymbolAndCurrency_ShouldCallRepository() {
         // Arrange
         when(repository.deleteByAssetSymbolAndQuoteCurrency(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.empty());
+        when(candleService.discardCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(assetPriceService.deleteAssetPricesBySymbolAndCurrency(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY))
                 .verifyComplete();
 
         verify(repository).deleteByAssetSymbolAndQuoteCurrency(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
+        verify(candleService).discardCandles(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
+        verify(latestPriceCache).evict(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY);
     }
 
     @Test
@@ -283,5 +391,97 @@ class AssetPriceServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteByAsOfDatetimeBefore(cutoffDate);
+        verify(latestPriceCache).evictOlderThan(cutoffDate);
+    }
+
+    @Test
+    void getAssetPricesAsOf_InterpolatesBetweenSurroundingTicks() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime asOf = before.plusSeconds(15);
+        LocalDateTime after = before.plusSeconds(60);
+        AssetPriceLookupDTO lookup = new AssetPriceLookupDTO(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, asOf);
+        when(repository.findPricesAsOf(eq(86400L), eq(new String[]{TEST_ASSET_SYMBOL}),
+                eq(new String[]{TEST_QUOTE_CURRENCY}), eq(new LocalDateTime[]{asOf}), eq(true)))
+                .thenReturn(Flux.just(new AssetPriceAsOf(1L, new BigDecimal("100"), before,
+                        new BigDecimal("104"), after)));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.getAssetPricesAsOf(List.of(lookup), true))
+                .expectNextMatches(dto -> dto.getPrice().compareTo(new BigDecimal("101")) == 0
+                        && dto.isInterpolated()
+                        && dto.getAsOfDatetime().equals(asOf)
+                        && dto.getPriceAsOfDatetime().equals(before)
+                        && dto.getNextPriceAsOfDatetime().equals(after))
+                .verifyComplete();
+    }
+
+    @Test
+    void getAssetPricesAsOf_ReturnsLookupsInRequestOrder() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 1, 12, 0);
+        AssetPriceLookupDTO btc = new AssetPriceLookupDTO("BTC", TEST_QUOTE_CURRENCY, asOf);
+        AssetPriceLookupDTO eth = new AssetPriceLookupDTO("ETH", TEST_QUOTE_CURRENCY, asOf);
+        when(repository.findPricesAsOf(anyLong(), any(String[].class), any(String[].class),
+                any(LocalDateTime[].class), eq(false)))
+                .thenReturn(Flux.just(
+                        new AssetPriceAsOf(1L, new BigDecimal("45000"), asOf, null, null),
+                        new AssetPriceAsOf(2L, null, null, null, null)));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.getAssetPricesAsOf(List.of(btc, eth), false))
+                .expectNextMatches(dto -> dto.getAssetSymbol().equals("BTC")
+                        && dto.getPrice().compareTo(new BigDecimal("45000")) == 0
+                        && !dto.isInterpolated())
+                .expectNextMatches(dto -> dto.getAssetSymbol().equals("ETH")
+                        && dto.getPrice() == null
+                        && dto.getPriceAsOfDatetime() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAssetPricesAsOf_UsesExactTickWithoutInterpolating() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 1, 12, 0);
+        AssetPriceLookupDTO lookup = new AssetPriceLookupDTO(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, asOf);
+        when(repository.findPricesAsOf(anyLong(), any(String[].class), any(String[].class),
+                any(LocalDateTime[].class), eq(true)))
+                .thenReturn(Flux.just(new AssetPriceAsOf(1L, new BigDecimal("100"), asOf,
+                        new BigDecimal("104"), asOf.plusMinutes(1))));
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.getAssetPricesAsOf(List.of(lookup), true))
+                .expectNextMatches(dto -> dto.getPrice().compareTo(new BigDecimal("100")) == 0
+                        && !dto.isInterpolated()
+                        && dto.getNextPriceAsOfDatetime() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAssetPricesAsOf_IncompleteLookup_ReturnsError() {
+        // Arrange
+        AssetPriceLookupDTO lookup = new AssetPriceLookupDTO(TEST_ASSET_SYMBOL, null, LocalDateTime.now());
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.getAssetPricesAsOf(List.of(lookup), false))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getAssetPricesAsOf_TooManyLookups_ReturnsError() {
+        // Arrange
+        AssetPriceLookupDTO lookup = new AssetPriceLookupDTO(TEST_ASSET_SYMBOL, TEST_QUOTE_CURRENCY, LocalDateTime.now());
+        List<AssetPriceLookupDTO> lookups =
+                Collections.nCopies(AssetPriceServiceImpl.MAX_LOOKUPS_PER_REQUEST + 1, lookup);
+
+        // Act & Assert
+        StepVerifier.create(assetPriceService.getAssetPricesAsOf(lookups, false))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+}
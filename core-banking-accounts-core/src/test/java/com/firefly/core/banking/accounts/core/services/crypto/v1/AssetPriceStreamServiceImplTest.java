@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetPriceStreamServiceImplTest {
+
+    @Mock
+    private PriceStreamHub priceStreamHub;
+
+    @InjectMocks
+    private AssetPriceStreamServiceImpl streamService;
+
+    @Test
+    void streamAssetPrices_MergesDistinctPairs() {
+        // Arrange
+        AssetPriceDTO btc = AssetPriceDTO.builder().assetSymbol("BTC").quoteCurrency("USD").build();
+        AssetPriceDTO eth = AssetPriceDTO.builder().assetSymbol("ETH").quoteCurrency("EUR").build();
+        when(priceStreamHub.subscribe("BTC", "USD")).thenReturn(Flux.just(btc));
+        when(priceStreamHub.subscribe("ETH", "EUR")).thenReturn(Flux.just(eth));
+
+        // Act & Assert
+        StepVerifier.create(streamService.streamAssetPrices(List.of("BTC/USD", "ETH/EUR", "BTC/USD")))
+                .expectNext(btc, eth)
+                .verifyComplete();
+
+        verify(priceStreamHub, times(1)).subscribe("BTC", "USD");
+    }
+
+    @Test
+    void streamAssetPrices_InvalidPair_ReturnsError() {
+        // Act & Assert
+        StepVerifier.create(streamService.streamAssetPrices(List.of("BTC/USD", "ETHEUR")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(priceStreamHub);
+    }
+
+    @Test
+    void streamAssetPrices_TooManyPairs_ReturnsError() {
+        // Arrange
+        ReflectionTestUtils.setField(streamService, "maxPairsPerStream", 1);
+
+        // Act & Assert
+        StepVerifier.create(streamService.streamAssetPrices(List.of("BTC/USD", "ETH/EUR")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LatestPriceCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private AssetPriceRepository repository;
+
+    @Mock
+    private AssetPriceMapper mapper;
+
+    @InjectMocks
+    private LatestPriceCache cache;
+
+    @Test
+    void getLatest_LoadsOnMissThenServesFromCache() {
+        // Arrange
+        AssetPrice entity = new AssetPrice();
+        AssetPriceDTO price = price("BTC", "USD", NOW);
+        when(repository.findLatestPrice("BTC", "USD")).thenReturn(Mono.just(entity));
+        when(mapper.toDTO(entity)).thenReturn(price);
+
+        // Act & Assert
+        StepVerifier.create(cache.getLatest("BTC", "USD"))
+                .expectNext(price)
+                .verifyComplete();
+        StepVerifier.create(cache.getLatest("BTC", "USD"))
+                .expectNext(price)
+                .verifyComplete();
+
+        verify(repository, times(1)).findLatestPrice("BTC", "USD");
+    }
+
+    @Test
+    void getLatestBatch_LoadsAllMissesInOneQuery() {
+        // Arrange
+        AssetPriceDTO btc = price("BTC", "USD", NOW);
+        cache.offer(btc);
+        AssetPrice ethEntity = new AssetPrice();
+        AssetPriceDTO eth = price("ETH", "USD", NOW);
+        when(repository.findLatestPricesBySymbols(any(String[].class), eq("USD"))).thenReturn(Flux.just(ethEntity));
+        when(mapper.toDTO(ethEntity)).thenReturn(eth);
+
+        // Act & Assert
+        StepVerifier.create(cache.getLatest(List.of("BTC", "ETH", "SOL"), "USD"))
+                .assertNext(prices -> assertEquals(Map.of("BTC", btc, "ETH", eth), prices))
+                .verifyComplete();
+
+        ArgumentCaptor<String[]> misses = ArgumentCaptor.forClass(String[].class);
+        verify(repository, times(1)).findLatestPricesBySymbols(misses.capture(), eq("USD"));
+        assertEquals(Set.of("ETH", "SOL"), Set.of(misses.getValue()));
+        assertEquals(Optional.of(eth), cache.get("ETH", "USD"));
+    }
+
+    @Test
+    void offer_KeepsMoreRecentPrice() {
+        // Arrange
+        AssetPriceDTO latest = price("BTC", "USD", NOW);
+        cache.offer(latest);
+
+        // Act
+        cache.offer(price("BTC", "USD", NOW.minusMinutes(1)));
+
+        // Assert
+        assertEquals(latest, cache.get("BTC", "USD").orElseThrow());
+    }
+
+    @Test
+    void offer_EvictsLatestPriceMovedBackInTime() {
+        // Arrange
+        AssetPriceDTO latest = price("BTC", "USD", NOW);
+        cache.offer(latest);
+        AssetPriceDTO corrected = price("BTC", "USD", NOW.minusHours(1));
+        corrected.setAssetPriceId(latest.getAssetPriceId());
+
+        // Act
+        cache.offer(corrected);
+
+        // Assert
+        assertTrue(cache.get("BTC", "USD").isEmpty());
+    }
+
+    @Test
+    void offer_EvictsLeastRecentlyUsedPairWhenFull() {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "maxPairs", 2);
+        cache.offer(price("BTC", "USD", NOW));
+        cache.offer(price("ETH", "USD", NOW));
+        cache.get("BTC", "USD");
+
+        // Act
+        cache.offer(price("SOL", "USD", NOW));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("BTC", "USD").isPresent());
+        assertTrue(cache.get("ETH", "USD").isEmpty());
+        assertTrue(cache.get("SOL", "USD").isPresent());
+    }
+
+    @Test
+    void get_ExpiredEntryIsDropped() {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "ttlSeconds", -1L);
+        cache.offer(price("BTC", "USD", NOW));
+
+        // Act & Assert
+        assertTrue(cache.get("BTC", "USD").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evict_RemovesTouchedPairsOnly() {
+        // Arrange
+        cache.offer(price("BTC", "USD", NOW));
+        cache.offer(price("BTC", "EUR", NOW));
+        cache.offer(price("ETH", "USD", NOW.minusDays(2)));
+
+        // Act & Assert
+        cache.evictSymbol("BTC");
+        assertEquals(1, cache.size());
+        assertTrue(cache.get("ETH", "USD").isPresent());
+
+        cache.evictOlderThan(NOW.minusDays(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void warmUp_LoadsLatestPriceOfEveryPair() {
+        // Arrange
+        AssetPrice btc = new AssetPrice();
+        AssetPrice eth = new AssetPrice();
+        when(repository.findLatestPrices()).thenReturn(Flux.just(btc, eth));
+        when(mapper.toDTO(btc)).thenReturn(price("BTC", "USD", NOW));
+        when(mapper.toDTO(eth)).thenReturn(price("ETH", "USD", NOW));
+
+        // Act
+        cache.warmUp();
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("ETH", "USD").isPresent());
+    }
+
+    private static AssetPriceDTO price(String assetSymbol, String quoteCurrency, LocalDateTime asOf) {
+        return AssetPriceDTO.builder()
+                .assetPriceId(UUID.randomUUID())
+                .assetSymbol(assetSymbol)
+                .quoteCurrency(quoteCurrency)
+                .price(new BigDecimal("45000.00"))
+                .asOfDatetime(asOf)
+                .priceSource("Coinbase")
+                .build();
+    }
+}
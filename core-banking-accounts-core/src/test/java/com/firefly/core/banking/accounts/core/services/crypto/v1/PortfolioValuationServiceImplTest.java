@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetValuationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.core.v1.CurrentAccountBalance;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.CurrentAccountBalanceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioValuationServiceImplTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID OTHER_ACCOUNT_ID = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private CurrentAccountBalanceRepository currentBalanceRepository;
+
+    @Mock
+    private LatestPriceCache latestPriceCache;
+
+    @InjectMocks
+    private PortfolioValuationServiceImpl valuationService;
+
+    @Test
+    void valueAccount_ValuesEachAssetAndTotal() {
+        // Arrange
+        when(currentBalanceRepository.findAssetBalancesByAccountIdIn(any(UUID[].class), any(String[].class)))
+                .thenReturn(Flux.just(
+                        balance(ACCOUNT_ID, "BTC", BalanceTypeEnum.CURRENT, "1.5"),
+                        balance(ACCOUNT_ID, "BTC", BalanceTypeEnum.STAKED, "0.5"),
+                        balance(ACCOUNT_ID, "USD", BalanceTypeEnum.CURRENT, "100"),
+                        balance(ACCOUNT_ID, "XYZ", BalanceTypeEnum.LOCKED, "7")));
+        when(latestPriceCache.getLatest(Set.of("BTC", "XYZ"), "USD"))
+                .thenReturn(Mono.just(Map.of("BTC", price("BTC", "40000"))));
+
+        // Act & Assert
+        StepVerifier.create(valuationService.valueAccount(ACCOUNT_ID, "USD"))
+                .assertNext(valuation -> {
+                    assertEquals(ACCOUNT_ID, valuation.getAccountId());
+                    assertEquals(0, new BigDecimal("80100").compareTo(valuation.getTotalValue()));
+                    assertEquals(List.of("XYZ"), valuation.getUnpricedAssetSymbols());
+                    assertEquals(List.of("BTC", "USD", "XYZ"), valuation.getAssets().stream()
+                            .map(AssetValuationDTO::getAssetSymbol).toList());
+
+                    AssetValuationDTO btc = valuation.getAssets().get(0);
+                    assertEquals(0, new BigDecimal("2.0").compareTo(btc.getQuantity()));
+                    assertEquals(0, new BigDecimal("0.5").compareTo(btc.getQuantities().get(BalanceTypeEnum.STAKED)));
+                    assertEquals(0, new BigDecimal("80000").compareTo(btc.getValue()));
+                    assertEquals(NOW, btc.getPriceAsOfDatetime());
+                    assertNull(valuation.getAssets().get(2).getValue());
+                })
+                .verifyComplete();
+
+        verify(currentBalanceRepository).findAssetBalancesByAccountIdIn(
+                new UUID[]{ACCOUNT_ID}, new String[]{"CURRENT", "STAKED", "LOCKED", "PENDING_CONFIRMATION"});
+    }
+
+    @Test
+    void valueAccounts_ReturnsOneValuationPerAccountInRequestOrder() {
+        // Arrange
+        when(currentBalanceRepository.findAssetBalancesByAccountIdIn(any(UUID[].class), any(String[].class)))
+                .thenReturn(Flux.just(balance(OTHER_ACCOUNT_ID, "ETH", BalanceTypeEnum.CURRENT, "2")));
+        when(latestPriceCache.getLatest(Set.of("ETH"), "EUR"))
+                .thenReturn(Mono.just(Map.of("ETH", price("ETH", "3000"))));
+
+        // Act & Assert
+        StepVerifier.create(valuationService.valueAccounts(
+                        List.of(ACCOUNT_ID, OTHER_ACCOUNT_ID, ACCOUNT_ID), "EUR"))
+                .assertNext(valuations -> {
+                    assertEquals(2, valuations.size());
+                    assertEquals(ACCOUNT_ID, valuations.get(0).getAccountId());
+                    assertEquals(0, BigDecimal.ZERO.compareTo(valuations.get(0).getTotalValue()));
+                    assertEquals(OTHER_ACCOUNT_ID, valuations.get(1).getAccountId());
+                    assertEquals(0, new BigDecimal("6000").compareTo(valuations.get(1).getTotalValue()));
+                })
+                .verifyComplete();
+
+        verify(currentBalanceRepository, times(1)).findAssetBalancesByAccountIdIn(any(UUID[].class), any(String[].class));
+        verify(latestPriceCache, times(1)).getLatest(Set.of("ETH"), "EUR");
+    }
+
+    @Test
+    void valueAccount_SumsBaseUnitsExactly() {
+        // Arrange
+        CurrentAccountBalance current = balance(ACCOUNT_ID, "ETH", BalanceTypeEnum.CURRENT, "0.1234");
+        current.setBalanceBaseUnits(new BigDecimal("123456789012345678"));
+        current.setAssetDecimals(18);
+        CurrentAccountBalance staked = balance(ACCOUNT_ID, "ETH", BalanceTypeEnum.STAKED, "32.0000");
+        staked.setBalanceBaseUnits(new BigDecimal("32000000000000000001"));
+        staked.setAssetDecimals(18);
+        when(currentBalanceRepository.findAssetBalancesByAccountIdIn(any(UUID[].class), any(String[].class)))
+                .thenReturn(Flux.just(current, staked));
+        when(latestPriceCache.getLatest(Set.of("ETH"), "USD"))
+                .thenReturn(Mono.just(Map.of("ETH", price("ETH", "2000"))));
+
+        // Act & Assert
+        StepVerifier.create(valuationService.valueAccount(ACCOUNT_ID, "USD"))
+                .assertNext(valuation -> {
+                    AssetValuationDTO eth = valuation.getAssets().get(0);
+                    assertEquals(new BigDecimal("32.123456789012345679"), eth.getQuantity());
+                    assertEquals(new BigDecimal("32.000000000000000001"), eth.getQuantities().get(BalanceTypeEnum.STAKED));
+                    assertEquals(0, new BigDecimal("64246.913578024691358").compareTo(eth.getValue()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void valueAccount_RequiresQuoteCurrency() {
+        // Act & Assert
+        StepVerifier.create(valuationService.valueAccount(ACCOUNT_ID, " "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(currentBalanceRepository, latestPriceCache);
+    }
+
+    private static CurrentAccountBalance balance(UUID accountId, String assetSymbol, BalanceTypeEnum balanceType,
+                                                 String amount) {
+        CurrentAccountBalance balance = new CurrentAccountBalance();
+        balance.setAccountId(accountId);
+        balance.setAssetSymbol(assetSymbol);
+        balance.setBalanceType(balanceType);
+        balance.setBalanceAmount(new BigDecimal(amount));
+        return balance;
+    }
+
+    private static AssetPriceDTO price(String assetSymbol, String price) {
+        return AssetPriceDTO.builder()
+                .assetSymbol(assetSymbol)
+                .quoteCurrency("USD")
+                .price(new BigDecimal(price))
+                .asOfDatetime(NOW)
+                .priceSource("Coinbase")
+                .build();
+    }
+}
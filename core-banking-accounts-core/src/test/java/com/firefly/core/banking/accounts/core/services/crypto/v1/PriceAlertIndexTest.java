@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriceAlertIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    private final PriceAlertIndex index = new PriceAlertIndex();
+
+    @Test
+    void cross_FiresAboveRulesBetweenPreviousAndNewPrice() {
+        // Arrange
+        PriceAlertRule below = rule("50000", PriceAlertDirectionEnum.ABOVE);
+        PriceAlertRule at = rule("51000", PriceAlertDirectionEnum.ABOVE);
+        PriceAlertRule beyond = rule("52000", PriceAlertDirectionEnum.ABOVE);
+        PriceAlertRule falling = rule("50500", PriceAlertDirectionEnum.BELOW);
+        List.of(below, at, beyond, falling).forEach(index::add);
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+
+        // Act
+        List<PriceAlertTrigger> fired = index.cross("BTC", "USD", new BigDecimal("51000"), NOW.plusSeconds(1));
+
+        // Assert
+        assertEquals(1, fired.size());
+        assertEquals(at.getPriceAlertRuleId(), fired.get(0).priceAlertRuleId());
+        assertEquals(0, new BigDecimal("51000").compareTo(fired.get(0).price()));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void cross_FiresBelowRulesWhenPriceFalls() {
+        // Arrange
+        PriceAlertRule first = rule("49000", PriceAlertDirectionEnum.BELOW);
+        PriceAlertRule second = rule("48000", PriceAlertDirectionEnum.BELOW);
+        PriceAlertRule rising = rule("49500", PriceAlertDirectionEnum.ABOVE);
+        List.of(first, second, rising).forEach(index::add);
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+
+        // Act
+        List<PriceAlertTrigger> fired = index.cross("BTC", "USD", new BigDecimal("47000"), NOW.plusSeconds(1));
+
+        // Assert
+        assertEquals(2, fired.size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void cross_FiresOnlyOnce() {
+        // Arrange
+        index.add(rule("51000", PriceAlertDirectionEnum.ABOVE));
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+        index.cross("BTC", "USD", new BigDecimal("52000"), NOW.plusSeconds(1));
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW.plusSeconds(2));
+
+        // Act
+        List<PriceAlertTrigger> fired = index.cross("BTC", "USD", new BigDecimal("52000"), NOW.plusSeconds(3));
+
+        // Assert
+        assertTrue(fired.isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void cross_FirstPriceOfPairNeverFires() {
+        // Arrange
+        index.add(rule("51000", PriceAlertDirectionEnum.ABOVE));
+
+        // Act & Assert
+        assertTrue(index.cross("BTC", "USD", new BigDecimal("52000"), NOW).isEmpty());
+        assertTrue(index.cross("ETH", "USD", new BigDecimal("3000"), NOW).isEmpty());
+    }
+
+    @Test
+    void remove_RuleNoLongerFires() {
+        // Arrange
+        PriceAlertRule rule = rule("51000", PriceAlertDirectionEnum.ABOVE);
+        index.add(rule);
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+
+        // Act
+        index.remove(rule.getPriceAlertRuleId());
+
+        // Assert
+        assertTrue(index.cross("BTC", "USD", new BigDecimal("52000"), NOW.plusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    void replaceAll_KeepsLastPriceOfPair() {
+        // Arrange
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+        index.add(rule("60000", PriceAlertDirectionEnum.ABOVE));
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+
+        // Act
+        index.replaceAll(List.of(rule("51000", PriceAlertDirectionEnum.ABOVE)));
+
+        // Assert
+        assertEquals(1, index.size());
+        assertEquals(1, index.cross("BTC", "USD", new BigDecimal("51000"), NOW.plusSeconds(1)).size());
+    }
+
+    @Test
+    void replaceAll_FiresRulesAlreadyReachedByLastPrice() {
+        // Arrange
+        index.add(rule("60000", PriceAlertDirectionEnum.ABOVE));
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+        PriceAlertRule reachedAbove = rule("49000", PriceAlertDirectionEnum.ABOVE);
+        PriceAlertRule reachedBelow = rule("50000", PriceAlertDirectionEnum.BELOW);
+        PriceAlertRule pending = rule("51000", PriceAlertDirectionEnum.ABOVE);
+
+        // Act
+        List<PriceAlertTrigger> fired = index.replaceAll(List.of(reachedAbove, reachedBelow, pending));
+
+        // Assert
+        assertEquals(2, fired.size());
+        assertTrue(fired.stream().allMatch(trigger -> trigger.asOfDatetime().equals(NOW)));
+        assertEquals(1, index.size());
+        assertEquals(pending.getPriceAlertRuleId(),
+                index.cross("BTC", "USD", new BigDecimal("51000"), NOW.plusSeconds(1)).get(0).priceAlertRuleId());
+    }
+
+    @Test
+    void restore_PutsBackRuleOfUnfiredTrigger() {
+        // Arrange
+        PriceAlertRule rule = rule("51000", PriceAlertDirectionEnum.ABOVE);
+        index.add(rule);
+        index.cross("BTC", "USD", new BigDecimal("50000"), NOW);
+        List<PriceAlertTrigger> fired = index.cross("BTC", "USD", new BigDecimal("52000"), NOW.plusSeconds(1));
+
+        // Act
+        index.restore(fired);
+
+        // Assert
+        assertEquals(1, index.size());
+        List<PriceAlertTrigger> refired = index.replaceAll(List.of(rule));
+        assertEquals(1, refired.size());
+        assertEquals(rule.getPriceAlertRuleId(), refired.get(0).priceAlertRuleId());
+    }
+
+    private static PriceAlertRule rule(String threshold, PriceAlertDirectionEnum direction) {
+        PriceAlertRule rule = new PriceAlertRule();
+        rule.setPriceAlertRuleId(UUID.randomUUID());
+        rule.setAccountId(UUID.randomUUID());
+        rule.setAssetSymbol("BTC");
+        rule.setQuoteCurrency("USD");
+        rule.setThresholdPrice(new BigDecimal(threshold));
+        rule.setDirection(direction);
+        rule.setIsActive(true);
+        return rule;
+    }
+}
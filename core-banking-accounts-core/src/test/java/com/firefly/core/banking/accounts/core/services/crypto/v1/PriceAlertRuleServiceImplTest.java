@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.PriceAlertRuleMapper;
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PriceAlertRuleDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.PriceAlertRuleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertRuleServiceImplTest {
+
+    private static final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440011");
+    private static final UUID RULE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440012");
+    private static final UUID OTHER_RULE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440013");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private PriceAlertRuleRepository repository;
+
+    @Mock
+    private PriceAlertRuleMapper mapper;
+
+    @Mock
+    private PriceAlertIndex index;
+
+    @Mock
+    private AccountNotificationService accountNotificationService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private PriceAlertRuleServiceImpl priceAlertRuleService;
+
+    @Test
+    void createRule_SavesAndIndexesRule() {
+        // Arrange
+        PriceAlertRuleDTO ruleDTO = PriceAlertRuleDTO.builder()
+                .assetSymbol("BTC")
+                .quoteCurrency("USD")
+                .thresholdPrice(new BigDecimal("50000"))
+                .direction(PriceAlertDirectionEnum.ABOVE)
+                .build();
+        PriceAlertRule rule = rule(RULE_ID);
+        when(mapper.toEntity(ruleDTO)).thenReturn(rule);
+        when(repository.save(rule)).thenReturn(Mono.just(rule));
+        when(mapper.toDTO(rule)).thenReturn(ruleDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.createRule(ACCOUNT_ID, ruleDTO))
+                .expectNext(ruleDTO)
+                .verifyComplete();
+
+        assertEquals(ACCOUNT_ID, ruleDTO.getAccountId());
+        verify(index).add(rule);
+    }
+
+    @Test
+    void createRule_CommitFails_IndexUnchanged() {
+        // Arrange
+        PriceAlertRuleDTO ruleDTO = PriceAlertRuleDTO.builder()
+                .assetSymbol("BTC")
+                .quoteCurrency("USD")
+                .thresholdPrice(new BigDecimal("50000"))
+                .direction(PriceAlertDirectionEnum.ABOVE)
+                .build();
+        PriceAlertRule rule = rule(RULE_ID);
+        when(mapper.toEntity(ruleDTO)).thenReturn(rule);
+        when(repository.save(rule)).thenReturn(Mono.just(rule));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.createRule(ACCOUNT_ID, ruleDTO))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(index);
+    }
+
+    @Test
+    void deleteRule_CommitFails_RuleKeptInIndex() {
+        // Arrange
+        PriceAlertRule rule = rule(RULE_ID);
+        when(repository.findById(RULE_ID)).thenReturn(Mono.just(rule));
+        when(repository.delete(rule)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.deleteRule(ACCOUNT_ID, RULE_ID))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(index);
+    }
+
+    @Test
+    void deleteRule_RemovesRuleFromIndex() {
+        // Arrange
+        PriceAlertRule rule = rule(RULE_ID);
+        when(repository.findById(RULE_ID)).thenReturn(Mono.just(rule));
+        when(repository.delete(rule)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.deleteRule(ACCOUNT_ID, RULE_ID))
+                .verifyComplete();
+
+        verify(index).remove(RULE_ID);
+    }
+
+    @Test
+    void deleteRule_IgnoresRuleOfOtherAccount() {
+        // Arrange
+        when(repository.findById(RULE_ID)).thenReturn(Mono.just(rule(RULE_ID)));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.deleteRule(UUID.randomUUID(), RULE_ID))
+                .verifyComplete();
+
+        verify(repository, never()).delete(any(PriceAlertRule.class));
+        verifyNoInteractions(index);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fireAlerts_NotifiesOnlyClaimedRules() {
+        // Arrange
+        ArgumentCaptor<UUID[]> ruleIds = ArgumentCaptor.forClass(UUID[].class);
+        when(repository.claimTriggeredRules(ruleIds.capture(), any(), any()))
+                .thenReturn(Flux.just(rule(RULE_ID)));
+        ArgumentCaptor<List<AccountNotificationDTO>> created = ArgumentCaptor.forClass(List.class);
+        when(accountNotificationService.createAccountNotifications(created.capture()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<AccountNotificationDTO>>getArgument(0)));
+
+        List<PriceAlertTrigger> triggers = List.of(
+                trigger(RULE_ID, "50100"),
+                trigger(OTHER_RULE_ID, "50100"),
+                trigger(RULE_ID, "50200"));
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.fireAlerts(triggers))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertArrayEquals(new UUID[]{RULE_ID, OTHER_RULE_ID}, ruleIds.getValue());
+        AccountNotificationDTO notification = created.getValue().get(0);
+        assertEquals(ACCOUNT_ID, notification.getAccountId());
+        assertEquals(NotificationTypeEnum.PRICE_ALERT, notification.getNotificationType());
+        assertEquals(RULE_ID.toString(), notification.getEventReference());
+        assertEquals(new BigDecimal("50100"), notification.getRelatedAmount());
+        assertEquals("BTC/USD rose above 50000 and is now 50100", notification.getMessage());
+    }
+
+    @Test
+    void fireAlerts_SkipsNotificationsWhenNothingClaimed() {
+        // Arrange
+        when(repository.claimTriggeredRules(any(), any(), any())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(priceAlertRuleService.fireAlerts(List.of(trigger(RULE_ID, "50100"))))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(accountNotificationService);
+    }
+
+    private static PriceAlertRule rule(UUID ruleId) {
+        PriceAlertRule rule = new PriceAlertRule();
+        rule.setPriceAlertRuleId(ruleId);
+        rule.setAccountId(ACCOUNT_ID);
+        rule.setAssetSymbol("BTC");
+        rule.setQuoteCurrency("USD");
+        rule.setThresholdPrice(new BigDecimal("50000"));
+        rule.setDirection(PriceAlertDirectionEnum.ABOVE);
+        rule.setIsActive(true);
+        return rule;
+    }
+
+    private static PriceAlertTrigger trigger(UUID ruleId, String price) {
+        return new PriceAlertTrigger(ruleId, ACCOUNT_ID, "BTC", "USD", new BigDecimal("50000"),
+                PriceAlertDirectionEnum.ABOVE, new BigDecimal(price), NOW);
+    }
+}
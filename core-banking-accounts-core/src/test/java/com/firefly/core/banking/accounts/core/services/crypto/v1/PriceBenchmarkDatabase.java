@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceCandleMapper;
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.AssetPriceMapper;
+import com.firefly.core.banking.accounts.core.mappers.crypto.v1.ConsolidatedAssetPriceMapper;
+import com.firefly.core.banking.accounts.models.repositories.crypto.v1.AssetPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.flywaydb.core.Flyway;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * A migrated schema of a real database with the asset price services wired against it,
+ * for the asset price benchmarks.
+ * <p>
+ * The services run in a Spring context of their own over a pooled R2DBC connection to the
+ * schema; price alerts are evaluated but never fired. The schema is dropped on close.
+ */
+final class PriceBenchmarkDatabase implements AutoCloseable {
+
+    private final String schema;
+
+    private final Connection connection;
+
+    private final AnnotationConfigApplicationContext context;
+
+    private PriceBenchmarkDatabase(String schema, Connection connection, AnnotationConfigApplicationContext context) {
+        this.schema = schema;
+        this.connection = connection;
+        this.context = context;
+    }
+
+    /**
+     * Migrates a fresh schema and starts the services against it.
+     * @return the database, or null when no database is configured (DB_HOST is not set)
+     */
+    static PriceBenchmarkDatabase open(String schema) throws SQLException {
+        String host = System.getenv("DB_HOST");
+        if (host == null || host.isBlank()) {
+            return null;
+        }
+        String url = "jdbc:postgresql://" + host + ":" + env("DB_PORT", "5432") + "/" + env("DB_NAME", "postgres");
+        String username = env("DB_USERNAME", "postgres");
+        String password = env("DB_PASSWORD", "");
+
+        Connection connection = DriverManager.getConnection(url, username, password);
+        execute(connection, "DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+
+        Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(schema)
+                .defaultSchema(schema)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute(connection, "SET search_path TO " + schema);
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("benchmark.schema", schema)));
+        context.register(BenchmarkConfiguration.class);
+        context.refresh();
+        return new PriceBenchmarkDatabase(schema, connection, context);
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Runs a statement on the benchmark schema, outside the services.
+     */
+    void execute(String sql) throws SQLException {
+        execute(connection, sql);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        context.close();
+        execute(connection, "DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        connection.close();
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    @Configuration
+    @EnableR2dbcRepositories(basePackageClasses = AssetPriceRepository.class)
+    @Import({AssetPriceServiceImpl.class, AssetPriceIngestServiceImpl.class, AssetPriceCandleServiceImpl.class,
+            AssetPriceConsolidationServiceImpl.class, LatestPriceCache.class, PriceStreamHub.class,
+            PriceConsolidator.class, PriceAlertEngine.class, PriceAlertIndex.class,
+            AssetPriceMapper.class, AssetPriceCandleMapper.class, ConsolidatedAssetPriceMapper.class})
+    static class BenchmarkConfiguration extends AbstractR2dbcConfiguration {
+
+        @Value("${benchmark.schema}")
+        private String schema;
+
+        @Bean
+        @Override
+        public ConnectionFactory connectionFactory() {
+            PostgresqlConnectionFactory connectionFactory = new PostgresqlConnectionFactory(
+                    PostgresqlConnectionConfiguration.builder()
+                            .host(System.getenv("DB_HOST"))
+                            .port(Integer.parseInt(env("DB_PORT", "5432")))
+                            .database(env("DB_NAME", "postgres"))
+                            .username(env("DB_USERNAME", "postgres"))
+                            .password(env("DB_PASSWORD", ""))
+                            .schema(schema)
+                            .build());
+            return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                    .maxSize(8)
+                    .build());
+        }
+
+        @Bean
+        ReactiveTransactionManager transactionManager() {
+            return new R2dbcTransactionManager(connectionFactory());
+        }
+
+        @Bean
+        TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+            return TransactionalOperator.create(transactionManager);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PriceAlertRuleService priceAlertRuleService() {
+            return Mockito.mock(PriceAlertRuleService.class);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriceConsolidatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    private final PriceConsolidator consolidator = new PriceConsolidator();
+
+    @Test
+    void accept_ReturnsMedianAcrossSources() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+        consolidator.accept(tick("Binance", "102", NOW));
+
+        // Act
+        ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick("Kraken", "101", NOW.plusSeconds(1)));
+
+        // Assert
+        assertEquals(0, new BigDecimal("101").compareTo(consolidated.getPrice()));
+        assertEquals(3, consolidated.getSourceCount());
+        assertEquals(0, consolidated.getDroppedSourceCount());
+        assertEquals(NOW.plusSeconds(1), consolidated.getAsOfDatetime());
+    }
+
+    @Test
+    void accept_AveragesMiddleQuotesOfEvenCount() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+
+        // Act
+        ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick("Binance", "101", NOW));
+
+        // Assert
+        assertEquals(0, new BigDecimal("100.5").compareTo(consolidated.getPrice()));
+        assertEquals(2, consolidated.getSourceCount());
+    }
+
+    @Test
+    void accept_DropsOutlierSource() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+        consolidator.accept(tick("Binance", "101", NOW));
+        consolidator.accept(tick("Kraken", "102", NOW));
+
+        // Act
+        ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick("Bad", "150", NOW));
+
+        // Assert
+        assertEquals(0, new BigDecimal("101").compareTo(consolidated.getPrice()));
+        assertEquals(3, consolidated.getSourceCount());
+        assertEquals(1, consolidated.getDroppedSourceCount());
+    }
+
+    @Test
+    void accept_KeepsPreviousPriceWhenNoQuoteIsNearMedian() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+        consolidator.accept(tick("Binance", "100", NOW));
+        consolidator.accept(tick("Kraken", "120", NOW));
+
+        // Act
+        ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick("Bitstamp", "120", NOW));
+
+        // Assert
+        assertNull(consolidated);
+        assertEquals(0, new BigDecimal("100").compareTo(consolidator.getLatest("BTC", "USD").orElseThrow().getPrice()));
+    }
+
+    @Test
+    void accept_ExpiresQuotesOutsideWindow() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+        consolidator.accept(tick("Binance", "110", NOW));
+
+        // Act
+        ConsolidatedAssetPriceDTO consolidated = consolidator.accept(tick("Binance", "120", NOW.plusMinutes(5)));
+
+        // Assert
+        assertEquals(0, new BigDecimal("120").compareTo(consolidated.getPrice()));
+        assertEquals(1, consolidated.getSourceCount());
+    }
+
+    @Test
+    void accept_IgnoresOlderQuoteOfSameSourceAndUnchangedPrice() {
+        // Arrange
+        consolidator.accept(tick("Coinbase", "100", NOW));
+
+        // Act & Assert
+        assertNull(consolidator.accept(tick("Coinbase", "90", NOW.minusSeconds(1))));
+        assertNull(consolidator.accept(tick("Coinbase", "100", NOW.plusSeconds(1))));
+        assertEquals(0, new BigDecimal("100").compareTo(consolidator.getLatest("BTC", "USD").orElseThrow().getPrice()));
+        assertTrue(consolidator.getLatest("ETH", "USD").isEmpty());
+    }
+
+    @Test
+    void accept_EvictsLeastRecentlyUsedPairWhenFull() {
+        // Arrange
+        ReflectionTestUtils.setField(consolidator, "maxPairs", 2);
+        consolidator.accept(tick("BTC", "Coinbase", "100", NOW));
+        consolidator.accept(tick("ETH", "Coinbase", "3000", NOW));
+        consolidator.getLatest("BTC", "USD");
+
+        // Act
+        consolidator.accept(tick("SOL", "Coinbase", "150", NOW));
+
+        // Assert
+        assertTrue(consolidator.getLatest("ETH", "USD").isEmpty());
+        assertEquals(0, new BigDecimal("100").compareTo(consolidator.getLatest("BTC", "USD").orElseThrow().getPrice()));
+        assertEquals(0, new BigDecimal("150").compareTo(consolidator.getLatest("SOL", "USD").orElseThrow().getPrice()));
+    }
+
+    private static AssetPriceDTO tick(String source, String price, LocalDateTime asOf) {
+        return tick("BTC", source, price, asOf);
+    }
+
+    private static AssetPriceDTO tick(String assetSymbol, String source, String price, LocalDateTime asOf) {
+        return AssetPriceDTO.builder()
+                .assetSymbol(assetSymbol)
+                .quoteCurrency("USD")
+                .price(new BigDecimal(price))
+                .asOfDatetime(asOf)
+                .priceSource(source)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceStreamHubTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    @Mock
+    private LatestPriceCache latestPriceCache;
+
+    @InjectMocks
+    private PriceStreamHub hub;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hub, "meterRegistry", meterRegistry);
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscribe_ReceivesCurrentThenNewerPrices() {
+        // Arrange
+        AssetPriceDTO current = price("50000", NOW);
+        AssetPriceDTO newer = price("50100", NOW.plusSeconds(1));
+        AssetPriceDTO older = price("49900", NOW.minusSeconds(1));
+        when(latestPriceCache.getLatest("BTC", "USD")).thenReturn(Mono.just(current));
+
+        // Act & Assert
+        StepVerifier.create(hub.subscribe("BTC", "USD"))
+                .expectNext(current)
+                .then(() -> {
+                    hub.publish(older);
+                    hub.publish(newer);
+                    hub.publish(AssetPriceDTO.builder()
+                            .assetSymbol("ETH")
+                            .quoteCurrency("USD")
+                            .price(new BigDecimal("3000"))
+                            .asOfDatetime(NOW.plusSeconds(2))
+                            .build());
+                })
+                .expectNext(newer)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_SlowClientOnlyReceivesNewestPrice() {
+        // Arrange
+        AssetPriceDTO newest = price("50300", NOW.plusSeconds(3));
+        when(latestPriceCache.getLatest("BTC", "USD")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(hub.subscribe("BTC", "USD"), 0)
+                .then(() -> {
+                    hub.publish(price("50100", NOW.plusSeconds(1)));
+                    hub.publish(price("50200", NOW.plusSeconds(2)));
+                    hub.publish(newest);
+                })
+                .thenRequest(1)
+                .expectNext(newest)
+                .thenCancel()
+                .verify();
+
+        assertEquals(2.0, meterRegistry.counter("account.crypto.price-stream.conflated").count());
+    }
+
+    @Test
+    void subscribe_TracksConnectedSubscribers() {
+        // Arrange
+        when(latestPriceCache.getLatest("BTC", "USD")).thenReturn(Mono.empty());
+
+        // Act
+        Disposable client = hub.subscribe("BTC", "USD").subscribe();
+
+        // Assert
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("account.crypto.price-stream.subscribers").gauge().value());
+        client.dispose();
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    void publish_NoSubscriber_CreatesNoStream() {
+        // Act
+        hub.publish(price("50000", NOW));
+
+        // Assert
+        assertEquals(0, hub.size());
+        verifyNoInteractions(latestPriceCache);
+    }
+
+    @Test
+    void evictIdle_RemovesStreamsWithoutClients() {
+        // Arrange
+        when(latestPriceCache.getLatest(any(), any())).thenReturn(Mono.empty());
+        Disposable client = hub.subscribe("BTC", "USD").subscribe();
+        hub.subscribe("ETH", "USD").subscribe().dispose();
+
+        // Act & Assert
+        assertEquals(1, hub.evictIdle(System.currentTimeMillis() + 300001));
+        assertEquals(1, hub.size());
+
+        client.dispose();
+    }
+
+    private static AssetPriceDTO price(String price, LocalDateTime asOf) {
+        return AssetPriceDTO.builder()
+                .assetSymbol("BTC")
+                .quoteCurrency("USD")
+                .price(new BigDecimal(price))
+                .asOfDatetime(asOf)
+                .priceSource("Coinbase")
+                .build();
+    }
+}
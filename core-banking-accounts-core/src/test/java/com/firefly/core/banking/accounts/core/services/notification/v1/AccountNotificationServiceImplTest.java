@@ -19,12 +19,19 @@ package com.firefly.core.banking.accounts.core.services.notification.v1;
 
 import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
 import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationDeliveryStatusEnum;
 import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotificationCounter;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.NotificationOutbox;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationCounterRepository;
 import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.NotificationOutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,7 +41,12 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -48,6 +60,15 @@ class AccountNotificationServiceImplTest {
     @Mock
     private AccountNotificationMapper mapper;
 
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationStreamHub streamHub;
+
+    @Mock
+    private AccountNotificationCounterRepository counterRepository;
+
     @InjectMocks
     private AccountNotificationServiceImpl service;
 
@@ -88,6 +109,8 @@ class AccountNotificationServiceImplTest {
         when(mapper.toEntity(any(AccountNotificationDTO.class))).thenReturn(accountNotification);
         when(repository.save(any(AccountNotification.class))).thenReturn(Mono.just(accountNotification));
         when(mapper.toDTO(any(AccountNotification.class))).thenReturn(accountNotificationDTO);
+        when(streamHub.publish(accountNotificationDTO)).thenReturn(Mono.empty());
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, 1L)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.createAccountNotification(accountNotificationDTO))
@@ -95,6 +118,213 @@ class AccountNotificationServiceImplTest {
                 .verifyComplete();
 
         verify(repository).save(any(AccountNotification.class));
+        verify(streamHub).publish(accountNotificationDTO);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createAccountNotifications_OneCounterAdjustmentPerAccount() {
+        // Arrange
+        when(mapper.toEntity(any(AccountNotificationDTO.class))).thenReturn(accountNotification);
+        when(repository.saveAll(any(Iterable.class)))
+                .thenReturn(Flux.just(accountNotification, accountNotification));
+        when(mapper.toDTO(any(AccountNotification.class))).thenReturn(accountNotificationDTO);
+        when(streamHub.publish(accountNotificationDTO)).thenReturn(Mono.empty());
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, 2L)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountNotifications(List.of(accountNotificationDTO, accountNotificationDTO)))
+                .expectNext(accountNotificationDTO, accountNotificationDTO)
+                .verifyComplete();
+
+        verify(repository, never()).save(any(AccountNotification.class));
+        verify(counterRepository).adjustUnreadCount(ACCOUNT_ID, 2L);
+    }
+
+    @Test
+    void createRestrictionExpiredNotifications_StreamsInsertedNotifications() {
+        // Arrange
+        UUID restrictionId = UUID.randomUUID();
+        when(repository.insertRestrictionExpiredNotifications(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(accountNotification));
+        when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
+        when(streamHub.publish(accountNotificationDTO)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.createRestrictionExpiredNotifications(List.of(restrictionId)))
+                .expectNext(accountNotificationDTO)
+                .verifyComplete();
+
+        verify(repository).insertRestrictionExpiredNotifications(
+                argThat(ids -> ids.length == 1 && ids[0].equals(restrictionId)), any(LocalDateTime.class));
+        verify(streamHub).publish(accountNotificationDTO);
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    void createAccountNotifications_InvalidNotificationRejectsBatch() {
+        // Arrange
+        AccountNotificationDTO invalid = AccountNotificationDTO.builder()
+                .accountId(ACCOUNT_ID)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountNotifications(List.of(accountNotificationDTO, invalid)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createAccountNotification_EnqueuesOneDeliveryPerChannel() {
+        // Arrange
+        accountNotification.setDeliveryChannels("email, SMS,EMAIL,");
+        when(mapper.toEntity(any(AccountNotificationDTO.class))).thenReturn(accountNotification);
+        when(repository.save(any(AccountNotification.class))).thenReturn(Mono.just(accountNotification));
+        when(outboxRepository.saveAll(any(Iterable.class))).thenReturn(Flux.empty());
+        when(mapper.toDTO(any(AccountNotification.class))).thenReturn(accountNotificationDTO);
+        when(streamHub.publish(accountNotificationDTO)).thenReturn(Mono.empty());
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, 1L)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountNotification(accountNotificationDTO))
+                .expectNext(accountNotificationDTO)
+                .verifyComplete();
+
+        ArgumentCaptor<Iterable<NotificationOutbox>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        List<String> channels = new ArrayList<>();
+        captor.getValue().forEach(entry -> {
+            assertEquals(NOTIFICATION_ID, entry.getAccountNotificationId());
+            assertEquals(NotificationDeliveryStatusEnum.PENDING, entry.getStatus());
+            assertEquals(0, entry.getAttempts());
+            channels.add(entry.getChannel());
+        });
+        assertEquals(List.of("EMAIL", "SMS"), channels);
+    }
+
+    @Test
+    void createAccountNotification_WithoutChannels_DoesNotEnqueue() {
+        // Arrange
+        when(mapper.toEntity(any(AccountNotificationDTO.class))).thenReturn(accountNotification);
+        when(repository.save(any(AccountNotification.class))).thenReturn(Mono.just(accountNotification));
+        when(mapper.toDTO(any(AccountNotification.class))).thenReturn(accountNotificationDTO);
+        when(streamHub.publish(accountNotificationDTO)).thenReturn(Mono.empty());
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, 1L)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountNotification(accountNotificationDTO))
+                .expectNext(accountNotificationDTO)
+                .verifyComplete();
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void getUnreadNotificationCount_Success() {
+        // Arrange
+        when(counterRepository.findById(ACCOUNT_ID))
+                .thenReturn(Mono.just(new AccountNotificationCounter(ACCOUNT_ID, 7L)));
+
+        // Act & Assert
+        StepVerifier.create(service.getUnreadNotificationCount(ACCOUNT_ID))
+                .expectNext(7L)
+                .verifyComplete();
+
+        verify(repository, never()).countByAccountIdAndIsReadFalse(any());
+    }
+
+    @Test
+    void getUnreadNotificationCount_NoCounter() {
+        // Arrange
+        when(counterRepository.findById(ACCOUNT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getUnreadNotificationCount(ACCOUNT_ID))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void reconcileUnreadCounters_LocksThenRecounts() {
+        // Arrange
+        UUID otherAccountId = UUID.fromString("550e8400-e29b-41d4-a716-446655440052");
+        when(counterRepository.lockByAccountIdIn(any(UUID[].class))).thenReturn(Flux.just(ACCOUNT_ID));
+        when(counterRepository.reconcileByAccountIdIn(any(UUID[].class))).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.reconcileUnreadCounters(List.of(ACCOUNT_ID, otherAccountId, ACCOUNT_ID)))
+                .expectNext(1)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).lockByAccountIdIn(argThat(ids -> ids.length == 2));
+        inOrder.verify(counterRepository).reconcileByAccountIdIn(argThat(ids -> ids.length == 2));
+    }
+
+    @Test
+    void purgeExpiredNotifications_Success() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        when(repository.purgeExpired(eq(cutoff), eq(500), any(LocalDateTime.class))).thenReturn(Mono.just(500L));
+
+        // Act & Assert
+        StepVerifier.create(service.purgeExpiredNotifications(cutoff, 500))
+                .expectNext(500L)
+                .verifyComplete();
+    }
+
+    @Test
+    void purgeExpiredNotifications_InvalidBatchSize() {
+        StepVerifier.create(service.purgeExpiredNotifications(LocalDateTime.now(), 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).purgeExpired(any(), any(), any());
+    }
+
+    @Test
+    void purgeFinishedDeliveries_Success() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        when(outboxRepository.purgeFinished(cutoff, 500)).thenReturn(Mono.just(120L));
+
+        // Act & Assert
+        StepVerifier.create(service.purgeFinishedDeliveries(cutoff, 500))
+                .expectNext(120L)
+                .verifyComplete();
+    }
+
+    @Test
+    void purgeFinishedDeliveries_MissingCutoff() {
+        StepVerifier.create(service.purgeFinishedDeliveries(null, 500))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(outboxRepository, never()).purgeFinished(any(), any());
+    }
+
+    @Test
+    void streamAccountNotifications_Success() {
+        // Arrange
+        when(streamHub.subscribe(ACCOUNT_ID)).thenReturn(Flux.just(accountNotificationDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.streamAccountNotifications(ACCOUNT_ID))
+                .expectNext(accountNotificationDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAccountNotifications_MissingAccountId() {
+        // Act & Assert
+        StepVerifier.create(service.streamAccountNotifications(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(streamHub);
     }
 
     @Test
@@ -148,7 +378,7 @@ class AccountNotificationServiceImplTest {
         updatedDTO.setAccountNotificationId(NOTIFICATION_ID);
         updatedDTO.setMessage("Updated message");
 
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
+        when(repository.findByIdForUpdate(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
         when(repository.save(any(AccountNotification.class))).thenReturn(Mono.just(updatedNotification));
         when(mapper.toDTO(updatedNotification)).thenReturn(updatedDTO);
 
@@ -157,15 +387,35 @@ class AccountNotificationServiceImplTest {
                 .expectNext(updatedDTO)
                 .verifyComplete();
 
-        verify(repository).findById(NOTIFICATION_ID);
+        verify(repository).findByIdForUpdate(NOTIFICATION_ID);
         verify(repository).save(any(AccountNotification.class));
     }
 
+    @Test
+    void updateAccountNotification_MarkRead_DecrementsCounter() {
+        // Arrange
+        AccountNotificationDTO updatedDTO = new AccountNotificationDTO();
+        updatedDTO.setIsRead(true);
+
+        when(repository.findByIdForUpdate(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
+        when(repository.save(accountNotification)).thenReturn(Mono.just(accountNotification));
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, -1L)).thenReturn(Mono.just(1));
+        when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateAccountNotification(NOTIFICATION_ID, updatedDTO))
+                .expectNext(accountNotificationDTO)
+                .verifyComplete();
+
+        verify(counterRepository).adjustUnreadCount(ACCOUNT_ID, -1L);
+    }
+
     @Test
     void deleteAccountNotification_Success() {
         // Arrange
         when(repository.findById(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
         when(repository.delete(accountNotification)).thenReturn(Mono.empty());
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, -1L)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteAccountNotification(NOTIFICATION_ID))
@@ -173,6 +423,7 @@ class AccountNotificationServiceImplTest {
 
         verify(repository).findById(NOTIFICATION_ID);
         verify(repository).delete(accountNotification);
+        verify(counterRepository).adjustUnreadCount(ACCOUNT_ID, -1L);
     }
 
     @Test
@@ -192,7 +443,7 @@ class AccountNotificationServiceImplTest {
     @Test
     void getUnreadAccountNotifications_Success() {
         // Arrange
-        when(repository.findByAccountIdAndIsRead(ACCOUNT_ID, false)).thenReturn(Flux.just(accountNotification));
+        when(repository.findByAccountIdAndIsReadFalse(ACCOUNT_ID)).thenReturn(Flux.just(accountNotification));
         when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
 
         // Act & Assert
@@ -200,7 +451,7 @@ class AccountNotificationServiceImplTest {
                 .expectNext(accountNotificationDTO)
                 .verifyComplete();
 
-        verify(repository).findByAccountIdAndIsRead(ACCOUNT_ID, false);
+        verify(repository).findByAccountIdAndIsReadFalse(ACCOUNT_ID);
     }
 
     @Test
@@ -225,6 +476,7 @@ class AccountNotificationServiceImplTest {
         // Arrange
         AccountNotification readNotification = new AccountNotification();
         readNotification.setAccountNotificationId(NOTIFICATION_ID);
+        readNotification.setAccountId(ACCOUNT_ID);
         readNotification.setIsRead(true);
         // Don't use matchers in object initialization
         LocalDateTime readTime = LocalDateTime.now();
@@ -235,17 +487,18 @@ class AccountNotificationServiceImplTest {
         readDTO.setIsRead(true);
         readDTO.setReadDateTime(readTime);
 
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
-        when(repository.save(any(AccountNotification.class))).thenReturn(Mono.just(readNotification));
+        when(repository.markAsReadById(eq(NOTIFICATION_ID), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(readNotification));
         when(mapper.toDTO(readNotification)).thenReturn(readDTO);
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, -1L)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.markNotificationAsRead(NOTIFICATION_ID))
                 .expectNext(readDTO)
                 .verifyComplete();
 
-        verify(repository).findById(NOTIFICATION_ID);
-        verify(repository).save(any(AccountNotification.class));
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).save(any(AccountNotification.class));
     }
 
     @Test
@@ -253,6 +506,7 @@ class AccountNotificationServiceImplTest {
         // Arrange
         accountNotification.setIsRead(true);
 
+        when(repository.markAsReadById(eq(NOTIFICATION_ID), any(LocalDateTime.class))).thenReturn(Mono.empty());
         when(repository.findById(NOTIFICATION_ID)).thenReturn(Mono.just(accountNotification));
 
         // Act & Assert
@@ -261,49 +515,56 @@ class AccountNotificationServiceImplTest {
                 .verify();
 
         verify(repository).findById(NOTIFICATION_ID);
-        verify(repository, never()).save(any(AccountNotification.class));
+        verifyNoInteractions(counterRepository);
     }
 
     @Test
     void markAllNotificationsAsRead_Success() {
         // Arrange
-        AccountNotification notification1 = new AccountNotification();
-        notification1.setAccountNotificationId(UUID.fromString("550e8400-e29b-41d4-a716-446655440050"));
-        notification1.setAccountId(ACCOUNT_ID);
-        notification1.setIsRead(false);
+        when(repository.markAllAsReadByAccountId(eq(ACCOUNT_ID), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(2));
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, -2L)).thenReturn(Mono.just(1));
 
-        AccountNotification notification2 = new AccountNotification();
-        notification2.setAccountNotificationId(UUID.fromString("550e8400-e29b-41d4-a716-446655440051"));
-        notification2.setAccountId(ACCOUNT_ID);
-        notification2.setIsRead(false);
-
-        AccountNotification readNotification1 = new AccountNotification();
-        readNotification1.setAccountNotificationId(UUID.fromString("550e8400-e29b-41d4-a716-446655440050"));
-        readNotification1.setIsRead(true);
+        // Act & Assert
+        StepVerifier.create(service.markAllNotificationsAsRead(ACCOUNT_ID))
+                .expectNext(2L)
+                .verifyComplete();
 
-        AccountNotification readNotification2 = new AccountNotification();
-        readNotification2.setAccountNotificationId(UUID.fromString("550e8400-e29b-41d4-a716-446655440051"));
-        readNotification2.setIsRead(true);
+        verify(repository).markAllAsReadByAccountId(eq(ACCOUNT_ID), any(LocalDateTime.class));
+        verify(repository, never()).save(any(AccountNotification.class));
+    }
 
-        when(repository.findByAccountIdAndIsRead(ACCOUNT_ID, false))
-                .thenReturn(Flux.just(notification1, notification2));
-        when(repository.save(any(AccountNotification.class)))
-                .thenReturn(Mono.just(readNotification1))
-                .thenReturn(Mono.just(readNotification2));
+    @Test
+    void markNotificationsAsRead_Success() {
+        // Arrange
+        UUID otherNotificationId = UUID.fromString("550e8400-e29b-41d4-a716-446655440051");
+        when(repository.markAsReadByIds(eq(ACCOUNT_ID), any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(2));
+        when(counterRepository.adjustUnreadCount(ACCOUNT_ID, -2L)).thenReturn(Mono.just(1));
 
         // Act & Assert
-        StepVerifier.create(service.markAllNotificationsAsRead(ACCOUNT_ID))
+        StepVerifier.create(service.markNotificationsAsRead(ACCOUNT_ID,
+                        List.of(NOTIFICATION_ID, otherNotificationId, NOTIFICATION_ID)))
                 .expectNext(2L)
                 .verifyComplete();
 
-        verify(repository).findByAccountIdAndIsRead(ACCOUNT_ID, false);
-        verify(repository, times(2)).save(any(AccountNotification.class));
+        verify(repository).markAsReadByIds(eq(ACCOUNT_ID),
+                argThat(ids -> ids.length == 2), any(LocalDateTime.class));
+    }
+
+    @Test
+    void markNotificationsAsRead_NoIds() {
+        StepVerifier.create(service.markNotificationsAsRead(ACCOUNT_ID, List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).markAsReadByIds(any(), any(), any());
     }
 
     @Test
     void getActiveNotifications_Success() {
         // Arrange
-        when(repository.findByAccountIdAndExpiryDateTimeIsNullOrExpiryDateTimeGreaterThan(eq(ACCOUNT_ID), any(LocalDateTime.class)))
+        when(repository.findActiveByAccountId(eq(ACCOUNT_ID), any(LocalDateTime.class)))
                 .thenReturn(Flux.just(accountNotification));
         when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
 
@@ -312,6 +573,95 @@ class AccountNotificationServiceImplTest {
                 .expectNext(accountNotificationDTO)
                 .verifyComplete();
 
-        verify(repository).findByAccountIdAndExpiryDateTimeIsNullOrExpiryDateTimeGreaterThan(eq(ACCOUNT_ID), any(LocalDateTime.class));
+        verify(repository).findActiveByAccountId(eq(ACCOUNT_ID), any(LocalDateTime.class));
+    }
+
+    @Test
+    void getAccountNotificationsPage_FirstPageHasNextCursor() {
+        // Arrange
+        AccountNotification next = new AccountNotification();
+        next.setAccountNotificationId(UUID.fromString("550e8400-e29b-41d4-a716-446655440011"));
+        NotificationPageCursor first = NotificationPageCursor.FIRST;
+        when(repository.findPageByAccountId(ACCOUNT_ID, false, Integer.MIN_VALUE, first.creationDateTime(),
+                first.accountNotificationId(), 2))
+                .thenReturn(Flux.just(accountNotification, next));
+        when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountNotificationsPage(ACCOUNT_ID, null, 1))
+                .assertNext(page -> {
+                    assertEquals(List.of(accountNotificationDTO), page.getItems());
+                    assertEquals(NotificationPageCursor.after(accountNotification),
+                            NotificationPageCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAccountNotificationsPage_ResumesFromCursor() {
+        // Arrange
+        String cursor = NotificationPageCursor.after(accountNotification).encode();
+        when(repository.findPageByAccountId(ACCOUNT_ID, false, 1, accountNotification.getCreationDateTime(),
+                NOTIFICATION_ID, 51))
+                .thenReturn(Flux.just(accountNotification));
+        when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountNotificationsPage(ACCOUNT_ID, cursor, null))
+                .assertNext(page -> {
+                    assertEquals(List.of(accountNotificationDTO), page.getItems());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getUnreadAccountNotificationsPage_CapsPageSize() {
+        // Arrange
+        when(repository.findUnreadPageByAccountId(eq(ACCOUNT_ID), eq(Integer.MIN_VALUE), any(LocalDateTime.class),
+                any(UUID.class), eq(201)))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getUnreadAccountNotificationsPage(ACCOUNT_ID, null, 1000))
+                .assertNext(page -> {
+                    assertTrue(page.getItems().isEmpty());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getActiveNotificationsPage_Success() {
+        // Arrange
+        when(repository.findActivePageByAccountId(eq(ACCOUNT_ID), any(LocalDateTime.class), eq(false),
+                eq(Integer.MIN_VALUE), any(LocalDateTime.class), any(UUID.class), eq(51)))
+                .thenReturn(Flux.just(accountNotification));
+        when(mapper.toDTO(accountNotification)).thenReturn(accountNotificationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getActiveNotificationsPage(ACCOUNT_ID, null, null))
+                .assertNext(page -> assertEquals(List.of(accountNotificationDTO), page.getItems()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getAccountNotificationsPage_InvalidCursor() {
+        // Act & Assert
+        StepVerifier.create(service.getAccountNotificationsPage(ACCOUNT_ID, "not-a-cursor", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getAccountNotificationsPage_NonPositiveSize() {
+        // Act & Assert
+        StepVerifier.create(service.getAccountNotificationsPage(ACCOUNT_ID, null, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
     }
 }
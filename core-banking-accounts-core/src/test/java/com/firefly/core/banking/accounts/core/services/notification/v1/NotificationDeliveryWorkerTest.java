@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationDeliveryStatusEnum;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.NotificationOutbox;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryWorkerTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private AccountNotificationRepository notificationRepository;
+
+    @Mock
+    private AccountNotificationMapper mapper;
+
+    @InjectMocks
+    private NotificationDeliveryWorker worker;
+
+    private final StubNotificationChannel stubChannel = new StubNotificationChannel();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AccountNotification notification;
+    private AccountNotificationDTO notificationDTO;
+    private final UUID OUTBOX_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440030");
+    private final UUID NOTIFICATION_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440031");
+
+    @BeforeEach
+    void setUp() {
+        NotificationChannel failingChannel = new NotificationChannel() {
+            @Override
+            public Set<String> getChannels() {
+                return Set.of("SMS");
+            }
+
+            @Override
+            public Mono<Void> deliver(String channel, AccountNotificationDTO notification) {
+                return Mono.error(new IllegalStateException("Provider unavailable"));
+            }
+        };
+        ReflectionTestUtils.setField(worker, "channels", List.of(stubChannel, failingChannel));
+        ReflectionTestUtils.setField(worker, "meterRegistry", meterRegistry);
+        worker.init();
+
+        notification = new AccountNotification();
+        notification.setAccountNotificationId(NOTIFICATION_ID);
+
+        notificationDTO = new AccountNotificationDTO();
+        notificationDTO.setAccountNotificationId(NOTIFICATION_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void deliverBatch_DeliversThroughChannel() {
+        // Arrange
+        when(outboxRepository.claimDue(any(LocalDateTime.class), eq(100), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(outboxEntry("APP", 1)));
+        when(notificationRepository.findAllById(List.of(NOTIFICATION_ID))).thenReturn(Flux.just(notification));
+        when(mapper.toDTO(notification)).thenReturn(notificationDTO);
+        when(outboxRepository.markDelivered(eq(OUTBOX_ID), any(LocalDateTime.class))).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(worker.deliverBatch())
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(1, stubChannel.getDeliveredCount());
+        assertEquals(1.0, meterRegistry.counter("account.notification.delivery",
+                "channel", "APP", "outcome", NotificationDeliveryWorker.OUTCOME_DELIVERED).count());
+    }
+
+    @Test
+    void deliverBatch_NothingDue() {
+        // Arrange
+        when(outboxRepository.claimDue(any(LocalDateTime.class), eq(100), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(worker.deliverBatch())
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void deliver_MarkDeliveredFails_DoesNotScheduleRetry() {
+        // Arrange
+        when(outboxRepository.markDelivered(eq(OUTBOX_ID), any(LocalDateTime.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Connection closed")));
+
+        // Act & Assert
+        StepVerifier.create(worker.deliver(outboxEntry("APP", 1), notificationDTO))
+                .expectNext(NotificationDeliveryWorker.OUTCOME_DELIVERED)
+                .verifyComplete();
+
+        assertEquals(1, stubChannel.getDeliveredCount());
+        verify(outboxRepository, never()).scheduleRetry(any(UUID.class), any(LocalDateTime.class), anyString());
+        verify(outboxRepository, never()).markFailed(any(UUID.class), anyString());
+    }
+
+    @Test
+    void deliver_FailedAttempt_SchedulesRetry() {
+        // Arrange
+        when(outboxRepository.scheduleRetry(eq(OUTBOX_ID), any(LocalDateTime.class), eq("Provider unavailable")))
+                .thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(worker.deliver(outboxEntry("SMS", 2), notificationDTO))
+                .expectNext(NotificationDeliveryWorker.OUTCOME_RETRIED)
+                .verifyComplete();
+
+        verify(outboxRepository, never()).markFailed(any(UUID.class), anyString());
+    }
+
+    @Test
+    void deliver_AttemptsExhausted_MarksFailed() {
+        // Arrange
+        when(outboxRepository.markFailed(OUTBOX_ID, "Provider unavailable")).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(worker.deliver(outboxEntry("SMS", 8), notificationDTO))
+                .expectNext(NotificationDeliveryWorker.OUTCOME_FAILED)
+                .verifyComplete();
+
+        verify(outboxRepository, never()).scheduleRetry(any(UUID.class), any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    void deliver_UnknownChannel_MarksFailed() {
+        // Arrange
+        when(outboxRepository.markFailed(OUTBOX_ID, "No delivery channel registered for FAX")).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(worker.deliver(outboxEntry("FAX", 1), notificationDTO))
+                .expectNext(NotificationDeliveryWorker.OUTCOME_FAILED)
+                .verifyComplete();
+    }
+
+    @Test
+    void backoff_DoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(1), worker.backoff(1));
+        assertEquals(Duration.ofSeconds(2), worker.backoff(2));
+        assertEquals(Duration.ofSeconds(8), worker.backoff(4));
+        assertEquals(Duration.ofMinutes(5), worker.backoff(20));
+        assertEquals(Duration.ofMinutes(5), worker.backoff(100));
+    }
+
+    @Test
+    void refreshQueueMetrics_UpdatesGauges() {
+        // Arrange
+        when(outboxRepository.countPending()).thenReturn(Mono.just(42L));
+        when(outboxRepository.findOldestPendingDateCreated()).thenReturn(Mono.just(LocalDateTime.now().minusMinutes(2)));
+
+        // Act & Assert
+        StepVerifier.create(worker.refreshQueueMetrics())
+                .verifyComplete();
+
+        assertEquals(42.0, meterRegistry.get("account.notification.outbox.pending").gauge().value());
+        assertEquals(120.0, meterRegistry.get("account.notification.outbox.lag").gauge().value(), 5.0);
+    }
+
+    private NotificationOutbox outboxEntry(String channel, int attempts) {
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setNotificationOutboxId(OUTBOX_ID);
+        entry.setAccountNotificationId(NOTIFICATION_ID);
+        entry.setChannel(channel);
+        entry.setStatus(NotificationDeliveryStatusEnum.PENDING);
+        entry.setAttempts(attempts);
+        return entry;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionPurgerTest {
+
+    @Mock
+    private AccountNotificationService accountNotificationService;
+
+    @InjectMocks
+    private NotificationRetentionPurger purger;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(purger, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(purger, "batchSize", 2);
+        ReflectionTestUtils.setField(purger, "pauseBetweenBatchesMs", 0L);
+        purger.init();
+    }
+
+    @Test
+    void purgeOnce_StopsOnShortBatch() {
+        // Arrange
+        when(accountNotificationService.purgeExpiredNotifications(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(2L), Mono.just(2L), Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(purger.purgeOnce())
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(accountNotificationService, times(3)).purgeExpiredNotifications(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void purgeOnce_StopsAtBatchLimit() {
+        // Arrange
+        ReflectionTestUtils.setField(purger, "maxBatchesPerRun", 2);
+        when(accountNotificationService.purgeExpiredNotifications(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(purger.purgeOnce())
+                .expectNext(4L)
+                .verifyComplete();
+
+        verify(accountNotificationService, times(2)).purgeExpiredNotifications(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void purgeDeliveriesOnce_DeletesFinishedEntriesOlderThanRetention() {
+        // Arrange
+        ReflectionTestUtils.setField(purger, "outboxRetentionDays", 7);
+        LocalDateTime earliestCutoff = LocalDateTime.now().minusDays(7);
+        when(accountNotificationService.purgeFinishedDeliveries(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(2L), Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(purger.purgeDeliveriesOnce())
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(accountNotificationService, times(2)).purgeFinishedDeliveries(
+                argThat(cutoff -> !cutoff.isBefore(earliestCutoff)
+                        && cutoff.isBefore(LocalDateTime.now().minusDays(6))),
+                eq(2));
+        verify(accountNotificationService, never()).purgeExpiredNotifications(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void purge_RecordsPurgedRows() {
+        // Arrange
+        when(accountNotificationService.purgeExpiredNotifications(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(1L));
+        when(accountNotificationService.purgeFinishedDeliveries(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(1L));
+
+        // Act
+        purger.purge();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.counter("account.notification.retention.purged").count());
+        assertEquals(1.0, meterRegistry.counter("account.notification.retention.outbox-purged").count());
+        assertEquals(1L, meterRegistry.timer("account.notification.retention.run").count());
+    }
+
+    @Test
+    void purge_NotificationPurgeFails_StillPurgesOutbox() {
+        // Arrange
+        when(accountNotificationService.purgeExpiredNotifications(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.error(new IllegalStateException("Purge failed")));
+        when(accountNotificationService.purgeFinishedDeliveries(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(1L));
+
+        // Act
+        purger.purge();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.counter("account.notification.retention.purged").count());
+        assertEquals(1.0, meterRegistry.counter("account.notification.retention.outbox-purged").count());
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
+import com.firefly.core.banking.accounts.interfaces.enums.parameter.v1.ParamTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.core.v1.Account;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.entities.parameter.v1.AccountParameter;
+import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountRepository;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import com.firefly.core.banking.accounts.models.repositories.parameter.v1.AccountParameterRepository;
+import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRulesEngineTest {
+
+    private static final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private static final UUID SPACE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountParameterRepository parameterRepository;
+
+    @Mock
+    private AccountSpaceRepository accountSpaceRepository;
+
+    @Mock
+    private AccountNotificationRepository notificationRepository;
+
+    @Mock
+    private AccountNotificationService accountNotificationService;
+
+    @InjectMocks
+    private NotificationRulesEngine engine;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "enabled", false);
+        engine.start();
+
+        account = new Account();
+        account.setAccountId(ACCOUNT_ID);
+        account.setMinimumBalance(new BigDecimal("100"));
+    }
+
+    @Test
+    void evaluate_LargeDepositReachingGoal() {
+        // Arrange
+        stubThresholds();
+        when(notificationRepository.findCreatedSinceByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+        ArgumentCaptor<List<AccountNotificationDTO>> created = stubCreate();
+
+        BalanceChangeEvent deposit = event(BalanceChangeEvent.Type.DEPOSIT, "15000", "16000", "tx-1");
+
+        // Act & Assert
+        StepVerifier.create(engine.evaluate(List.of(deposit)))
+                .expectNext(2)
+                .verifyComplete();
+
+        List<AccountNotificationDTO> notifications = created.getValue();
+        assertEquals(NotificationTypeEnum.LARGE_DEPOSIT, notifications.get(0).getNotificationType());
+        assertEquals("tx-1", notifications.get(0).getEventReference());
+        assertEquals(NotificationTypeEnum.GOAL_ACHIEVED, notifications.get(1).getNotificationType());
+        assertEquals(SPACE_ID.toString(), notifications.get(1).getEventReference());
+        verifyNoInteractions(accountSpaceRepository);
+    }
+
+    @Test
+    void evaluate_WithdrawalBelowMinimumBalance() {
+        // Arrange
+        stubThresholds();
+        when(accountSpaceRepository.calculateTotalBalance(ACCOUNT_ID)).thenReturn(Mono.just(new BigDecimal("50")));
+        when(notificationRepository.findCreatedSinceByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+        ArgumentCaptor<List<AccountNotificationDTO>> created = stubCreate();
+
+        BalanceChangeEvent withdrawal = event(BalanceChangeEvent.Type.WITHDRAWAL, "20", "50", "tx-2");
+
+        // Act & Assert
+        StepVerifier.create(engine.evaluate(List.of(withdrawal)))
+                .expectNext(1)
+                .verifyComplete();
+
+        AccountNotificationDTO notification = created.getValue().get(0);
+        assertEquals(NotificationTypeEnum.LOW_BALANCE, notification.getNotificationType());
+        assertEquals(1, notification.getPriority());
+        assertNull(notification.getEventReference());
+    }
+
+    @Test
+    void evaluate_ParameterOverridesDefaultThreshold() {
+        // Arrange
+        AccountParameter parameter = new AccountParameter();
+        parameter.setAccountId(ACCOUNT_ID);
+        parameter.setParamType(ParamTypeEnum.LARGE_DEPOSIT_THRESHOLD);
+        parameter.setParamValue(new BigDecimal("50000"));
+        parameter.setEffectiveDate(LocalDateTime.now().minusDays(1));
+        when(accountRepository.findAllByAccountIdIn(any(UUID[].class))).thenReturn(Flux.just(account));
+        when(parameterRepository.findEffectiveByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(parameter));
+
+        BalanceChangeEvent deposit = event(BalanceChangeEvent.Type.DEPOSIT, "15000", "16000", "tx-3");
+
+        // Act & Assert
+        StepVerifier.create(engine.evaluate(List.of(deposit)))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(notificationRepository, accountNotificationService);
+    }
+
+    @Test
+    void evaluate_SkipsAlertsRaisedWithinWindow() {
+        // Arrange
+        stubThresholds();
+        AccountNotification existing = new AccountNotification();
+        existing.setAccountId(ACCOUNT_ID);
+        existing.setNotificationType(NotificationTypeEnum.AUTOMATIC_TRANSFER_FAILED);
+        existing.setEventReference(SPACE_ID.toString());
+        when(notificationRepository.findCreatedSinceByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(existing));
+
+        BalanceChangeEvent failure = event(BalanceChangeEvent.Type.AUTOMATIC_TRANSFER_FAILED, "100", null, null);
+
+        // Act & Assert
+        StepVerifier.create(engine.evaluate(List.of(failure)))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(accountNotificationService);
+    }
+
+    @Test
+    void evaluate_DedupesWithinBatch() {
+        // Arrange
+        stubThresholds();
+        when(notificationRepository.findCreatedSinceByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+        ArgumentCaptor<List<AccountNotificationDTO>> created = stubCreate();
+
+        BalanceChangeEvent failure = event(BalanceChangeEvent.Type.AUTOMATIC_TRANSFER_FAILED, "100", null, null);
+
+        // Act & Assert
+        StepVerifier.create(engine.evaluate(List.of(failure, failure)))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(1, created.getValue().size());
+    }
+
+    @Test
+    void publish_DisabledIsNoOp() {
+        // Act
+        engine.publish(event(BalanceChangeEvent.Type.DEPOSIT, "15000", "16000", "tx-4"));
+
+        // Assert
+        verifyNoInteractions(accountRepository, parameterRepository, accountNotificationService);
+    }
+
+    private void stubThresholds() {
+        when(accountRepository.findAllByAccountIdIn(any(UUID[].class))).thenReturn(Flux.just(account));
+        when(parameterRepository.findEffectiveByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<AccountNotificationDTO>> stubCreate() {
+        ArgumentCaptor<List<AccountNotificationDTO>> captor = ArgumentCaptor.forClass(List.class);
+        when(accountNotificationService.createAccountNotifications(captor.capture()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<AccountNotificationDTO>>getArgument(0)));
+        return captor;
+    }
+
+    private static BalanceChangeEvent event(BalanceChangeEvent.Type type, String amount, String balanceAfter,
+                                            String reference) {
+        return new BalanceChangeEvent(type, ACCOUNT_ID, SPACE_ID, new BigDecimal(amount),
+                balanceAfter != null ? new BigDecimal(balanceAfter) : null, new BigDecimal("10000"),
+                reference, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.core.mappers.notification.v1.AccountNotificationMapper;
+import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
+import com.firefly.core.banking.accounts.models.repositories.notification.v1.AccountNotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamHubTest {
+
+    @Spy
+    private LocalNotificationBroker broker = new LocalNotificationBroker();
+
+    @Mock
+    private AccountNotificationRepository repository;
+
+    @Mock
+    private AccountNotificationMapper mapper;
+
+    @InjectMocks
+    private NotificationStreamHub hub;
+
+    private final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440040");
+    private final UUID OTHER_ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440041");
+    private final UUID NOTIFICATION_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440042");
+
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+
+    @BeforeEach
+    void setUp() {
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscribe_ReceivesNotificationsOfAccount() {
+        AccountNotificationDTO own = notification(ACCOUNT_ID);
+        AccountNotificationDTO other = notification(OTHER_ACCOUNT_ID);
+
+        StepVerifier.create(hub.subscribe(ACCOUNT_ID))
+                .then(() -> {
+                    hub.publish(other).block();
+                    hub.publish(own).block();
+                })
+                .expectNext(own)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void publish_InsideTransaction_StreamsOnceCommitted() {
+        AccountNotificationDTO own = notification(ACCOUNT_ID);
+        List<AccountNotificationDTO> streamed = new ArrayList<>();
+        Disposable client = hub.subscribe(ACCOUNT_ID).subscribe(streamed::add);
+
+        StepVerifier.create(transactionalOperator.transactional(hub.publish(own)
+                        .then(Mono.fromRunnable(() -> assertTrue(streamed.isEmpty())))))
+                .verifyComplete();
+
+        assertEquals(List.of(own), streamed);
+        client.dispose();
+    }
+
+    @Test
+    void publish_RolledBack_NeverStreamed() {
+        List<AccountNotificationDTO> streamed = new ArrayList<>();
+        Disposable client = hub.subscribe(ACCOUNT_ID).subscribe(streamed::add);
+
+        StepVerifier.create(transactionalOperator.transactional(hub.publish(notification(ACCOUNT_ID))
+                        .then(Mono.error(new IllegalStateException("Insert failed")))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertTrue(streamed.isEmpty());
+        client.dispose();
+    }
+
+    @Test
+    void dispatch_IdOnlyMessage_LoadsNotification() {
+        AccountNotification entity = new AccountNotification();
+        AccountNotificationDTO dto = notification(ACCOUNT_ID);
+        when(repository.findById(NOTIFICATION_ID)).thenReturn(Mono.just(entity));
+        when(mapper.toDTO(entity)).thenReturn(dto);
+
+        StepVerifier.create(hub.subscribe(ACCOUNT_ID))
+                .then(() -> hub.dispatch(new NotificationBroker.Message(ACCOUNT_ID, NOTIFICATION_ID, null)).block())
+                .expectNext(dto)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void dispatch_NoSubscriber_SkipsLookup() {
+        StepVerifier.create(hub.dispatch(new NotificationBroker.Message(ACCOUNT_ID, NOTIFICATION_ID, null)))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void evictIdle_RemovesStreamsWithoutClients() {
+        Disposable client = hub.subscribe(ACCOUNT_ID).subscribe();
+        hub.subscribe(OTHER_ACCOUNT_ID).subscribe().dispose();
+        assertEquals(2, hub.size());
+
+        assertEquals(1, hub.evictIdle(System.currentTimeMillis() + 300001));
+        assertEquals(1, hub.size());
+
+        client.dispose();
+    }
+
+    @Test
+    void subscribe_CapacityReached() {
+        ReflectionTestUtils.setField(hub, "maxAccounts", 1);
+        Disposable client = hub.subscribe(ACCOUNT_ID).subscribe();
+
+        StepVerifier.create(hub.subscribe(OTHER_ACCOUNT_ID))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        client.dispose();
+    }
+
+    private AccountNotificationDTO notification(UUID accountId) {
+        AccountNotificationDTO dto = new AccountNotificationDTO();
+        dto.setAccountNotificationId(UUID.randomUUID());
+        dto.setAccountId(accountId);
+        return dto;
+    }
+
+    /**
+     * Transaction manager without a resource, so transaction synchronizations run as in a real transaction.
+     */
+    private static final class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
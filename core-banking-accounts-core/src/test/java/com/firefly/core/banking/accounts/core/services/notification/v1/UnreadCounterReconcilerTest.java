@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.notification.v1;
+
+import com.firefly.core.banking.accounts.models.repositories.core.v1.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCounterReconcilerTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountNotificationService accountNotificationService;
+
+    @InjectMocks
+    private UnreadCounterReconciler reconciler;
+
+    private final UUID ACCOUNT_1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440061");
+    private final UUID ACCOUNT_2 = UUID.fromString("550e8400-e29b-41d4-a716-446655440062");
+    private final UUID ACCOUNT_3 = UUID.fromString("550e8400-e29b-41d4-a716-446655440063");
+
+    @Test
+    void reconcileAll_PagesThroughAccountsInChunks() {
+        // Arrange
+        ReflectionTestUtils.setField(reconciler, "chunkSize", 2);
+        when(accountRepository.findAccountIdsAfter(UnreadCounterReconciler.FIRST_ACCOUNT_ID, 2))
+                .thenReturn(Flux.just(ACCOUNT_1, ACCOUNT_2));
+        when(accountRepository.findAccountIdsAfter(ACCOUNT_2, 2)).thenReturn(Flux.just(ACCOUNT_3));
+        when(accountNotificationService.reconcileUnreadCounters(List.of(ACCOUNT_1, ACCOUNT_2)))
+                .thenReturn(Mono.just(1));
+        when(accountNotificationService.reconcileUnreadCounters(List.of(ACCOUNT_3))).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(reconciler.reconcileAll())
+                .expectNext(3)
+                .verifyComplete();
+
+        verify(accountRepository, never()).findAccountIdsAfter(ACCOUNT_3, 2);
+    }
+
+    @Test
+    void reconcileAll_NoAccounts() {
+        // Arrange
+        when(accountRepository.findAccountIdsAfter(UnreadCounterReconciler.FIRST_ACCOUNT_ID, 1000))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(reconciler.reconcileAll())
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(accountNotificationService);
+    }
+}
@@ -18,22 +18,32 @@
 package com.firefly.core.banking.accounts.core.services.restriction.v1;
 
 import com.firefly.core.banking.accounts.core.mappers.restriction.v1.AccountRestrictionMapper;
+import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
 import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.restriction.v1.AccountRestriction;
 import com.firefly.core.banking.accounts.models.repositories.restriction.v1.AccountRestrictionRepository;
+import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -47,6 +57,18 @@ class AccountRestrictionServiceImplTest {
     @Mock
     private AccountRestrictionMapper mapper;
 
+    @Mock
+    private AccountSpaceRepository accountSpaceRepository;
+
+    @Mock
+    private AccountNotificationService notificationService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private ActiveRestrictionIndex restrictionIndex = new ActiveRestrictionIndex();
+
     @InjectMocks
     private AccountRestrictionServiceImpl service;
 
@@ -85,6 +107,7 @@ class AccountRestrictionServiceImplTest {
         when(mapper.toEntity(any(AccountRestrictionDTO.class))).thenReturn(accountRestriction);
         when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(accountRestriction));
         when(mapper.toDTO(any(AccountRestriction.class))).thenReturn(accountRestrictionDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(service.createAccountRestriction(accountRestrictionDTO))
@@ -94,6 +117,23 @@ class AccountRestrictionServiceImplTest {
         verify(repository).save(any(AccountRestriction.class));
     }
 
+    @Test
+    void createAccountRestriction_CommitFails_IndexUnchanged() {
+        // Arrange
+        when(mapper.toEntity(any(AccountRestrictionDTO.class))).thenReturn(accountRestriction);
+        when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(accountRestriction));
+        when(mapper.toDTO(any(AccountRestriction.class))).thenReturn(accountRestrictionDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountRestriction(accountRestrictionDTO))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(restrictionIndex, never()).apply(any(AccountRestrictionDTO.class));
+    }
+
     @Test
     void createAccountRestriction_MissingAccountId() {
         // Arrange
@@ -148,6 +188,7 @@ class AccountRestrictionServiceImplTest {
         when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
         when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(updatedRestriction));
         when(mapper.toDTO(updatedRestriction)).thenReturn(updatedDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(service.updateAccountRestriction(RESTRICTION_ID, updatedDTO))
@@ -163,6 +204,7 @@ class AccountRestrictionServiceImplTest {
         // Arrange
         when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
         when(repository.delete(accountRestriction)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteAccountRestriction(RESTRICTION_ID))
@@ -170,6 +212,7 @@ class AccountRestrictionServiceImplTest {
 
         verify(repository).findById(RESTRICTION_ID);
         verify(repository).delete(accountRestriction);
+        verify(restrictionIndex).remove(ACCOUNT_ID, RESTRICTION_ID);
     }
 
     @Test
@@ -189,7 +232,7 @@ class AccountRestrictionServiceImplTest {
     @Test
     void getActiveAccountRestrictionsByAccountId_Success() {
         // Arrange
-        when(repository.findByAccountIdAndIsActive(ACCOUNT_ID, true)).thenReturn(Flux.just(accountRestriction));
+        when(repository.findByAccountIdAndIsActiveTrue(ACCOUNT_ID)).thenReturn(Flux.just(accountRestriction));
         when(mapper.toDTO(accountRestriction)).thenReturn(accountRestrictionDTO);
 
         // Act & Assert
@@ -197,7 +240,7 @@ class AccountRestrictionServiceImplTest {
                 .expectNext(accountRestrictionDTO)
                 .verifyComplete();
 
-        verify(repository).findByAccountIdAndIsActive(ACCOUNT_ID, true);
+        verify(repository).findByAccountIdAndIsActiveTrue(ACCOUNT_ID);
     }
 
     @Test
@@ -222,6 +265,7 @@ class AccountRestrictionServiceImplTest {
         when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
         when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(removedRestriction));
         when(mapper.toDTO(removedRestriction)).thenReturn(removedDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(service.removeRestriction(RESTRICTION_ID, removedBy))
@@ -239,6 +283,7 @@ class AccountRestrictionServiceImplTest {
         accountRestriction.setIsActive(false);
 
         when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         StepVerifier.create(service.removeRestriction(RESTRICTION_ID, removedBy))
@@ -249,6 +294,205 @@ class AccountRestrictionServiceImplTest {
         verify(repository, never()).save(any(AccountRestriction.class));
     }
 
+    @Test
+    void canDebit_NoRestrictions_AllowedAndIndexed() {
+        // Arrange
+        when(repository.findByAccountIdAndIsActiveTrue(ACCOUNT_ID)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectNextMatches(DebitAuthorizationDTO::getAllowed)
+                .verifyComplete();
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectNextMatches(DebitAuthorizationDTO::getAllowed)
+                .verifyComplete();
+
+        // The second check is served from the index
+        verify(repository, times(1)).findByAccountIdAndIsActiveTrue(ACCOUNT_ID);
+        verify(accountSpaceRepository, never()).calculateTotalBalance(any());
+    }
+
+    @Test
+    void canDebit_WithdrawalHold_Refused() {
+        // Arrange
+        when(repository.findByAccountIdAndIsActiveTrue(ACCOUNT_ID)).thenReturn(Flux.just(accountRestriction));
+        when(mapper.toDTO(accountRestriction)).thenReturn(accountRestrictionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .assertNext(authorization -> {
+                    assertFalse(authorization.getAllowed());
+                    assertEquals(RestrictionTypeEnum.WITHDRAWAL_HOLD, authorization.getRestrictionType());
+                    assertEquals(RESTRICTION_ID, authorization.getAccountRestrictionId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void canDebit_RemovedRestriction_AllowedWithoutReload() {
+        // Arrange
+        when(repository.findByAccountIdAndIsActiveTrue(ACCOUNT_ID)).thenReturn(Flux.just(accountRestriction));
+        when(mapper.toDTO(accountRestriction)).thenReturn(accountRestrictionDTO);
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectNextMatches(authorization -> !authorization.getAllowed())
+                .verifyComplete();
+
+        AccountRestrictionDTO removedDTO = new AccountRestrictionDTO();
+        removedDTO.setAccountRestrictionId(RESTRICTION_ID);
+        removedDTO.setAccountId(ACCOUNT_ID);
+        removedDTO.setRestrictionType(RestrictionTypeEnum.WITHDRAWAL_HOLD);
+        removedDTO.setIsActive(false);
+        when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
+        when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(accountRestriction));
+        when(mapper.toDTO(accountRestriction)).thenReturn(removedDTO);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        StepVerifier.create(service.removeRestriction(RESTRICTION_ID, "admin-user"))
+                .expectNext(removedDTO)
+                .verifyComplete();
+
+        // Assert
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectNextMatches(DebitAuthorizationDTO::getAllowed)
+                .verifyComplete();
+        verify(repository, times(1)).findByAccountIdAndIsActiveTrue(ACCOUNT_ID);
+    }
+
+    @Test
+    void canDebit_HeldAmount_ChecksAccountBalance() {
+        // Arrange
+        accountRestrictionDTO.setRestrictionType(RestrictionTypeEnum.LEGAL_ORDER);
+        accountRestrictionDTO.setRestrictedAmount(new BigDecimal("800"));
+        when(repository.findByAccountIdAndIsActiveTrue(ACCOUNT_ID)).thenReturn(Flux.just(accountRestriction));
+        when(mapper.toDTO(accountRestriction)).thenReturn(accountRestrictionDTO);
+        when(accountSpaceRepository.calculateTotalBalance(ACCOUNT_ID)).thenReturn(Mono.just(new BigDecimal("1000")));
+
+        // Act & Assert
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, new BigDecimal("200"), ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .assertNext(authorization -> {
+                    assertTrue(authorization.getAllowed());
+                    assertEquals(0, new BigDecimal("800").compareTo(authorization.getHeldAmount()));
+                })
+                .verifyComplete();
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, new BigDecimal("201"), ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectNextMatches(authorization -> !authorization.getAllowed())
+                .verifyComplete();
+        // Internal transfers keep the funds in the account
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, new BigDecimal("900"), ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER))
+                .expectNextMatches(DebitAuthorizationDTO::getAllowed)
+                .verifyComplete();
+    }
+
+    @Test
+    void canDebit_NonPositiveAmount() {
+        StepVerifier.create(service.canDebit(ACCOUNT_ID, BigDecimal.ZERO, ActiveRestrictionIndex.CHANNEL_SPACE_TRANSACTION))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).findByAccountIdAndIsActiveTrue(any());
+    }
+
+    @Test
+    void expireRestrictions_LockAcquired() {
+        // Arrange
+        when(repository.tryAdvisoryXactLock(AccountRestrictionServiceImpl.EXPIRY_SWEEP_LOCK_KEY)).thenReturn(Mono.just(true));
+        when(repository.expireRestrictions(any(LocalDateTime.class), eq(100), eq(AccountRestrictionServiceImpl.EXPIRY_REMOVED_BY)))
+                .thenReturn(Flux.just(accountRestriction));
+        when(notificationService.createRestrictionExpiredNotifications(List.of(RESTRICTION_ID))).thenReturn(Flux.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.expireRestrictions(100))
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(notificationService).createRestrictionExpiredNotifications(List.of(RESTRICTION_ID));
+        verify(restrictionIndex).remove(ACCOUNT_ID, RESTRICTION_ID);
+    }
+
+    @Test
+    void expireRestrictions_CommitFails_IndexUnchanged() {
+        // Arrange
+        when(repository.tryAdvisoryXactLock(AccountRestrictionServiceImpl.EXPIRY_SWEEP_LOCK_KEY)).thenReturn(Mono.just(true));
+        when(repository.expireRestrictions(any(LocalDateTime.class), eq(100), eq(AccountRestrictionServiceImpl.EXPIRY_REMOVED_BY)))
+                .thenReturn(Flux.just(accountRestriction));
+        when(notificationService.createRestrictionExpiredNotifications(List.of(RESTRICTION_ID))).thenReturn(Flux.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(service.expireRestrictions(100))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(restrictionIndex, never()).remove(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void expireRestrictions_LockHeldElsewhere() {
+        // Arrange
+        when(repository.tryAdvisoryXactLock(AccountRestrictionServiceImpl.EXPIRY_SWEEP_LOCK_KEY)).thenReturn(Mono.just(false));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.expireRestrictions(100))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(repository, never()).expireRestrictions(any(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void createAccountRestriction_CourtOrder_FreezesAllSpaces() {
+        // Arrange
+        accountRestriction.setRestrictionType(RestrictionTypeEnum.COURT_ORDER);
+        accountRestrictionDTO.setRestrictionType(RestrictionTypeEnum.COURT_ORDER);
+        when(mapper.toEntity(any(AccountRestrictionDTO.class))).thenReturn(accountRestriction);
+        when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(accountRestriction));
+        when(mapper.toDTO(any(AccountRestriction.class))).thenReturn(accountRestrictionDTO);
+        when(accountSpaceRepository.freezeAllByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(3));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountRestriction(accountRestrictionDTO))
+                .expectNext(accountRestrictionDTO)
+                .verifyComplete();
+
+        verify(accountSpaceRepository).freezeAllByAccountIdIn(
+                argThat(ids -> ids.length == 1 && ids[0].equals(ACCOUNT_ID)), any(LocalDateTime.class));
+        verify(accountSpaceRepository, never()).unfreezeAllByAccountIdIn(any(), any());
+    }
+
+    @Test
+    void removeRestriction_LegalOrder_UnfreezesSpaces() {
+        // Arrange
+        accountRestriction.setRestrictionType(RestrictionTypeEnum.LEGAL_ORDER);
+        AccountRestrictionDTO removedDTO = new AccountRestrictionDTO();
+        removedDTO.setAccountRestrictionId(RESTRICTION_ID);
+        removedDTO.setAccountId(ACCOUNT_ID);
+        removedDTO.setRestrictionType(RestrictionTypeEnum.LEGAL_ORDER);
+        removedDTO.setIsActive(false);
+
+        when(repository.findById(RESTRICTION_ID)).thenReturn(Mono.just(accountRestriction));
+        when(repository.save(any(AccountRestriction.class))).thenReturn(Mono.just(accountRestriction));
+        when(mapper.toDTO(accountRestriction)).thenReturn(removedDTO);
+        when(accountSpaceRepository.unfreezeAllByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(3));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.removeRestriction(RESTRICTION_ID, "admin-user"))
+                .expectNext(removedDTO)
+                .verifyComplete();
+
+        verify(accountSpaceRepository).unfreezeAllByAccountIdIn(
+                argThat(ids -> ids.length == 1 && ids[0].equals(ACCOUNT_ID)), any(LocalDateTime.class));
+        verify(accountSpaceRepository, never()).freezeAllByAccountIdIn(any(), any());
+    }
+
     // TODO: Fix this test
     // @Test
     void listAccountRestrictions_Success() {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.services.restriction.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActiveRestrictionIndexTest {
+
+    private final ActiveRestrictionIndex index = new ActiveRestrictionIndex();
+
+    @Test
+    void load_EvictsLeastRecentlyCheckedAccountWhenFull() {
+        // Arrange
+        ReflectionTestUtils.setField(index, "maxAccounts", 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        index.load(first, List.of(freeze(first)));
+        index.load(second, List.of(freeze(second)));
+        index.get(first);
+
+        // Act
+        index.load(third, List.of(freeze(third)));
+
+        // Assert
+        assertEquals(2, index.size());
+        assertTrue(index.get(second).isEmpty());
+        assertEquals(1, index.get(first).orElseThrow().get(RestrictionTypeEnum.ACCOUNT_FREEZE).size());
+        assertEquals(1, index.get(third).orElseThrow().get(RestrictionTypeEnum.ACCOUNT_FREEZE).size());
+    }
+
+    @Test
+    void remove_DropsRestrictionFromLoadedAccount() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        AccountRestrictionDTO restriction = freeze(accountId);
+        index.load(accountId, List.of(restriction));
+
+        // Act
+        index.remove(accountId, restriction.getAccountRestrictionId());
+
+        // Assert
+        assertTrue(index.get(accountId).orElseThrow().isEmpty());
+    }
+
+    private static AccountRestrictionDTO freeze(UUID accountId) {
+        AccountRestrictionDTO restriction = new AccountRestrictionDTO();
+        restriction.setAccountRestrictionId(UUID.randomUUID());
+        restriction.setAccountId(accountId);
+        restriction.setRestrictionType(RestrictionTypeEnum.ACCOUNT_FREEZE);
+        restriction.setStartDateTime(LocalDateTime.now().minusDays(1));
+        restriction.setIsActive(true);
+        return restriction;
+    }
+}
@@ -20,8 +20,14 @@ package com.firefly.core.banking.accounts.core.services.space.v1;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.mappers.space.v1.AccountSpaceMapper;
 import com.firefly.core.banking.accounts.core.services.core.v1.AccountBalanceService;
+import com.firefly.core.banking.accounts.core.services.notification.v1.BalanceChangeEvent;
+import com.firefly.core.banking.accounts.core.services.notification.v1.NotificationRulesEngine;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
+import com.firefly.core.banking.accounts.core.services.restriction.v1.ActiveRestrictionIndex;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
 import com.firefly.core.banking.accounts.interfaces.enums.space.v1.AccountSpaceTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.space.v1.AccountSpace;
 import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
@@ -31,17 +37,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +70,15 @@ class AccountSpaceServiceImplTest {
     @Mock
     private AccountBalanceService accountBalanceService;
 
+    @Mock
+    private AccountRestrictionService accountRestrictionService;
+
+    @Mock
+    private NotificationRulesEngine notificationRulesEngine;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private AccountSpaceServiceImpl service;
 
@@ -85,6 +108,134 @@ class AccountSpaceServiceImplTest {
         accountSpaceDTO.setIsFrozen(false);
     }
 
+    @Test
+    void createAccountSpace_AccountFrozen_SpaceStartsFrozen() {
+        // Arrange
+        accountSpaceDTO.setAccountSpaceId(null);
+        when(repository.lockAccount(ACCOUNT_ID)).thenReturn(Mono.just(ACCOUNT_ID));
+        when(repository.isAccountFrozen(ACCOUNT_ID)).thenReturn(Mono.just(true));
+        when(mapper.toEntity(accountSpaceDTO)).thenReturn(accountSpace);
+        when(repository.save(any(AccountSpace.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mapper.toDTO(accountSpace)).thenReturn(accountSpaceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createAccountSpace(accountSpaceDTO))
+                .expectNext(accountSpaceDTO)
+                .verifyComplete();
+
+        assertEquals(true, accountSpace.getIsFrozen());
+        assertEquals(true, accountSpace.getFrozenByAccount());
+        verifyNoInteractions(accountRestrictionService);
+    }
+
+    @Test
+    void freezeSpacesOfAccounts_OneUpdatePerChunk() {
+        // Arrange
+        List<UUID> accountIds = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            accountIds.add(UUID.randomUUID());
+        }
+        accountIds.add(accountIds.get(0));
+        when(repository.freezeAllByAccountIdIn(any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(4), Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(service.freezeSpacesOfAccounts(accountIds))
+                .expectNext(6)
+                .verifyComplete();
+
+        verify(repository, times(2)).freezeAllByAccountIdIn(any(UUID[].class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void unfreezeSpacesOfAccounts_EmptyList() {
+        StepVerifier.create(service.unfreezeSpacesOfAccounts(List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void transferBetweenSpaces_RefusedByRestriction() {
+        // Arrange
+        UUID targetSpaceId = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+        AccountSpace targetSpace = new AccountSpace();
+        targetSpace.setAccountSpaceId(targetSpaceId);
+        targetSpace.setAccountId(ACCOUNT_ID);
+        targetSpace.setBalance(BigDecimal.ZERO);
+
+        when(repository.findById(SPACE_ID)).thenReturn(Mono.just(accountSpace));
+        when(repository.findById(targetSpaceId)).thenReturn(Mono.just(targetSpace));
+        when(accountRestrictionService.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER))
+                .thenReturn(Mono.just(DebitAuthorizationDTO.builder()
+                        .accountId(ACCOUNT_ID)
+                        .allowed(false)
+                        .reason("Account is frozen")
+                        .restrictionType(RestrictionTypeEnum.ACCOUNT_FREEZE)
+                        .build()));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.transferBetweenSpaces(SPACE_ID, targetSpaceId, BigDecimal.TEN))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(repository, never()).save(any(AccountSpace.class));
+        verifyNoInteractions(notificationRulesEngine);
+    }
+
+    @Test
+    void transferBetweenSpaces_PublishesBalanceChangesAfterCommit() {
+        // Arrange
+        UUID targetSpaceId = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+        AccountSpace targetSpace = new AccountSpace();
+        targetSpace.setAccountSpaceId(targetSpaceId);
+        targetSpace.setAccountId(ACCOUNT_ID);
+        targetSpace.setBalance(BigDecimal.ZERO);
+
+        when(repository.findById(SPACE_ID)).thenReturn(Mono.just(accountSpace));
+        when(repository.findById(targetSpaceId)).thenReturn(Mono.just(targetSpace));
+        when(accountRestrictionService.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER))
+                .thenReturn(Mono.just(DebitAuthorizationDTO.builder().accountId(ACCOUNT_ID).allowed(true).build()));
+        when(repository.save(any(AccountSpace.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(accountBalanceService.createBalance(eq(ACCOUNT_ID), any(AccountBalanceDTO.class)))
+                .thenReturn(Mono.just(new AccountBalanceDTO()));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(service.transferBetweenSpaces(SPACE_ID, targetSpaceId, BigDecimal.TEN))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(notificationRulesEngine, times(2)).publish(any(BalanceChangeEvent.class));
+    }
+
+    @Test
+    void transferBetweenSpaces_DoesNotPublishWhenCommitFails() {
+        // Arrange
+        UUID targetSpaceId = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+        AccountSpace targetSpace = new AccountSpace();
+        targetSpace.setAccountSpaceId(targetSpaceId);
+        targetSpace.setAccountId(ACCOUNT_ID);
+        targetSpace.setBalance(BigDecimal.ZERO);
+
+        when(repository.findById(SPACE_ID)).thenReturn(Mono.just(accountSpace));
+        when(repository.findById(targetSpaceId)).thenReturn(Mono.just(targetSpace));
+        when(accountRestrictionService.canDebit(ACCOUNT_ID, BigDecimal.TEN, ActiveRestrictionIndex.CHANNEL_INTERNAL_TRANSFER))
+                .thenReturn(Mono.just(DebitAuthorizationDTO.builder().accountId(ACCOUNT_ID).allowed(true).build()));
+        when(repository.save(any(AccountSpace.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(accountBalanceService.createBalance(eq(ACCOUNT_ID), any(AccountBalanceDTO.class)))
+                .thenReturn(Mono.just(new AccountBalanceDTO()));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+                invocation.<Mono<?>>getArgument(0).then(Mono.error(new IllegalStateException("Commit failed"))));
+
+        // Act & Assert
+        StepVerifier.create(service.transferBetweenSpaces(SPACE_ID, targetSpaceId, BigDecimal.TEN))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verifyNoInteractions(notificationRulesEngine);
+    }
+
     @Test
     void freezeAccountSpace_Success() {
         // Arrange
@@ -122,6 +273,27 @@ class AccountSpaceServiceImplTest {
                 .verify();
     }
 
+    @Test
+    void freezeAccountSpace_FrozenByAccount_StaysFrozenOnItsOwn() {
+        // Arrange
+        LocalDateTime frozenDateTime = LocalDateTime.now().minusDays(1);
+        accountSpace.setIsFrozen(true);
+        accountSpace.setFrozenByAccount(true);
+        accountSpace.setFrozenDateTime(frozenDateTime);
+        when(repository.findById(SPACE_ID)).thenReturn(Mono.just(accountSpace));
+        when(repository.save(any(AccountSpace.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mapper.toDTO(accountSpace)).thenReturn(accountSpaceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.freezeAccountSpace(SPACE_ID))
+                .expectNext(accountSpaceDTO)
+                .verifyComplete();
+
+        assertEquals(true, accountSpace.getIsFrozen());
+        assertEquals(false, accountSpace.getFrozenByAccount());
+        assertEquals(frozenDateTime, accountSpace.getFrozenDateTime());
+    }
+
     @Test
     void unfreezeAccountSpace_Success() {
         // Arrange
@@ -251,4 +423,35 @@ class AccountSpaceServiceImplTest {
                 .expectError(IllegalArgumentException.class)
                 .verify();
     }
+
+    @Test
+    void batchGetAccountSpaces_ShouldReturnSpacesInRequestOrderAndReportMissingIds() {
+        // Arrange
+        UUID otherSpaceId = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+        UUID missingSpaceId = UUID.fromString("550e8400-e29b-41d4-a716-446655440005");
+
+        AccountSpace otherSpace = new AccountSpace();
+        otherSpace.setAccountSpaceId(otherSpaceId);
+        AccountSpaceDTO otherSpaceDTO = AccountSpaceDTO.builder().accountSpaceId(otherSpaceId).build();
+
+        // Repository returns rows in a different order than requested
+        when(repository.findAllByAccountSpaceIdIn(any(UUID[].class))).thenReturn(Flux.just(accountSpace, otherSpace));
+        when(mapper.toDTO(accountSpace)).thenReturn(accountSpaceDTO);
+        when(mapper.toDTO(otherSpace)).thenReturn(otherSpaceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.batchGetAccountSpaces(List.of(otherSpaceId, missingSpaceId, SPACE_ID, otherSpaceId)))
+                .assertNext(response -> {
+                    assertEquals(List.of(otherSpaceDTO, accountSpaceDTO), response.getItems());
+                    assertEquals(List.of(missingSpaceId), response.getMissingIds());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void batchGetAccountSpaces_ShouldReturnError_WhenNoIdsGiven() {
+        StepVerifier.create(service.batchGetAccountSpaces(List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenAmountTest {
+
+    @Test
+    void add_OverflowsToBigIntegerAndBack() {
+        // Arrange
+        TokenAmount max = TokenAmount.ofBaseUnits(Long.MAX_VALUE, 18);
+
+        // Act
+        TokenAmount overflowed = max.add(TokenAmount.ofBaseUnits(1L, 18));
+        TokenAmount back = overflowed.subtract(TokenAmount.ofBaseUnits(2L, 18));
+
+        // Assert
+        assertFalse(overflowed.fitsInLong());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), overflowed.toBigInteger());
+        assertTrue(back.fitsInLong());
+        assertEquals(Long.MAX_VALUE - 1, back.longValueExact());
+    }
+
+    @Test
+    void add_AlignsDecimals() {
+        // Act
+        TokenAmount sum = TokenAmount.of(new BigDecimal("1.5"), 8)
+                .add(TokenAmount.of(new BigDecimal("0.000000000000000001"), 18));
+
+        // Assert
+        assertEquals(18, sum.decimals());
+        assertEquals(new BigDecimal("1.500000000000000001"), sum.toBigDecimal());
+    }
+
+    @Test
+    void withDecimals_FallsBackToBigIntegerWhenLongOverflows() {
+        // Act
+        TokenAmount amount = TokenAmount.ofBaseUnits(1_000_000_000L, 0).withDecimals(18);
+
+        // Assert
+        assertFalse(amount.fitsInLong());
+        assertEquals(new BigDecimal("1000000000.000000000000000000"), amount.toBigDecimal());
+    }
+
+    @Test
+    void withDecimals_RequiresExactnessWhenReducingDecimals() {
+        // Arrange
+        TokenAmount amount = TokenAmount.ofBaseUnits(1_500_000L, 6);
+
+        // Act & Assert
+        assertEquals(TokenAmount.ofBaseUnits(15L, 1), amount.withDecimals(1));
+        assertThrows(ArithmeticException.class, () -> amount.withDecimals(0));
+    }
+
+    @Test
+    void of_RejectsAmountFinerThanDecimals() {
+        assertThrows(ArithmeticException.class, () -> TokenAmount.of(new BigDecimal("0.0000001"), 6));
+        assertThrows(IllegalArgumentException.class, () -> TokenAmount.of(BigDecimal.ONE, 37));
+    }
+
+    @Test
+    void negate_HandlesLongMinValue() {
+        // Act
+        TokenAmount negated = TokenAmount.ofBaseUnits(Long.MIN_VALUE, 0).negate();
+
+        // Assert
+        assertFalse(negated.fitsInLong());
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), negated.toBigInteger());
+    }
+
+    @Test
+    void toBigDecimal_RoundsToScale() {
+        // Arrange
+        TokenAmount amount = TokenAmount.ofBaseUnits(new BigInteger("123456789012345678"), 18);
+
+        // Act & Assert
+        assertEquals(new BigDecimal("0.1234"), amount.toBigDecimal(4, RoundingMode.DOWN));
+        assertEquals(new BigDecimal("0.1235"), amount.toBigDecimal(4, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void compareTo_IgnoresDecimalsButEqualsDoesNot() {
+        // Arrange
+        TokenAmount sixDecimals = TokenAmount.of(new BigDecimal("2"), 6);
+        TokenAmount eighteenDecimals = TokenAmount.of(new BigDecimal("2"), 18);
+
+        // Act & Assert
+        assertEquals(0, sixDecimals.compareTo(eighteenDecimals));
+        assertNotEquals(sixDecimals, eighteenDecimals);
+        assertEquals(sixDecimals, TokenAmount.ofBaseUnits(new BigDecimal("2000000"), 6));
+        assertTrue(TokenAmount.ofBaseUnits(1L, 18).compareTo(TokenAmount.zero(0)) > 0);
+    }
+}
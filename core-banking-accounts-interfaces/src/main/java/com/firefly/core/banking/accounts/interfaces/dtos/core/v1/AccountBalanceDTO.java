@@ -20,6 +20,8 @@ package com.firefly.core.banking.accounts.interfaces.dtos.core.v1;
 import com.firefly.core.banking.accounts.interfaces.dtos.BaseDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
 import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -31,6 +33,7 @@ import jakarta.validation.constraints.*;
 import jakarta.validation.Valid;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -54,10 +57,17 @@ public class AccountBalanceDTO extends BaseDTO {
     @NotNull(message = "Balance type is required")
     private BalanceTypeEnum balanceType;
 
-    @NotNull(message = "Balance amount is required")
     @Digits(integer = 15, fraction = 2, message = "Balance amount must have at most 15 integer digits and 2 decimal places")
     private BigDecimal balanceAmount;
 
+    /**
+     * Exact crypto balance in base units of the token (e.g. wei), serialized as a string
+     * so clients do not lose precision. When set, the balance amount is derived from it, and a
+     * balance amount sent along must match it.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private BigInteger balanceBaseUnits;
+
     @NotNull(message = "As of datetime is required")
     @PastOrPresent(message = "As of datetime cannot be in the future")
     private LocalDateTime asOfDatetime;
@@ -67,9 +77,9 @@ public class AccountBalanceDTO extends BaseDTO {
     @Pattern(regexp = "^[A-Z0-9]*$", message = "Asset symbol must contain only uppercase letters and numbers")
     private String assetSymbol;
 
-    @Size(max = 2, message = "Asset decimals must not exceed 2 characters")
-    @Pattern(regexp = "^[0-9]*$", message = "Asset decimals must contain only numbers")
-    private String assetDecimals;
+    @Min(value = 0, message = "Asset decimals cannot be negative")
+    @Max(value = 36, message = "Asset decimals cannot exceed 36")
+    private Integer assetDecimals;
 
     @Size(max = 100, message = "Transaction hash must not exceed 100 characters")
     private String transactionHash;
@@ -77,4 +87,10 @@ public class AccountBalanceDTO extends BaseDTO {
     @Min(value = 0, message = "Confirmations cannot be negative")
     @Max(value = 999999, message = "Confirmations cannot exceed 999999")
     private Integer confirmations;
+
+    @JsonIgnore
+    @AssertTrue(message = "Balance amount or balance base units is required")
+    public boolean isAmountPresent() {
+        return balanceAmount != null || balanceBaseUnits != null;
+    }
 }
\ No newline at end of file
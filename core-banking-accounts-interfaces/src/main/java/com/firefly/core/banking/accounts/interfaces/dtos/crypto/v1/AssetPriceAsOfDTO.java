@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Price of an asset as of a requested instant.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetPriceAsOfDTO {
+
+    /**
+     * Symbol or ticker of the asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the price is quoted
+     */
+    private String quoteCurrency;
+
+    /**
+     * Requested instant
+     */
+    private LocalDateTime asOfDatetime;
+
+    /**
+     * Price as of the requested instant, or null when no tick is close enough
+     */
+    private BigDecimal price;
+
+    /**
+     * As-of datetime of the latest tick at or before the requested instant
+     */
+    private LocalDateTime priceAsOfDatetime;
+
+    /**
+     * As-of datetime of the tick after the requested instant used for interpolation, if any
+     */
+    private LocalDateTime nextPriceAsOfDatetime;
+
+    /**
+     * Whether the price was interpolated between two ticks
+     */
+    private boolean interpolated;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OHLC summary of the prices of an asset symbol and quote currency pair
+ * within one time bucket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetPriceCandleDTO {
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the asset is priced
+     */
+    private String quoteCurrency;
+
+    /**
+     * Width of the bucket
+     */
+    private CandleIntervalEnum bucketInterval;
+
+    /**
+     * Start of the bucket (inclusive)
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * Price of the earliest tick in the bucket
+     */
+    private BigDecimal openPrice;
+
+    /**
+     * Highest price in the bucket
+     */
+    private BigDecimal highPrice;
+
+    /**
+     * Lowest price in the bucket
+     */
+    private BigDecimal lowPrice;
+
+    /**
+     * Price of the latest tick in the bucket
+     */
+    private BigDecimal closePrice;
+
+    /**
+     * Number of ticks in the bucket
+     */
+    private Long tickCount;
+}
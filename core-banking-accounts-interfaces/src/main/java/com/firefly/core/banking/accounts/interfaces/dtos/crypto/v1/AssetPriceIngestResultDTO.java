@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk asset price ingest.
+ * Every received tick is either inserted, skipped as a duplicate of a stored
+ * tick, or rejected as invalid.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetPriceIngestResultDTO {
+
+    /**
+     * Number of ticks read from the request
+     */
+    private Long received;
+
+    /**
+     * Number of ticks stored
+     */
+    private Long inserted;
+
+    /**
+     * Number of ticks skipped because the same asset symbol, quote currency,
+     * as-of datetime and price source was already stored
+     */
+    private Long duplicates;
+
+    /**
+     * Number of ticks rejected because a required field was missing or invalid
+     */
+    private Long rejected;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Value of an account's holding of one asset in a quote currency.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetValuationDTO {
+
+    /**
+     * Symbol or ticker of the asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Held quantity per balance type
+     */
+    private Map<BalanceTypeEnum, BigDecimal> quantities;
+
+    /**
+     * Total held quantity across the balance types
+     */
+    private BigDecimal quantity;
+
+    /**
+     * Latest price of the asset in the quote currency, or null when the asset has no price
+     */
+    private BigDecimal price;
+
+    /**
+     * As-of datetime of the price
+     */
+    private LocalDateTime priceAsOfDatetime;
+
+    /**
+     * Quantity times price, or null when the asset has no price
+     */
+    private BigDecimal value;
+}
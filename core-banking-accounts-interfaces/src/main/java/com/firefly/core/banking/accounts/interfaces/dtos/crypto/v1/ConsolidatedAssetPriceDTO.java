@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Price of an asset symbol and quote currency pair consolidated across price sources.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidatedAssetPriceDTO {
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the asset is priced
+     */
+    private String quoteCurrency;
+
+    /**
+     * Median of the source quotes that were not dropped as outliers
+     */
+    private BigDecimal price;
+
+    /**
+     * As-of datetime of the newest source quote it was computed from
+     */
+    private LocalDateTime asOfDatetime;
+
+    /**
+     * Number of source quotes the price was computed from
+     */
+    private Integer sourceCount;
+
+    /**
+     * Number of source quotes dropped as outliers
+     */
+    private Integer droppedSourceCount;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Value of the asset holdings of an account in a quote currency.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioValuationDTO {
+
+    /**
+     * Account that was valued
+     */
+    private UUID accountId;
+
+    /**
+     * Currency the holdings are valued in
+     */
+    private String quoteCurrency;
+
+    /**
+     * Value of each held asset, ordered by asset symbol
+     */
+    private List<AssetValuationDTO> assets;
+
+    /**
+     * Sum of the values of the priced assets
+     */
+    private BigDecimal totalValue;
+
+    /**
+     * Held assets without a price in the quote currency, not included in the total
+     */
+    private List<String> unpricedAssetSymbols;
+}
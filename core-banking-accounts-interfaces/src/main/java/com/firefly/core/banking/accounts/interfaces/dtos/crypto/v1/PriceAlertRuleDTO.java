@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a price alert rule of an account.
+ * Saving a rule re-arms it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+public class PriceAlertRuleDTO extends BaseDTO {
+
+    /**
+     * Unique identifier for the price alert rule
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID priceAlertRuleId;
+
+    /**
+     * Account to notify
+     */
+    @FilterableId
+    private UUID accountId;
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    @NotBlank(message = "Asset symbol is required")
+    @Size(max = 10, message = "Asset symbol must not exceed 10 characters")
+    @Pattern(regexp = "^[A-Z0-9]+$", message = "Asset symbol must contain only uppercase letters and numbers")
+    private String assetSymbol;
+
+    /**
+     * Currency in which the threshold is expressed
+     */
+    @NotBlank(message = "Quote currency is required")
+    @Size(min = 3, max = 3, message = "Quote currency must be exactly 3 characters")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Quote currency must be a valid 3-letter code")
+    private String quoteCurrency;
+
+    /**
+     * Price to cross
+     */
+    @NotNull(message = "Threshold price is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Threshold price must be positive")
+    @Digits(integer = 15, fraction = 8, message = "Threshold price must have at most 15 integer digits and 8 decimal places")
+    private BigDecimal thresholdPrice;
+
+    /**
+     * Direction in which the price must cross the threshold
+     */
+    @NotNull(message = "Direction is required")
+    private PriceAlertDirectionEnum direction;
+
+    /**
+     * Whether the rule can still fire
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Boolean isActive;
+
+    /**
+     * When the rule fired, if it did
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime triggeredDatetime;
+
+    /**
+     * Price that crossed the threshold
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal triggeredPrice;
+}
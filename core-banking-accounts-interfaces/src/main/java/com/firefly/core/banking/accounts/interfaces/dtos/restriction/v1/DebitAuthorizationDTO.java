@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.restriction.v1.RestrictionTypeEnum;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Outcome of a debit authorization check against the active restrictions of an account.
+ * When the debit is refused, the blocking restriction and the reason are reported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DebitAuthorizationDTO {
+    private UUID accountId;
+    private Boolean allowed;
+    private String reason;
+    private RestrictionTypeEnum restrictionType;
+    private UUID accountRestrictionId;
+
+    /**
+     * Total amount held by active restrictions that carry a restricted amount.
+     */
+    private BigDecimal heldAmount;
+}
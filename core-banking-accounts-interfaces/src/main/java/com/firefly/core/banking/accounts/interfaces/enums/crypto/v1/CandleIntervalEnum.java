@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.enums.crypto.v1;
+
+import java.time.Duration;
+
+/**
+ * Bucket width of an asset price candle, from finest to coarsest.
+ */
+public enum CandleIntervalEnum {
+    /**
+     * One-minute candles
+     */
+    ONE_MINUTE(Duration.ofMinutes(1)),
+
+    /**
+     * Five-minute candles
+     */
+    FIVE_MINUTES(Duration.ofMinutes(5)),
+
+    /**
+     * Hourly candles
+     */
+    ONE_HOUR(Duration.ofHours(1)),
+
+    /**
+     * Daily candles
+     */
+    ONE_DAY(Duration.ofDays(1));
+
+    private final Duration duration;
+
+    CandleIntervalEnum(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.enums.crypto.v1;
+
+/**
+ * Direction in which the price of an asset must cross a price alert threshold.
+ */
+public enum PriceAlertDirectionEnum {
+    /**
+     * The price rises from below the threshold to at or above it
+     */
+    ABOVE,
+
+    /**
+     * The price falls from above the threshold to at or below it
+     */
+    BELOW
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.interfaces.enums.notification.v1;
+
+/**
+ * Delivery state of a notification on one of its delivery channels.
+ */
+public enum NotificationDeliveryStatusEnum {
+    /**
+     * Waiting for (another) delivery attempt
+     */
+    PENDING,
+
+    /**
+     * Delivered through the channel
+     */
+    DELIVERED,
+
+    /**
+     * Gave up after exhausting the delivery attempts, or no channel is registered
+     */
+    FAILED
+}
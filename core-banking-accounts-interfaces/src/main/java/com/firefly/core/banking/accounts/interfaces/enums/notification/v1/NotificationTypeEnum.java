@@ -140,5 +140,10 @@ public enum NotificationTypeEnum {
     /**
      * Notification for account closure
      */
-    ACCOUNT_CLOSURE
+    ACCOUNT_CLOSURE,
+
+    /**
+     * Notification for an asset price crossing a price alert threshold
+     */
+    PRICE_ALERT
 }
@@ -18,5 +18,6 @@
 package com.firefly.core.banking.accounts.interfaces.enums.parameter.v1;
 
 public enum ParamTypeEnum {
-    MONTHLY_FEE, OVERDRAFT_LIMIT, INTEREST_RATE
+    MONTHLY_FEE, OVERDRAFT_LIMIT, INTEREST_RATE,
+    LOW_BALANCE_THRESHOLD, LARGE_DEPOSIT_THRESHOLD, LARGE_WITHDRAWAL_THRESHOLD
 }
@@ -113,7 +113,7 @@ public class DTOValidationTest {
                 .balanceAmount(new BigDecimal("1000.50"))
                 .asOfDatetime(LocalDateTime.now().minusHours(1))
                 .assetSymbol("BTC")
-                .assetDecimals("8")
+                .assetDecimals(8)
                 .transactionHash("0x123abc")
                 .confirmations(6)
                 .build();
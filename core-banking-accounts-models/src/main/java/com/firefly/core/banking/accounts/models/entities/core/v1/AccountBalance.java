@@ -38,6 +38,8 @@ import java.util.UUID;
  * - Each account can have multiple balance types
  * - Each account space can have multiple balance types
  * - Balance amounts must be stored with 4 decimal places
+ * - Crypto balances are stored exactly in base units of the token; their balance amount
+ *   is the same value in whole tokens, rounded down to 4 decimal places
  * - Historical balance records should be maintained
  * - Balance updates must be timestamped
  * - If accountSpaceId is null, the balance is for the global account
@@ -87,6 +89,16 @@ public class AccountBalance extends BaseEntity {
      */
     private BigDecimal balanceAmount;
 
+    /**
+     * Exact crypto balance in base units of the token (integral)
+     * Authoritative for crypto balances; balanceAmount is derived from it
+     * Examples:
+     * - 150000000 with 8 decimals (1.5 BTC)
+     * - 500000000000000001 with 18 decimals (0.500000000000000001 ETH)
+     * Null for traditional fiat currency accounts
+     */
+    private BigDecimal balanceBaseUnits;
+
     /**
      * Timestamp when this balance was recorded
      * Used for:
@@ -112,12 +124,12 @@ public class AccountBalance extends BaseEntity {
      * Number of decimal places used by the token
      * Different tokens have different decimal precision
      * Examples:
-     * - "8" for Bitcoin (1 BTC = 100,000,000 satoshis)
-     * - "18" for Ethereum (1 ETH = 10^18 wei)
-     * - "6" for USDC (1 USDC = 1,000,000 microUSDC)
+     * - 8 for Bitcoin (1 BTC = 100,000,000 satoshis)
+     * - 18 for Ethereum (1 ETH = 10^18 wei)
+     * - 6 for USDC (1 USDC = 1,000,000 microUSDC)
      * Null for traditional fiat currency accounts
      */
-    private String assetDecimals;
+    private Integer assetDecimals;
 
     /**
      * Blockchain transaction hash/ID that affected this balance
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.core.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized current balance of an account.
+ * Holds the most recent {@link AccountBalance} per account, account space, balance type and asset,
+ * so current balances can be read without scanning the balance history.
+ *
+ * Business Rules:
+ * - There is exactly one row per (accountId, accountSpaceId, balanceType, assetSymbol)
+ * - The row is upserted in the same transaction as the history record it comes from
+ * - An older history record never overwrites a newer current balance
+ */
+@Table("current_account_balance")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CurrentAccountBalance extends BaseEntity {
+
+    /**
+     * Unique identifier for the current balance row
+     */
+    @Id
+    private UUID currentAccountBalanceId;
+
+    /**
+     * Reference to the associated account
+     */
+    private UUID accountId;
+
+    /**
+     * Optional reference to the associated account space
+     * If null, this balance is for the global account
+     */
+    private UUID accountSpaceId;
+
+    /**
+     * Type of balance (CURRENT, AVAILABLE, BLOCKED, STAKED, ...)
+     */
+    private BalanceTypeEnum balanceType;
+
+    /**
+     * The current balance amount
+     */
+    private BigDecimal balanceAmount;
+
+    /**
+     * The exact crypto balance in base units of the token, null for fiat balances
+     */
+    private BigDecimal balanceBaseUnits;
+
+    /**
+     * Timestamp of the history record this balance was taken from
+     */
+    private LocalDateTime asOfDatetime;
+
+    /**
+     * Symbol of the crypto asset, null for fiat balances
+     */
+    private String assetSymbol;
+
+    /**
+     * Number of decimal places used by the token, null for fiat balances
+     */
+    private Integer assetDecimals;
+
+    /**
+     * Reference to the history record this balance was taken from
+     * (links to AccountBalance.accountBalanceId)
+     */
+    private UUID accountBalanceId;
+}
@@ -36,6 +36,8 @@ import java.util.UUID;
  * - Price data should include source information for audit purposes
  * - Historical price records should be maintained
  * - Price updates must be timestamped
+ * - Raw ticks are stored in daily partitions and expire with their partition;
+ *   older history is kept as candles (see AssetPriceCandle)
  */
 @Table("asset_price")
 @Getter @Setter
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.crypto.v1;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Result row of a batch as-of price lookup (not a table).
+ * Holds the ticks of a pair surrounding one requested instant.
+ */
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AssetPriceAsOf {
+
+    /**
+     * 1-based position of the lookup in the request
+     */
+    private Long lookupIndex;
+
+    /**
+     * Price of the latest tick at or before the requested instant, if any
+     */
+    private BigDecimal priceBefore;
+
+    /**
+     * As-of datetime of that tick
+     */
+    private LocalDateTime asOfBefore;
+
+    /**
+     * Price of the earliest tick after the requested instant, when interpolating
+     */
+    private BigDecimal priceAfter;
+
+    /**
+     * As-of datetime of that tick
+     */
+    private LocalDateTime asOfAfter;
+}
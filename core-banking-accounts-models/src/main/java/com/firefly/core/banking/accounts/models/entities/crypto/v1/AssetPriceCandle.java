@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * OHLC rollup of the asset prices of one asset symbol and quote currency pair
+ * within one time bucket.
+ *
+ * Business Rules:
+ * - There is at most one candle per pair, interval and bucket start
+ * - Candles are derived from asset_price and can be rebuilt from it at any time
+ * - Open and close are the prices of the earliest and latest tick in the bucket
+ */
+@Table("asset_price_candle")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+public class AssetPriceCandle extends BaseEntity {
+
+    /**
+     * Unique identifier for the candle
+     */
+    @Id
+    private UUID assetPriceCandleId;
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the asset is priced
+     */
+    private String quoteCurrency;
+
+    /**
+     * Width of the bucket
+     */
+    private CandleIntervalEnum bucketInterval;
+
+    /**
+     * Start of the bucket (inclusive)
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * Price of the earliest tick in the bucket
+     */
+    private BigDecimal openPrice;
+
+    /**
+     * Highest price in the bucket
+     */
+    private BigDecimal highPrice;
+
+    /**
+     * Lowest price in the bucket
+     */
+    private BigDecimal lowPrice;
+
+    /**
+     * Price of the latest tick in the bucket
+     */
+    private BigDecimal closePrice;
+
+    /**
+     * As-of datetime of the earliest tick in the bucket
+     */
+    private LocalDateTime openDatetime;
+
+    /**
+     * As-of datetime of the latest tick in the bucket
+     */
+    private LocalDateTime closeDatetime;
+
+    /**
+     * Number of ticks in the bucket
+     */
+    private Long tickCount;
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Price of an asset symbol and quote currency pair consolidated across price sources.
+ *
+ * Business Rules:
+ * - There is at most one consolidated price per pair and as-of datetime
+ * - The price is the median of the latest quote of each source within the window,
+ *   after dropping the quotes that deviate too far from the median of all of them
+ * - A price is only recorded when it differs from the previous one of the pair
+ */
+@Table("consolidated_asset_price")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+public class ConsolidatedAssetPrice extends BaseEntity {
+
+    /**
+     * Unique identifier for the consolidated price
+     */
+    @Id
+    private UUID consolidatedAssetPriceId;
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the asset is priced
+     */
+    private String quoteCurrency;
+
+    /**
+     * Consolidated price
+     */
+    private BigDecimal price;
+
+    /**
+     * As-of datetime of the newest source quote it was computed from
+     */
+    private LocalDateTime asOfDatetime;
+
+    /**
+     * Number of source quotes the price was computed from
+     */
+    private Integer sourceCount;
+
+    /**
+     * Number of source quotes dropped as outliers
+     */
+    private Integer droppedSourceCount;
+}
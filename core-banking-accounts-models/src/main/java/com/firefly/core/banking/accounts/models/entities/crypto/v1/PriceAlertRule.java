@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.crypto.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.PriceAlertDirectionEnum;
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Price alert rule of an account on an asset symbol and quote currency pair.
+ *
+ * Business Rules:
+ * - The rule fires when the consolidated price of the pair crosses the threshold
+ *   in the rule's direction; a price already beyond the threshold does not fire it
+ * - A rule fires at most once, after which it is inactive until it is updated
+ */
+@Table("price_alert_rule")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+public class PriceAlertRule extends BaseEntity {
+
+    /**
+     * Unique identifier for the price alert rule
+     */
+    @Id
+    private UUID priceAlertRuleId;
+
+    /**
+     * Account to notify
+     */
+    private UUID accountId;
+
+    /**
+     * Symbol or ticker of the crypto asset
+     */
+    private String assetSymbol;
+
+    /**
+     * Currency in which the threshold is expressed
+     */
+    private String quoteCurrency;
+
+    /**
+     * Price to cross
+     */
+    private BigDecimal thresholdPrice;
+
+    /**
+     * Direction in which the price must cross the threshold
+     */
+    private PriceAlertDirectionEnum direction;
+
+    /**
+     * Whether the rule can still fire
+     */
+    private Boolean isActive;
+
+    /**
+     * When the rule fired, if it did
+     */
+    private LocalDateTime triggeredDatetime;
+
+    /**
+     * Price that crossed the threshold
+     */
+    private BigDecimal triggeredPrice;
+}
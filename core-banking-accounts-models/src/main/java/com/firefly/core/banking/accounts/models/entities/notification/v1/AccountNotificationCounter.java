@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.notification.v1;
+
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Maintained count of the unread notifications of an account.
+ *
+ * Business Rules:
+ * - There is at most one row per account; a missing row means no unread notifications
+ * - The count is adjusted in the same transaction as the notification change
+ * - The count never goes below zero
+ * - Drift is corrected by the periodic reconciliation against account_notification
+ */
+@Table("account_notification_counter")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountNotificationCounter extends BaseEntity {
+
+    /**
+     * Reference to the associated account
+     */
+    @Id
+    private UUID accountId;
+
+    /**
+     * Number of unread notifications of the account
+     */
+    private Long unreadCount;
+}
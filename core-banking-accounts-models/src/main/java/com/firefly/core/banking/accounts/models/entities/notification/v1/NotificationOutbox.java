@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.entities.notification.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationDeliveryStatusEnum;
+import com.firefly.core.banking.accounts.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox entry for delivering a notification through one channel.
+ *
+ * Business Rules:
+ * - Entries are written in the same transaction as the notification they deliver
+ * - There is one entry per notification and delivery channel
+ * - A claimed entry is leased by pushing its next attempt forward; it becomes due
+ *   again if the worker that claimed it never reports back
+ * - Failed attempts are retried with exponential backoff until the attempt limit is reached
+ */
+@Table("notification_outbox")
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationOutbox extends BaseEntity {
+
+    /**
+     * Unique identifier for the outbox entry
+     */
+    @Id
+    private UUID notificationOutboxId;
+
+    /**
+     * Reference to the notification to deliver
+     */
+    private UUID accountNotificationId;
+
+    /**
+     * Delivery channel, as listed in the notification's delivery channels
+     * Examples: EMAIL, SMS, PUSH, APP
+     */
+    private String channel;
+
+    /**
+     * Delivery status of the entry
+     */
+    private NotificationDeliveryStatusEnum status;
+
+    /**
+     * Number of delivery attempts started so far
+     */
+    private Integer attempts;
+
+    /**
+     * When the entry is next due for delivery
+     */
+    private LocalDateTime nextAttemptDateTime;
+
+    /**
+     * When the notification was delivered through the channel
+     */
+    private LocalDateTime deliveredDateTime;
+
+    /**
+     * Error of the last failed attempt
+     */
+    private String lastError;
+}
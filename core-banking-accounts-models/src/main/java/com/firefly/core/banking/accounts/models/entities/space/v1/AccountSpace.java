@@ -169,6 +169,12 @@ public class AccountSpace extends BaseEntity {
      */
     private LocalDateTime frozenDateTime;
 
+    /**
+     * Indicates whether the space was frozen by an account-level freeze (a freezing restriction
+     * or a bulk freeze) rather than on its own; only such spaces are released with the account
+     */
+    private Boolean frozenByAccount;
+
     /**
      * Timestamp when the space was last unfrozen
      * Null if the space has never been unfrozen after being frozen
@@ -36,4 +36,5 @@ public interface AccountBalanceRepository extends BaseRepository<AccountBalance,
     // Find balances for a specific account space
     Flux<AccountBalance> findByAccountIdAndAccountSpaceId(UUID accountId, UUID accountSpaceId, Pageable pageable);
     Mono<Long> countByAccountIdAndAccountSpaceId(UUID accountId, UUID accountSpaceId);
+
 }
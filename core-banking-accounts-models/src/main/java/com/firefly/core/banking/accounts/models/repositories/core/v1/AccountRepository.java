@@ -14,12 +14,46 @@
  * limitations under the License.
  */
 
-
 package com.firefly.core.banking.accounts.models.repositories.core.v1;
 
 import com.firefly.core.banking.accounts.models.entities.core.v1.Account;
 import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
 import java.util.UUID;
 
 public interface AccountRepository extends BaseRepository<Account, UUID> {
+    /**
+     * Find an account by its account number (served by the unique constraint on account_number)
+     * @param accountNumber the account number
+     * @return a Mono with the Account entity, or empty if not found
+     */
+    Mono<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * Find all accounts whose account number is in the given collection
+     * @param accountNumbers the account numbers
+     * @return a Flux of Account entities, in no particular order
+     */
+    Flux<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    /**
+     * Find all accounts with the given IDs in a single query
+     * @param accountIds the account IDs
+     * @return a Flux of Account entities, in no particular order
+     */
+    @Query("SELECT * FROM account WHERE account_id = ANY(:accountIds)")
+    Flux<Account> findAllByAccountIdIn(UUID[] accountIds);
+
+    /**
+     * Page through account IDs in key order
+     * @param afterAccountId the last account ID of the previous page (use the nil UUID for the first page)
+     * @param limit the maximum number of IDs to return
+     * @return a Flux of account IDs greater than {@code afterAccountId}, in ascending order
+     */
+    @Query("SELECT account_id FROM account WHERE account_id > :afterAccountId ORDER BY account_id LIMIT :limit")
+    Flux<UUID> findAccountIdsAfter(UUID afterAccountId, Integer limit);
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.core.v1;
+
+import com.firefly.core.banking.accounts.interfaces.enums.core.v1.BalanceTypeEnum;
+import com.firefly.core.banking.accounts.models.entities.core.v1.CurrentAccountBalance;
+import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CurrentAccountBalanceRepository extends BaseRepository<CurrentAccountBalance, UUID> {
+    // Find all current balances for an account (both global and space-specific)
+    Flux<CurrentAccountBalance> findByAccountId(UUID accountId);
+
+    // Find all current balances for a set of accounts in a single query
+    @Query("SELECT * FROM current_account_balance WHERE account_id = ANY(:accountIds)")
+    Flux<CurrentAccountBalance> findByAccountIdIn(UUID[] accountIds);
+
+    // Find the account-level asset balances of the given types for a set of accounts in a single query
+    @Query("SELECT * FROM current_account_balance WHERE account_id = ANY(:accountIds) " +
+            "AND account_space_id IS NULL AND asset_symbol IS NOT NULL AND balance_type = ANY(:balanceTypes)")
+    Flux<CurrentAccountBalance> findAssetBalancesByAccountIdIn(UUID[] accountIds, String[] balanceTypes);
+
+    /**
+     * Insert or replace the current balance for the key (account, space, balance type, asset).
+     * An existing row is only replaced when the new record is at least as recent.
+     *
+     * @return the number of rows written (0 if a newer balance is already stored)
+     */
+    @Modifying
+    @Query("INSERT INTO current_account_balance (account_id, account_space_id, balance_type, balance_amount, " +
+            "balance_base_units, as_of_datetime, asset_symbol, asset_decimals, account_balance_id) " +
+            "VALUES (:accountId, :accountSpaceId, :balanceType, :balanceAmount, " +
+            ":balanceBaseUnits, :asOfDatetime, :assetSymbol, :assetDecimals, :accountBalanceId) " +
+            "ON CONFLICT (account_id, COALESCE(account_space_id, '00000000-0000-0000-0000-000000000000'::uuid), " +
+            "balance_type, COALESCE(asset_symbol, '')) DO UPDATE SET " +
+            "balance_amount = EXCLUDED.balance_amount, " +
+            "balance_base_units = EXCLUDED.balance_base_units, " +
+            "as_of_datetime = EXCLUDED.as_of_datetime, " +
+            "asset_decimals = EXCLUDED.asset_decimals, " +
+            "account_balance_id = EXCLUDED.account_balance_id, " +
+            "date_updated = CURRENT_TIMESTAMP " +
+            "WHERE current_account_balance.as_of_datetime <= EXCLUDED.as_of_datetime")
+    Mono<Integer> upsert(UUID accountId, UUID accountSpaceId, BalanceTypeEnum balanceType, BigDecimal balanceAmount,
+                         BigDecimal balanceBaseUnits, LocalDateTime asOfDatetime, String assetSymbol,
+                         Integer assetDecimals, UUID accountBalanceId);
+
+    /**
+     * Delete the current balance for the key if it was taken from the given history record.
+     *
+     * @return the number of rows deleted (0 if the current balance comes from another record)
+     */
+    @Modifying
+    @Query("DELETE FROM current_account_balance WHERE account_id = :accountId " +
+            "AND COALESCE(account_space_id, '00000000-0000-0000-0000-000000000000'::uuid) = " +
+            "COALESCE(:accountSpaceId, '00000000-0000-0000-0000-000000000000'::uuid) " +
+            "AND balance_type = :balanceType AND COALESCE(asset_symbol, '') = COALESCE(:assetSymbol, '') " +
+            "AND account_balance_id = :accountBalanceId")
+    Mono<Integer> deleteByKeyAndAccountBalanceId(UUID accountId, UUID accountSpaceId, BalanceTypeEnum balanceType,
+                                                 String assetSymbol, UUID accountBalanceId);
+
+    /**
+     * Insert the current balance for the key from the most recent history record, if any.
+     * An existing row for the key is left as is.
+     *
+     * @return the number of rows written
+     */
+    @Modifying
+    @Query("INSERT INTO current_account_balance (account_id, account_space_id, balance_type, balance_amount, " +
+            "balance_base_units, as_of_datetime, asset_symbol, asset_decimals, account_balance_id) " +
+            "SELECT account_id, account_space_id, balance_type, balance_amount, " +
+            "balance_base_units, as_of_datetime, asset_symbol, asset_decimals, account_balance_id " +
+            "FROM account_balance WHERE account_id = :accountId " +
+            "AND account_space_id IS NOT DISTINCT FROM :accountSpaceId " +
+            "AND balance_type = :balanceType AND asset_symbol IS NOT DISTINCT FROM :assetSymbol " +
+            "ORDER BY as_of_datetime DESC LIMIT 1 " +
+            "ON CONFLICT (account_id, COALESCE(account_space_id, '00000000-0000-0000-0000-000000000000'::uuid), " +
+            "balance_type, COALESCE(asset_symbol, '')) DO NOTHING")
+    Mono<Integer> insertLatestFromHistory(UUID accountId, UUID accountSpaceId, BalanceTypeEnum balanceType,
+                                          String assetSymbol);
+}
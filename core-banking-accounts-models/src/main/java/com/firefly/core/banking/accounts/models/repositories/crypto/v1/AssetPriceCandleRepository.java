@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceCandle;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing AssetPriceCandle entities.
+ * Candles are written only through the aggregating upserts below, which roll
+ * ticks up into every bucket interval in one statement.
+ */
+@Repository
+public interface AssetPriceCandleRepository extends ReactiveCrudRepository<AssetPriceCandle, UUID> {
+
+    /**
+     * Target columns of the candle upserts.
+     */
+    String CANDLE_INSERT = "INSERT INTO asset_price_candle AS c (asset_symbol, quote_currency, bucket_interval, " +
+            "bucket_start, open_price, high_price, low_price, close_price, open_datetime, close_datetime, tick_count) ";
+
+    /**
+     * Aggregates the ticks of source {@code t} into one candle per pair, interval and bucket.
+     * Buckets are aligned to multiples of the interval since the epoch.
+     */
+    String CANDLE_AGGREGATE = "SELECT t.asset_symbol, t.quote_currency, i.bucket_interval, " +
+            "to_timestamp(floor(extract(epoch FROM t.as_of_datetime) / i.seconds) * i.seconds) AT TIME ZONE 'UTC', " +
+            "(array_agg(t.price ORDER BY t.as_of_datetime))[1], MAX(t.price), MIN(t.price), " +
+            "(array_agg(t.price ORDER BY t.as_of_datetime DESC))[1], " +
+            "MIN(t.as_of_datetime), MAX(t.as_of_datetime), COUNT(*) ";
+
+    /**
+     * The bucket intervals, by CandleIntervalEnum name and width in seconds.
+     */
+    String CANDLE_INTERVAL_VALUES = "(VALUES ('ONE_MINUTE', 60), ('FIVE_MINUTES', 300), " +
+            "('ONE_HOUR', 3600), ('ONE_DAY', 86400)) AS i(bucket_interval, seconds) ";
+
+    /**
+     * Joins every bucket interval to the source rows.
+     */
+    String CANDLE_INTERVALS = "CROSS JOIN " + CANDLE_INTERVAL_VALUES;
+
+    /**
+     * Groups per candle. Rows are written in key order so concurrent upserts lock candles in
+     * the same order and cannot deadlock each other.
+     */
+    String CANDLE_GROUPING = "GROUP BY 1, 2, 3, 4 ORDER BY 1, 2, 3, 4 ";
+
+    /**
+     * Find the candles of a pair and interval whose bucket starts within a range, oldest first.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param bucketInterval the CandleIntervalEnum name of the interval
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return a Flux of AssetPriceCandle entities
+     */
+    @Query("SELECT * FROM asset_price_candle WHERE asset_symbol = :assetSymbol AND quote_currency = :quoteCurrency " +
+            "AND bucket_interval = :bucketInterval AND bucket_start >= :from AND bucket_start < :to " +
+            "ORDER BY bucket_start")
+    Flux<AssetPriceCandle> findCandles(String assetSymbol, String quoteCurrency, String bucketInterval,
+                                       LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Merge a batch of newly stored ticks into the candles of every interval. High and low are
+     * widened, open and close move only when a tick is earlier or later than the candle's
+     * current open or close, and the tick count is added to. Each tick must be applied once.
+     * The arrays are parallel: element i of each array describes tick i.
+     *
+     * @param assetSymbols the asset symbols
+     * @param quoteCurrencies the quote currencies
+     * @param prices the prices
+     * @param asOfDatetimes the as-of datetimes
+     * @return a Mono of the number of candles written
+     */
+    @Modifying
+    @Query(CANDLE_INSERT + CANDLE_AGGREGATE +
+            "FROM unnest(:assetSymbols, :quoteCurrencies, :prices, :asOfDatetimes) " +
+            "AS t(asset_symbol, quote_currency, price, as_of_datetime) " +
+            CANDLE_INTERVALS + CANDLE_GROUPING +
+            "ON CONFLICT (asset_symbol, quote_currency, bucket_interval, bucket_start) DO UPDATE SET " +
+            "open_price = CASE WHEN EXCLUDED.open_datetime < c.open_datetime THEN EXCLUDED.open_price ELSE c.open_price END, " +
+            "open_datetime = LEAST(c.open_datetime, EXCLUDED.open_datetime), " +
+            "high_price = GREATEST(c.high_price, EXCLUDED.high_price), " +
+            "low_price = LEAST(c.low_price, EXCLUDED.low_price), " +
+            "close_price = CASE WHEN EXCLUDED.close_datetime >= c.close_datetime THEN EXCLUDED.close_price ELSE c.close_price END, " +
+            "close_datetime = GREATEST(c.close_datetime, EXCLUDED.close_datetime), " +
+            "tick_count = c.tick_count + EXCLUDED.tick_count, " +
+            "date_updated = CURRENT_TIMESTAMP")
+    Mono<Integer> mergeTicks(String[] assetSymbols, String[] quoteCurrencies, BigDecimal[] prices,
+                             LocalDateTime[] asOfDatetimes);
+
+    /**
+     * Recompute the candles of a pair from the stored asset prices within a range. The range
+     * should be aligned to whole days so every bucket it touches is complete. Candles from
+     * {@code retainedFrom} on are always replaced, so changed or deleted ticks are reflected.
+     * Older candles are only replaced when the recomputed one covers at least as many ticks,
+     * so ranges whose ticks were already purged keep their candles.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @param retainedFrom the start of raw-tick retention, aligned to a day
+     * @return a Mono of the number of candles written
+     */
+    @Modifying
+    @Query(CANDLE_INSERT + CANDLE_AGGREGATE +
+            "FROM asset_price t " + CANDLE_INTERVALS +
+            "WHERE t.asset_symbol = :assetSymbol AND t.quote_currency = :quoteCurrency " +
+            "AND t.as_of_datetime >= :from AND t.as_of_datetime < :to " +
+            CANDLE_GROUPING +
+            "ON CONFLICT (asset_symbol, quote_currency, bucket_interval, bucket_start) DO UPDATE SET " +
+            "open_price = EXCLUDED.open_price, open_datetime = EXCLUDED.open_datetime, " +
+            "high_price = EXCLUDED.high_price, low_price = EXCLUDED.low_price, " +
+            "close_price = EXCLUDED.close_price, close_datetime = EXCLUDED.close_datetime, " +
+            "tick_count = EXCLUDED.tick_count, date_updated = CURRENT_TIMESTAMP " +
+            "WHERE EXCLUDED.tick_count >= c.tick_count OR c.bucket_start >= :retainedFrom")
+    Mono<Integer> rebuildCandles(String assetSymbol, String quoteCurrency, LocalDateTime from, LocalDateTime to,
+                                 LocalDateTime retainedFrom);
+
+    /**
+     * Delete the candles of a pair whose bucket starts within a range and no longer holds any
+     * stored tick, as after its ticks were deleted. Only pass ranges within raw-tick retention;
+     * older candles have no ticks left by design.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return a Mono of the number of candles deleted
+     */
+    @Modifying
+    @Query("DELETE FROM asset_price_candle c USING " + CANDLE_INTERVAL_VALUES +
+            "WHERE c.bucket_interval = i.bucket_interval " +
+            "AND c.asset_symbol = :assetSymbol AND c.quote_currency = :quoteCurrency " +
+            "AND c.bucket_start >= :from AND c.bucket_start < :to " +
+            "AND NOT EXISTS (SELECT 1 FROM asset_price t " +
+            "WHERE t.asset_symbol = c.asset_symbol AND t.quote_currency = c.quote_currency " +
+            "AND t.as_of_datetime >= c.bucket_start " +
+            "AND t.as_of_datetime < c.bucket_start + make_interval(secs => i.seconds))")
+    Mono<Integer> deleteEmptyCandles(String assetSymbol, String quoteCurrency, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Delete the candles of every pair of an asset whose bucket starts at or after a datetime.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param from the datetime from which candles are deleted
+     * @return a Mono of Void
+     */
+    Mono<Void> deleteByAssetSymbolAndBucketStartGreaterThanEqual(String assetSymbol, LocalDateTime from);
+
+    /**
+     * Delete the candles of a pair whose bucket starts at or after a datetime.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param from the datetime from which candles are deleted
+     * @return a Mono of Void
+     */
+    Mono<Void> deleteByAssetSymbolAndQuoteCurrencyAndBucketStartGreaterThanEqual(String assetSymbol,
+                                                                                 String quoteCurrency,
+                                                                                 LocalDateTime from);
+
+    /**
+     * Delete up to {@code limit} candles of an interval whose bucket starts before a cutoff,
+     * oldest first.
+     *
+     * @param bucketInterval the CandleIntervalEnum name of the interval
+     * @param cutoff the cutoff datetime
+     * @param limit the maximum number of candles to delete
+     * @return a Mono of the number of candles deleted
+     */
+    @Modifying
+    @Query("DELETE FROM asset_price_candle WHERE asset_price_candle_id IN (" +
+            "SELECT asset_price_candle_id FROM asset_price_candle " +
+            "WHERE bucket_interval = :bucketInterval AND bucket_start < :cutoff " +
+            "ORDER BY bucket_start LIMIT :limit)")
+    Mono<Integer> deleteCandlesBefore(String bucketInterval, LocalDateTime cutoff, int limit);
+}
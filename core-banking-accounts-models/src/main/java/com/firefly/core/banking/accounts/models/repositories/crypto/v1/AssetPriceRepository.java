@@ -18,13 +18,17 @@
 package com.firefly.core.banking.accounts.models.repositories.crypto.v1;
 
 import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPrice;
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.AssetPriceAsOf;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -125,6 +129,101 @@ public interface AssetPriceRepository extends ReactiveCrudRepository<AssetPrice,
     @Query("SELECT * FROM asset_price WHERE asset_symbol = :assetSymbol AND quote_currency = :quoteCurrency ORDER BY as_of_datetime DESC LIMIT 1")
     Mono<AssetPrice> findLatestPrice(String assetSymbol, String quoteCurrency);
 
+    /**
+     * Find the latest asset price of every asset symbol and quote currency pair.
+     *
+     * @return a Flux of AssetPrice entities, one per pair
+     */
+    @Query("SELECT DISTINCT ON (asset_symbol, quote_currency) * FROM asset_price " +
+            "ORDER BY asset_symbol, quote_currency, as_of_datetime DESC")
+    Flux<AssetPrice> findLatestPrices();
+
+    /**
+     * Find the latest price of each of several assets in one quote currency, with one
+     * index probe per asset.
+     *
+     * @param assetSymbols the symbols of the assets
+     * @param quoteCurrency the currency in which the assets are priced (e.g., "USD", "EUR")
+     * @return a Flux of AssetPrice entities, one per asset that has a price
+     */
+    @Query("SELECT p.* FROM unnest(:assetSymbols) AS s(asset_symbol) CROSS JOIN LATERAL (" +
+            "SELECT * FROM asset_price WHERE asset_symbol = s.asset_symbol AND quote_currency = :quoteCurrency " +
+            "ORDER BY as_of_datetime DESC LIMIT 1) p")
+    Flux<AssetPrice> findLatestPricesBySymbols(String[] assetSymbols, String quoteCurrency);
+
+    /**
+     * Resolve a batch of as-of lookups in one statement: for each (asset symbol, quote currency,
+     * instant) triple, the latest tick at or before the instant and, when interpolating, the
+     * earliest tick after it. Each side is one probe of the unique tick index, and ticks more
+     * than {@code maxGapSeconds} away are ignored so only the partitions around the instant
+     * are searched. A side with no tick, as when the ticks were purged by retention, falls back
+     * to the latest candle close at or before the instant, or the earliest close after it,
+     * preferring the finest interval on ties; that is one probe of the candle index per interval.
+     * The arrays are parallel: element i of each array describes lookup i.
+     *
+     * @param maxGapSeconds the maximum distance in seconds between the instant and a tick
+     * @param assetSymbols the asset symbols
+     * @param quoteCurrencies the quote currencies
+     * @param asOfDatetimes the requested instants
+     * @param interpolate whether to look up the tick after each instant
+     * @return a Flux of one AssetPriceAsOf per lookup, in lookup order
+     */
+    @Query("WITH bounds AS (SELECT make_interval(secs => :maxGapSeconds) AS max_gap) " +
+            "SELECT q.lookup_index, COALESCE(b.price, cb.price) AS price_before, " +
+            "COALESCE(b.as_of_datetime, cb.as_of_datetime) AS as_of_before, " +
+            "COALESCE(a.price, ca.price) AS price_after, COALESCE(a.as_of_datetime, ca.as_of_datetime) AS as_of_after " +
+            "FROM bounds CROSS JOIN unnest(:assetSymbols, :quoteCurrencies, :asOfDatetimes) WITH ORDINALITY " +
+            "AS q(asset_symbol, quote_currency, as_of_datetime, lookup_index) " +
+            "LEFT JOIN LATERAL (SELECT p.price, p.as_of_datetime FROM asset_price p " +
+            "WHERE p.asset_symbol = q.asset_symbol AND p.quote_currency = q.quote_currency " +
+            "AND p.as_of_datetime <= q.as_of_datetime AND p.as_of_datetime >= q.as_of_datetime - bounds.max_gap " +
+            "ORDER BY p.as_of_datetime DESC, p.price_source DESC LIMIT 1) b ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT p.price, p.as_of_datetime FROM asset_price p " +
+            "WHERE :interpolate AND p.asset_symbol = q.asset_symbol AND p.quote_currency = q.quote_currency " +
+            "AND p.as_of_datetime > q.as_of_datetime AND p.as_of_datetime <= q.as_of_datetime + bounds.max_gap " +
+            "ORDER BY p.as_of_datetime, p.price_source LIMIT 1) a ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT k.close_price AS price, k.close_datetime AS as_of_datetime " +
+            "FROM " + AssetPriceCandleRepository.CANDLE_INTERVAL_VALUES + "CROSS JOIN LATERAL (" +
+            "SELECT c.close_price, c.close_datetime FROM asset_price_candle c " +
+            "WHERE b.price IS NULL AND c.asset_symbol = q.asset_symbol AND c.quote_currency = q.quote_currency " +
+            "AND c.bucket_interval = i.bucket_interval AND c.bucket_start <= q.as_of_datetime " +
+            "AND c.bucket_start > q.as_of_datetime - bounds.max_gap - make_interval(secs => i.seconds) " +
+            "AND c.close_datetime <= q.as_of_datetime AND c.close_datetime >= q.as_of_datetime - bounds.max_gap " +
+            "ORDER BY c.bucket_start DESC LIMIT 1) k " +
+            "ORDER BY k.close_datetime DESC, i.seconds LIMIT 1) cb ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT k.close_price AS price, k.close_datetime AS as_of_datetime " +
+            "FROM " + AssetPriceCandleRepository.CANDLE_INTERVAL_VALUES + "CROSS JOIN LATERAL (" +
+            "SELECT c.close_price, c.close_datetime FROM asset_price_candle c " +
+            "WHERE :interpolate AND a.price IS NULL AND c.asset_symbol = q.asset_symbol " +
+            "AND c.quote_currency = q.quote_currency AND c.bucket_interval = i.bucket_interval " +
+            "AND c.bucket_start > q.as_of_datetime - make_interval(secs => i.seconds) " +
+            "AND c.bucket_start <= q.as_of_datetime + bounds.max_gap " +
+            "AND c.close_datetime > q.as_of_datetime AND c.close_datetime <= q.as_of_datetime + bounds.max_gap " +
+            "ORDER BY c.bucket_start LIMIT 1) k " +
+            "ORDER BY k.close_datetime, i.seconds LIMIT 1) ca ON TRUE " +
+            "ORDER BY q.lookup_index")
+    Flux<AssetPriceAsOf> findPricesAsOf(long maxGapSeconds, String[] assetSymbols, String[] quoteCurrencies,
+                                        LocalDateTime[] asOfDatetimes, boolean interpolate);
+
+    /**
+     * Insert a batch of price ticks in a single statement. Ticks already stored with the same
+     * asset symbol, quote currency, as-of datetime and price source are skipped.
+     * The arrays are parallel: element i of each array describes tick i.
+     *
+     * @param assetSymbols the asset symbols
+     * @param quoteCurrencies the quote currencies
+     * @param prices the prices
+     * @param asOfDatetimes the as-of datetimes
+     * @param priceSources the price sources
+     * @return a Flux of the AssetPrice entities actually inserted
+     */
+    @Query("INSERT INTO asset_price (asset_symbol, quote_currency, price, as_of_datetime, price_source) " +
+            "SELECT * FROM unnest(:assetSymbols, :quoteCurrencies, :prices, :asOfDatetimes, :priceSources) " +
+            "ON CONFLICT (asset_symbol, quote_currency, as_of_datetime, price_source) DO NOTHING " +
+            "RETURNING *")
+    Flux<AssetPrice> insertTicks(String[] assetSymbols, String[] quoteCurrencies, BigDecimal[] prices,
+                                 LocalDateTime[] asOfDatetimes, String[] priceSources);
+
     /**
      * Find all asset prices for a specific asset symbol within a date range.
      *
@@ -234,4 +333,46 @@ public interface AssetPriceRepository extends ReactiveCrudRepository<AssetPrice,
      */
     @Query("DELETE FROM asset_price WHERE as_of_datetime < :date")
     Mono<Void> deleteByAsOfDatetimeBefore(LocalDateTime date);
+
+    /**
+     * Find the as-of datetime of the oldest stored tick.
+     *
+     * @return a Mono of the oldest as-of datetime, empty when no ticks are stored
+     */
+    @Query("SELECT MIN(as_of_datetime) FROM asset_price")
+    Mono<LocalDateTime> findOldestAsOfDatetime();
+
+    /**
+     * Delete up to {@code limit} ticks older than a cutoff. Used for ticks that are outside
+     * every daily partition and therefore cannot be expired by dropping one.
+     *
+     * @param cutoff the cutoff datetime
+     * @param limit the maximum number of ticks to delete
+     * @return a Mono of the number of ticks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM asset_price WHERE as_of_datetime < :cutoff AND (asset_price_id, as_of_datetime) IN (" +
+            "SELECT asset_price_id, as_of_datetime FROM asset_price WHERE as_of_datetime < :cutoff " +
+            "ORDER BY as_of_datetime LIMIT :limit)")
+    Mono<Integer> deleteTicksBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Create the missing daily partitions of asset_price for the days in a range.
+     * Days whose ticks already sit in the default partition are skipped.
+     *
+     * @param fromDay the first day (inclusive)
+     * @param toDay the last day (exclusive)
+     * @return a Mono of the number of partitions created
+     */
+    @Query("SELECT asset_price_ensure_partitions(:fromDay, :toDay)")
+    Mono<Integer> ensurePartitions(LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Drop the daily partitions of asset_price for every day before a cutoff day.
+     *
+     * @param cutoffDay the first day to keep
+     * @return a Mono of the number of partitions dropped
+     */
+    @Query("SELECT asset_price_drop_partitions_before(:cutoffDay)")
+    Mono<Integer> dropPartitionsBefore(LocalDate cutoffDay);
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.ConsolidatedAssetPrice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing ConsolidatedAssetPrice entities.
+ * Consolidated prices are written only through the batch upsert below.
+ */
+@Repository
+public interface ConsolidatedAssetPriceRepository extends ReactiveCrudRepository<ConsolidatedAssetPrice, UUID> {
+
+    /**
+     * Find the consolidated prices of a pair within a date range with pagination.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param pageable pagination information
+     * @return a Flux of ConsolidatedAssetPrice entities
+     */
+    Flux<ConsolidatedAssetPrice> findByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween(
+            String assetSymbol, String quoteCurrency, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * Count the consolidated prices of a pair within a date range.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @return a Mono of the count
+     */
+    Mono<Long> countByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween(
+            String assetSymbol, String quoteCurrency, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Find the latest consolidated price of a pair.
+     *
+     * @param assetSymbol the symbol of the asset (e.g., "BTC", "ETH")
+     * @param quoteCurrency the currency in which the asset is priced (e.g., "USD", "EUR")
+     * @return a Mono of the latest ConsolidatedAssetPrice
+     */
+    @Query("SELECT * FROM consolidated_asset_price WHERE asset_symbol = :assetSymbol " +
+            "AND quote_currency = :quoteCurrency ORDER BY as_of_datetime DESC LIMIT 1")
+    Mono<ConsolidatedAssetPrice> findLatestConsolidatedPrice(String assetSymbol, String quoteCurrency);
+
+    /**
+     * Insert a batch of consolidated prices in a single statement. A price already recorded
+     * for the same pair and instant is replaced. Rows are written in key order so concurrent
+     * batches cannot deadlock each other. The arrays are parallel: element i of each array
+     * describes consolidated price i.
+     *
+     * @param assetSymbols the asset symbols
+     * @param quoteCurrencies the quote currencies
+     * @param prices the consolidated prices
+     * @param asOfDatetimes the as-of datetimes
+     * @param sourceCounts the numbers of source quotes used
+     * @param droppedSourceCounts the numbers of source quotes dropped as outliers
+     * @return a Mono of the number of rows written
+     */
+    @Modifying
+    @Query("INSERT INTO consolidated_asset_price (asset_symbol, quote_currency, price, as_of_datetime, " +
+            "source_count, dropped_source_count) " +
+            "SELECT * FROM unnest(:assetSymbols, :quoteCurrencies, :prices, :asOfDatetimes, :sourceCounts, " +
+            ":droppedSourceCounts) ORDER BY 1, 2, 4 " +
+            "ON CONFLICT (asset_symbol, quote_currency, as_of_datetime) DO UPDATE SET " +
+            "price = EXCLUDED.price, source_count = EXCLUDED.source_count, " +
+            "dropped_source_count = EXCLUDED.dropped_source_count, date_updated = CURRENT_TIMESTAMP")
+    Mono<Integer> upsertConsolidatedPrices(String[] assetSymbols, String[] quoteCurrencies, BigDecimal[] prices,
+                                           LocalDateTime[] asOfDatetimes, Integer[] sourceCounts,
+                                           Integer[] droppedSourceCounts);
+
+    /**
+     * Delete up to {@code limit} consolidated prices older than a cutoff, oldest first.
+     *
+     * @param cutoff the cutoff datetime
+     * @param limit the maximum number of rows to delete
+     * @return a Mono of the number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM consolidated_asset_price WHERE consolidated_asset_price_id IN (" +
+            "SELECT consolidated_asset_price_id FROM consolidated_asset_price " +
+            "WHERE as_of_datetime < :cutoff ORDER BY as_of_datetime LIMIT :limit)")
+    Mono<Integer> deleteConsolidatedPricesBefore(LocalDateTime cutoff, int limit);
+}
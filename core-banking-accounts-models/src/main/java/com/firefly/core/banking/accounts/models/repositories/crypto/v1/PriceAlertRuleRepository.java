@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.crypto.v1;
+
+import com.firefly.core.banking.accounts.models.entities.crypto.v1.PriceAlertRule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing PriceAlertRule entities.
+ */
+@Repository
+public interface PriceAlertRuleRepository extends ReactiveCrudRepository<PriceAlertRule, UUID> {
+
+    /**
+     * Find the price alert rules of an account with pagination.
+     *
+     * @param accountId the account ID
+     * @param pageable pagination information
+     * @return a Flux of PriceAlertRule entities
+     */
+    Flux<PriceAlertRule> findByAccountId(UUID accountId, Pageable pageable);
+
+    /**
+     * Count the price alert rules of an account.
+     *
+     * @param accountId the account ID
+     * @return a Mono of the count
+     */
+    Mono<Long> countByAccountId(UUID accountId);
+
+    /**
+     * Find every rule that can still fire, to build the in-memory threshold index.
+     *
+     * @return a Flux of active PriceAlertRule entities
+     */
+    @Query("SELECT * FROM price_alert_rule WHERE is_active")
+    Flux<PriceAlertRule> findActiveRules();
+
+    /**
+     * Deactivate a batch of rules that fired, recording the price that crossed each threshold.
+     * Only rules that are still active are claimed, so a rule fired concurrently by several
+     * nodes is returned to exactly one of them. The arrays are parallel: element i of each
+     * array describes fired rule i.
+     *
+     * @param ruleIds the IDs of the fired rules
+     * @param prices the prices that crossed the thresholds
+     * @param triggeredAt when the rules fired
+     * @return a Flux of the PriceAlertRule entities actually claimed
+     */
+    @Query("UPDATE price_alert_rule r SET is_active = FALSE, triggered_datetime = :triggeredAt, " +
+            "triggered_price = f.price, date_updated = CURRENT_TIMESTAMP " +
+            "FROM unnest(:ruleIds, :prices) AS f(price_alert_rule_id, price) " +
+            "WHERE r.price_alert_rule_id = f.price_alert_rule_id AND r.is_active " +
+            "RETURNING r.*")
+    Flux<PriceAlertRule> claimTriggeredRules(UUID[] ruleIds, BigDecimal[] prices, LocalDateTime triggeredAt);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.notification.v1;
+
+import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotificationCounter;
+import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface AccountNotificationCounterRepository extends BaseRepository<AccountNotificationCounter, UUID> {
+
+    /**
+     * Add {@code delta} to the unread count of an account, creating the counter if needed.
+     * The count is floored at zero.
+     * @param accountId The account ID
+     * @param delta The change to apply, negative to decrement
+     * @return Mono of Integer representing the number of counters written
+     */
+    @Modifying
+    @Query("INSERT INTO account_notification_counter (account_id, unread_count) " +
+            "VALUES (:accountId, GREATEST(:delta, 0)) " +
+            "ON CONFLICT (account_id) DO UPDATE SET " +
+            "unread_count = GREATEST(account_notification_counter.unread_count + :delta, 0), " +
+            "date_updated = CURRENT_TIMESTAMP")
+    Mono<Integer> adjustUnreadCount(UUID accountId, Long delta);
+
+    /**
+     * Lock the existing counters of the given accounts until the end of the transaction,
+     * so that concurrent adjustments wait for a reconciliation of the same accounts
+     * @param accountIds The account IDs
+     * @return Flux of the locked account IDs
+     */
+    @Query("SELECT account_id FROM account_notification_counter WHERE account_id = ANY(:accountIds) " +
+            "ORDER BY account_id FOR UPDATE")
+    Flux<UUID> lockByAccountIdIn(UUID[] accountIds);
+
+    /**
+     * Recount the unread notifications of the given accounts and store the result where it
+     * differs from the counter. Accounts without unread notifications and without a counter
+     * are left alone.
+     * @param accountIds The account IDs
+     * @return Mono of Integer representing the number of counters corrected
+     */
+    @Modifying
+    @Query("INSERT INTO account_notification_counter (account_id, unread_count) " +
+            "SELECT ids.account_id, unread.unread_count FROM unnest(:accountIds) AS ids(account_id) " +
+            "CROSS JOIN LATERAL (SELECT COUNT(*) AS unread_count FROM account_notification n " +
+            "WHERE n.account_id = ids.account_id AND NOT n.is_read) unread " +
+            "WHERE unread.unread_count > 0 " +
+            "OR EXISTS (SELECT 1 FROM account_notification_counter c WHERE c.account_id = ids.account_id) " +
+            "ON CONFLICT (account_id) DO UPDATE SET unread_count = EXCLUDED.unread_count, " +
+            "date_updated = CURRENT_TIMESTAMP " +
+            "WHERE account_notification_counter.unread_count <> EXCLUDED.unread_count")
+    Mono<Integer> reconcileByAccountIdIn(UUID[] accountIds);
+}
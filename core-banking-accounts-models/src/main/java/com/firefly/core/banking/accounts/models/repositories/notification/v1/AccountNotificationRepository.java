@@ -20,6 +20,8 @@ package com.firefly.core.banking.accounts.models.repositories.notification.v1;
 import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
 import com.firefly.core.banking.accounts.models.entities.notification.v1.AccountNotification;
 import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -36,12 +38,12 @@ public interface AccountNotificationRepository extends BaseRepository<AccountNot
     Flux<AccountNotification> findByAccountId(UUID accountId);
     
     /**
-     * Find unread notifications for a specific account
+     * Find unread notifications for a specific account.
+     * The literal predicate lets generic plans use the partial index on unread notifications.
      * @param accountId The account ID
-     * @param isRead Whether the notification has been read
      * @return Flux of AccountNotification
      */
-    Flux<AccountNotification> findByAccountIdAndIsRead(UUID accountId, Boolean isRead);
+    Flux<AccountNotification> findByAccountIdAndIsReadFalse(UUID accountId);
     
     /**
      * Find notifications by type for a specific account
@@ -62,17 +64,180 @@ public interface AccountNotificationRepository extends BaseRepository<AccountNot
     /**
      * Count unread notifications for a specific account
      * @param accountId The account ID
-     * @param isRead Whether the notification has been read
      * @return Mono of Long representing the count
      */
-    Mono<Long> countByAccountIdAndIsRead(UUID accountId, Boolean isRead);
+    Mono<Long> countByAccountIdAndIsReadFalse(UUID accountId);
     
     /**
-     * Find notifications that have not expired
+     * Find notifications of an account that have not expired
      * @param accountId The account ID
      * @param currentDateTime The current date and time
      * @return Flux of AccountNotification
      */
-    Flux<AccountNotification> findByAccountIdAndExpiryDateTimeIsNullOrExpiryDateTimeGreaterThan(
-            UUID accountId, LocalDateTime currentDateTime);
+    @Query("SELECT * FROM account_notification WHERE account_id = :accountId " +
+            "AND (expiry_date_time IS NULL OR expiry_date_time > :currentDateTime)")
+    Flux<AccountNotification> findActiveByAccountId(UUID accountId, LocalDateTime currentDateTime);
+
+    /**
+     * Find one page of the notifications of an account, unread first, then by priority and newest first.
+     * Returns the rows that sort after the given position; the position is the sort key of
+     * the last row of the previous page.
+     * @param accountId The account ID
+     * @param isRead Read state at the current position
+     * @param priority Priority at the current position
+     * @param creationDateTime Creation time at the current position
+     * @param accountNotificationId Notification ID at the current position
+     * @param limit Maximum number of rows
+     * @return Flux of AccountNotification
+     */
+    @Query("SELECT * FROM account_notification WHERE account_id = :accountId " +
+            "AND (is_read, priority) >= (:isRead, :priority) " +
+            "AND ((is_read, priority) > (:isRead, :priority) " +
+            "OR (creation_date_time, account_notification_id) < (:creationDateTime, :accountNotificationId)) " +
+            "ORDER BY is_read, priority, creation_date_time DESC, account_notification_id DESC LIMIT :limit")
+    Flux<AccountNotification> findPageByAccountId(UUID accountId, Boolean isRead, Integer priority,
+                                                  LocalDateTime creationDateTime, UUID accountNotificationId,
+                                                  Integer limit);
+
+    /**
+     * Find one page of the unread notifications of an account, by priority and newest first
+     * @param accountId The account ID
+     * @param priority Priority at the current position
+     * @param creationDateTime Creation time at the current position
+     * @param accountNotificationId Notification ID at the current position
+     * @param limit Maximum number of rows
+     * @return Flux of AccountNotification
+     */
+    @Query("SELECT * FROM account_notification WHERE account_id = :accountId AND NOT is_read " +
+            "AND priority >= :priority " +
+            "AND (priority > :priority " +
+            "OR (creation_date_time, account_notification_id) < (:creationDateTime, :accountNotificationId)) " +
+            "ORDER BY priority, creation_date_time DESC, account_notification_id DESC LIMIT :limit")
+    Flux<AccountNotification> findUnreadPageByAccountId(UUID accountId, Integer priority,
+                                                        LocalDateTime creationDateTime, UUID accountNotificationId,
+                                                        Integer limit);
+
+    /**
+     * Find one page of the notifications of an account that have not expired,
+     * in the order of {@link #findPageByAccountId}
+     * @param accountId The account ID
+     * @param currentDateTime The current date and time
+     * @param isRead Read state at the current position
+     * @param priority Priority at the current position
+     * @param creationDateTime Creation time at the current position
+     * @param accountNotificationId Notification ID at the current position
+     * @param limit Maximum number of rows
+     * @return Flux of AccountNotification
+     */
+    @Query("SELECT * FROM account_notification WHERE account_id = :accountId " +
+            "AND (expiry_date_time IS NULL OR expiry_date_time > :currentDateTime) " +
+            "AND (is_read, priority) >= (:isRead, :priority) " +
+            "AND ((is_read, priority) > (:isRead, :priority) " +
+            "OR (creation_date_time, account_notification_id) < (:creationDateTime, :accountNotificationId)) " +
+            "ORDER BY is_read, priority, creation_date_time DESC, account_notification_id DESC LIMIT :limit")
+    Flux<AccountNotification> findActivePageByAccountId(UUID accountId, LocalDateTime currentDateTime,
+                                                        Boolean isRead, Integer priority,
+                                                        LocalDateTime creationDateTime, UUID accountNotificationId,
+                                                        Integer limit);
+
+    /**
+     * Find the notifications of a set of accounts created since the given time, in a single query
+     * @param accountIds The account IDs
+     * @param since The earliest creation time
+     * @return Flux of AccountNotification
+     */
+    @Query("SELECT * FROM account_notification WHERE account_id = ANY(:accountIds) " +
+            "AND creation_date_time >= :since")
+    Flux<AccountNotification> findCreatedSinceByAccountIdIn(UUID[] accountIds, LocalDateTime since);
+
+    /**
+     * Find a notification and lock it until the end of the transaction,
+     * so concurrent changes of its read state wait for the caller to commit
+     * @param accountNotificationId The notification ID
+     * @return Mono of AccountNotification
+     */
+    @Query("SELECT * FROM account_notification WHERE account_notification_id = :accountNotificationId FOR UPDATE")
+    Mono<AccountNotification> findByIdForUpdate(UUID accountNotificationId);
+
+    /**
+     * Mark a notification as read unless it already is, in a single statement.
+     * A concurrent mark waits for the row lock and then no longer matches.
+     * @param accountNotificationId The notification ID
+     * @param now The read timestamp
+     * @return Mono of the notification marked as read; empty when it is missing or already read
+     */
+    @Query("UPDATE account_notification SET is_read = TRUE, read_date_time = :now, date_updated = :now " +
+            "WHERE account_notification_id = :accountNotificationId AND NOT is_read RETURNING *")
+    Mono<AccountNotification> markAsReadById(UUID accountNotificationId, LocalDateTime now);
+
+    /**
+     * Mark every unread notification of an account as read in a single statement
+     * @param accountId The account ID
+     * @param now The read timestamp
+     * @return Mono of Integer representing the number of notifications marked as read
+     */
+    @Modifying
+    @Query("UPDATE account_notification SET is_read = TRUE, read_date_time = :now, date_updated = :now " +
+            "WHERE account_id = :accountId AND NOT is_read")
+    Mono<Integer> markAllAsReadByAccountId(UUID accountId, LocalDateTime now);
+
+    /**
+     * Mark the given unread notifications of an account as read in a single statement
+     * @param accountId The account ID
+     * @param accountNotificationIds The notification IDs
+     * @param now The read timestamp
+     * @return Mono of Integer representing the number of notifications marked as read
+     */
+    @Modifying
+    @Query("UPDATE account_notification SET is_read = TRUE, read_date_time = :now, date_updated = :now " +
+            "WHERE account_notification_id = ANY(:accountNotificationIds) AND account_id = :accountId AND NOT is_read")
+    Mono<Integer> markAsReadByIds(UUID accountId, UUID[] accountNotificationIds, LocalDateTime now);
+
+    /**
+     * Insert a RESTRICTION_REMOVED notification for each of the given expired restrictions, and increment
+     * the unread counters of their accounts accordingly, in a single statement.
+     * @param accountRestrictionIds The IDs of the expired restrictions
+     * @param now The reference time
+     * @return Flux of the inserted AccountNotification
+     */
+    @Query("WITH notified AS (" +
+            "INSERT INTO account_notification (account_id, notification_type, title, message, " +
+            "creation_date_time, is_read, priority, event_reference) " +
+            "SELECT account_id, 'RESTRICTION_REMOVED'::notification_type_enum, 'Restriction removed', " +
+            "'The ' || restriction_type::text || ' restriction' || " +
+            "COALESCE(' ' || reference_number, '') || ' has expired and was removed', " +
+            ":now, FALSE, 0, account_restriction_id::text " +
+            "FROM account_restriction WHERE account_restriction_id = ANY(:accountRestrictionIds) " +
+            "RETURNING *), " +
+            "counted AS (" +
+            "INSERT INTO account_notification_counter (account_id, unread_count) " +
+            "SELECT account_id, COUNT(*) FROM notified GROUP BY account_id " +
+            "ON CONFLICT (account_id) DO UPDATE SET " +
+            "unread_count = account_notification_counter.unread_count + EXCLUDED.unread_count, " +
+            "date_updated = :now) " +
+            "SELECT * FROM notified")
+    Flux<AccountNotification> insertRestrictionExpiredNotifications(UUID[] accountRestrictionIds, LocalDateTime now);
+
+    /**
+     * Delete up to {@code batchSize} notifications that expired before {@code cutoff}, oldest first,
+     * and decrement the unread counters of their accounts, in a single statement.
+     * Rows locked by a concurrent transaction are skipped.
+     * @param cutoff Notifications that expired before this time are deleted
+     * @param batchSize Maximum number of notifications to delete
+     * @param now The reference time
+     * @return Mono of Long representing the number of notifications deleted
+     */
+    @Query("WITH purged AS (" +
+            "DELETE FROM account_notification WHERE account_notification_id IN (" +
+            "SELECT account_notification_id FROM account_notification " +
+            "WHERE expiry_date_time < :cutoff " +
+            "ORDER BY expiry_date_time LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING account_id, is_read), " +
+            "counted AS (" +
+            "UPDATE account_notification_counter c " +
+            "SET unread_count = GREATEST(c.unread_count - p.unread, 0), date_updated = :now " +
+            "FROM (SELECT account_id, COUNT(*) AS unread FROM purged WHERE NOT is_read GROUP BY account_id) p " +
+            "WHERE c.account_id = p.account_id) " +
+            "SELECT COUNT(*) FROM purged")
+    Mono<Long> purgeExpired(LocalDateTime cutoff, Integer batchSize, LocalDateTime now);
 }
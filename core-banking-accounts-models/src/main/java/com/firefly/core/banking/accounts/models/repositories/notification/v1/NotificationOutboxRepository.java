@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories.notification.v1;
+
+import com.firefly.core.banking.accounts.models.entities.notification.v1.NotificationOutbox;
+import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface NotificationOutboxRepository extends BaseRepository<NotificationOutbox, UUID> {
+
+    /**
+     * Claim up to {@code batchSize} due entries: their next attempt is pushed to {@code leaseUntil}
+     * and their attempt count incremented. Rows locked by a concurrent worker are skipped.
+     * @param now The reference time
+     * @param batchSize Maximum number of entries to claim
+     * @param leaseUntil Until when the claimed entries are reserved for this worker
+     * @return Flux of the claimed NotificationOutbox entries
+     */
+    @Query("UPDATE notification_outbox SET attempts = attempts + 1, next_attempt_date_time = :leaseUntil, " +
+            "date_updated = :now " +
+            "WHERE notification_outbox_id IN (" +
+            "SELECT notification_outbox_id FROM notification_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_date_time <= :now " +
+            "ORDER BY next_attempt_date_time LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *")
+    Flux<NotificationOutbox> claimDue(LocalDateTime now, Integer batchSize, LocalDateTime leaseUntil);
+
+    /**
+     * Mark an entry as delivered
+     * @param notificationOutboxId The outbox entry ID
+     * @param now The delivery time
+     * @return Mono of Integer representing the number of updated entries
+     */
+    @Modifying
+    @Query("UPDATE notification_outbox SET status = 'DELIVERED', delivered_date_time = :now, last_error = NULL, " +
+            "date_updated = :now WHERE notification_outbox_id = :notificationOutboxId")
+    Mono<Integer> markDelivered(UUID notificationOutboxId, LocalDateTime now);
+
+    /**
+     * Schedule another delivery attempt for an entry
+     * @param notificationOutboxId The outbox entry ID
+     * @param nextAttemptDateTime When the entry is due again
+     * @param lastError The error of the failed attempt
+     * @return Mono of Integer representing the number of updated entries
+     */
+    @Modifying
+    @Query("UPDATE notification_outbox SET next_attempt_date_time = :nextAttemptDateTime, last_error = :lastError, " +
+            "date_updated = CURRENT_TIMESTAMP WHERE notification_outbox_id = :notificationOutboxId")
+    Mono<Integer> scheduleRetry(UUID notificationOutboxId, LocalDateTime nextAttemptDateTime, String lastError);
+
+    /**
+     * Mark an entry as failed for good
+     * @param notificationOutboxId The outbox entry ID
+     * @param lastError The error of the last attempt
+     * @return Mono of Integer representing the number of updated entries
+     */
+    @Modifying
+    @Query("UPDATE notification_outbox SET status = 'FAILED', last_error = :lastError, " +
+            "date_updated = CURRENT_TIMESTAMP WHERE notification_outbox_id = :notificationOutboxId")
+    Mono<Integer> markFailed(UUID notificationOutboxId, String lastError);
+
+    /**
+     * Count the entries waiting for delivery
+     * @return Mono of Long representing the count
+     */
+    @Query("SELECT COUNT(*) FROM notification_outbox WHERE status = 'PENDING'")
+    Mono<Long> countPending();
+
+    /**
+     * Find the creation time of the oldest entry waiting for delivery
+     * @return Mono of LocalDateTime, empty when nothing is pending
+     */
+    @Query("SELECT MIN(date_created) FROM notification_outbox WHERE status = 'PENDING'")
+    Mono<LocalDateTime> findOldestPendingDateCreated();
+
+    /**
+     * Delete up to {@code batchSize} delivered or failed entries last updated before {@code cutoff},
+     * oldest first. Rows locked by a concurrent transaction are skipped.
+     * @param cutoff Finished entries last updated before this time are deleted
+     * @param batchSize Maximum number of entries to delete
+     * @return Mono of Long representing the number of entries deleted
+     */
+    @Query("WITH purged AS (" +
+            "DELETE FROM notification_outbox WHERE notification_outbox_id IN (" +
+            "SELECT notification_outbox_id FROM notification_outbox " +
+            "WHERE status IN ('DELIVERED', 'FAILED') AND date_updated < :cutoff " +
+            "ORDER BY date_updated LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING notification_outbox_id) " +
+            "SELECT COUNT(*) FROM purged")
+    Mono<Long> purgeFinished(LocalDateTime cutoff, Integer batchSize);
+}
@@ -20,11 +20,23 @@ package com.firefly.core.banking.accounts.models.repositories.parameter.v1;
 import com.firefly.core.banking.accounts.models.entities.parameter.v1.AccountParameter;
 import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface AccountParameterRepository extends BaseRepository<AccountParameter, UUID> {
     Flux<AccountParameter> findByAccountId(UUID accountId, Pageable pageable);
     Mono<Long> countByAccountId(UUID accountId);
+
+    /**
+     * Find the parameters of a set of accounts that are in effect at the given time, in a single query
+     * @param accountIds the account IDs
+     * @param now the reference time
+     * @return a Flux of AccountParameter entities, in no particular order
+     */
+    @Query("SELECT * FROM account_parameter WHERE account_id = ANY(:accountIds) " +
+            "AND effective_date <= :now AND (expiry_date IS NULL OR expiry_date > :now)")
+    Flux<AccountParameter> findEffectiveByAccountIdIn(UUID[] accountIds, LocalDateTime now);
 }
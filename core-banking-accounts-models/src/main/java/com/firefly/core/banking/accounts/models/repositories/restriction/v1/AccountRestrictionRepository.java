@@ -19,8 +19,11 @@ package com.firefly.core.banking.accounts.models.repositories.restriction.v1;
 
 import com.firefly.core.banking.accounts.models.entities.restriction.v1.AccountRestriction;
 import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface AccountRestrictionRepository extends BaseRepository<AccountRestriction, UUID> {
@@ -33,20 +36,19 @@ public interface AccountRestrictionRepository extends BaseRepository<AccountRest
     Flux<AccountRestriction> findByAccountId(UUID accountId);
     
     /**
-     * Find all active restrictions for a specific account
+     * Find all active restrictions for a specific account.
+     * The literal predicate lets generic plans use the partial index on active restrictions.
      * @param accountId The account ID
-     * @param isActive Whether the restriction is active
      * @return Flux of AccountRestriction
      */
-    Flux<AccountRestriction> findByAccountIdAndIsActive(UUID accountId, Boolean isActive);
+    Flux<AccountRestriction> findByAccountIdAndIsActiveTrue(UUID accountId);
     
     /**
      * Count active restrictions for a specific account
      * @param accountId The account ID
-     * @param isActive Whether the restriction is active
      * @return Mono of Long representing the count
      */
-    Mono<Long> countByAccountIdAndIsActive(UUID accountId, Boolean isActive);
+    Mono<Long> countByAccountIdAndIsActiveTrue(UUID accountId);
     
     /**
      * Find restrictions by reference number
@@ -54,4 +56,29 @@ public interface AccountRestrictionRepository extends BaseRepository<AccountRest
      * @return Flux of AccountRestriction
      */
     Flux<AccountRestriction> findByReferenceNumber(String referenceNumber);
+
+    /**
+     * Try to take the transaction-scoped advisory lock with the given key.
+     * The lock is released when the surrounding transaction ends.
+     * @param lockKey The advisory lock key
+     * @return Mono of Boolean, true if the lock was acquired
+     */
+    @Query("SELECT pg_try_advisory_xact_lock(:lockKey)")
+    Mono<Boolean> tryAdvisoryXactLock(Long lockKey);
+
+    /**
+     * Deactivate up to {@code batchSize} active restrictions whose end date is before {@code now},
+     * in a single statement. Rows locked by a concurrent transaction are skipped.
+     * @param now The reference time
+     * @param batchSize Maximum number of restrictions to deactivate
+     * @param removedBy The value recorded as remover
+     * @return Flux of the deactivated AccountRestriction
+     */
+    @Query("UPDATE account_restriction SET is_active = FALSE, removed_by = :removedBy, date_updated = :now " +
+            "WHERE account_restriction_id IN (" +
+            "SELECT account_restriction_id FROM account_restriction " +
+            "WHERE is_active AND end_date_time < :now " +
+            "ORDER BY end_date_time LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *")
+    Flux<AccountRestriction> expireRestrictions(LocalDateTime now, Integer batchSize, String removedBy);
 }
@@ -21,6 +21,7 @@ import com.firefly.core.banking.accounts.interfaces.enums.space.v1.AccountSpaceT
 import com.firefly.core.banking.accounts.models.entities.space.v1.AccountSpace;
 import com.firefly.core.banking.accounts.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -82,6 +83,13 @@ public interface AccountSpaceRepository extends BaseRepository<AccountSpace, UUI
      */
     Flux<AccountSpace> findByAccountIdAndTargetDateLessThan(UUID accountId, LocalDateTime currentDate);
 
+    /**
+     * Find all spaces with automatic transfers enabled for an account
+     * @param accountId the account ID
+     * @return a Flux of AccountSpace entities with automatic transfers enabled
+     */
+    Flux<AccountSpace> findByAccountIdAndEnableAutomaticTransfersTrue(UUID accountId);
+
     /**
      * Calculate the total balance across all spaces for an account
      * @param accountId the account ID
@@ -118,4 +126,60 @@ public interface AccountSpaceRepository extends BaseRepository<AccountSpace, UUI
      * @return a Flux of AccountSpace entities frozen after the specified date/time
      */
     Flux<AccountSpace> findByAccountIdAndFrozenDateTimeGreaterThanEqual(UUID accountId, LocalDateTime dateTime);
+
+    /**
+     * Find all spaces with the given IDs in a single query
+     * @param accountSpaceIds the account space IDs
+     * @return a Flux of AccountSpace entities, in no particular order
+     */
+    @Query("SELECT * FROM account_space WHERE account_space_id = ANY(:accountSpaceIds)")
+    Flux<AccountSpace> findAllByAccountSpaceIdIn(UUID[] accountSpaceIds);
+
+    /**
+     * Freeze every space of the given accounts in a single statement.
+     * The spaces are marked as frozen by their account; spaces already frozen on their own are left as they are.
+     * @param accountIds the account IDs
+     * @param now the freeze timestamp
+     * @return a Mono with the number of spaces that were frozen
+     */
+    @Modifying
+    @Query("UPDATE account_space SET is_frozen = TRUE, frozen_by_account = TRUE, frozen_date_time = :now, " +
+            "date_updated = :now WHERE account_id = ANY(:accountIds) AND NOT is_frozen")
+    Mono<Integer> freezeAllByAccountIdIn(UUID[] accountIds, LocalDateTime now);
+
+    /**
+     * Unfreeze the spaces of the given accounts that were frozen by their account, in a single statement.
+     * Spaces frozen on their own, and accounts that still have an active ACCOUNT_FREEZE, LEGAL_ORDER or
+     * COURT_ORDER restriction, are left frozen.
+     * @param accountIds the account IDs
+     * @param now the unfreeze timestamp
+     * @return a Mono with the number of spaces that were unfrozen
+     */
+    @Modifying
+    @Query("UPDATE account_space SET is_frozen = FALSE, frozen_by_account = FALSE, unfrozen_date_time = :now, " +
+            "date_updated = :now WHERE account_id = ANY(:accountIds) AND is_frozen AND frozen_by_account " +
+            "AND NOT EXISTS (SELECT 1 FROM account_restriction r " +
+            "WHERE r.account_id = account_space.account_id AND r.is_active " +
+            "AND r.restriction_type IN ('ACCOUNT_FREEZE', 'LEGAL_ORDER', 'COURT_ORDER'))")
+    Mono<Integer> unfreezeAllByAccountIdIn(UUID[] accountIds, LocalDateTime now);
+
+    /**
+     * Lock the account row until the end of the transaction.
+     * Conflicts with the key-share lock a new restriction takes on its account, so a space created
+     * under this lock and a restriction inserted concurrently see each other once either commits.
+     * @param accountId the account ID
+     * @return a Mono with the account ID, or empty if the account does not exist
+     */
+    @Query("SELECT account_id FROM account WHERE account_id = :accountId FOR UPDATE")
+    Mono<UUID> lockAccount(UUID accountId);
+
+    /**
+     * Check whether an active ACCOUNT_FREEZE, LEGAL_ORDER or COURT_ORDER restriction freezes the spaces of an account
+     * @param accountId the account ID
+     * @return a Mono with true if new spaces of the account must start frozen
+     */
+    @Query("SELECT EXISTS (SELECT 1 FROM account_restriction r " +
+            "WHERE r.account_id = :accountId AND r.is_active " +
+            "AND r.restriction_type IN ('ACCOUNT_FREEZE', 'LEGAL_ORDER', 'COURT_ORDER'))")
+    Mono<Boolean> isAccountFrozen(UUID accountId);
 }
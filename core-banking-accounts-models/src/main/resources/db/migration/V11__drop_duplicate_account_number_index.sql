@@ -0,0 +1,5 @@
+-- V11__drop_duplicate_account_number_index.sql
+-- Drop the redundant account_number index; lookups by account number are served
+-- by the index backing the UNIQUE constraint on account.account_number
+
+DROP INDEX IF EXISTS idx_account_account_number;
@@ -0,0 +1,46 @@
+-- V12__create_current_account_balance_table.sql
+-- Materialize the most recent balance per (account, space, balance type, asset)
+-- so current balances can be read without scanning account_balance history
+
+-- ============================================================================
+-- Current account balance table
+-- ============================================================================
+CREATE TABLE current_account_balance (
+    current_account_balance_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    account_id UUID NOT NULL REFERENCES account(account_id),
+    account_space_id UUID,
+    balance_type balance_type_enum NOT NULL,
+    balance_amount NUMERIC(19, 4) NOT NULL,
+    as_of_datetime TIMESTAMP NOT NULL,
+    asset_symbol VARCHAR(20),
+    asset_decimals VARCHAR(10),
+    -- History row this value was taken from
+    account_balance_id UUID NOT NULL,
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Global balances have no space and fiat balances have no asset symbol;
+-- coalesce them so there is exactly one row per key, NULLs included.
+-- Upserts must use the same expressions as their ON CONFLICT target.
+CREATE UNIQUE INDEX uq_current_account_balance_key ON current_account_balance (
+    account_id,
+    COALESCE(account_space_id, '00000000-0000-0000-0000-000000000000'::uuid),
+    balance_type,
+    COALESCE(asset_symbol, '')
+);
+
+COMMENT ON TABLE current_account_balance IS 'Latest balance per account, space, balance type and asset; account_balance keeps the full history';
+
+-- ============================================================================
+-- Backfill from history
+-- ============================================================================
+INSERT INTO current_account_balance (
+    account_id, account_space_id, balance_type, balance_amount, as_of_datetime,
+    asset_symbol, asset_decimals, account_balance_id
+)
+SELECT DISTINCT ON (account_id, account_space_id, balance_type, asset_symbol)
+    account_id, account_space_id, balance_type, balance_amount, as_of_datetime,
+    asset_symbol, asset_decimals, account_balance_id
+FROM account_balance
+ORDER BY account_id, account_space_id, balance_type, asset_symbol, as_of_datetime DESC;
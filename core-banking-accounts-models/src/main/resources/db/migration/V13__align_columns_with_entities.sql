@@ -0,0 +1,35 @@
+-- V13__align_columns_with_entities.sql
+-- Align column names with the entity mapping (camelCase field -> snake_case column)
+-- so that derived repository queries and the @Query statements resolve against real columns
+
+-- ============================================================================
+-- account_notification
+-- ============================================================================
+ALTER TABLE account_notification RENAME COLUMN creation_datetime TO creation_date_time;
+ALTER TABLE account_notification RENAME COLUMN expiry_datetime TO expiry_date_time;
+ALTER TABLE account_notification RENAME COLUMN read_datetime TO read_date_time;
+
+-- ============================================================================
+-- space_transaction
+-- ============================================================================
+ALTER TABLE space_transaction RENAME COLUMN transaction_datetime TO transaction_date_time;
+
+-- ============================================================================
+-- account_space
+-- ============================================================================
+ALTER TABLE account_space RENAME COLUMN frozen_datetime TO frozen_date_time;
+ALTER TABLE account_space ADD COLUMN unfrozen_date_time TIMESTAMP;
+ALTER TABLE account_space ADD COLUMN last_balance_update_reason VARCHAR(255);
+ALTER TABLE account_space ADD COLUMN last_balance_update_date_time TIMESTAMP;
+
+-- ============================================================================
+-- asset_price: use the BaseEntity audit columns (date_created / date_updated)
+-- ============================================================================
+ALTER TABLE asset_price RENAME COLUMN created_date TO date_created;
+ALTER TABLE asset_price ALTER COLUMN date_created SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE asset_price RENAME COLUMN last_modified_date TO date_updated;
+UPDATE asset_price SET date_updated = date_created WHERE date_updated IS NULL;
+ALTER TABLE asset_price ALTER COLUMN date_updated SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE asset_price ALTER COLUMN date_updated SET NOT NULL;
+ALTER TABLE asset_price DROP COLUMN created_by;
+ALTER TABLE asset_price DROP COLUMN last_modified_by;
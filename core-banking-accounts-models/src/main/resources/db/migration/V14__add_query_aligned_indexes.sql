@@ -0,0 +1,91 @@
+-- V14__add_query_aligned_indexes.sql
+-- Composite and partial indexes matching the predicates of the repository queries.
+-- Single-column indexes that became a leading prefix of a composite index are dropped.
+-- Every repository query is checked against these indexes by RepositoryQueryPlanTest.
+
+-- ============================================================================
+-- account_balance
+-- findByAccountId, findByAccountIdAndAccountSpaceId, findByAccountIdAndAccountSpaceIdIsNull
+-- ============================================================================
+CREATE INDEX idx_account_balance_account_space_as_of
+    ON account_balance(account_id, account_space_id, as_of_datetime DESC);
+DROP INDEX IF EXISTS idx_account_balance_account_id;
+
+-- ============================================================================
+-- account_space
+-- ============================================================================
+-- findByAccountIdAndSpaceType
+CREATE INDEX idx_account_space_account_space_type ON account_space(account_id, space_type);
+DROP INDEX IF EXISTS idx_account_space_account_id;
+
+-- findByAccountIdAndTargetAmountIsNotNull
+CREATE INDEX idx_account_space_with_target_amount ON account_space(account_id)
+    WHERE target_amount IS NOT NULL;
+
+-- findByAccountIdAndTargetDateGreaterThanEqual, findByAccountIdAndTargetDateLessThan
+CREATE INDEX idx_account_space_target_date ON account_space(account_id, target_date)
+    WHERE target_date IS NOT NULL;
+
+-- findByAccountIdAndIsFrozenTrue, countByAccountIdAndIsFrozenTrue
+CREATE INDEX idx_account_space_frozen ON account_space(account_id)
+    WHERE is_frozen;
+
+-- findByAccountIdAndFrozenDateTimeGreaterThanEqual
+CREATE INDEX idx_account_space_frozen_date_time ON account_space(account_id, frozen_date_time)
+    WHERE frozen_date_time IS NOT NULL;
+
+-- findByAccountIdAndEnableAutomaticTransfersTrue
+CREATE INDEX idx_account_space_automatic_transfers ON account_space(account_id)
+    WHERE enable_automatic_transfers;
+
+-- ============================================================================
+-- space_transaction
+-- findByAccountSpaceId, ...TransactionDateTimeBetween, calculateTotalDeposits/Withdrawals,
+-- findFirstByAccountSpaceIdAndTransactionDateTimeLessThanEqualOrderByTransactionDateTimeDesc
+-- ============================================================================
+CREATE INDEX idx_space_transaction_space_date_time
+    ON space_transaction(account_space_id, transaction_date_time DESC);
+DROP INDEX IF EXISTS idx_space_transaction_account_space_id;
+
+-- ============================================================================
+-- account_notification
+-- ============================================================================
+-- findByAccountIdAndIsRead(false), countByAccountIdAndIsRead(false)
+CREATE INDEX idx_account_notification_unread ON account_notification(account_id, creation_date_time DESC)
+    WHERE NOT is_read;
+DROP INDEX IF EXISTS idx_account_notification_is_read;
+
+-- findByAccountIdAndNotificationType
+CREATE INDEX idx_account_notification_account_type ON account_notification(account_id, notification_type);
+
+-- findByAccountIdAndPriority
+CREATE INDEX idx_account_notification_account_priority ON account_notification(account_id, priority);
+
+-- findActiveByAccountId
+CREATE INDEX idx_account_notification_account_expiry ON account_notification(account_id, expiry_date_time);
+
+-- ============================================================================
+-- account_restriction
+-- findByAccountIdAndIsActive(true), countByAccountIdAndIsActive(true)
+-- ============================================================================
+CREATE INDEX idx_account_restriction_active ON account_restriction(account_id)
+    WHERE is_active;
+DROP INDEX IF EXISTS idx_account_restriction_is_active;
+
+-- ============================================================================
+-- account_provider
+-- findByAccountSpaceId, findByAccountIdAndAccountSpaceId
+-- ============================================================================
+CREATE INDEX idx_account_provider_account_space_id ON account_provider(account_space_id);
+CREATE INDEX idx_account_provider_account_and_space ON account_provider(account_id, account_space_id);
+DROP INDEX IF EXISTS idx_account_provider_account_id;
+
+-- ============================================================================
+-- asset_price
+-- ============================================================================
+-- findByAssetSymbolAndAsOfDatetimeBetween
+CREATE INDEX idx_asset_price_symbol_datetime ON asset_price(asset_symbol, as_of_datetime);
+DROP INDEX IF EXISTS idx_asset_price_symbol;
+
+-- findByPriceSource
+CREATE INDEX idx_asset_price_source ON asset_price(price_source);
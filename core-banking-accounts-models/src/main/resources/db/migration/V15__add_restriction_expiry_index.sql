@@ -0,0 +1,6 @@
+-- V15__add_restriction_expiry_index.sql
+-- Partial index for the restriction expiry sweep, which deactivates the
+-- oldest expired active restrictions in bounded batches.
+
+CREATE INDEX idx_account_restriction_expiry ON account_restriction(end_date_time)
+    WHERE is_active AND end_date_time IS NOT NULL;
@@ -0,0 +1,27 @@
+-- V16__create_notification_outbox_table.sql
+-- Transactional outbox for notification delivery.
+-- One row per notification and delivery channel, written in the same transaction
+-- as the notification. The delivery worker claims due rows in batches.
+
+CREATE TABLE notification_outbox (
+    notification_outbox_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    account_notification_id UUID NOT NULL REFERENCES account_notification(account_notification_id) ON DELETE CASCADE,
+    channel VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_date_time TIMESTAMP NOT NULL,
+    delivered_date_time TIMESTAMP,
+    last_error TEXT,
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Claiming due rows: pending rows ordered by their next attempt
+CREATE INDEX idx_notification_outbox_due ON notification_outbox(next_attempt_date_time)
+    WHERE status = 'PENDING';
+
+-- Queue size and lag: pending rows ordered by creation
+CREATE INDEX idx_notification_outbox_pending_created ON notification_outbox(date_created)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_notification_outbox_notification_id ON notification_outbox(account_notification_id);
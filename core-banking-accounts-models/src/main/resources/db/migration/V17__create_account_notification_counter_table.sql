@@ -0,0 +1,21 @@
+-- V17__create_account_notification_counter_table.sql
+-- Maintained unread-notification count per account, so badge counts are a
+-- primary key lookup instead of a count over account_notification.
+-- The counter is adjusted in the same transaction as the notification change;
+-- a reconciliation job corrects any drift.
+
+CREATE TABLE account_notification_counter (
+    account_id UUID PRIMARY KEY REFERENCES account(account_id),
+    unread_count BIGINT NOT NULL DEFAULT 0 CHECK (unread_count >= 0),
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE account_notification_counter IS 'Unread notification count per account, maintained alongside account_notification';
+
+-- Backfill from existing notifications
+INSERT INTO account_notification_counter (account_id, unread_count)
+SELECT account_id, COUNT(*)
+FROM account_notification
+WHERE NOT is_read
+GROUP BY account_id;
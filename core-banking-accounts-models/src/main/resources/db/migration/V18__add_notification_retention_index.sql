@@ -0,0 +1,6 @@
+-- V18__add_notification_retention_index.sql
+-- Partial index for the notification retention purge, which deletes the
+-- oldest expired notifications in bounded batches.
+
+CREATE INDEX idx_account_notification_expiry ON account_notification(expiry_date_time)
+    WHERE expiry_date_time IS NOT NULL;
@@ -0,0 +1,7 @@
+-- V19__add_notification_threshold_param_types.sql
+-- Per-account thresholds for the balance notification rules, stored as account parameters.
+-- ADD VALUE only appends to the enum, so unlike V6/V8 no column has to be rewritten.
+
+ALTER TYPE param_type_enum ADD VALUE IF NOT EXISTS 'LOW_BALANCE_THRESHOLD';
+ALTER TYPE param_type_enum ADD VALUE IF NOT EXISTS 'LARGE_DEPOSIT_THRESHOLD';
+ALTER TYPE param_type_enum ADD VALUE IF NOT EXISTS 'LARGE_WITHDRAWAL_THRESHOLD';
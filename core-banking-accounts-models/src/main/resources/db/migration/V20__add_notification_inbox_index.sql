@@ -0,0 +1,9 @@
+-- V20__add_notification_inbox_index.sql
+-- Composite index for the keyset-paginated notification listings, which filter
+-- on account and read state and page in (priority, creation_date_time DESC)
+-- order. Priority sits between is_read and creation_date_time so each page is a
+-- single index range scan; the notification ID breaks ties between rows
+-- created at the same instant.
+
+CREATE INDEX idx_account_notification_inbox ON account_notification(
+    account_id, is_read, priority, creation_date_time DESC, account_notification_id DESC);
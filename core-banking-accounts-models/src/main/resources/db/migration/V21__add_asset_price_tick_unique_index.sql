@@ -0,0 +1,18 @@
+-- V21__add_asset_price_tick_unique_index.sql
+-- One row per tick: the same price of a pair at the same instant from the same
+-- source is stored once. The bulk ingest relies on this index to drop repeated
+-- ticks with ON CONFLICT DO NOTHING.
+
+-- Remove existing exact duplicates, keeping one row of each
+DELETE FROM asset_price a
+    USING asset_price b
+WHERE a.asset_symbol = b.asset_symbol
+  AND a.quote_currency = b.quote_currency
+  AND a.as_of_datetime = b.as_of_datetime
+  AND a.price_source = b.price_source
+  AND a.asset_price_id > b.asset_price_id;
+
+CREATE UNIQUE INDEX uq_asset_price_tick ON asset_price(asset_symbol, quote_currency, as_of_datetime, price_source);
+
+-- The unique index leads with (asset_symbol, quote_currency, as_of_datetime) and serves the latest-price lookups
+DROP INDEX IF EXISTS idx_asset_price_lookup;
@@ -0,0 +1,31 @@
+-- V22__create_asset_price_candle_table.sql
+-- OHLC rollups of asset_price at fixed bucket intervals, so chart queries read
+-- a few thousand pre-aggregated rows instead of every tick in the range.
+-- Candles are merged incrementally as ticks are stored; bucket_start is the
+-- as-of datetime truncated to a multiple of the interval since the epoch.
+
+CREATE TABLE asset_price_candle (
+    asset_price_candle_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    asset_symbol VARCHAR(20) NOT NULL,
+    quote_currency VARCHAR(10) NOT NULL,
+    bucket_interval VARCHAR(20) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    open_price NUMERIC(36, 18) NOT NULL,
+    high_price NUMERIC(36, 18) NOT NULL,
+    low_price NUMERIC(36, 18) NOT NULL,
+    close_price NUMERIC(36, 18) NOT NULL,
+    open_datetime TIMESTAMP NOT NULL,
+    close_datetime TIMESTAMP NOT NULL,
+    tick_count BIGINT NOT NULL CHECK (tick_count > 0),
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One candle per pair, interval and bucket; serves the chart range scans and the upsert conflict target
+CREATE UNIQUE INDEX uq_asset_price_candle ON asset_price_candle(asset_symbol, quote_currency, bucket_interval, bucket_start);
+
+COMMENT ON TABLE asset_price_candle IS 'OHLC rollups of asset_price per pair and bucket interval, maintained on ingest';
+COMMENT ON COLUMN asset_price_candle.bucket_interval IS 'Bucket width (ONE_MINUTE, FIVE_MINUTES, ONE_HOUR, ONE_DAY)';
+COMMENT ON COLUMN asset_price_candle.open_datetime IS 'As-of datetime of the first tick in the bucket, used to merge the open price';
+COMMENT ON COLUMN asset_price_candle.close_datetime IS 'As-of datetime of the last tick in the bucket, used to merge the close price';
+COMMENT ON COLUMN asset_price_candle.tick_count IS 'Number of ticks aggregated into the candle';
@@ -0,0 +1,96 @@
+-- V23__partition_asset_price_by_day.sql
+-- Range-partition asset_price by as_of_datetime into one partition per day, so
+-- expiring raw ticks is a partition drop instead of a mass row delete.
+-- Partitions are named asset_price_pYYYYMMDD; ticks outside every partition
+-- land in asset_price_default. The retention job keeps partitions created ahead
+-- of time and drops the expired ones through the functions below.
+
+ALTER TABLE asset_price RENAME TO asset_price_unpartitioned;
+
+-- The primary key of a partitioned table must include the partition key
+CREATE TABLE asset_price (
+    asset_price_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    asset_symbol VARCHAR(20) NOT NULL,
+    quote_currency VARCHAR(10) NOT NULL,
+    price NUMERIC(36, 18) NOT NULL,
+    as_of_datetime TIMESTAMP NOT NULL,
+    price_source VARCHAR(50) NOT NULL,
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) PARTITION BY RANGE (as_of_datetime);
+
+CREATE TABLE asset_price_default PARTITION OF asset_price DEFAULT;
+
+-- Creates the missing daily partitions in [from_day, to_day). A day whose ticks
+-- already sit in the default partition is skipped, since attaching a partition
+-- over rows of the default partition fails.
+CREATE FUNCTION asset_price_ensure_partitions(from_day DATE, to_day DATE) RETURNS INTEGER AS $$
+DECLARE
+    partition_day DATE := from_day;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE partition_day < to_day LOOP
+        partition_name := 'asset_price_p' || to_char(partition_day, 'YYYYMMDD');
+        IF to_regclass(partition_name) IS NULL AND NOT EXISTS (
+                SELECT 1 FROM asset_price_default
+                WHERE as_of_datetime >= partition_day AND as_of_datetime < partition_day + 1) THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF asset_price FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, partition_day, partition_day + 1);
+            created := created + 1;
+        END IF;
+        partition_day := partition_day + 1;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the daily partitions whose whole day lies before cutoff_day
+CREATE FUNCTION asset_price_drop_partitions_before(cutoff_day DATE) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    dropped INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'asset_price'::regclass
+          AND c.relname ~ '^asset_price_p[0-9]{8}$'
+          AND to_date(substring(c.relname FROM 14), 'YYYYMMDD') < cutoff_day
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('DROP TABLE %I', partition_name);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT asset_price_ensure_partitions(
+    COALESCE((SELECT MIN(as_of_datetime)::date FROM asset_price_unpartitioned), CURRENT_DATE),
+    CURRENT_DATE + 7);
+
+INSERT INTO asset_price (asset_price_id, asset_symbol, quote_currency, price, as_of_datetime, price_source,
+                         date_created, date_updated)
+SELECT asset_price_id, asset_symbol, quote_currency, price, as_of_datetime, price_source, date_created, date_updated
+FROM asset_price_unpartitioned;
+
+DROP TABLE asset_price_unpartitioned;
+
+-- Indexes are created after the copy, and cascade to every partition
+ALTER TABLE asset_price ADD PRIMARY KEY (asset_price_id, as_of_datetime);
+CREATE UNIQUE INDEX uq_asset_price_tick ON asset_price(asset_symbol, quote_currency, as_of_datetime, price_source);
+CREATE INDEX idx_asset_price_symbol_datetime ON asset_price(asset_symbol, as_of_datetime);
+CREATE INDEX idx_asset_price_quote_currency ON asset_price(quote_currency);
+CREATE INDEX idx_asset_price_datetime ON asset_price(as_of_datetime);
+CREATE INDEX idx_asset_price_source ON asset_price(price_source);
+
+COMMENT ON TABLE asset_price IS 'Stores historical price data for crypto assets and tokenized assets, partitioned by day';
+COMMENT ON COLUMN asset_price.asset_price_id IS 'Unique identifier for the asset price record';
+COMMENT ON COLUMN asset_price.asset_symbol IS 'Symbol or ticker of the crypto asset (BTC, ETH, etc.)';
+COMMENT ON COLUMN asset_price.quote_currency IS 'Currency in which the asset is priced (USD, EUR, etc.)';
+COMMENT ON COLUMN asset_price.price IS 'The price of the asset in the quote currency with high precision';
+COMMENT ON COLUMN asset_price.as_of_datetime IS 'Timestamp when this price was recorded';
+COMMENT ON COLUMN asset_price.price_source IS 'Source of the price data (exchange, API, etc.)';
+
+-- Candle retention deletes by interval and age across all pairs
+CREATE INDEX idx_asset_price_candle_expiry ON asset_price_candle(bucket_interval, bucket_start);
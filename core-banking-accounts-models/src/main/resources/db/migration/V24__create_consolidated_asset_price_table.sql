@@ -0,0 +1,28 @@
+-- V24__create_consolidated_asset_price_table.sql
+-- Consolidated price series per pair, derived on ingest from the latest quote of
+-- every price source within a short sliding window: the median of the sources
+-- that do not deviate too far from it. A row is written only when the
+-- consolidated price of a pair changes, so the series is a step function.
+
+CREATE TABLE consolidated_asset_price (
+    consolidated_asset_price_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    asset_symbol VARCHAR(20) NOT NULL,
+    quote_currency VARCHAR(10) NOT NULL,
+    price NUMERIC(36, 18) NOT NULL,
+    as_of_datetime TIMESTAMP NOT NULL,
+    source_count INTEGER NOT NULL CHECK (source_count > 0),
+    dropped_source_count INTEGER NOT NULL DEFAULT 0 CHECK (dropped_source_count >= 0),
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One consolidated price per pair and instant; serves latest and history lookups and the upsert conflict target
+CREATE UNIQUE INDEX uq_consolidated_asset_price ON consolidated_asset_price(asset_symbol, quote_currency, as_of_datetime);
+
+-- Retention deletes by age across all pairs
+CREATE INDEX idx_consolidated_asset_price_datetime ON consolidated_asset_price(as_of_datetime);
+
+COMMENT ON TABLE consolidated_asset_price IS 'Median price per pair across price sources, maintained on ingest';
+COMMENT ON COLUMN consolidated_asset_price.as_of_datetime IS 'As-of datetime of the newest source quote in the window';
+COMMENT ON COLUMN consolidated_asset_price.source_count IS 'Number of source quotes the price was computed from';
+COMMENT ON COLUMN consolidated_asset_price.dropped_source_count IS 'Number of source quotes dropped as outliers';
@@ -0,0 +1,27 @@
+-- V25__create_price_alert_rule_table.sql
+-- Per-account price alert rules: notify the account when the consolidated price
+-- of a pair crosses a threshold in a given direction. Active rules are indexed
+-- in memory; a rule fires once and is then deactivated until it is re-armed.
+
+ALTER TYPE notification_type_enum ADD VALUE IF NOT EXISTS 'PRICE_ALERT';
+
+CREATE TABLE price_alert_rule (
+    price_alert_rule_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    account_id UUID NOT NULL REFERENCES account(account_id),
+    asset_symbol VARCHAR(20) NOT NULL,
+    quote_currency VARCHAR(10) NOT NULL,
+    threshold_price NUMERIC(36, 18) NOT NULL CHECK (threshold_price > 0),
+    direction VARCHAR(10) NOT NULL CHECK (direction IN ('ABOVE', 'BELOW')),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    triggered_datetime TIMESTAMP,
+    triggered_price NUMERIC(36, 18),
+    date_created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_price_alert_rule_account_id ON price_alert_rule(account_id);
+
+COMMENT ON TABLE price_alert_rule IS 'Price thresholds per account that raise a PRICE_ALERT notification when crossed';
+COMMENT ON COLUMN price_alert_rule.direction IS 'ABOVE fires when the price rises to the threshold, BELOW when it falls to it';
+COMMENT ON COLUMN price_alert_rule.is_active IS 'Whether the rule can still fire; cleared when it fires';
+COMMENT ON COLUMN price_alert_rule.triggered_price IS 'Consolidated price that crossed the threshold';
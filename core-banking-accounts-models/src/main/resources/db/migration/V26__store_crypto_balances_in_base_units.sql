@@ -0,0 +1,47 @@
+-- V26__store_crypto_balances_in_base_units.sql
+-- Store crypto balances exactly, as integer base units of the token (satoshis, wei, ...),
+-- and the token decimals as an integer instead of a string.
+-- NUMERIC(78, 0) holds any unsigned 256-bit token amount. balance_amount stays the
+-- NUMERIC(19, 4) amount in whole tokens, rounded down, for fiat-style readers.
+
+-- ============================================================================
+-- account_balance
+-- ============================================================================
+ALTER TABLE account_balance
+    ALTER COLUMN asset_decimals TYPE SMALLINT
+        USING CASE WHEN asset_decimals ~ '^\s*[0-9]{1,2}\s*$' THEN trim(asset_decimals)::SMALLINT END,
+    ADD COLUMN balance_base_units NUMERIC(78, 0);
+
+-- Decimals outside the supported range cannot have been valid token definitions
+UPDATE account_balance SET asset_decimals = NULL WHERE asset_decimals > 36;
+
+ALTER TABLE account_balance
+    ADD CONSTRAINT chk_account_balance_asset_decimals CHECK (asset_decimals BETWEEN 0 AND 36);
+
+-- Amounts already truncated to 4 decimal places cannot be recovered; backfill what is stored
+UPDATE account_balance
+SET balance_base_units = trunc(balance_amount * power(10::NUMERIC, asset_decimals))
+WHERE asset_symbol IS NOT NULL AND asset_decimals IS NOT NULL;
+
+COMMENT ON COLUMN account_balance.asset_decimals IS 'Number of decimal places used by the token (8 for BTC, 18 for ETH)';
+COMMENT ON COLUMN account_balance.balance_base_units IS 'Exact crypto balance in base units of the token; balance_amount = balance_base_units / 10^asset_decimals, rounded down to 4 decimal places';
+
+-- ============================================================================
+-- current_account_balance
+-- ============================================================================
+ALTER TABLE current_account_balance
+    ALTER COLUMN asset_decimals TYPE SMALLINT
+        USING CASE WHEN asset_decimals ~ '^\s*[0-9]{1,2}\s*$' THEN trim(asset_decimals)::SMALLINT END,
+    ADD COLUMN balance_base_units NUMERIC(78, 0);
+
+UPDATE current_account_balance SET asset_decimals = NULL WHERE asset_decimals > 36;
+
+ALTER TABLE current_account_balance
+    ADD CONSTRAINT chk_current_account_balance_asset_decimals CHECK (asset_decimals BETWEEN 0 AND 36);
+
+UPDATE current_account_balance
+SET balance_base_units = trunc(balance_amount * power(10::NUMERIC, asset_decimals))
+WHERE asset_symbol IS NOT NULL AND asset_decimals IS NOT NULL;
+
+COMMENT ON COLUMN current_account_balance.asset_decimals IS 'Number of decimal places used by the token (8 for BTC, 18 for ETH)';
+COMMENT ON COLUMN current_account_balance.balance_base_units IS 'Exact crypto balance in base units of the token';
@@ -0,0 +1,15 @@
+-- V27__track_spaces_frozen_by_account.sql
+-- Record which spaces were frozen by an account-level freeze (a freezing restriction or a
+-- bulk freeze), so lifting it releases only those and leaves spaces frozen on their own.
+
+ALTER TABLE account_space ADD COLUMN frozen_by_account BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Frozen spaces of accounts under a freezing restriction were released with it until now
+UPDATE account_space s
+SET frozen_by_account = TRUE
+WHERE s.is_frozen
+  AND EXISTS (SELECT 1 FROM account_restriction r
+              WHERE r.account_id = s.account_id AND r.is_active
+                AND r.restriction_type IN ('ACCOUNT_FREEZE', 'LEGAL_ORDER', 'COURT_ORDER'));
+
+COMMENT ON COLUMN account_space.frozen_by_account IS 'Whether the space was frozen by an account-level freeze and is released when that freeze is lifted';
@@ -0,0 +1,7 @@
+-- V28__index_finished_notification_outbox_entries.sql
+-- Delivered and finally failed outbox entries are kept for a retention period and then
+-- deleted in batches by the retention purge, oldest first.
+
+-- Purging finished entries: delivered or failed rows ordered by their last update
+CREATE INDEX idx_notification_outbox_finished ON notification_outbox(date_updated)
+    WHERE status IN ('DELIVERED', 'FAILED');
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories;
+
+import com.firefly.core.banking.accounts.models.repositories.space.v1.AccountSpaceRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the bulk space freeze and unfreeze statements of {@link AccountSpaceRepository} against
+ * a migrated schema, when a database is configured (DB_HOST, DB_PORT, DB_NAME, DB_USERNAME,
+ * DB_PASSWORD). Lifting an account-level freeze must release only the spaces it froze.
+ */
+@DisplayName("Account space freeze query tests")
+public class AccountSpaceFreezeQueryTest {
+
+    private static final String SCHEMA = "space_freeze_check";
+
+    private static Connection connection;
+
+    private UUID accountId;
+
+    @BeforeAll
+    static void migrateSchema() throws SQLException {
+        String host = System.getenv("DB_HOST");
+        if (host == null || host.isBlank()) {
+            return;
+        }
+        String url = "jdbc:postgresql://" + host + ":" + env("DB_PORT", "5432") + "/" + env("DB_NAME", "postgres");
+        String username = env("DB_USERNAME", "postgres");
+        String password = env("DB_PASSWORD", "");
+
+        connection = DriverManager.getConnection(url, username, password);
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+
+        Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .defaultSchema(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute("SET search_path TO " + SCHEMA);
+        prepare("freeze_spaces", "freezeAllByAccountIdIn");
+        prepare("unfreeze_spaces", "unfreezeAllByAccountIdIn");
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void createAccount() throws SQLException {
+        assumeTrue(connection != null, "DB_HOST is not set; skipping freeze query checks");
+
+        accountId = UUID.randomUUID();
+        execute("INSERT INTO account (account_id, contract_id, account_number, account_type, currency, open_date, "
+                + "account_status, branch_id) VALUES ('" + accountId + "', gen_random_uuid(), '" + accountId
+                + "', 'CHECKING', 'EUR', CURRENT_DATE, 'OPEN', gen_random_uuid())");
+    }
+
+    @Test
+    @DisplayName("Lifting a restriction leaves a space frozen by hand frozen")
+    void unfreeze_LeavesSpaceFrozenByHandFrozen() throws SQLException {
+        // Arrange
+        UUID manual = insertSpace("SAVINGS", true);
+        UUID cascaded = insertSpace("MAIN", false);
+        UUID restrictionId = UUID.randomUUID();
+        execute("INSERT INTO account_restriction (account_restriction_id, account_id, restriction_type, "
+                + "start_date_time, applied_by) VALUES ('" + restrictionId + "', '" + accountId
+                + "', 'COURT_ORDER', CURRENT_TIMESTAMP, 'court')");
+        assertEquals(1, update("freeze_spaces"));
+
+        // Act
+        execute("UPDATE account_restriction SET is_active = FALSE WHERE account_restriction_id = '" + restrictionId + "'");
+        int unfrozen = update("unfreeze_spaces");
+
+        // Assert
+        assertEquals(1, unfrozen);
+        assertTrue(isFrozen(manual));
+        assertFalse(isFrozen(cascaded));
+    }
+
+    @Test
+    @DisplayName("An active freezing restriction keeps the spaces it froze frozen")
+    void unfreeze_KeepsSpacesOfRestrictedAccountFrozen() throws SQLException {
+        // Arrange
+        UUID space = insertSpace("MAIN", false);
+        execute("INSERT INTO account_restriction (account_id, restriction_type, start_date_time, applied_by) "
+                + "VALUES ('" + accountId + "', 'ACCOUNT_FREEZE', CURRENT_TIMESTAMP, 'compliance')");
+        assertEquals(1, update("freeze_spaces"));
+
+        // Act & Assert
+        assertEquals(0, update("unfreeze_spaces"));
+        assertTrue(isFrozen(space));
+    }
+
+    private UUID insertSpace(String spaceType, boolean frozen) throws SQLException {
+        UUID spaceId = UUID.randomUUID();
+        execute("INSERT INTO account_space (account_space_id, account_id, space_name, space_type, is_frozen) VALUES ('"
+                + spaceId + "', '" + accountId + "', '" + spaceType + "', '" + spaceType + "', " + frozen + ")");
+        return spaceId;
+    }
+
+    private int update(String statementName) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate("EXECUTE " + statementName
+                    + "(ARRAY['" + accountId + "']::uuid[], '" + LocalDateTime.now() + "')");
+        }
+    }
+
+    private boolean isFrozen(UUID spaceId) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT is_frozen FROM account_space WHERE account_space_id = '" + spaceId + "'")) {
+            assertTrue(resultSet.next());
+            return resultSet.getBoolean(1);
+        }
+    }
+
+    /**
+     * Prepares the statement of a bulk freeze method, binding its account IDs and timestamp by position.
+     */
+    private static void prepare(String statementName, String methodName) throws SQLException {
+        String sql;
+        try {
+            sql = AccountSpaceRepository.class.getMethod(methodName, UUID[].class, LocalDateTime.class)
+                    .getAnnotation(Query.class).value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        execute("PREPARE " + statementName + "(uuid[], timestamp) AS "
+                + sql.replace(":accountIds", "$1").replace(":now", "$2"));
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
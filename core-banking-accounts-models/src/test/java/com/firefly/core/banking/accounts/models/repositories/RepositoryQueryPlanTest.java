@@ -0,0 +1,446 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.models.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the repository query patterns against sequential scans.
+ * <p>
+ * The SQL of a {@link Query} method is taken from its annotation, with each named parameter
+ * replaced by a bind marker typed after the Java parameter. Derived query methods have no SQL
+ * to read, so {@link #QUERIES} holds the statement Spring Data renders for each of them, with
+ * the same bind markers for the same arguments. When a database is configured (DB_HOST,
+ * DB_PORT, DB_NAME, DB_USERNAME, DB_PASSWORD), the migrations are applied to a throwaway schema
+ * and each statement is prepared and run through EXPLAIN EXECUTE with generic plans forced and
+ * sequential scans disabled. The generic plan is the one the driver ends up reusing, and it
+ * cannot rely on the bound values: a parameter compared to a partial index predicate does not
+ * match it. A plan that still needs a Seq Scan means no index serves that access path.
+ */
+@DisplayName("Repository query plan tests")
+public class RepositoryQueryPlanTest {
+
+    private static final String SCHEMA = "query_plan_check";
+
+    private static final String REPOSITORIES_PACKAGE = "com.firefly.core.banking.accounts.models.repositories";
+
+    private static final String PAGE = " LIMIT 20 OFFSET 0";
+
+    /**
+     * A named parameter; neither part of a {@code ::type} cast nor of a time literal.
+     */
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<![:\\w]):(\\w+)");
+
+    private static final Pattern BIND_MARKER = Pattern.compile("\\$(\\d+)");
+
+    /**
+     * Methods that scan a whole table on purpose (unfiltered listings and cache warm-up).
+     */
+    private static final Set<String> FULL_SCAN_BY_DESIGN = Set.of(
+            "BaseRepository.findAllBy",
+            "BaseRepository.count",
+            "AssetPriceRepository.findAllAssetPrices",
+            "AssetPriceRepository.countAllAssetPrices",
+            "AssetPriceRepository.findLatestPrices",
+            "PriceAlertRuleRepository.findActiveRules"
+    );
+
+    /**
+     * SQL rendered by Spring Data for each derived query method, keyed by "Repository.method".
+     * Overloads (paged and unpaged) share one entry. Boolean keywords (True, False) render as
+     * literals, every other criterion as a bind marker.
+     */
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        // core
+        QUERIES.put("AccountRepository.findByAccountNumber",
+                "SELECT * FROM account WHERE account_number = $1");
+        QUERIES.put("AccountRepository.findByAccountNumberIn",
+                "SELECT * FROM account WHERE account_number IN ($1, $2)");
+        QUERIES.put("AccountBalanceRepository.findByAccountId",
+                "SELECT * FROM account_balance WHERE account_id = $1" + PAGE);
+        QUERIES.put("AccountBalanceRepository.countByAccountId",
+                "SELECT COUNT(*) FROM account_balance WHERE account_id = $1");
+        QUERIES.put("AccountBalanceRepository.findByAccountIdAndAccountSpaceIdIsNull",
+                "SELECT * FROM account_balance WHERE account_id = $1 AND account_space_id IS NULL" + PAGE);
+        QUERIES.put("AccountBalanceRepository.countByAccountIdAndAccountSpaceIdIsNull",
+                "SELECT COUNT(*) FROM account_balance WHERE account_id = $1 AND account_space_id IS NULL");
+        QUERIES.put("AccountBalanceRepository.findByAccountIdAndAccountSpaceId",
+                "SELECT * FROM account_balance WHERE account_id = $1 AND account_space_id = $2" + PAGE);
+        QUERIES.put("AccountBalanceRepository.countByAccountIdAndAccountSpaceId",
+                "SELECT COUNT(*) FROM account_balance WHERE account_id = $1 AND account_space_id = $2");
+        QUERIES.put("CurrentAccountBalanceRepository.findByAccountId",
+                "SELECT * FROM current_account_balance WHERE account_id = $1");
+
+        // space
+        QUERIES.put("AccountSpaceRepository.findByAccountId",
+                "SELECT * FROM account_space WHERE account_id = $1" + PAGE);
+        QUERIES.put("AccountSpaceRepository.countByAccountId",
+                "SELECT COUNT(*) FROM account_space WHERE account_id = $1");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndSpaceType",
+                "SELECT * FROM account_space WHERE account_id = $1 AND space_type = $2");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndTargetAmountIsNotNull",
+                "SELECT * FROM account_space WHERE account_id = $1 AND target_amount IS NOT NULL");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndTargetDateGreaterThanEqual",
+                "SELECT * FROM account_space WHERE account_id = $1 AND target_date >= $2");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndTargetDateLessThan",
+                "SELECT * FROM account_space WHERE account_id = $1 AND target_date < $2");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndEnableAutomaticTransfersTrue",
+                "SELECT * FROM account_space WHERE account_id = $1 AND enable_automatic_transfers = TRUE");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndIsFrozenTrue",
+                "SELECT * FROM account_space WHERE account_id = $1 AND is_frozen = TRUE");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndIsFrozenFalse",
+                "SELECT * FROM account_space WHERE account_id = $1 AND is_frozen = FALSE");
+        QUERIES.put("AccountSpaceRepository.countByAccountIdAndIsFrozenTrue",
+                "SELECT COUNT(*) FROM account_space WHERE account_id = $1 AND is_frozen = TRUE");
+        QUERIES.put("AccountSpaceRepository.findByAccountIdAndFrozenDateTimeGreaterThanEqual",
+                "SELECT * FROM account_space WHERE account_id = $1 AND frozen_date_time >= $2");
+        QUERIES.put("SpaceTransactionRepository.findByAccountSpaceId",
+                "SELECT * FROM space_transaction WHERE account_space_id = $1" + PAGE);
+        QUERIES.put("SpaceTransactionRepository.countByAccountSpaceId",
+                "SELECT COUNT(*) FROM space_transaction WHERE account_space_id = $1");
+        QUERIES.put("SpaceTransactionRepository.findByAccountSpaceIdAndTransactionDateTimeBetween",
+                "SELECT * FROM space_transaction WHERE account_space_id = $1"
+                        + " AND transaction_date_time BETWEEN $2 AND $3" + PAGE);
+        QUERIES.put("SpaceTransactionRepository.countByAccountSpaceIdAndTransactionDateTimeBetween",
+                "SELECT COUNT(*) FROM space_transaction WHERE account_space_id = $1"
+                        + " AND transaction_date_time BETWEEN $2 AND $3");
+        QUERIES.put("SpaceTransactionRepository.findFirstByAccountSpaceIdAndTransactionDateTimeLessThanEqualOrderByTransactionDateTimeDesc",
+                "SELECT * FROM space_transaction WHERE account_space_id = $1"
+                        + " AND transaction_date_time <= $2 ORDER BY transaction_date_time DESC LIMIT 1");
+
+        // notification
+        QUERIES.put("AccountNotificationRepository.findByAccountId",
+                "SELECT * FROM account_notification WHERE account_id = $1");
+        QUERIES.put("AccountNotificationRepository.findByAccountIdAndIsReadFalse",
+                "SELECT * FROM account_notification WHERE account_id = $1 AND is_read = FALSE");
+        QUERIES.put("AccountNotificationRepository.findByAccountIdAndNotificationType",
+                "SELECT * FROM account_notification WHERE account_id = $1 AND notification_type = $2");
+        QUERIES.put("AccountNotificationRepository.findByAccountIdAndPriority",
+                "SELECT * FROM account_notification WHERE account_id = $1 AND priority = $2");
+        QUERIES.put("AccountNotificationRepository.countByAccountIdAndIsReadFalse",
+                "SELECT COUNT(*) FROM account_notification WHERE account_id = $1 AND is_read = FALSE");
+
+        // restriction
+        QUERIES.put("AccountRestrictionRepository.findByAccountId",
+                "SELECT * FROM account_restriction WHERE account_id = $1");
+        QUERIES.put("AccountRestrictionRepository.findByAccountIdAndIsActiveTrue",
+                "SELECT * FROM account_restriction WHERE account_id = $1 AND is_active = TRUE");
+        QUERIES.put("AccountRestrictionRepository.countByAccountIdAndIsActiveTrue",
+                "SELECT COUNT(*) FROM account_restriction WHERE account_id = $1 AND is_active = TRUE");
+        QUERIES.put("AccountRestrictionRepository.findByReferenceNumber",
+                "SELECT * FROM account_restriction WHERE reference_number = $1");
+
+        // parameter, provider, status
+        QUERIES.put("AccountParameterRepository.findByAccountId",
+                "SELECT * FROM account_parameter WHERE account_id = $1" + PAGE);
+        QUERIES.put("AccountParameterRepository.countByAccountId",
+                "SELECT COUNT(*) FROM account_parameter WHERE account_id = $1");
+        QUERIES.put("AccountProviderRepository.findByAccountId",
+                "SELECT * FROM account_provider WHERE account_id = $1" + PAGE);
+        QUERIES.put("AccountProviderRepository.countByAccountId",
+                "SELECT COUNT(*) FROM account_provider WHERE account_id = $1");
+        QUERIES.put("AccountProviderRepository.findByAccountSpaceId",
+                "SELECT * FROM account_provider WHERE account_space_id = $1" + PAGE);
+        QUERIES.put("AccountProviderRepository.countByAccountSpaceId",
+                "SELECT COUNT(*) FROM account_provider WHERE account_space_id = $1");
+        QUERIES.put("AccountProviderRepository.findByAccountIdAndAccountSpaceId",
+                "SELECT * FROM account_provider WHERE account_id = $1 AND account_space_id = $2" + PAGE);
+        QUERIES.put("AccountProviderRepository.countByAccountIdAndAccountSpaceId",
+                "SELECT COUNT(*) FROM account_provider WHERE account_id = $1 AND account_space_id = $2");
+        QUERIES.put("AccountStatusHistoryRepository.findByAccountId",
+                "SELECT * FROM account_status_history WHERE account_id = $1" + PAGE);
+        QUERIES.put("AccountStatusHistoryRepository.countByAccountId",
+                "SELECT COUNT(*) FROM account_status_history WHERE account_id = $1");
+
+        // crypto
+        QUERIES.put("AssetPriceRepository.findByAssetSymbol",
+                "SELECT * FROM asset_price WHERE asset_symbol = $1" + PAGE);
+        QUERIES.put("AssetPriceRepository.countByAssetSymbol",
+                "SELECT COUNT(*) FROM asset_price WHERE asset_symbol = $1");
+        QUERIES.put("AssetPriceRepository.findByAssetSymbolAndQuoteCurrency",
+                "SELECT * FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2" + PAGE);
+        QUERIES.put("AssetPriceRepository.countByAssetSymbolAndQuoteCurrency",
+                "SELECT COUNT(*) FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2");
+        QUERIES.put("AssetPriceRepository.findByAssetSymbolAndQuoteCurrencyOrderByAsOfDatetimeDesc",
+                "SELECT * FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2 "
+                        + "ORDER BY as_of_datetime DESC" + PAGE);
+        QUERIES.put("AssetPriceRepository.findByAssetSymbolAndAsOfDatetimeBetween",
+                "SELECT * FROM asset_price WHERE asset_symbol = $1 AND as_of_datetime BETWEEN $2 AND $3" + PAGE);
+        QUERIES.put("AssetPriceRepository.countByAssetSymbolAndAsOfDatetimeBetween",
+                "SELECT COUNT(*) FROM asset_price WHERE asset_symbol = $1 AND as_of_datetime BETWEEN $2 AND $3");
+        QUERIES.put("AssetPriceRepository.findByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween",
+                "SELECT * FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2 "
+                        + "AND as_of_datetime BETWEEN $3 AND $4" + PAGE);
+        QUERIES.put("AssetPriceRepository.countByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween",
+                "SELECT COUNT(*) FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2 "
+                        + "AND as_of_datetime BETWEEN $3 AND $4");
+        QUERIES.put("AssetPriceRepository.findByPriceSource",
+                "SELECT * FROM asset_price WHERE price_source = $1");
+        QUERIES.put("AssetPriceRepository.findByQuoteCurrency",
+                "SELECT * FROM asset_price WHERE quote_currency = $1");
+        QUERIES.put("AssetPriceRepository.deleteByAssetSymbol",
+                "DELETE FROM asset_price WHERE asset_symbol = $1");
+        QUERIES.put("AssetPriceRepository.deleteByAssetSymbolAndQuoteCurrency",
+                "DELETE FROM asset_price WHERE asset_symbol = $1 AND quote_currency = $2");
+        QUERIES.put("ConsolidatedAssetPriceRepository.findByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween",
+                "SELECT * FROM consolidated_asset_price WHERE asset_symbol = $1 AND quote_currency = $2 "
+                        + "AND as_of_datetime BETWEEN $3 AND $4" + PAGE);
+        QUERIES.put("ConsolidatedAssetPriceRepository.countByAssetSymbolAndQuoteCurrencyAndAsOfDatetimeBetween",
+                "SELECT COUNT(*) FROM consolidated_asset_price WHERE asset_symbol = $1 AND quote_currency = $2 "
+                        + "AND as_of_datetime BETWEEN $3 AND $4");
+        QUERIES.put("AssetPriceCandleRepository.deleteByAssetSymbolAndBucketStartGreaterThanEqual",
+                "DELETE FROM asset_price_candle WHERE asset_symbol = $1 AND bucket_start >= $2");
+        QUERIES.put("AssetPriceCandleRepository.deleteByAssetSymbolAndQuoteCurrencyAndBucketStartGreaterThanEqual",
+                "DELETE FROM asset_price_candle WHERE asset_symbol = $1 AND quote_currency = $2 AND bucket_start >= $3");
+        QUERIES.put("PriceAlertRuleRepository.findByAccountId",
+                "SELECT * FROM price_alert_rule WHERE account_id = $1" + PAGE);
+        QUERIES.put("PriceAlertRuleRepository.countByAccountId",
+                "SELECT COUNT(*) FROM price_alert_rule WHERE account_id = $1");
+    }
+
+    /**
+     * Postgres types of the bind markers, by the Java type of the argument as the R2DBC driver binds it.
+     */
+    private static final Map<Class<?>, String> BIND_TYPES = Map.ofEntries(
+            Map.entry(UUID.class, "uuid"),
+            Map.entry(String.class, "varchar"),
+            Map.entry(BigDecimal.class, "numeric"),
+            Map.entry(LocalDateTime.class, "timestamp"),
+            Map.entry(LocalDate.class, "date"),
+            Map.entry(Boolean.class, "bool"),
+            Map.entry(boolean.class, "bool"),
+            Map.entry(Integer.class, "int4"),
+            Map.entry(int.class, "int4"),
+            Map.entry(Long.class, "int8"),
+            Map.entry(long.class, "int8")
+    );
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateSchema() throws SQLException {
+        String host = System.getenv("DB_HOST");
+        if (host == null || host.isBlank()) {
+            return;
+        }
+        String url = "jdbc:postgresql://" + host + ":" + env("DB_PORT", "5432") + "/" + env("DB_NAME", "postgres");
+        String username = env("DB_USERNAME", "postgres");
+        String password = env("DB_PASSWORD", "");
+
+        connection = DriverManager.getConnection(url, username, password);
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+
+        Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .defaultSchema(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute("SET search_path TO " + SCHEMA);
+        execute("SET enable_seqscan = off");
+        execute("SET plan_cache_mode = force_generic_plan");
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Every repository query method has a plan check")
+    void everyRepositoryQueryHasPlanCheck() throws ClassNotFoundException {
+        Set<String> missing = new TreeSet<>();
+        for (Method method : repositoryMethods()) {
+            String key = key(method);
+            if (method.getAnnotation(Query.class) == null && !QUERIES.containsKey(key)
+                    && !FULL_SCAN_BY_DESIGN.contains(key)) {
+                missing.add(key);
+            }
+        }
+
+        assertTrue(missing.isEmpty(), "Repository methods without a query plan check: " + missing);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @DisplayName("Repository query is served by an index")
+    void queryDoesNotUseSequentialScan(String name, String sql, List<String> bindTypes) throws SQLException {
+        assumeTrue(connection != null, "DB_HOST is not set; skipping EXPLAIN checks");
+
+        String types = bindTypes.isEmpty() ? "" : "(" + String.join(", ", bindTypes) + ")";
+        String nulls = bindTypes.isEmpty() ? "" : "(" + String.join(", ", Collections.nCopies(bindTypes.size(), "NULL")) + ")";
+        List<String> plan = new ArrayList<>();
+        execute("PREPARE plan_check" + types + " AS " + sql);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE plan_check" + nulls)) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        } finally {
+            execute("DEALLOCATE plan_check");
+        }
+
+        assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                name + " needs a sequential scan:\n" + String.join("\n", plan));
+    }
+
+    static Stream<Arguments> queries() throws ClassNotFoundException {
+        List<Arguments> queries = new ArrayList<>();
+        for (Method method : repositoryMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            String key = key(method);
+            if (query != null && !FULL_SCAN_BY_DESIGN.contains(key)) {
+                List<String> bindTypes = new ArrayList<>();
+                String sql = toBindMarkers(method, query.value(), bindTypes);
+                queries.add(Arguments.of(key, sql, bindTypes));
+            }
+        }
+        QUERIES.forEach((key, sql) -> queries.add(Arguments.of(key, sql,
+                Collections.nCopies(bindMarkerCount(sql), "unknown"))));
+        return queries.stream();
+    }
+
+    /**
+     * Replaces each named parameter of a query with a bind marker, numbered in order of first
+     * use, and collects the type of each marker from the matching method parameter.
+     */
+    private static String toBindMarkers(Method method, String sql, List<String> bindTypes) {
+        Map<String, Parameter> parameters = new LinkedHashMap<>();
+        for (Parameter parameter : method.getParameters()) {
+            assertTrue(parameter.isNamePresent(), key(method) + ": compile with -parameters to resolve named parameters");
+            parameters.put(parameter.getName(), parameter);
+        }
+
+        Map<String, Integer> markers = new LinkedHashMap<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            Parameter parameter = parameters.get(name);
+            assertTrue(parameter != null, key(method) + ": no parameter named " + name);
+            Integer marker = markers.computeIfAbsent(name, unused -> {
+                bindTypes.add(bindType(method, parameter.getType()));
+                return bindTypes.size();
+            });
+            matcher.appendReplacement(result, "\\$" + marker);
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String bindType(Method method, Class<?> type) {
+        if (type.isArray()) {
+            return bindType(method, type.getComponentType()) + "[]";
+        }
+        if (type.isEnum()) {
+            return "varchar";
+        }
+        String bindType = BIND_TYPES.get(type);
+        assertTrue(bindType != null, key(method) + ": no bind type for " + type.getName());
+        return bindType;
+    }
+
+    private static int bindMarkerCount(String sql) {
+        int count = 0;
+        Matcher matcher = BIND_MARKER.matcher(sql);
+        while (matcher.find()) {
+            count = Math.max(count, Integer.parseInt(matcher.group(1)));
+        }
+        return count;
+    }
+
+    private static List<Method> repositoryMethods() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        List<Method> methods = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(REPOSITORIES_PACKAGE)) {
+            for (Method method : Class.forName(candidate.getBeanClassName()).getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic()) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static String key(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
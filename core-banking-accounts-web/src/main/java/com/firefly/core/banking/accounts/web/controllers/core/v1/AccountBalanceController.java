@@ -33,6 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -68,6 +69,24 @@ public class AccountBalanceController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Get Current Account Balances",
+            description = "Retrieve the current balance of each balance type for a specific account, " +
+                    "per account space (or global) and asset, without scanning the balance history."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the current balances",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AccountBalanceDTO.class)))
+    })
+    @GetMapping(value = "/current", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<AccountBalanceDTO>>> getCurrentBalances(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId
+    ) {
+        return Mono.just(ResponseEntity.ok(service.getCurrentBalances(accountId)));
+    }
+
     @Operation(
             summary = "Create Account Balance",
             description = "Create a new balance record for a specific account."
@@ -19,8 +19,13 @@ package com.firefly.core.banking.accounts.web.controllers.core.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.core.services.core.v1.AccountBalanceService;
+import com.firefly.core.banking.accounts.core.services.core.v1.AccountOverviewService;
 import com.firefly.core.banking.accounts.core.services.core.v1.AccountService;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountBalanceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.core.v1.AccountOverviewDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -30,6 +35,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Accounts", description = "APIs for managing bank accounts within the system")
@@ -40,6 +47,12 @@ public class AccountController {
     @Autowired
     private AccountService service;
 
+    @Autowired
+    private AccountOverviewService overviewService;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
     @Operation(
             summary = "Filter Accounts",
             description = "Retrieve a paginated list of all bank accounts based on filter criteria."
@@ -83,6 +96,82 @@ public class AccountController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Get Account Overview",
+            description = "Retrieve an account together with its spaces, active restrictions, latest balances and unread notifications. " +
+                    "Sections are loaded concurrently; a section that fails or times out is omitted and listed in unavailableSections."
+    )
+    @GetMapping(value = "/{accountId}/overview", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AccountOverviewDTO>> getAccountOverview(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId
+    ) {
+        return overviewService.getAccountOverview(accountId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Batch Get Accounts",
+            description = "Retrieve multiple bank accounts by their unique identifiers in a single request. " +
+                    "Accounts are returned in request order and identifiers that do not match any account are listed as missing."
+    )
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BatchGetResponseDTO<AccountDTO>>> batchGetAccounts(
+            @Parameter(description = "Unique identifiers of the accounts to retrieve", required = true)
+            @RequestBody List<UUID> accountIds
+    ) {
+        return service.batchGetAccounts(accountIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Batch Get Current Account Balances",
+            description = "Retrieve the current balances of several accounts in a single request, keyed by account ID. " +
+                    "Accounts without any balance are mapped to an empty list."
+    )
+    @PostMapping(value = "/balances/current", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Map<UUID, List<AccountBalanceDTO>>>> getCurrentBalancesForAccounts(
+            @Parameter(description = "Unique identifiers of the accounts", required = true)
+            @RequestBody List<UUID> accountIds
+    ) {
+        return balanceService.getCurrentBalancesForAccounts(accountIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Account by Account Number",
+            description = "Retrieve an existing bank account by its account number."
+    )
+    @GetMapping(value = "/by-number/{accountNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AccountDTO>> getAccountByNumber(
+            @Parameter(description = "Account number of the account", required = true)
+            @PathVariable("accountNumber") String accountNumber
+    ) {
+        return service.getAccountByNumber(accountNumber)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Accounts by Account Numbers",
+            description = "Retrieve the bank accounts matching a list of account numbers in a single lookup. " +
+                    "Account numbers that do not match any account are omitted from the response."
+    )
+    @PostMapping(value = "/by-number", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AccountDTO>>> getAccountsByNumbers(
+            @Parameter(description = "Account numbers to look up", required = true)
+            @RequestBody List<String> accountNumbers
+    ) {
+        return service.getAccountsByNumbers(accountNumbers)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(
             summary = "Update Account",
             description = "Update the details of an existing bank account by its unique identifier."
@@ -19,8 +19,18 @@ package com.firefly.core.banking.accounts.web.controllers.crypto.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.core.services.crypto.v1.AssetPriceCandleService;
+import com.firefly.core.banking.accounts.core.services.crypto.v1.AssetPriceConsolidationService;
+import com.firefly.core.banking.accounts.core.services.crypto.v1.AssetPriceIngestService;
 import com.firefly.core.banking.accounts.core.services.crypto.v1.AssetPriceService;
+import com.firefly.core.banking.accounts.core.services.crypto.v1.AssetPriceStreamService;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceAsOfDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceCandleDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceIngestResultDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.AssetPriceLookupDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.ConsolidatedAssetPriceDTO;
+import com.firefly.core.banking.accounts.interfaces.enums.crypto.v1.CandleIntervalEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,15 +38,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Asset Prices", description = "APIs for managing crypto asset prices")
@@ -44,9 +61,26 @@ import java.util.UUID;
 @RequestMapping("/api/v1/asset-prices")
 public class AssetPriceController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AssetPriceController.class);
+
     @Autowired
     private AssetPriceService service;
 
+    @Autowired
+    private AssetPriceIngestService ingestService;
+
+    @Autowired
+    private AssetPriceCandleService candleService;
+
+    @Autowired
+    private AssetPriceConsolidationService consolidationService;
+
+    @Autowired
+    private AssetPriceStreamService streamService;
+
+    @Value("${account.crypto.price-stream.heartbeat-ms:15000}")
+    private long streamHeartbeatMs = 15000;
+
     @Operation(
             summary = "List All Asset Prices",
             description = "Retrieve a paginated list of all asset prices."
@@ -111,6 +145,29 @@ public class AssetPriceController {
                 .defaultIfEmpty(ResponseEntity.badRequest().build());
     }
 
+    @Operation(
+            summary = "Ingest Asset Price Ticks",
+            description = "Store a stream of asset price ticks sent as newline-delimited JSON. Ticks are written " +
+                    "in micro-batches; ticks already stored for the same asset, quote currency, as-of datetime " +
+                    "and price source are skipped, and invalid ticks are counted and skipped."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticks ingested",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AssetPriceIngestResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed request body",
+                    content = @Content)
+    })
+    @PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AssetPriceIngestResultDTO>> ingestAssetPrices(
+            @Parameter(description = "Asset price ticks, one JSON object per line", required = true)
+            @RequestBody Flux<AssetPriceDTO> ticks
+    ) {
+        return ingestService.ingestAssetPrices(ticks)
+                .map(ResponseEntity::ok);
+    }
+
     @Operation(
             summary = "Update Asset Price",
             description = "Update an existing asset price record."
@@ -230,6 +287,193 @@ public class AssetPriceController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Stream Latest Asset Prices",
+            description = "Push the latest price of a set of pairs as server-sent events, replacing polling of " +
+                    "the latest endpoint. The current price of each pair is sent first, then every newer one. " +
+                    "Prices are conflated per pair: a client that reads slower than prices arrive only receives " +
+                    "the newest price of each pair. Heartbeat comments are sent periodically to keep the " +
+                    "connection open; the stream ends immediately when the pairs are invalid."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = AssetPriceDTO.class)))
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AssetPriceDTO>> streamAssetPrices(
+            @Parameter(description = "Pairs to stream, each formatted as SYMBOL/QUOTE (e.g., 'BTC/USD')", required = true)
+            @RequestParam List<String> pairs
+    ) {
+        Flux<ServerSentEvent<AssetPriceDTO>> prices = streamService.streamAssetPrices(pairs)
+                .map(price -> ServerSentEvent.builder(price)
+                        .id(price.getAssetSymbol() + "/" + price.getQuoteCurrency() + "@" + price.getAsOfDatetime())
+                        .event("price")
+                        .build());
+        Flux<ServerSentEvent<AssetPriceDTO>> heartbeats = Flux.interval(Duration.ofMillis(streamHeartbeatMs))
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<AssetPriceDTO>builder()
+                        .comment("heartbeat")
+                        .build());
+        // A prefetch of one keeps the merge from queueing prices a slow client has not read yet
+        return Flux.merge(1, prices, heartbeats)
+                .onErrorResume(e -> {
+                    logger.error("Error streaming asset prices for pairs {}: {}", pairs, e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    @Operation(
+            summary = "Get Latest Consolidated Asset Price",
+            description = "Retrieve the latest price for a specific asset symbol and quote currency consolidated " +
+                    "across price sources: the median of the latest quote of each source, without the quotes " +
+                    "that deviate too far from it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the consolidated price",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ConsolidatedAssetPriceDTO.class))),
+            @ApiResponse(responseCode = "404", description = "No consolidated price found for the specified symbol and currency",
+                    content = @Content)
+    })
+    @GetMapping(value = "/asset/{assetSymbol}/currency/{quoteCurrency}/consolidated/latest",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ConsolidatedAssetPriceDTO>> getLatestConsolidatedAssetPrice(
+            @Parameter(description = "Symbol of the asset (e.g., 'BTC', 'ETH')", required = true)
+            @PathVariable String assetSymbol,
+
+            @Parameter(description = "Currency in which the asset is priced (e.g., 'USD', 'EUR')", required = true)
+            @PathVariable String quoteCurrency
+    ) {
+        return consolidationService.getLatestConsolidatedPrice(assetSymbol, quoteCurrency)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Get Consolidated Asset Price History",
+            description = "Retrieve a paginated list of the consolidated prices of a specific asset symbol and " +
+                    "quote currency within a date range."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the consolidated prices",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No consolidated prices found for the specified criteria",
+                    content = @Content)
+    })
+    @GetMapping(value = "/asset/{assetSymbol}/currency/{quoteCurrency}/consolidated/history",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginationResponse<ConsolidatedAssetPriceDTO>>> getConsolidatedAssetPrices(
+            @Parameter(description = "Symbol of the asset (e.g., 'BTC', 'ETH')", required = true)
+            @PathVariable String assetSymbol,
+
+            @Parameter(description = "Currency in which the asset is priced (e.g., 'USD', 'EUR')", required = true)
+            @PathVariable String quoteCurrency,
+
+            @Parameter(description = "Start date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "End date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @ParameterObject
+            @ModelAttribute PaginationRequest paginationRequest
+    ) {
+        return consolidationService.getConsolidatedPrices(assetSymbol, quoteCurrency, startDate, endDate, paginationRequest)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Get Asset Prices As Of",
+            description = "Resolve a batch of up to 100,000 lookups, each an asset symbol, a quote currency and an " +
+                    "instant, in a single query. The price as of an instant is the latest price at or before it " +
+                    "or, when interpolating, the linear interpolation between that price and the next one. " +
+                    "Lookups without a price near the instant are returned without a price."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the lookups, in request order",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AssetPriceAsOfDTO.class))),
+            @ApiResponse(responseCode = "400", description = "No lookups, too many lookups, or an incomplete lookup",
+                    content = @Content)
+    })
+    @PostMapping(value = "/as-of", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AssetPriceAsOfDTO>>> getAssetPricesAsOf(
+            @Parameter(description = "Lookups as a JSON array", required = true)
+            @RequestBody Flux<AssetPriceLookupDTO> lookups,
+
+            @Parameter(description = "Whether to interpolate between the surrounding prices")
+            @RequestParam(defaultValue = "false") boolean interpolate
+    ) {
+        return lookups.collectList()
+                .flatMap(list -> service.getAssetPricesAsOf(list, interpolate).collectList())
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Asset Price Candles",
+            description = "Retrieve OHLC candles with tick counts for a specific asset symbol and quote currency " +
+                    "within a date range. When no interval is given, the finest interval that keeps the number " +
+                    "of candles within the configured maximum is used."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the candles",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AssetPriceCandleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, or interval too fine for the range",
+                    content = @Content)
+    })
+    @GetMapping(value = "/asset/{assetSymbol}/currency/{quoteCurrency}/candles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AssetPriceCandleDTO>>> getAssetPriceCandles(
+            @Parameter(description = "Symbol of the asset (e.g., 'BTC', 'ETH')", required = true)
+            @PathVariable String assetSymbol,
+
+            @Parameter(description = "Currency in which the asset is priced (e.g., 'USD', 'EUR')", required = true)
+            @PathVariable String quoteCurrency,
+
+            @Parameter(description = "Start date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "End date of the range, exclusive (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Candle interval; picked from the range when omitted")
+            @RequestParam(required = false) CandleIntervalEnum interval
+    ) {
+        return candleService.getCandles(assetSymbol, quoteCurrency, startDate, endDate, interval)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Backfill Asset Price Candles",
+            description = "Rebuild the candles of every asset symbol and quote currency pair from the stored asset " +
+                    "prices within a date range, widened to whole days."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candles rebuilt; the body is the number of candles written",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Long.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range",
+                    content = @Content)
+    })
+    @PostMapping(value = "/candles/backfill", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Long>> backfillAssetPriceCandles(
+            @Parameter(description = "Start date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "End date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        return candleService.backfillCandles(startDate, endDate)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(
             summary = "Get Historical Asset Prices",
             description = "Retrieve a paginated list of historical asset prices for a specific asset symbol within a date range."
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.web.controllers.crypto.v1;
+
+import com.firefly.core.banking.accounts.core.services.crypto.v1.PortfolioValuationService;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PortfolioValuationDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Portfolio Valuation", description = "APIs for valuing the crypto asset holdings of accounts")
+@RestController
+@RequestMapping("/api/v1/accounts")
+public class PortfolioValuationController {
+
+    @Autowired
+    private PortfolioValuationService service;
+
+    @Operation(
+            summary = "Value Account Portfolio",
+            description = "Value the CURRENT, STAKED, LOCKED and PENDING_CONFIRMATION asset balances of an account " +
+                    "at the latest prices in a quote currency, per asset and in total."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully valued the account",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PortfolioValuationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing quote currency",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{accountId}/valuation", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PortfolioValuationDTO>> valueAccount(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Currency to value in (e.g., 'USD', 'EUR')", required = true)
+            @RequestParam String quoteCurrency
+    ) {
+        return service.valueAccount(accountId, quoteCurrency)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Batch Value Account Portfolios",
+            description = "Value the asset holdings of several accounts in a quote currency in a single request. " +
+                    "Valuations are returned in request order; accounts without holdings have a zero total."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully valued the accounts",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PortfolioValuationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing quote currency, or no or too many accounts",
+                    content = @Content)
+    })
+    @PostMapping(value = "/valuation", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<PortfolioValuationDTO>>> valueAccounts(
+            @Parameter(description = "Currency to value in (e.g., 'USD', 'EUR')", required = true)
+            @RequestParam String quoteCurrency,
+
+            @Parameter(description = "Unique identifiers of the accounts", required = true)
+            @RequestBody List<UUID> accountIds
+    ) {
+        return service.valueAccounts(accountIds, quoteCurrency)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.accounts.web.controllers.crypto.v1;
+
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.accounts.core.services.crypto.v1.PriceAlertRuleService;
+import com.firefly.core.banking.accounts.interfaces.dtos.crypto.v1.PriceAlertRuleDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+
+@Tag(name = "Price Alerts", description = "APIs for managing the crypto price alert rules of a specific account")
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/price-alerts")
+public class PriceAlertRuleController {
+
+    @Autowired
+    private PriceAlertRuleService service;
+
+    @Operation(
+            summary = "List Price Alert Rules",
+            description = "Retrieve a paginated list of all price alert rules of the specified account, active or already triggered."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved price alert rules",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No price alert rules found for the specified account",
+                    content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginationResponse<PriceAlertRuleDTO>>> getAllRules(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @ParameterObject
+            @ModelAttribute PaginationRequest paginationRequest
+    ) {
+        return service.listRules(accountId, paginationRequest)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Create Price Alert Rule",
+            description = "Create a price alert rule for the specified account. The account is notified once, " +
+                    "the first time the consolidated price of the pair crosses the threshold in the given direction."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Price alert rule created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceAlertRuleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid price alert rule data provided",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceAlertRuleDTO>> createRule(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Data for the new price alert rule", required = true,
+                    schema = @Schema(implementation = PriceAlertRuleDTO.class))
+            @RequestBody PriceAlertRuleDTO ruleDTO
+    ) {
+        return service.createRule(accountId, ruleDTO)
+                .map(createdRule -> ResponseEntity.status(201).body(createdRule))
+                .defaultIfEmpty(ResponseEntity.badRequest().build());
+    }
+
+    @Operation(
+            summary = "Get Price Alert Rule by ID",
+            description = "Retrieve a specific price alert rule by its unique identifier, ensuring it belongs to the specified account."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the price alert rule",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceAlertRuleDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Price alert rule not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{ruleId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceAlertRuleDTO>> getRule(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Unique identifier of the price alert rule", required = true)
+            @PathVariable UUID ruleId
+    ) {
+        return service.getRule(accountId, ruleId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Update Price Alert Rule",
+            description = "Update an existing price alert rule of the specified account. A rule that already triggered is re-armed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Price alert rule updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceAlertRuleDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Price alert rule not found",
+                    content = @Content)
+    })
+    @PutMapping(value = "/{ruleId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceAlertRuleDTO>> updateRule(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Unique identifier of the price alert rule to update", required = true)
+            @PathVariable UUID ruleId,
+
+            @Parameter(description = "Updated price alert rule data", required = true,
+                    schema = @Schema(implementation = PriceAlertRuleDTO.class))
+            @RequestBody PriceAlertRuleDTO ruleDTO
+    ) {
+        return service.updateRule(accountId, ruleId, ruleDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Delete Price Alert Rule",
+            description = "Remove an existing price alert rule by its unique identifier."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Price alert rule deleted successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Price alert rule not found",
+                    content = @Content)
+    })
+    @DeleteMapping(value = "/{ruleId}")
+    public Mono<ResponseEntity<Void>> deleteRule(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Unique identifier of the price alert rule to delete", required = true)
+            @PathVariable UUID ruleId
+    ) {
+        return service.deleteRule(accountId, ruleId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -20,6 +20,7 @@ package com.firefly.core.banking.accounts.web.controllers.notification.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.services.notification.v1.AccountNotificationService;
+import com.firefly.core.banking.accounts.interfaces.dtos.KeysetPageDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.notification.v1.AccountNotificationDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.notification.v1.NotificationTypeEnum;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,11 +33,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Account Notifications", description = "APIs for managing account notifications and alerts")
@@ -49,6 +55,9 @@ public class AccountNotificationController {
     @Autowired
     private AccountNotificationService service;
 
+    @Value("${account.notification.stream.heartbeat-ms:15000}")
+    private long streamHeartbeatMs = 15000;
+
     /**
      * Common error handling method for controller endpoints
      * @param e The exception that occurred
@@ -218,6 +227,36 @@ public class AccountNotificationController {
                 });
     }
 
+    @Operation(
+            summary = "Get a Page of Account Notifications",
+            description = "Retrieve one page of the notifications of an account, unread first, then by priority and newest first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of notifications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid account ID, cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/account/{accountId}/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<AccountNotificationDTO>>> getAccountNotificationsPage(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId,
+
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Page size; defaults to the configured size and is capped at the configured maximum")
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return service.getAccountNotificationsPage(accountId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error retrieving a page of notifications for account {}: {}", accountId, e.getMessage());
+                    return handleError(e);
+                });
+    }
+
     @Operation(
             summary = "Get Unread Account Notifications",
             description = "Retrieve all unread notifications for a specific account."
@@ -242,6 +281,94 @@ public class AccountNotificationController {
                 });
     }
 
+    @Operation(
+            summary = "Get a Page of Unread Account Notifications",
+            description = "Retrieve one page of the unread notifications of an account, by priority and newest first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of unread notifications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid account ID, cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/account/{accountId}/unread/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<AccountNotificationDTO>>> getUnreadAccountNotificationsPage(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId,
+
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Page size; defaults to the configured size and is capped at the configured maximum")
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return service.getUnreadAccountNotificationsPage(accountId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error retrieving a page of unread notifications for account {}: {}", accountId, e.getMessage());
+                    return handleError(e);
+                });
+    }
+
+    @Operation(
+            summary = "Get Unread Notification Count",
+            description = "Retrieve the number of unread notifications for a specific account, " +
+                    "read from its maintained counter."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the unread count",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Long.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid account ID",
+                    content = @Content)
+    })
+    @GetMapping(value = "/account/{accountId}/unread-count", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Long>> getUnreadNotificationCount(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId
+    ) {
+        return service.getUnreadNotificationCount(accountId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error retrieving unread notification count for account {}: {}", accountId, e.getMessage());
+                    return handleError(e);
+                });
+    }
+
+    @Operation(
+            summary = "Stream Account Notifications",
+            description = "Push the notifications created for a specific account as server-sent events, " +
+                    "replacing polling of the unread endpoint. Only notifications created after the stream " +
+                    "opens are sent; clients should fetch unread notifications when they (re)connect. " +
+                    "Heartbeat comments are sent periodically to keep the connection open."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = AccountNotificationDTO.class)))
+    })
+    @GetMapping(value = "/account/{accountId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AccountNotificationDTO>> streamAccountNotifications(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId
+    ) {
+        Flux<ServerSentEvent<AccountNotificationDTO>> notifications = service.streamAccountNotifications(accountId)
+                .map(notification -> ServerSentEvent.builder(notification)
+                        .id(String.valueOf(notification.getAccountNotificationId()))
+                        .event("notification")
+                        .build());
+        Flux<ServerSentEvent<AccountNotificationDTO>> heartbeats = Flux.interval(Duration.ofMillis(streamHeartbeatMs))
+                .map(tick -> ServerSentEvent.<AccountNotificationDTO>builder()
+                        .comment("heartbeat")
+                        .build());
+        return Flux.merge(notifications, heartbeats)
+                .onErrorResume(e -> {
+                    logger.error("Error streaming notifications for account {}: {}", accountId, e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
     @Operation(
             summary = "Get Account Notifications by Type",
             description = "Retrieve all notifications of a specific type for a specific account."
@@ -325,6 +452,35 @@ public class AccountNotificationController {
                 });
     }
 
+    @Operation(
+            summary = "Mark Notifications as Read",
+            description = "Mark the given notifications of a specific account as read. " +
+                    "Notifications that are already read or belong to another account are left unchanged."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully marked the notifications as read",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(type = "integer", format = "int64"))),
+            @ApiResponse(responseCode = "400", description = "Invalid account ID or notification IDs",
+                    content = @Content)
+    })
+    @PostMapping(value = "/account/{accountId}/mark-read", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Long>> markNotificationsAsRead(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId,
+
+            @Parameter(description = "Unique identifiers of the notifications to mark as read", required = true)
+            @RequestBody List<UUID> accountNotificationIds
+    ) {
+        return service.markNotificationsAsRead(accountId, accountNotificationIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error marking notifications as read for account {}: {}", accountId, e.getMessage());
+                    return handleError(e);
+                });
+    }
+
     @Operation(
             summary = "Get Active Notifications",
             description = "Retrieve all active (non-expired) notifications for a specific account."
@@ -348,4 +504,34 @@ public class AccountNotificationController {
                     return handleError(e);
                 });
     }
+
+    @Operation(
+            summary = "Get a Page of Active Notifications",
+            description = "Retrieve one page of the active (non-expired) notifications of an account, unread first, then by priority and newest first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of active notifications",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid account ID, cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/account/{accountId}/active/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<KeysetPageDTO<AccountNotificationDTO>>> getActiveNotificationsPage(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId,
+
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Page size; defaults to the configured size and is capped at the configured maximum")
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return service.getActiveNotificationsPage(accountId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("Error retrieving a page of active notifications for account {}: {}", accountId, e.getMessage());
+                    return handleError(e);
+                });
+    }
 }
@@ -21,6 +21,7 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.services.restriction.v1.AccountRestrictionService;
 import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.AccountRestrictionDTO;
+import com.firefly.core.banking.accounts.interfaces.dtos.restriction.v1.DebitAuthorizationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,6 +37,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
 import java.util.UUID;
 
 @Tag(name = "Account Restrictions", description = "APIs for managing restrictions placed on accounts")
@@ -274,4 +277,32 @@ public class AccountRestrictionController {
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
     }
+
+    @Operation(
+            summary = "Check Debit Authorization",
+            description = "Check whether the active restrictions of an account allow a debit of the given amount. " +
+                    "Freezes and withdrawal holds refuse the debit; restricted amounts are held against the account balance."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Authorization evaluated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DebitAuthorizationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input",
+                    content = @Content)
+    })
+    @GetMapping(value = "/account/{accountId}/can-debit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<DebitAuthorizationDTO>> canDebit(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable("accountId") UUID accountId,
+
+            @Parameter(description = "Amount to debit", required = true)
+            @RequestParam("amount") BigDecimal amount,
+
+            @Parameter(description = "Channel the debit comes from")
+            @RequestParam(value = "channel", required = false) String channel
+    ) {
+        return service.canDebit(accountId, amount, channel)
+                .map(ResponseEntity::ok)
+                .onErrorResume(this::handleError);
+    }
 }
@@ -20,6 +20,7 @@ package com.firefly.core.banking.accounts.web.controllers.space.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.accounts.core.services.space.v1.AccountSpaceService;
+import com.firefly.core.banking.accounts.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.AccountSpaceDTO;
 import com.firefly.core.banking.accounts.interfaces.dtos.space.v1.SpaceAnalyticsDTO;
 import com.firefly.core.banking.accounts.interfaces.enums.space.v1.AccountSpaceTypeEnum;
@@ -40,6 +41,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -153,6 +155,21 @@ public class AccountSpaceController {
                 });
     }
 
+    @Operation(
+            summary = "Batch Get Account Spaces",
+            description = "Retrieve multiple account spaces by their unique identifiers in a single request. " +
+                    "Spaces are returned in request order and identifiers that do not match any space are listed as missing."
+    )
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BatchGetResponseDTO<AccountSpaceDTO>>> batchGetAccountSpaces(
+            @Parameter(description = "Unique identifiers of the account spaces to retrieve", required = true)
+            @RequestBody List<UUID> accountSpaceIds
+    ) {
+        return service.batchGetAccountSpaces(accountSpaceIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(this::handleError);
+    }
+
     @Operation(
             summary = "Get Account Spaces by Account ID",
             description = "Retrieve all account spaces for a specific account."
@@ -206,7 +223,7 @@ public class AccountSpaceController {
                 .onErrorResume(e -> {
                     logger.error("Error transferring between spaces {} and {}: {}",
                             fromAccountSpaceId, toAccountSpaceId, e.getMessage());
-                    if (e instanceof IllegalArgumentException) {
+                    if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
                         return Mono.just(ResponseEntity.badRequest().body(false));
                     }
                     return Mono.just(ResponseEntity.internalServerError().body(false));
@@ -419,6 +436,38 @@ public class AccountSpaceController {
                 .onErrorResume(this::handleError);
     }
 
+    @Operation(
+            summary = "Bulk Freeze Account Spaces",
+            description = "Freezes every space of the given accounts in bulk. Intended for compliance batch actions. " +
+                    "Returns the number of spaces that were frozen."
+    )
+    @PostMapping(value = "/bulk-freeze", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Integer>> freezeSpacesOfAccounts(
+            @Parameter(description = "Unique identifiers of the accounts whose spaces are frozen", required = true)
+            @RequestBody List<UUID> accountIds
+    ) {
+        return service.freezeSpacesOfAccounts(accountIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(this::handleError);
+    }
+
+    @Operation(
+            summary = "Bulk Unfreeze Account Spaces",
+            description = "Unfreezes the spaces of the given accounts that were frozen in bulk or by a restriction. " +
+                    "Spaces frozen on their own, and accounts still under an active ACCOUNT_FREEZE, LEGAL_ORDER " +
+                    "or COURT_ORDER restriction, stay frozen. " +
+                    "Returns the number of spaces that were unfrozen."
+    )
+    @PostMapping(value = "/bulk-unfreeze", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Integer>> unfreezeSpacesOfAccounts(
+            @Parameter(description = "Unique identifiers of the accounts whose spaces are unfrozen", required = true)
+            @RequestBody List<UUID> accountIds
+    ) {
+        return service.unfreezeSpacesOfAccounts(accountIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(this::handleError);
+    }
+
     @Operation(
             summary = "Update Account Space Balance",
             description = "Updates the balance of an account space directly. For administrative adjustments only."